@@ -48,6 +48,54 @@ CREATE TABLE IF NOT EXISTS movements (
     FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
 );
 
+-- Secuencias de bloques para asignar números de cuenta y clientIds sin consultar si ya existen
+CREATE SEQUENCE IF NOT EXISTS account_number_block_seq;
+CREATE SEQUENCE IF NOT EXISTS client_id_block_seq;
+
+-- Saldos diarios por cuenta: se actualizan con cada movimiento y evitan recorrer el historial para
+-- obtener el saldo a una fecha. Para cuentas existentes: accounts.balances.backfill-on-startup=true
+CREATE TABLE IF NOT EXISTS saldo_diario (
+    cuenta_id UUID NOT NULL,
+    fecha DATE NOT NULL,
+    creditos DECIMAL(15,2) NOT NULL,
+    debitos DECIMAL(15,2) NOT NULL,
+    movimientos BIGINT NOT NULL,
+    saldo_cierre DECIMAL(15,2) NOT NULL,
+    PRIMARY KEY (cuenta_id, fecha)
+);
+
+-- Claves de idempotencia de POST /api/movimientos: un reintento con la misma clave devuelve el
+-- movimiento original. Se purgan tras accounts.movements.idempotency.retention
+CREATE TABLE IF NOT EXISTS movimiento_idempotencia (
+    clave VARCHAR(100) PRIMARY KEY,
+    movimiento_id UUID,
+    creado_en TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_movimiento_idempotencia_creado ON movimiento_idempotencia(creado_en);
+
+-- Versión de movimientos de cada cuenta: la incrementa cada cambio de saldo y forma parte de la clave
+-- de la cache de estados de cuenta
+ALTER TABLE IF EXISTS cuenta ADD COLUMN IF NOT EXISTS version_movimientos BIGINT NOT NULL DEFAULT 0;
+
+-- Paginación por cursor de los movimientos de una cuenta (fecha e id descendentes). En una base nueva la
+-- tabla aún no existe (la crea Hibernate con ddl-auto=update junto con el índice de la entidad); con
+-- validate el índice se crea al volver a ejecutar el script sobre la tabla existente
+DO $$
+BEGIN
+    IF to_regclass('movimiento') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_movimiento_cuenta_fecha_id ON movimiento(cuenta_id, fecha DESC, id DESC);
+    END IF;
+END $$;
+
+-- Cuentas de un cliente (reportes y listados por cliente); idx_accounts_client es de la tabla accounts.
+-- Igual que el anterior, solo si la tabla ya existe
+DO $$
+BEGIN
+    IF to_regclass('cuenta') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_cuenta_cliente ON cuenta(cliente_id);
+    END IF;
+END $$;
+
 -- Índices para mejor rendimiento
 CREATE INDEX IF NOT EXISTS idx_clients_identification ON clients(identification);
 CREATE INDEX IF NOT EXISTS idx_clients_username ON clients(username);
@@ -0,0 +1,111 @@
+package com.pichincha.accounts.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.MovementEntity;
+import com.pichincha.accounts.infrastructure.config.ApplicationConfig;
+import com.pichincha.accounts.infrastructure.mapper.AccountDtoMapper;
+import com.pichincha.accounts.infrastructure.mapper.AccountDtoMapperImpl;
+import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapper;
+import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapperImpl;
+import com.pichincha.accounts.infrastructure.mapper.MovementEntityMapper;
+import com.pichincha.accounts.infrastructure.mapper.MovementEntityMapperImpl;
+import com.pichincha.infrastructure.adapter.rest.dto.CuentaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mappers MapStruct de movimientos y cuentas, y serialización JSON de listas de {@link MovimientoDto}
+ * con el mismo {@link ObjectMapper} que registra {@link ApplicationConfig}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingBenchmark {
+
+    @Param({"1", "100"})
+    public int size;
+
+    private final MovementEntityMapper movementEntityMapper = new MovementEntityMapperImpl();
+    private final MovementDtoMapper movementDtoMapper = new MovementDtoMapperImpl();
+    private final AccountDtoMapper accountDtoMapper = new AccountDtoMapperImpl();
+    private final ObjectMapper objectMapper = new ApplicationConfig().objectMapper();
+
+    private List<Movement> movements;
+    private List<MovementEntity> movementEntities;
+    private List<Account> accounts;
+    private List<CuentaDto> accountDtos;
+    private List<MovimientoDto> movementDtos;
+
+    @Setup
+    public void setUp() {
+        UUID accountId = UUID.randomUUID();
+        movements = new ArrayList<>(size);
+        accounts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean credit = i % 2 == 0;
+            movements.add(Movement.builder()
+                    .id(UUID.randomUUID())
+                    .accountId(accountId)
+                    .date(LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(i))
+                    .movementType(credit ? MovementType.DEPOSITO : MovementType.RETIRO)
+                    .value(credit ? new BigDecimal("25.00") : new BigDecimal("-10.00"))
+                    .balance(new BigDecimal("1000.00"))
+                    .build());
+            accounts.add(Account.builder()
+                    .id(UUID.randomUUID())
+                    .clientId(UUID.randomUUID())
+                    .accountNumber(String.format("%06d", i))
+                    .type(AccountType.AHORROS)
+                    .initialBalance(new BigDecimal("1000.00"))
+                    .currentBalance(new BigDecimal("1000.00"))
+                    .state(true)
+                    .build());
+        }
+        movementEntities = movements.stream().map(movementEntityMapper::toEntity).toList();
+        movementDtos = movements.stream().map(movementDtoMapper::toDto).toList();
+        accountDtos = accounts.stream().map(accountDtoMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<MovementEntity> movementToEntity() {
+        return movements.stream().map(movementEntityMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public List<Movement> movementToDomain() {
+        return movementEntities.stream().map(movementEntityMapper::toDomain).toList();
+    }
+
+    @Benchmark
+    public List<CuentaDto> accountToDto() {
+        return accounts.stream().map(accountDtoMapper::toDto).toList();
+    }
+
+    @Benchmark
+    public List<Account> accountToDomain() {
+        return accountDtos.stream().map(accountDtoMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeMovementDtos() throws Exception {
+        return objectMapper.writeValueAsBytes(movementDtos);
+    }
+}
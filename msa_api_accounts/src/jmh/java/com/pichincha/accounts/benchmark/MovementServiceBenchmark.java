@@ -0,0 +1,72 @@
+package com.pichincha.accounts.benchmark;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.application.service.AccountLocks;
+import com.pichincha.accounts.application.service.MovementBatchTransactions;
+import com.pichincha.accounts.application.service.MovementService;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryIdempotencyKeyRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import com.pichincha.accounts.support.TestTransactions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de {@link MovementService#createMovement} sin base de datos: validaciones, lock de la cuenta
+ * dentro de una transacción simulada y actualización del saldo en los repositorios de memoria.
+ * Los repositorios se recrean en cada iteración para que no crezcan sin límite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovementServiceBenchmark {
+
+    private static final BigDecimal VALUE = new BigDecimal("1.00");
+
+    private UUID accountId;
+    private MovementService movementService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InMemoryAccountRepository accountRepository = new InMemoryAccountRepository();
+        accountId = accountRepository.save(Account.builder()
+                .clientId(UUID.randomUUID())
+                .accountNumber("000001")
+                .type(AccountType.AHORROS)
+                .initialBalance(BigDecimal.ZERO)
+                .currentBalance(BigDecimal.ZERO)
+                .state(true)
+                .build()).getId();
+
+        InMemoryMovementRepository movementRepository = new InMemoryMovementRepository();
+        movementService = new MovementService(movementRepository, accountRepository, new AccountLocks(1024),
+                new InMemoryDailyBalanceRepository(movementRepository), new InMemoryIdempotencyKeyRepository(),
+                BusinessMetrics.NOOP, ReportCache.DISABLED, MovementBatchTransactions.direct(1000));
+    }
+
+    @Benchmark
+    public Movement createDeposit() {
+        Movement movement = Movement.builder()
+                .accountId(accountId)
+                .movementType(MovementType.DEPOSITO)
+                .value(VALUE)
+                .build();
+        return TestTransactions.inTransaction(() -> movementService.createMovement(movement));
+    }
+}
@@ -0,0 +1,142 @@
+package com.pichincha.accounts.benchmark;
+
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.PdfGeneratorPort;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.application.service.ParallelReportReads;
+import com.pichincha.accounts.application.service.ReportService;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.infrastructure.adapter.pdf.PdfGeneratorAdapter;
+import com.pichincha.accounts.infrastructure.adapter.pdf.PdfRenderResources;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryClientRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renderizados por segundo del estado de cuenta: {@code legacy} es el generador anterior (builder
+ * nuevo, HTML como texto y estilos en línea con tabla automática) y {@code cached} es
+ * {@link PdfGeneratorAdapter} con los recursos precargados. El HTML sale de {@link ReportService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PdfRenderBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+    private static final String LEGACY_STYLE = "<style>"
+            + "body { font-family: Arial, sans-serif; margin: 20px; }"
+            + "h1 { text-align: center; color: #2c3e50; }"
+            + "h2 { color: #34495e; border-bottom: 2px solid #3498db; padding-bottom: 5px; }"
+            + "table { width: 100%; border-collapse: collapse; margin-bottom: 20px; }"
+            + "th, td { border: 1px solid #bdc3c7; padding: 8px; text-align: left; }"
+            + "th { background-color: #3498db; color: white; }"
+            + ".client-info { background-color: #ecf0f1; padding: 15px; margin-bottom: 20px; }"
+            + ".summary { background-color: #e8f5e8; padding: 15px; margin-top: 20px; }"
+            + ".credit { color: #27ae60; font-weight: bold; }"
+            + ".debit { color: #e74c3c; font-weight: bold; }"
+            + "</style>";
+
+    @Param({"20", "200"})
+    public int movements;
+
+    private String html;
+    private String legacyHtml;
+    private PdfGeneratorAdapter adapter;
+
+    @Setup
+    public void setUp() throws IOException {
+        UUID clientId = UUID.randomUUID();
+        InMemoryClientRepository clientStore = new InMemoryClientRepository();
+        clientStore.save(Client.builder().id(clientId).name("Benchmark").identification("0000000000").state(true).build());
+
+        InMemoryAccountRepository accountStore = new InMemoryAccountRepository();
+        Account account = accountStore.save(Account.builder()
+                .clientId(clientId)
+                .accountNumber("000001")
+                .type(AccountType.AHORROS)
+                .initialBalance(new BigDecimal("1000.00"))
+                .currentBalance(new BigDecimal("1000.00"))
+                .state(true)
+                .build());
+        InMemoryMovementRepository movementStore = new InMemoryMovementRepository();
+        for (int m = 0; m < movements; m++) {
+            boolean credit = m % 2 == 0;
+            movementStore.save(Movement.builder()
+                    .accountId(account.getId())
+                    .date(LocalDateTime.of(2024, 1, 1, 10, 0).plusHours(m))
+                    .movementType(credit ? MovementType.DEPOSITO : MovementType.RETIRO)
+                    .value(credit ? new BigDecimal("25.00") : new BigDecimal("-10.00"))
+                    .balance(new BigDecimal("1000.00"))
+                    .build());
+        }
+
+        HtmlCapture capture = new HtmlCapture();
+        InMemoryDailyBalanceRepository dailyBalanceStore = new InMemoryDailyBalanceRepository(movementStore)
+                .rebuildAll(List.of(account));
+        new ReportService(clientStore, accountStore, movementStore, dailyBalanceStore, capture, BusinessMetrics.NOOP,
+                ReportCache.DISABLED, ParallelReportReads.sequential())
+                .prepareReportPdf(clientId, START, END)
+                .writeTo(OutputStream.nullOutputStream());
+        html = capture.html;
+        legacyHtml = html.replaceFirst("<link [^>]*statement\\.css[^>]*>", LEGACY_STYLE);
+        adapter = new PdfGeneratorAdapter(new PdfRenderResources(), new SimpleMeterRegistry(), 4, Duration.ofMinutes(1));
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            PdfRendererBuilder builder = new PdfRendererBuilder();
+            builder.useFastMode();
+            builder.withHtmlContent(legacyHtml, "");
+            builder.toStream(outputStream);
+            builder.run();
+            return outputStream.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public byte[] cached() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        adapter.writePdf(List.of(html).iterator(), outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static final class HtmlCapture implements PdfGeneratorPort {
+
+        private String html;
+
+        // Con a lo sumo 200 movimientos el estado de cuenta cabe en un solo bloque
+        @Override
+        public void writePdf(Iterator<String> htmlDocuments, OutputStream output) {
+            html = htmlDocuments.next();
+        }
+    }
+}
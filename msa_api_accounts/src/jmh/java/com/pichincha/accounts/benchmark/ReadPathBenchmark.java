@@ -0,0 +1,127 @@
+package com.pichincha.accounts.benchmark;
+
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.infrastructure.adapter.persistence.MovementPersistenceAdapter;
+import com.pichincha.accounts.infrastructure.adapter.persistence.ProjectionQueries;
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.MovementEntity;
+import com.pichincha.accounts.infrastructure.adapter.persistence.repository.MovementJpaRepository;
+import com.pichincha.accounts.infrastructure.adapter.persistence.specification.MovementSpecifications;
+import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapper;
+import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapperImpl;
+import com.pichincha.accounts.infrastructure.mapper.MovementEntityMapper;
+import com.pichincha.accounts.infrastructure.mapper.MovementEntityMapperImpl;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listado de movimientos hasta {@link MovimientoDto} por los dos caminos de lectura: entidades
+ * gestionadas por Hibernate más los mappers MapStruct (como antes), o columnas proyectadas con
+ * {@link ProjectionQueries} a través de {@link MovementPersistenceAdapter}. Usa H2 en memoria para
+ * aislar el costo del lado de la JVM; con {@code -prof gc} la métrica {@code gc.alloc.rate.norm} da
+ * los bytes asignados por listado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadPathBenchmark {
+
+    private static final int ROWS = 5_000;
+
+    @Param({"50", "500"})
+    public int size;
+
+    private final MovementEntityMapper movementEntityMapper = new MovementEntityMapperImpl();
+    private final MovementDtoMapper movementDtoMapper = new MovementDtoMapperImpl();
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private MovementJpaRepository movementJpaRepository;
+    private MovementPersistenceAdapter movementPersistenceAdapter;
+    private MovementFilter filter;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:read-path;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(MovementEntity.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+
+        UUID accountId = UUID.randomUUID();
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < ROWS; i++) {
+            boolean credit = i % 2 == 0;
+            entityManager.persist(new MovementEntity(null, accountId, LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(i),
+                    credit ? MovementType.DEPOSITO : MovementType.RETIRO,
+                    credit ? new BigDecimal("25.00") : new BigDecimal("-10.00"), new BigDecimal("1000.00")));
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+
+        movementJpaRepository = new JpaRepositoryFactory(entityManager).getRepository(MovementJpaRepository.class);
+        movementPersistenceAdapter = new MovementPersistenceAdapter(movementJpaRepository, movementEntityMapper,
+                new ProjectionQueries(entityManager));
+        filter = MovementFilter.builder().accountId(accountId).build();
+        pageable = PageRequest.of(1, size, Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id")));
+
+        if (!entitySlice().equals(projectionSlice())) {
+            throw new IllegalStateException("Los dos caminos de lectura devuelven filas distintas");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public List<MovimientoDto> entitySlice() {
+        List<MovimientoDto> result = movementJpaRepository
+                .findBy(MovementSpecifications.matching(filter), query -> query.slice(pageable))
+                .map(movementEntityMapper::toDomain)
+                .map(movementDtoMapper::toDto)
+                .getContent();
+        // Un request abre un contexto de persistencia nuevo; sin esto las entidades quedarían en caché
+        entityManager.clear();
+        return result;
+    }
+
+    @Benchmark
+    public List<MovimientoDto> projectionSlice() {
+        return movementPersistenceAdapter.findSlice(filter, pageable)
+                .map(movementDtoMapper::toDto)
+                .getContent();
+    }
+}
@@ -0,0 +1,126 @@
+package com.pichincha.accounts.benchmark;
+
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.application.service.ParallelReportReads;
+import com.pichincha.accounts.application.service.ReportService;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Report;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryClientRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el reporte anterior (una consulta de movimientos por cuenta) con la consulta agrupada
+ * y el GROUP BY. Los repositorios son los de memoria de los tests, con {@code roundTripMicros}
+ * de latencia por llamada para que domine el número de viajes a la base de datos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportAggregationBenchmark {
+
+    private static final int MOVEMENTS_PER_ACCOUNT = 20;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+
+    @Param({"1", "10", "100"})
+    public int accounts;
+
+    @Param({"200"})
+    public long roundTripMicros;
+
+    private UUID clientId;
+    private ClientRepository clientRepository;
+    private AccountRepository accountRepository;
+    private MovementRepository movementRepository;
+    private ReportService reportService;
+
+    @Setup
+    public void setUp() {
+        clientId = UUID.randomUUID();
+        InMemoryClientRepository clientStore = new InMemoryClientRepository();
+        clientStore.save(Client.builder().id(clientId).name("Benchmark").identification("0000000000").state(true).build());
+
+        InMemoryAccountRepository accountStore = new InMemoryAccountRepository();
+        InMemoryMovementRepository movementStore = new InMemoryMovementRepository();
+        for (int a = 0; a < accounts; a++) {
+            Account account = accountStore.save(Account.builder()
+                    .clientId(clientId)
+                    .accountNumber(String.format("%06d", a))
+                    .type(AccountType.AHORROS)
+                    .initialBalance(new BigDecimal("1000.00"))
+                    .currentBalance(new BigDecimal("1000.00"))
+                    .state(true)
+                    .build());
+            for (int m = 0; m < MOVEMENTS_PER_ACCOUNT; m++) {
+                boolean credit = m % 2 == 0;
+                movementStore.save(Movement.builder()
+                        .accountId(account.getId())
+                        .date(LocalDateTime.of(2024, 1, 1 + m, 10, 0))
+                        .movementType(credit ? MovementType.DEPOSITO : MovementType.RETIRO)
+                        .value(credit ? new BigDecimal("25.00") : new BigDecimal("-10.00"))
+                        .balance(new BigDecimal("1000.00"))
+                        .build());
+            }
+        }
+
+        clientRepository = SimulatedLatency.wrap(ClientRepository.class, clientStore, roundTripMicros);
+        accountRepository = SimulatedLatency.wrap(AccountRepository.class, accountStore, roundTripMicros);
+        movementRepository = SimulatedLatency.wrap(MovementRepository.class, movementStore, roundTripMicros);
+        DailyBalanceRepository dailyBalanceRepository = SimulatedLatency.wrap(DailyBalanceRepository.class,
+                new InMemoryDailyBalanceRepository(movementStore).rebuildAll(accountStore.findAll()), roundTripMicros);
+        reportService = new ReportService(clientRepository, accountRepository, movementRepository, dailyBalanceRepository, null,
+                BusinessMetrics.NOOP, ReportCache.DISABLED, ParallelReportReads.sequential());
+    }
+
+    @Benchmark
+    public BigDecimal perAccountQueries() {
+        clientRepository.findById(clientId).orElseThrow();
+        BigDecimal totalCredits = BigDecimal.ZERO;
+        BigDecimal totalDebits = BigDecimal.ZERO;
+        for (Account account : accountRepository.findByClientId(clientId)) {
+            for (Movement movement : movementRepository.findByAccountIdAndDateRange(account.getId(), START, END)) {
+                if (movement.getValue().compareTo(BigDecimal.ZERO) > 0) {
+                    totalCredits = totalCredits.add(movement.getValue());
+                } else {
+                    totalDebits = totalDebits.add(movement.getValue().abs());
+                }
+            }
+        }
+        return totalCredits.subtract(totalDebits);
+    }
+
+    @Benchmark
+    public Report batchedDetail() {
+        return reportService.generateReport(clientId, START, END, true);
+    }
+
+    @Benchmark
+    public Report aggregateOnly() {
+        return reportService.generateReport(clientId, START, END, false);
+    }
+}
@@ -0,0 +1,120 @@
+package com.pichincha.accounts.benchmark;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.PdfGeneratorPort;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.application.service.ParallelReportReads;
+import com.pichincha.accounts.application.service.ReportService;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Report;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryClientRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Armado del estado de cuenta sin latencia de base de datos. {@code pdfBase64} sigue el camino de
+ * {@code /pdf/base64}: {@link ReportService#prepareReportPdf} escrito a través del codificador Base64,
+ * con un generador de PDF que solo escribe el largo de cada bloque HTML, así que su costo incluye el
+ * de los totales y el de leer y armar los bloques.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportServiceBenchmark {
+
+    private static final int ACCOUNTS = 3;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Param({"20", "500"})
+    public int movementsPerAccount;
+
+    private UUID clientId;
+    private ReportService reportService;
+
+    @Setup
+    public void setUp() {
+        clientId = UUID.randomUUID();
+        InMemoryClientRepository clientRepository = new InMemoryClientRepository();
+        clientRepository.save(Client.builder().id(clientId).name("Benchmark").identification("0000000000").state(true).build());
+
+        InMemoryAccountRepository accountRepository = new InMemoryAccountRepository();
+        InMemoryMovementRepository movementRepository = new InMemoryMovementRepository();
+        for (int a = 0; a < ACCOUNTS; a++) {
+            Account account = accountRepository.save(Account.builder()
+                    .clientId(clientId)
+                    .accountNumber(String.format("%06d", a))
+                    .type(AccountType.AHORROS)
+                    .initialBalance(new BigDecimal("1000.00"))
+                    .currentBalance(new BigDecimal("1000.00"))
+                    .state(true)
+                    .build());
+            for (int m = 0; m < movementsPerAccount; m++) {
+                boolean credit = m % 2 == 0;
+                movementRepository.save(Movement.builder()
+                        .accountId(account.getId())
+                        .date(LocalDateTime.of(2024, 1, 1, 10, 0).plusHours(m))
+                        .movementType(credit ? MovementType.DEPOSITO : MovementType.RETIRO)
+                        .value(credit ? new BigDecimal("25.00") : new BigDecimal("-10.00"))
+                        .balance(new BigDecimal("1000.00"))
+                        .build());
+            }
+        }
+
+        InMemoryDailyBalanceRepository dailyBalanceRepository = new InMemoryDailyBalanceRepository(movementRepository)
+                .rebuildAll(accountRepository.findAll());
+        reportService = new ReportService(clientRepository, accountRepository, movementRepository, dailyBalanceRepository, new HtmlLength(),
+                BusinessMetrics.NOOP, ReportCache.DISABLED, ParallelReportReads.sequential());
+    }
+
+    @Benchmark
+    public Report generateReport() {
+        return reportService.generateReport(clientId, START, END);
+    }
+
+    @Benchmark
+    public void pdfBase64() throws IOException {
+        OutputStream base64 = Base64.getEncoder().wrap(OutputStream.nullOutputStream());
+        reportService.prepareReportPdf(clientId, START, END).writeTo(base64);
+        base64.close();
+    }
+
+    private static final class HtmlLength implements PdfGeneratorPort {
+
+        @Override
+        public void writePdf(Iterator<String> htmlDocuments, OutputStream output) {
+            try {
+                while (htmlDocuments.hasNext()) {
+                    output.write(Integer.toString(htmlDocuments.next().length()).getBytes(StandardCharsets.US_ASCII));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
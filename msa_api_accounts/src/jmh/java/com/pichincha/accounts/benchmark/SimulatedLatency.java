@@ -0,0 +1,32 @@
+package com.pichincha.accounts.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Envuelve un puerto de salida en memoria para que cada llamada cueste un viaje de ida y vuelta a la base de datos.
+ */
+final class SimulatedLatency {
+
+    private SimulatedLatency() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T wrap(Class<T> port, T delegate, long roundTripMicros) {
+        long roundTripNanos = roundTripMicros * 1_000;
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(delegate, args);
+            }
+            LockSupport.parkNanos(roundTripNanos);
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port}, handler);
+    }
+}
@@ -0,0 +1,258 @@
+package com.pichincha.accounts.benchmark;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.PdfGeneratorPort;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.application.service.ParallelReportReads;
+import com.pichincha.accounts.application.service.ReportService;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.Report;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryClientRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML del estado de cuenta de un cliente con {@code movements} movimientos: {@code legacy} es el
+ * generador anterior (un {@code StringBuilder} que crece, un formateador por fila y sin escapar) y
+ * {@code template} es la plantilla de {@link ReportService#prepareReportPdf}, a la que se llega con el
+ * reporte ya armado en la cache, los movimientos ya ordenados y un generador de PDF que solo mide el HTML
+ * de cada bloque.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatementHtmlBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Param({"100", "10000", "100000"})
+    public int movements;
+
+    private UUID clientId;
+    private Report report;
+    private ReportService reportService;
+
+    @Setup
+    public void setUp() {
+        clientId = UUID.randomUUID();
+        Client client = Client.builder().id(clientId).name("Benchmark").identification("0000000000").state(true).build();
+        InMemoryClientRepository clientStore = new InMemoryClientRepository();
+        clientStore.save(client);
+
+        InMemoryAccountRepository accountStore = new InMemoryAccountRepository();
+        Account account = accountStore.save(Account.builder()
+                .clientId(clientId)
+                .accountNumber("000001")
+                .type(AccountType.AHORROS)
+                .initialBalance(new BigDecimal("1000.00"))
+                .currentBalance(new BigDecimal("1000.00"))
+                .state(true)
+                .build());
+        List<Movement> rows = new ArrayList<>(movements);
+        for (int m = 0; m < movements; m++) {
+            boolean credit = m % 2 == 0;
+            rows.add(Movement.builder()
+                    .id(UUID.randomUUID())
+                    .accountId(account.getId())
+                    .date(LocalDateTime.of(2024, 1, 1, 10, 0).plusMinutes(m))
+                    .movementType(credit ? MovementType.DEPOSITO : MovementType.RETIRO)
+                    .value(credit ? new BigDecimal("25.00") : new BigDecimal("-10.00"))
+                    .balance(new BigDecimal("1000.00"))
+                    .build());
+        }
+        report = Report.builder()
+                .startDate(START)
+                .endDate(END)
+                .client(client)
+                .accountStatements(List.of(Report.AccountStatement.builder()
+                        .account(account)
+                        .movements(rows)
+                        .accountTotalCredits(new BigDecimal("25.00").multiply(BigDecimal.valueOf((movements + 1) / 2)))
+                        .accountTotalDebits(new BigDecimal("10.00").multiply(BigDecimal.valueOf(movements / 2)))
+                        .finalBalance(account.getCurrentBalance())
+                        .build()))
+                .totalCredits(BigDecimal.ZERO)
+                .totalDebits(BigDecimal.ZERO)
+                .totalBalance(account.getCurrentBalance())
+                .build();
+
+        InMemoryMovementRepository movementStore = new SortedMovements(rows);
+        reportService = new ReportService(clientStore, accountStore, movementStore,
+                new InMemoryDailyBalanceRepository(movementStore), new HtmlLength(), BusinessMetrics.NOOP,
+                new BuiltReport(report), ParallelReportReads.sequential());
+    }
+
+    @Benchmark
+    public String legacy() {
+        return legacyHtml(report);
+    }
+
+    @Benchmark
+    public void template() throws IOException {
+        reportService.prepareReportPdf(clientId, START, END).writeTo(OutputStream.nullOutputStream());
+    }
+
+    private static String legacyHtml(Report report) {
+        StringBuilder html = new StringBuilder();
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        html.append("<!DOCTYPE html>");
+        html.append("<html xmlns='http://www.w3.org/1999/xhtml'><head>");
+        html.append("<meta charset='UTF-8' />");
+        html.append("<link rel='stylesheet' type='text/css' href='statement.css' />");
+        html.append("</head><body>");
+        html.append("<h1>Estado de Cuenta</h1>");
+        html.append("<div class='client-info'>");
+        html.append("<h2>Información del Cliente</h2>");
+        html.append("<p><strong>Nombre:</strong> ").append(report.getClient().getName()).append("</p>");
+        html.append("<p><strong>Identificación:</strong> ").append(report.getClient().getIdentification()).append("</p>");
+        html.append("<p><strong>Período:</strong> ").append(report.getStartDate().format(formatter))
+                .append(" - ").append(report.getEndDate().format(formatter)).append("</p>");
+        html.append("</div>");
+
+        for (Report.AccountStatement statement : report.getAccountStatements()) {
+            html.append("<h2>Cuenta: ").append(statement.getAccount().getAccountNumber()).append("</h2>");
+            html.append("<p><strong>Tipo:</strong> ").append(statement.getAccount().getType()).append("</p>");
+            html.append("<p><strong>Estado:</strong> ").append(statement.getAccount().getState() ? "Activa" : "Inactiva").append("</p>");
+            html.append("<p><strong>Saldo Actual:</strong> $").append(statement.getFinalBalance()).append("</p>");
+            html.append("<table>");
+            html.append("<tr>");
+            html.append("<th>Fecha</th>");
+            html.append("<th>Tipo Movimiento</th>");
+            html.append("<th>Valor</th>");
+            html.append("<th>Saldo</th>");
+            html.append("</tr>");
+            for (Movement movement : statement.getMovements()) {
+                html.append("<tr>");
+                html.append("<td>").append(movement.getDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"))).append("</td>");
+                html.append("<td>").append(movement.getMovementType().getDescription()).append("</td>");
+                String valueClass = movement.getValue().compareTo(BigDecimal.ZERO) > 0 ? "credit" : "debit";
+                html.append("<td class='").append(valueClass).append("'>$").append(movement.getValue()).append("</td>");
+                html.append("<td>$").append(movement.getBalance()).append("</td>");
+                html.append("</tr>");
+            }
+            html.append("</table>");
+            html.append("<p><strong>Total Créditos:</strong> <span class='credit'>$").append(statement.getAccountTotalCredits()).append("</span></p>");
+            html.append("<p><strong>Total Débitos:</strong> <span class='debit'>$").append(statement.getAccountTotalDebits()).append("</span></p>");
+        }
+
+        html.append("<div class='summary'>");
+        html.append("<h2>Resumen General</h2>");
+        html.append("<p><strong>Total Créditos:</strong> <span class='credit'>$").append(report.getTotalCredits()).append("</span></p>");
+        html.append("<p><strong>Total Débitos:</strong> <span class='debit'>$").append(report.getTotalDebits()).append("</span></p>");
+        html.append("<p><strong>Saldo Total:</strong> $").append(report.getTotalBalance()).append("</p>");
+        html.append("</div>");
+        html.append("</body></html>");
+        return html.toString();
+    }
+
+    /**
+     * Devuelve siempre el mismo reporte, así {@code template} mide solo el armado del HTML.
+     */
+    private static final class BuiltReport implements ReportCache {
+
+        private final Report report;
+
+        private BuiltReport(Report report) {
+            this.report = report;
+        }
+
+        @Override
+        public Optional<Report> getReport(Key key, boolean includeMovements) {
+            return Optional.of(report);
+        }
+
+        @Override
+        public void putReport(Key key, boolean includeMovements, Report report) {
+        }
+
+        @Override
+        public Optional<byte[]> getPdf(Key key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void putPdf(Key key, byte[] pdf) {
+        }
+
+        @Override
+        public int maxPdfBytes() {
+            return 0;
+        }
+
+        @Override
+        public void evictClient(UUID clientId) {
+        }
+    }
+
+    private static final class HtmlLength implements PdfGeneratorPort {
+
+        @Override
+        public void writePdf(Iterator<String> htmlDocuments, OutputStream output) {
+            try {
+                while (htmlDocuments.hasNext()) {
+                    output.write(Integer.toString(htmlDocuments.next().length()).getBytes(StandardCharsets.US_ASCII));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Sirve cada bloque desde la lista ya ordenada como el índice (fecha DESC, id DESC), sin recorrer
+     * todos los movimientos por bloque como el repositorio en memoria.
+     */
+    private static final class SortedMovements extends InMemoryMovementRepository {
+
+        private final List<Movement> rows;
+        private final Map<UUID, Integer> positions = new HashMap<>();
+
+        private SortedMovements(List<Movement> movements) {
+            rows = new ArrayList<>(movements);
+            Collections.reverse(rows);
+            for (int i = 0; i < rows.size(); i++) {
+                positions.put(rows.get(i).getId(), i);
+            }
+        }
+
+        @Override
+        public List<Movement> findPageByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate,
+                                                              MovementCursor after, int limit) {
+            int from = after == null ? 0 : positions.get(after.getId()) + 1;
+            return rows.subList(from, Math.min(rows.size(), from + limit));
+        }
+    }
+}
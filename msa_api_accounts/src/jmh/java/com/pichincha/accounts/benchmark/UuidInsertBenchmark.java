@@ -0,0 +1,116 @@
+package com.pichincha.accounts.benchmark;
+
+import com.pichincha.accounts.util.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput de INSERT en una tabla con la forma de {@code movimiento} sobre PostgreSQL real
+ * (Testcontainers, requiere Docker), con claves UUID aleatorias (v4) o ordenadas por tiempo (v7).
+ * La tabla se precarga para que el índice de la clave primaria no quepa en las páginas calientes;
+ * el score son filas por segundo. Al terminar se imprime el tamaño del índice, que con claves
+ * aleatorias crece más por las divisiones de página.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT = "INSERT INTO movimiento (id, cuenta_id, fecha, tipo_movimiento, valor, saldo_despues) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Param({"random", "v7"})
+    public String keys;
+
+    @Param({"1000000"})
+    public int preloadedRows;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> keyGenerator;
+    private UUID accountId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                postgres.getUsername(), postgres.getPassword());
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE movimiento (id UUID PRIMARY KEY, cuenta_id UUID NOT NULL, "
+                    + "fecha TIMESTAMP NOT NULL, tipo_movimiento VARCHAR(20) NOT NULL, "
+                    + "valor NUMERIC(15,2) NOT NULL, saldo_despues NUMERIC(15,2) NOT NULL)");
+        }
+        connection.commit();
+
+        keyGenerator = "v7".equals(keys) ? TimeOrderedUuid::generate : UUID::randomUUID;
+        accountId = UUID.randomUUID();
+        insert = connection.prepareStatement(INSERT);
+        for (int loaded = 0; loaded < preloadedRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT count(*), pg_size_pretty(pg_relation_size('movimiento_pkey')) FROM movimiento")) {
+            result.next();
+            System.out.printf("%n[%s] filas=%d índice PK=%s%n", keys, result.getLong(1), result.getString(2));
+        } finally {
+            connection.close();
+            postgres.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertMovements() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, keyGenerator.get());
+            insert.setObject(2, accountId);
+            insert.setTimestamp(3, now);
+            insert.setString(4, "DEPOSITO");
+            insert.setBigDecimal(5, BigDecimal.TEN);
+            insert.setBigDecimal(6, BigDecimal.TEN);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+}
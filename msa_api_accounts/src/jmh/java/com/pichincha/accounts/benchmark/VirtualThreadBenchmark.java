@@ -0,0 +1,134 @@
+package com.pichincha.accounts.benchmark;
+
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.application.service.ParallelReportReads;
+import com.pichincha.accounts.application.service.ReportService;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Report;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryClientRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simula el modo de ejecución del servidor: {@code @Threads} clientes concurrentes envían cada uno
+ * una petición de reporte, que se atiende en el pool de 200 hilos de plataforma de Tomcat
+ * ({@code platform}) o en un hilo virtual por petición ({@code virtual}). Cada viaje a la base
+ * de datos cuesta {@code roundTripMicros}. Mide throughput y percentiles (p99 en {@code SampleTime}).
+ * El modo {@code virtual} requiere ejecutar el jar de JMH con Java 21+; hasta ahora solo se ha medido
+ * {@code platform}, con Java 17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class VirtualThreadBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int ACCOUNTS = 3;
+    private static final int MOVEMENTS_PER_ACCOUNT = 20;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"2000"})
+    public long roundTripMicros;
+
+    private UUID clientId;
+    private ReportService reportService;
+    private ExecutorService platformExecutor;
+    private VirtualThreadTaskExecutor virtualExecutor;
+
+    @Setup
+    public void setUp() {
+        clientId = UUID.randomUUID();
+        InMemoryClientRepository clientStore = new InMemoryClientRepository();
+        clientStore.save(Client.builder().id(clientId).name("Benchmark").identification("0000000000").state(true).build());
+
+        InMemoryAccountRepository accountStore = new InMemoryAccountRepository();
+        InMemoryMovementRepository movementStore = new InMemoryMovementRepository();
+        for (int a = 0; a < ACCOUNTS; a++) {
+            Account account = accountStore.save(Account.builder()
+                    .clientId(clientId)
+                    .accountNumber(String.format("%06d", a))
+                    .type(AccountType.AHORROS)
+                    .initialBalance(new BigDecimal("1000.00"))
+                    .currentBalance(new BigDecimal("1000.00"))
+                    .state(true)
+                    .build());
+            for (int m = 0; m < MOVEMENTS_PER_ACCOUNT; m++) {
+                boolean credit = m % 2 == 0;
+                movementStore.save(Movement.builder()
+                        .accountId(account.getId())
+                        .date(LocalDateTime.of(2024, 1, 1 + m, 10, 0))
+                        .movementType(credit ? MovementType.DEPOSITO : MovementType.RETIRO)
+                        .value(credit ? new BigDecimal("25.00") : new BigDecimal("-10.00"))
+                        .balance(new BigDecimal("1000.00"))
+                        .build());
+            }
+        }
+
+        reportService = new ReportService(
+                SimulatedLatency.wrap(ClientRepository.class, clientStore, roundTripMicros),
+                SimulatedLatency.wrap(AccountRepository.class, accountStore, roundTripMicros),
+                SimulatedLatency.wrap(MovementRepository.class, movementStore, roundTripMicros),
+                SimulatedLatency.wrap(DailyBalanceRepository.class,
+                        new InMemoryDailyBalanceRepository(movementStore).rebuildAll(accountStore.findAll()), roundTripMicros),
+                null,
+                BusinessMetrics.NOOP,
+                ReportCache.DISABLED,
+                ParallelReportReads.sequential());
+
+        if ("virtual".equals(mode)) {
+            virtualExecutor = new VirtualThreadTaskExecutor("bench-");
+        } else {
+            platformExecutor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (platformExecutor != null) {
+            platformExecutor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public Report request() throws Exception {
+        return CompletableFuture.supplyAsync(
+                        () -> reportService.generateReport(clientId, START, END, true),
+                        platformExecutor != null ? platformExecutor : virtualExecutor)
+                .get();
+    }
+}
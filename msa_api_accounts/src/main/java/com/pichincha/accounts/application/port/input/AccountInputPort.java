@@ -1,6 +1,10 @@
 package com.pichincha.accounts.application.port.input;
 
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,7 +18,9 @@ public interface AccountInputPort {
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
-    List<Account> findAll();
+    Page<Account> findAll(AccountFilter filter, Pageable pageable);
+
+    Slice<Account> findSlice(AccountFilter filter, Pageable pageable);
 
     List<Account> findByClientId(UUID clientId);
 
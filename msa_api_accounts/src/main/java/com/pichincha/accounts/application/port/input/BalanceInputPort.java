@@ -0,0 +1,18 @@
+package com.pichincha.accounts.application.port.input;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface BalanceInputPort {
+
+    /**
+     * Saldo de la cuenta en {@code instant}: cierre del día anterior más los movimientos del día hasta esa hora.
+     */
+    BigDecimal getBalanceAsOf(UUID accountId, LocalDateTime instant);
+
+    /**
+     * Recalcula los saldos diarios de la cuenta desde sus movimientos, con la cuenta bloqueada.
+     */
+    void rebuildDailyBalances(UUID accountId);
+}
@@ -1,8 +1,11 @@
 package com.pichincha.accounts.application.port.input;
 
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,7 +13,8 @@ public interface ClientInputPort {
     Client createClient(Client client);
     Optional<Client> findById(UUID id);
     Optional<Client> findByClientId(String clientId);
-    List<Client> findAll();
+    Page<Client> findAll(ClientFilter filter, Pageable pageable);
+    Slice<Client> findSlice(ClientFilter filter, Pageable pageable);
     Client updateClient(UUID id, Client client);
     void deleteClient(UUID id);
     boolean existsByClientId(String clientId);
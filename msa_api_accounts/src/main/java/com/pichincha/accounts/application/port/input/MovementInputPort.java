@@ -1,7 +1,15 @@
 package com.pichincha.accounts.application.port.input;
 
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.domain.MovementPage;
+import com.pichincha.accounts.domain.MovementResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -9,10 +17,26 @@ import java.util.UUID;
 
 public interface MovementInputPort {
     Movement createMovement(Movement movement);
+
+    /**
+     * Igual que {@link #createMovement(Movement)}, pero si {@code idempotencyKey} ya se usó devuelve el
+     * movimiento original sin volver a aplicarlo. Sin clave se comporta como {@link #createMovement(Movement)}.
+     */
+    Movement createMovement(Movement movement, String idempotencyKey);
+
+    List<MovementResult> createMovements(List<Movement> movements);
     Optional<Movement> findById(UUID id);
-    List<Movement> findAll();
+    Page<Movement> findAll(MovementFilter filter, Pageable pageable);
+    Slice<Movement> findSlice(MovementFilter filter, Pageable pageable);
     List<Movement> findByAccountId(UUID accountId);
+    MovementPage findByAccountId(UUID accountId, MovementCursor cursor, int size);
     List<Movement> findByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Entrega a {@code sink} todos los movimientos del filtro en orden cronológico sin cargarlos en
+     * memoria; devuelve cuántos se exportaron.
+     */
+    long exportMovements(MovementFilter filter, MovementSink sink) throws IOException;
     Movement updateMovement(UUID id, Movement movement);
     void deleteMovement(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.pichincha.accounts.application.port.input;
+
+import com.pichincha.accounts.domain.Movement;
+
+import java.io.IOException;
+
+/**
+ * Destino de una exportación: recibe los movimientos uno a uno, a medida que se leen de la base.
+ */
+@FunctionalInterface
+public interface MovementSink {
+    void accept(Movement movement) throws IOException;
+}
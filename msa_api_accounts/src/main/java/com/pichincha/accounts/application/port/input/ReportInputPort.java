@@ -7,6 +7,15 @@ import java.util.UUID;
 
 public interface ReportInputPort {
     Report generateReport(UUID clientId, LocalDate startDate, LocalDate endDate);
-    byte[] generateReportPdf(UUID clientId, LocalDate startDate, LocalDate endDate);
-    String generateReportPdfBase64(UUID clientId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Con {@code includeMovements} en false solo se calculan los totales por cuenta, sin cargar el detalle.
+     */
+    Report generateReport(UUID clientId, LocalDate startDate, LocalDate endDate, boolean includeMovements);
+
+    /**
+     * Valida el cliente y calcula los totales de inmediato; los movimientos se leen y renderizan
+     * por bloques solo cuando se invoca {@link ReportPdfWriter#writeTo}.
+     */
+    ReportPdfWriter prepareReportPdf(UUID clientId, LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
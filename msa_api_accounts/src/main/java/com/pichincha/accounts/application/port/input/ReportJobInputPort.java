@@ -0,0 +1,23 @@
+package com.pichincha.accounts.application.port.input;
+
+import com.pichincha.accounts.domain.ReportJob;
+import com.pichincha.accounts.domain.enums.ReportJobPriority;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface ReportJobInputPort {
+
+    /**
+     * Encola la generación del PDF y devuelve de inmediato. Si ya hay un trabajo pendiente o en
+     * proceso para el mismo cliente y rango de fechas se devuelve ese mismo trabajo.
+     */
+    ReportJob submit(UUID clientId, LocalDate startDate, LocalDate endDate, ReportJobPriority priority);
+    ReportJob findById(UUID jobId);
+
+    /**
+     * Abre el PDF de un trabajo completado; el llamador debe cerrar el stream.
+     */
+    InputStream openResult(UUID jobId);
+}
@@ -0,0 +1,12 @@
+package com.pichincha.accounts.application.port.input;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Estado de cuenta ya validado cuyo PDF se genera recién al escribirlo en el stream de salida.
+ */
+@FunctionalInterface
+public interface ReportPdfWriter {
+    void writeTo(OutputStream output) throws IOException;
+}
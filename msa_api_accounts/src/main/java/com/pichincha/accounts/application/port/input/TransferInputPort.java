@@ -0,0 +1,20 @@
+package com.pichincha.accounts.application.port.input;
+
+import com.pichincha.accounts.domain.Transfer;
+import com.pichincha.accounts.domain.TransferResult;
+
+import java.util.List;
+
+public interface TransferInputPort {
+
+    /**
+     * Debita la cuenta origen y acredita la destino en una sola transacción; si algo falla no se aplica ninguno.
+     */
+    TransferResult transfer(Transfer transfer);
+
+    /**
+     * Aplica un lote en una sola transacción con un resultado por transferencia, en el orden recibido.
+     * Una transferencia rechazada no afecta al resto del lote.
+     */
+    List<TransferResult> transfer(List<Transfer> transfers);
+}
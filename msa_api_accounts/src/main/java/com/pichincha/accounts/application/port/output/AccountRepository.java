@@ -1,7 +1,12 @@
 package com.pichincha.accounts.application.port.output;
 
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,9 +14,26 @@ import java.util.UUID;
 public interface AccountRepository {
     Account save(Account account);
     Optional<Account> findById(UUID id);
+    Optional<Account> findByIdForUpdate(UUID id);
     Optional<Account> findByAccountNumber(String accountNumber);
     List<Account> findAll();
+    Page<Account> findAll(AccountFilter filter, Pageable pageable);
+    Slice<Account> findSlice(AccountFilter filter, Pageable pageable);
     List<Account> findByClientId(UUID clientId);
     void deleteById(UUID id);
     boolean existsByAccountNumber(String accountNumber);
+
+    /**
+     * Suma {@code delta} al saldo actual de forma atómica en la base de datos, solo si la cuenta está
+     * activa y el saldo resultante no queda negativo. Devuelve el nuevo saldo o vacío si no se aplicó.
+     * Cada llamada aplicada incrementa {@link com.pichincha.accounts.domain.Account#getLedgerVersion()},
+     * también con {@code delta} cero.
+     */
+    Optional<BigDecimal> applyBalanceDelta(UUID id, BigDecimal delta);
+
+    /**
+     * Reserva el siguiente bloque de números de cuenta para esta instancia. Dos llamadas nunca
+     * devuelven el mismo bloque, aunque vengan de instancias distintas.
+     */
+    long reserveAccountNumberBlock();
 }
\ No newline at end of file
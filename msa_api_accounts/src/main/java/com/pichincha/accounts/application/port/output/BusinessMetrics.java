@@ -0,0 +1,50 @@
+package com.pichincha.accounts.application.port.output;
+
+/**
+ * Métricas de los casos de uso. Con {@code accounts.metrics.enabled=false} se usa {@link #NOOP} y
+ * cada medición se reduce a una llamada vacía.
+ */
+public interface BusinessMetrics {
+
+    BusinessMetrics NOOP = new BusinessMetrics() {
+        @Override
+        public long start() {
+            return 0;
+        }
+
+        @Override
+        public void recordMovementCreation(long start, RuntimeException failure) {
+        }
+
+        @Override
+        public void recordReportPhase(ReportPhase phase, long start) {
+        }
+
+        @Override
+        public void recordRejection(Rejection rejection) {
+        }
+    };
+
+    enum ReportPhase {
+        QUERY, AGGREGATION, PDF
+    }
+
+    enum Rejection {
+        INSUFFICIENT_FUNDS, ACCOUNT_INACTIVE
+    }
+
+    /**
+     * Marca de inicio para los métodos {@code record*} que reciben {@code start}.
+     */
+    long start();
+
+    /**
+     * Duración de una creación de movimiento desde {@code start}; {@code failure} es nulo si se aplicó.
+     * Un rechazo por saldo o por cuenta inactiva también se cuenta como {@link Rejection}.
+     */
+    void recordMovementCreation(long start, RuntimeException failure);
+
+    void recordReportPhase(ReportPhase phase, long start);
+
+    void recordRejection(Rejection rejection);
+}
@@ -1,6 +1,10 @@
 package com.pichincha.accounts.application.port.output;
 
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,9 +19,19 @@ public interface ClientRepository {
 
     List<Client> findAll();
 
+    Page<Client> findAll(ClientFilter filter, Pageable pageable);
+
+    Slice<Client> findSlice(ClientFilter filter, Pageable pageable);
+
     void deleteById(UUID id);
 
     boolean existsByClientId(String clientId);
 
     boolean existsByIdentification(String identification);
+
+    /**
+     * Reserva el siguiente bloque de clientIds para esta instancia. Dos llamadas nunca devuelven
+     * el mismo bloque, aunque vengan de instancias distintas.
+     */
+    long reserveClientIdBlock();
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.pichincha.accounts.application.port.output;
+
+import com.pichincha.accounts.domain.AccountTotals;
+import com.pichincha.accounts.domain.DailyBalance;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface DailyBalanceRepository {
+
+    /**
+     * Suma a la fila del día los totales de {@code movementCount} movimientos nuevos; si la fila no existe
+     * se crea a partir del cierre del día anterior más cercano o de {@code initialBalance}. El saldo de
+     * cierre de los días posteriores se desplaza en el neto. Debe llamarse con la cuenta bloqueada.
+     */
+    void addMovements(UUID accountId, BigDecimal initialBalance, LocalDate date, AccountTotals totals, long movementCount);
+
+    /**
+     * Última fila de cada cuenta con fecha igual o anterior a {@code date}, en una sola consulta.
+     * Las cuentas sin filas hasta esa fecha no aparecen en el resultado.
+     */
+    List<DailyBalance> findLatestOnOrBefore(Collection<UUID> accountIds, LocalDate date);
+
+    /**
+     * Totales por cuenta en el rango sumando una fila por día en lugar de cada movimiento.
+     * Las cuentas sin movimientos en el rango no aparecen en el resultado.
+     */
+    List<AccountTotals> sumByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Reemplaza las filas de la cuenta por las calculadas desde todos sus movimientos.
+     */
+    void rebuild(UUID accountId, BigDecimal initialBalance);
+}
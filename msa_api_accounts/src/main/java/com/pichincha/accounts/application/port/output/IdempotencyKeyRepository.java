@@ -0,0 +1,29 @@
+package com.pichincha.accounts.application.port.output;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyKeyRepository {
+
+    /**
+     * Movimiento creado con la clave, si la solicitud que la usó ya se confirmó.
+     */
+    Optional<UUID> findMovementId(String key);
+
+    /**
+     * Reserva la clave dentro de la transacción en curso. Devuelve false si ya estaba registrada; si otra
+     * transacción la reservó y aún no termina, espera a que confirme o revierta.
+     */
+    boolean claim(String key);
+
+    /**
+     * Asocia el movimiento creado a la clave reservada con {@link #claim(String)}.
+     */
+    void complete(String key, UUID movementId);
+
+    /**
+     * Elimina las claves registradas antes de {@code cutoff} y devuelve cuántas se borraron.
+     */
+    int deleteCreatedBefore(LocalDateTime cutoff);
+}
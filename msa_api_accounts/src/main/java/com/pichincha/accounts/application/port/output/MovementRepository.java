@@ -1,17 +1,57 @@
 package com.pichincha.accounts.application.port.output;
 
+import com.pichincha.accounts.domain.AccountTotals;
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.MovementFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MovementRepository {
     Movement save(Movement movement);
+    List<Movement> saveAll(List<Movement> movements);
     Optional<Movement> findById(UUID id);
     List<Movement> findAll();
+    Page<Movement> findAll(MovementFilter filter, Pageable pageable);
+    Slice<Movement> findSlice(MovementFilter filter, Pageable pageable);
     List<Movement> findByAccountId(UUID accountId);
+    /**
+     * Devuelve como máximo {@code limit} movimientos de la cuenta posteriores a {@code after}
+     * en orden (fecha DESC, id DESC); con {@code after} nulo empieza por el más reciente.
+     */
+    List<Movement> findPageByAccountId(UUID accountId, MovementCursor after, int limit);
     List<Movement> findByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Todos los movimientos que cumplen el filtro en orden cronológico (fecha ASC, id ASC), leídos de
+     * la base a medida que se consume el stream. Debe consumirse y cerrarse dentro de una transacción.
+     */
+    Stream<Movement> streamAll(MovementFilter filter);
+
+    /**
+     * Igual que {@link #findPageByAccountId} pero limitado al rango de fechas; permite recorrer
+     * el detalle de un estado de cuenta por bloques sin cargarlo entero.
+     */
+    List<Movement> findPageByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate,
+                                                   MovementCursor after, int limit);
+
+    /**
+     * Movimientos de todas las cuentas indicadas en el rango, en una sola consulta, ordenados por fecha DESC.
+     */
+    List<Movement> findByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Totales de créditos y débitos por cuenta en el rango, agregados en la base de datos con un único GROUP BY.
+     * Las cuentas sin movimientos en el rango no aparecen en el resultado.
+     */
+    List<AccountTotals> sumByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate);
     void deleteById(UUID id);
 }
\ No newline at end of file
@@ -1,6 +1,12 @@
 package com.pichincha.accounts.application.port.output;
 
+import java.io.OutputStream;
+import java.util.Iterator;
+
 public interface PdfGeneratorPort {
-    byte[] generatePdf(String htmlContent);
-    String generateBase64Pdf(String htmlContent);
+    /**
+     * Renderiza cada documento HTML como páginas consecutivas de un mismo PDF y lo escribe en {@code output}.
+     * Los documentos se consumen uno a uno, de modo que solo uno está en memoria a la vez.
+     */
+    void writePdf(Iterator<String> htmlDocuments, OutputStream output);
 }
\ No newline at end of file
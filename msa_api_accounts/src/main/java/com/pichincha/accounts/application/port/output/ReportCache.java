@@ -0,0 +1,88 @@
+package com.pichincha.accounts.application.port.output;
+
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Report;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Estados de cuenta ya generados: el reporte con y sin detalle y su PDF. Lo guardado se
+ * comparte entre solicitudes y no debe modificarse.
+ */
+public interface ReportCache {
+
+    ReportCache DISABLED = new ReportCache() {
+        @Override
+        public Optional<Report> getReport(Key key, boolean includeMovements) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void putReport(Key key, boolean includeMovements, Report report) {
+        }
+
+        @Override
+        public Optional<byte[]> getPdf(Key key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void putPdf(Key key, byte[] pdf) {
+        }
+
+        @Override
+        public int maxPdfBytes() {
+            return 0;
+        }
+
+        @Override
+        public void evictClient(UUID clientId) {
+        }
+    };
+
+    /**
+     * Cliente, período y versión de movimientos de cada cuenta tal como se leyeron al pedir el reporte.
+     * Un movimiento confirmado después cambia la versión de su cuenta, así que lo guardado antes ya no
+     * se encuentra. Solo contiene valores inmutables: modificar una {@link Account} leída no altera la clave.
+     */
+    record Key(UUID clientId, LocalDate startDate, LocalDate endDate, List<AccountVersion> accounts) {
+
+        public Key {
+            accounts = List.copyOf(accounts);
+        }
+
+        public static Key of(UUID clientId, LocalDate startDate, LocalDate endDate, List<Account> accounts) {
+            return new Key(clientId, startDate, endDate, accounts.stream()
+                    .map(account -> new AccountVersion(account.getId(), account.getLedgerVersion()))
+                    .toList());
+        }
+    }
+
+    record AccountVersion(UUID accountId, Long ledgerVersion) {
+    }
+
+    Optional<Report> getReport(Key key, boolean includeMovements);
+
+    void putReport(Key key, boolean includeMovements, Report report);
+
+    Optional<byte[]> getPdf(Key key);
+
+    /**
+     * Un PDF de más de {@link #maxPdfBytes()} no se guarda.
+     */
+    void putPdf(Key key, byte[] pdf);
+
+    /**
+     * Tamaño del mayor PDF que se guarda; quien escribe en streaming deja de copiar al superarlo.
+     */
+    int maxPdfBytes();
+
+    /**
+     * Descarta lo guardado del cliente. Los movimientos ya cambian la clave; sin esto, los datos del
+     * cliente y de sus cuentas editados después se seguirían sirviendo hasta que venza la entrada.
+     */
+    void evictClient(UUID clientId);
+}
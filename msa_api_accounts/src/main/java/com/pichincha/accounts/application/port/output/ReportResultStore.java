@@ -0,0 +1,24 @@
+package com.pichincha.accounts.application.port.output;
+
+import com.pichincha.accounts.application.port.input.ReportPdfWriter;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReportResultStore {
+
+    /**
+     * Guarda el resultado escrito por {@code content} y devuelve su tamaño en bytes.
+     * El resultado solo queda visible cuando se escribió completo.
+     */
+    long save(UUID jobId, ReportPdfWriter content);
+    Optional<InputStream> open(UUID jobId);
+    void delete(UUID jobId);
+
+    /**
+     * Elimina los resultados guardados antes de {@code cutoff}, incluidos los que quedaron de ejecuciones anteriores.
+     */
+    void purgeOlderThan(Instant cutoff);
+}
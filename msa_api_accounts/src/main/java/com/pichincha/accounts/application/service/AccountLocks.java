@@ -0,0 +1,69 @@
+package com.pichincha.accounts.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializa en memoria las escrituras sobre una misma cuenta usando un conjunto fijo de locks
+ * (striping): cuentas distintas casi nunca comparten lock, la misma cuenta siempre lo hace.
+ * Los locks se mantienen hasta que termina la transacción que los tomó.
+ */
+@Component
+public class AccountLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public AccountLocks(@Value("${accounts.balance.lock-stripes:1024}") int stripes) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Bloquea las cuentas indicadas hasta que la transacción actual finalice. Los stripes se toman
+     * siempre en orden ascendente, por lo que debe llamarse una sola vez por transacción con todas
+     * las cuentas involucradas. Fuera de una transacción no hay nada que serializar y no bloquea.
+     */
+    public void lockUntilCompletion(UUID... accountIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        int[] indexes = Arrays.stream(accountIds)
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        for (int index : indexes) {
+            ReentrantLock lock = stripes[index];
+            lock.lock();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.unlock();
+                }
+            });
+        }
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    int stripeIndex(UUID accountId) {
+        int hash = accountId.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+}
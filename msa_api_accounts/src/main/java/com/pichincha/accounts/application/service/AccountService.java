@@ -3,11 +3,16 @@ package com.pichincha.accounts.application.service;
 import com.pichincha.accounts.application.port.input.AccountInputPort;
 import com.pichincha.accounts.application.port.output.AccountRepository;
 import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
 import com.pichincha.accounts.domain.Client;
 import com.pichincha.accounts.domain.exception.AccountNotFoundException;
 import com.pichincha.accounts.domain.exception.ClientNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,8 +20,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import static com.pichincha.accounts.util.NumberGenerate.generateAccountNumber;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -24,6 +27,9 @@ public class AccountService implements AccountInputPort {
     
     private final AccountRepository accountRepository;
     private final ClientRepository clientRepository;
+    private final NumberAllocator numberAllocator;
+    private final AccountLocks accountLocks;
+    private final ReportCache reportCache;
 
     @Override
     public Account createAccount(Account account) {
@@ -35,11 +41,7 @@ public class AccountService implements AccountInputPort {
             throw new RuntimeException("No se puede crear cuenta para un cliente inactivo");
         }
 
-        String accountNumber;
-        do {
-            accountNumber = generateAccountNumber();
-        } while (accountRepository.existsByAccountNumber(accountNumber));
-        account.setAccountNumber(accountNumber);
+        account.setAccountNumber(numberAllocator.nextAccountNumber());
 
         if (account.getState() == null) {
             account.setState(true);
@@ -65,8 +67,14 @@ public class AccountService implements AccountInputPort {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Account> findAll() {
-        return accountRepository.findAll();
+    public Page<Account> findAll(AccountFilter filter, Pageable pageable) {
+        return accountRepository.findAll(filter, PageLimits.bounded(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Account> findSlice(AccountFilter filter, Pageable pageable) {
+        return accountRepository.findSlice(filter, PageLimits.bounded(pageable));
     }
 
     @Override
@@ -78,7 +86,9 @@ public class AccountService implements AccountInputPort {
     @Override
     public Account updateAccount(UUID id, Account account) {
         
-        Account existingAccount = accountRepository.findById(id)
+        accountLocks.lockUntilCompletion(id);
+
+        Account existingAccount = accountRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new AccountNotFoundException("Cuenta no encontrada con ID: " + id));
 
         if (account.getType() != null) {
@@ -89,13 +99,18 @@ public class AccountService implements AccountInputPort {
         }
         
         Account updatedAccount = accountRepository.save(existingAccount);
+        // El tipo y el estado no cambian la versión de movimientos que identifica al reporte en la cache
+        reportCache.evictClient(updatedAccount.getClientId());
         return updatedAccount;
     }
 
     @Override
     public void deleteAccount(UUID id) {
         
-        Account account = accountRepository.findById(id)
+        // Con la fila bloqueada ningún movimiento cambia el saldo entre la validación y el borrado
+        accountLocks.lockUntilCompletion(id);
+
+        Account account = accountRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new AccountNotFoundException("Cuenta no encontrada con ID: " + id));
 
         if (account.getCurrentBalance().compareTo(java.math.BigDecimal.ZERO) != 0) {
@@ -0,0 +1,60 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.input.BalanceInputPort;
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.exception.AccountNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Saldos a una fecha a partir de los saldos diarios: el costo no depende de la antigüedad de la cuenta,
+ * solo de los movimientos del día consultado.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BalanceService implements BalanceInputPort {
+
+    private final AccountRepository accountRepository;
+    private final MovementRepository movementRepository;
+    private final DailyBalanceRepository dailyBalanceRepository;
+    private final AccountLocks accountLocks;
+
+    @Override
+    public BigDecimal getBalanceAsOf(UUID accountId, LocalDateTime instant) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Cuenta no encontrada con ID: " + accountId));
+
+        LocalDate day = instant.toLocalDate();
+        BigDecimal balance = DailyBalances.closingBalances(dailyBalanceRepository, movementRepository, List.of(account), day.minusDays(1))
+                .get(accountId);
+        for (Movement movement : movementRepository.findByAccountIdAndDateRange(accountId, day, day)) {
+            if (!movement.getDate().isAfter(instant)) {
+                balance = balance.add(movement.getValue());
+            }
+        }
+        return balance;
+    }
+
+    @Override
+    @Transactional
+    public void rebuildDailyBalances(UUID accountId) {
+        // Mismo orden de bloqueo que un movimiento: ninguno se registra a medias durante el recálculo
+        accountLocks.lockUntilCompletion(accountId);
+        Account account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Cuenta no encontrada con ID: " + accountId));
+
+        dailyBalanceRepository.rebuild(accountId, DailyBalances.initialBalance(account));
+    }
+}
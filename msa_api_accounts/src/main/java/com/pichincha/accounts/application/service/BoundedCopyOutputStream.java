@@ -0,0 +1,63 @@
+package com.pichincha.accounts.application.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Escribe en {@code target} y guarda una copia de lo escrito mientras no supere {@code limit} bytes;
+ * al superarlo descarta la copia, así la memoria usada no depende del tamaño de lo escrito.
+ */
+class BoundedCopyOutputStream extends OutputStream {
+
+    private final OutputStream target;
+    private final int limit;
+    private ByteArrayOutputStream copy;
+
+    BoundedCopyOutputStream(OutputStream target, int limit) {
+        this.target = target;
+        this.limit = limit;
+        this.copy = limit > 0 ? new ByteArrayOutputStream() : null;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        target.write(b);
+        if (fits(1)) {
+            copy.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        target.write(b, off, len);
+        if (fits(len)) {
+            copy.write(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        target.close();
+    }
+
+    /**
+     * Todo lo escrito, o vacío si superó el límite.
+     */
+    Optional<byte[]> copy() {
+        return Optional.ofNullable(copy).map(ByteArrayOutputStream::toByteArray);
+    }
+
+    private boolean fits(int len) {
+        if (copy != null && copy.size() + (long) len > limit) {
+            copy = null;
+        }
+        return copy != null;
+    }
+}
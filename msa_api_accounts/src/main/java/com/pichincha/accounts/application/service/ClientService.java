@@ -2,14 +2,17 @@ package com.pichincha.accounts.application.service;
 
 import com.pichincha.accounts.application.port.input.ClientInputPort;
 import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
 import com.pichincha.accounts.domain.exception.ClientNotFoundException;
-import com.pichincha.accounts.util.NumberGenerate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,6 +22,8 @@ import java.util.UUID;
 public class ClientService implements ClientInputPort {
 
     private final ClientRepository clientRepository;
+    private final NumberAllocator numberAllocator;
+    private final ReportCache reportCache;
 
     @Override
     public Client createClient(Client client) {
@@ -28,14 +33,8 @@ public class ClientService implements ClientInputPort {
         }
 
         if (client.getClientId() == null || client.getClientId().isEmpty()) {
-            String clientId;
-            do {
-                clientId = NumberGenerate.generateClientId();
-            } while (clientRepository.existsByClientId(clientId));
-            client.setClientId(clientId);
-        }
-
-        if (clientRepository.existsByClientId(client.getClientId())) {
+            client.setClientId(numberAllocator.nextClientId());
+        } else if (clientRepository.existsByClientId(client.getClientId())) {
             throw new RuntimeException("Ya existe un cliente con el ID: " + client.getClientId());
         }
 
@@ -62,9 +61,14 @@ public class ClientService implements ClientInputPort {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Client> findAll() {
+    public Page<Client> findAll(ClientFilter filter, Pageable pageable) {
+        return clientRepository.findAll(filter, PageLimits.bounded(pageable));
+    }
 
-        return clientRepository.findAll();
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Client> findSlice(ClientFilter filter, Pageable pageable) {
+        return clientRepository.findSlice(filter, PageLimits.bounded(pageable));
     }
 
     @Override
@@ -101,6 +105,8 @@ public class ClientService implements ClientInputPort {
         }
         
         Client updatedClient = clientRepository.save(existingClient);
+        // Los datos del cliente no forman parte de la clave de sus reportes en la cache
+        reportCache.evictClient(id);
         return updatedClient;
     }
 
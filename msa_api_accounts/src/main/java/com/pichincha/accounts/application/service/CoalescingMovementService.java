@@ -0,0 +1,291 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.input.MovementInputPort;
+import com.pichincha.accounts.application.port.input.MovementSink;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.domain.MovementPage;
+import com.pichincha.accounts.domain.MovementResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa los movimientos de las cuentas de alta frecuencia ({@code accounts.movements.coalescing.accounts},
+ * vacío por defecto): cada una tiene una cola acotada y un único escritor que toma lo acumulado mientras
+ * confirmaba el lote anterior y lo aplica con {@link MovementService#applyQueued}, una transacción con un
+ * solo UPDATE de la fila de la cuenta. Quien crea el movimiento recibe el resultado cuando su lote ya se
+ * confirmó; mientras espera no tiene transacción ni conexión abiertas.
+ * <p>
+ * Los movimientos con clave de idempotencia, los de otras cuentas y los que no caben en la cola siguen el
+ * camino normal de {@link MovementService}, que se serializa con el escritor por los mismos locks.
+ */
+@Slf4j
+@Service
+@Primary
+public class CoalescingMovementService implements MovementInputPort {
+
+    private static final String THREAD_PREFIX = "movement-writer-";
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long STOP_TIMEOUT_MS = 10_000;
+
+    private final MovementService movementService;
+    private final BusinessMetrics businessMetrics;
+    private final Map<UUID, AccountWriter> writers = new HashMap<>();
+
+    @Autowired
+    public CoalescingMovementService(MovementService movementService,
+                                     BusinessMetrics businessMetrics,
+                                     @Value("${accounts.movements.coalescing.accounts:}") String accounts,
+                                     @Value("${accounts.movements.coalescing.max-batch:256}") int maxBatch,
+                                     @Value("${accounts.movements.coalescing.queue-capacity:4096}") int queueCapacity,
+                                     Environment environment) {
+        this(movementService, businessMetrics, parseAccounts(accounts), maxBatch, queueCapacity,
+                Threading.VIRTUAL.isActive(environment)
+                        ? new VirtualThreadTaskExecutor(THREAD_PREFIX).getVirtualThreadFactory()
+                        : runnable -> {
+                            Thread thread = new Thread(runnable);
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    CoalescingMovementService(MovementService movementService, BusinessMetrics businessMetrics, List<UUID> accounts,
+                              int maxBatch, int queueCapacity, ThreadFactory threadFactory) {
+        this.movementService = movementService;
+        this.businessMetrics = businessMetrics;
+        for (UUID accountId : accounts) {
+            AccountWriter writer = new AccountWriter(accountId, maxBatch, queueCapacity);
+            Thread thread = threadFactory.newThread(writer::run);
+            thread.setName(THREAD_PREFIX + accountId);
+            writer.thread = thread;
+            writers.put(accountId, writer);
+            thread.start();
+        }
+        if (!writers.isEmpty()) {
+            log.info("Movimientos agrupados para {} cuentas de alta frecuencia", writers.size());
+        }
+    }
+
+    @Override
+    public Movement createMovement(Movement movement) {
+        AccountWriter writer = movement.getAccountId() == null ? null : writers.get(movement.getAccountId());
+        if (writer == null) {
+            return movementService.createMovement(movement);
+        }
+
+        long start = businessMetrics.start();
+        Optional<CompletableFuture<Movement>> queued = writer.offer(movement);
+        if (queued.isEmpty()) {
+            // Cola llena: se aplica solo, igual de correcto aunque sin agrupar
+            return movementService.createMovement(movement);
+        }
+        RuntimeException failure = null;
+        try {
+            return await(queued.get());
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            businessMetrics.recordMovementCreation(start, failure);
+        }
+    }
+
+    @Override
+    public Movement createMovement(Movement movement, String idempotencyKey) {
+        // La clave se reserva en la misma transacción que el movimiento, así que no se agrupa
+        return idempotencyKey == null ? createMovement(movement) : movementService.createMovement(movement, idempotencyKey);
+    }
+
+    @Override
+    public List<MovementResult> createMovements(List<Movement> movements) {
+        return movementService.createMovements(movements);
+    }
+
+    @Override
+    public Optional<Movement> findById(UUID id) {
+        return movementService.findById(id);
+    }
+
+    @Override
+    public Page<Movement> findAll(MovementFilter filter, Pageable pageable) {
+        return movementService.findAll(filter, pageable);
+    }
+
+    @Override
+    public Slice<Movement> findSlice(MovementFilter filter, Pageable pageable) {
+        return movementService.findSlice(filter, pageable);
+    }
+
+    @Override
+    public List<Movement> findByAccountId(UUID accountId) {
+        return movementService.findByAccountId(accountId);
+    }
+
+    @Override
+    public MovementPage findByAccountId(UUID accountId, MovementCursor cursor, int size) {
+        return movementService.findByAccountId(accountId, cursor, size);
+    }
+
+    @Override
+    public List<Movement> findByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate) {
+        return movementService.findByAccountIdAndDateRange(accountId, startDate, endDate);
+    }
+
+    @Override
+    public long exportMovements(MovementFilter filter, MovementSink sink) throws IOException {
+        return movementService.exportMovements(filter, sink);
+    }
+
+    @Override
+    public Movement updateMovement(UUID id, Movement movement) {
+        return movementService.updateMovement(id, movement);
+    }
+
+    @Override
+    public void deleteMovement(UUID id) {
+        movementService.deleteMovement(id);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.values().forEach(AccountWriter::stop);
+    }
+
+    /**
+     * Cuentas de {@code accounts.movements.coalescing.accounts}, sin vacías ni repetidas.
+     */
+    public static List<UUID> parseAccounts(String accounts) {
+        return Arrays.stream(accounts.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(UUID::fromString)
+                .distinct()
+                .toList();
+    }
+
+    private static Movement await(CompletableFuture<Movement> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Error aplicando el movimiento", e.getCause());
+        } catch (InterruptedException e) {
+            // El movimiento ya está en la cola y puede confirmarse igual; solo se deja de esperar
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Espera del movimiento interrumpida", e);
+        }
+    }
+
+    private record Pending(Movement movement, CompletableFuture<Movement> result) {
+    }
+
+    private final class AccountWriter {
+
+        private final UUID accountId;
+        private final int maxBatch;
+        private final BlockingQueue<Pending> queue;
+        private volatile boolean running = true;
+        private Thread thread;
+
+        private AccountWriter(UUID accountId, int maxBatch, int queueCapacity) {
+            this.accountId = accountId;
+            this.maxBatch = maxBatch;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        Optional<CompletableFuture<Movement>> offer(Movement movement) {
+            Pending pending = new Pending(movement, new CompletableFuture<>());
+            if (!running || !queue.offer(pending)) {
+                return Optional.empty();
+            }
+            if (!running && queue.remove(pending)) {
+                // Llegó durante el apagado y el escritor ya no la va a tomar
+                return Optional.empty();
+            }
+            return Optional.of(pending.result());
+        }
+
+        void run() {
+            List<Pending> batch = new ArrayList<>(maxBatch);
+            while (running) {
+                Pending first;
+                try {
+                    first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // Lo que llegó mientras se confirmaba el lote anterior va en este
+                queue.drainTo(batch, maxBatch - 1);
+                flush(batch);
+                batch.clear();
+            }
+            queue.drainTo(batch);
+            batch.forEach(pending -> pending.result().completeExceptionally(
+                    new IllegalStateException("La aplicación se está deteniendo")));
+        }
+
+        /**
+         * Sin interrumpir: un lote en curso termina de confirmarse antes de que se cierre el pool de conexiones.
+         */
+        void stop() {
+            running = false;
+            try {
+                thread.join(STOP_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void flush(List<Pending> batch) {
+            try {
+                List<MovementService.QueuedMovement> applied = movementService.applyQueued(accountId,
+                        batch.stream().map(Pending::movement).toList());
+                for (int i = 0; i < batch.size(); i++) {
+                    MovementService.QueuedMovement result = applied.get(i);
+                    if (result.failure() == null) {
+                        batch.get(i).result().complete(result.movement());
+                    } else {
+                        batch.get(i).result().completeExceptionally(result.failure());
+                    }
+                }
+            } catch (RuntimeException e) {
+                // Si la transacción no se confirma no se aplicó ninguno
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            }
+        }
+    }
+}
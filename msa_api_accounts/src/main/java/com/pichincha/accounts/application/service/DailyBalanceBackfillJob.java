@@ -0,0 +1,62 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.input.BalanceInputPort;
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calcula los saldos diarios de las cuentas existentes desde su historial de movimientos. Se ejecuta al
+ * arrancar mientras {@code accounts.balances.backfill-on-startup} esté activo (por defecto), hasta que la
+ * tabla {@code saldo_diario} esté calculada; cada cuenta se recalcula en su propia transacción, así los
+ * movimientos nuevos siguen registrándose.
+ */
+@Slf4j
+@Component
+public class DailyBalanceBackfillJob {
+
+    private final AccountRepository accountRepository;
+    private final BalanceInputPort balanceInputPort;
+    private final boolean runOnStartup;
+    private final int batchSize;
+
+    public DailyBalanceBackfillJob(AccountRepository accountRepository,
+                                   BalanceInputPort balanceInputPort,
+                                   @Value("${accounts.balances.backfill-on-startup:true}") boolean runOnStartup,
+                                   @Value("${accounts.balances.backfill-batch-size:500}") int batchSize) {
+        this.accountRepository = accountRepository;
+        this.balanceInputPort = balanceInputPort;
+        this.runOnStartup = runOnStartup;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (runOnStartup) {
+            run();
+        }
+    }
+
+    public int run() {
+        int rebuilt = 0;
+        Slice<Account> slice;
+        int page = 0;
+        do {
+            slice = accountRepository.findSlice(new AccountFilter(), PageRequest.of(page++, batchSize, Sort.by("id")));
+            for (Account account : slice) {
+                balanceInputPort.rebuildDailyBalances(account.getId());
+                rebuilt++;
+            }
+            log.info("Saldos diarios recalculados para {} cuentas", rebuilt);
+        } while (slice.hasNext());
+        return rebuilt;
+    }
+}
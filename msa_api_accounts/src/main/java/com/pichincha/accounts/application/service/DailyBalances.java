@@ -0,0 +1,95 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountTotals;
+import com.pichincha.accounts.domain.DailyBalance;
+import com.pichincha.accounts.domain.Movement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Operaciones sobre los saldos diarios compartidas por los servicios de movimientos, saldos y reportes.
+ */
+final class DailyBalances {
+
+    /**
+     * Límite inferior de las sumas de movimientos que reconstruyen un saldo desde el inicio del historial.
+     */
+    static final LocalDate HISTORY_START = LocalDate.of(1900, 1, 1);
+
+    private DailyBalances() {
+    }
+
+    /**
+     * Acumula los movimientos recién guardados de una cuenta en la fila de su día.
+     */
+    static void record(DailyBalanceRepository repository, Account account, List<Movement> movements) {
+        Map<LocalDate, List<Movement>> byDay = movements.stream()
+                .collect(Collectors.groupingBy(movement -> movement.getDate().toLocalDate(), TreeMap::new, Collectors.toList()));
+        byDay.forEach((day, dayMovements) -> repository.addMovements(account.getId(), initialBalance(account), day,
+                AccountTotals.of(account.getId(), dayMovements), dayMovements.size()));
+    }
+
+    /**
+     * Saldo de cada cuenta al cierre de {@code date}: la última fila diaria hasta esa fecha o, si la cuenta
+     * no tiene ninguna, el saldo inicial más sus movimientos hasta esa fecha.
+     */
+    static Map<UUID, BigDecimal> closingBalances(DailyBalanceRepository dailyBalanceRepository,
+                                                 MovementRepository movementRepository,
+                                                 Collection<Account> accounts, LocalDate date) {
+        Map<UUID, BigDecimal> closing = snapshotBalances(dailyBalanceRepository,
+                accounts.stream().map(Account::getId).toList(), date);
+        List<Account> withoutSnapshot = accounts.stream().filter(account -> !closing.containsKey(account.getId())).toList();
+        closing.putAll(movementBalances(movementRepository, withoutSnapshot, date));
+        return closing;
+    }
+
+    /**
+     * Saldo al cierre de {@code date} según la última fila diaria de cada cuenta hasta esa fecha.
+     * Las cuentas sin filas hasta esa fecha no aparecen en el resultado.
+     */
+    static Map<UUID, BigDecimal> snapshotBalances(DailyBalanceRepository repository, Collection<UUID> accountIds, LocalDate date) {
+        Map<UUID, BigDecimal> closing = new HashMap<>();
+        for (DailyBalance balance : repository.findLatestOnOrBefore(accountIds, date)) {
+            closing.put(balance.getAccountId(), balance.getClosingBalance());
+        }
+        return closing;
+    }
+
+    /**
+     * Saldo al cierre de {@code date} sumando en la base los movimientos de cada cuenta. Cubre el historial
+     * anterior a la primera fila de {@code saldo_diario}, p. ej. mientras no se ha ejecutado el backfill.
+     */
+    static Map<UUID, BigDecimal> movementBalances(MovementRepository repository, Collection<Account> accounts, LocalDate date) {
+        Map<UUID, BigDecimal> closing = new HashMap<>();
+        if (accounts.isEmpty()) {
+            return closing;
+        }
+        for (Account account : accounts) {
+            closing.put(account.getId(), initialBalance(account));
+        }
+        List<UUID> accountIds = accounts.stream().map(Account::getId).toList();
+        for (AccountTotals totals : repository.sumByAccountIdsAndDateRange(accountIds, HISTORY_START, date)) {
+            closing.merge(totals.getAccountId(), net(totals), BigDecimal::add);
+        }
+        return closing;
+    }
+
+    static BigDecimal net(AccountTotals totals) {
+        return totals.getCredits().subtract(totals.getDebits());
+    }
+
+    static BigDecimal initialBalance(Account account) {
+        return account.getInitialBalance() != null ? account.getInitialBalance() : BigDecimal.ZERO;
+    }
+}
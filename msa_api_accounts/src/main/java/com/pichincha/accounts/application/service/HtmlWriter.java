@@ -0,0 +1,106 @@
+package com.pichincha.accounts.application.service;
+
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * {@link Writer} en memoria para armar documentos HTML, sin la sincronización de {@code StringWriter}.
+ * Se reutiliza entre documentos con {@link #reset()}, que conserva la capacidad ya reservada. Los textos
+ * se escapan con {@link #text(String)}; las fechas y los montos se escriben sin strings intermedios.
+ */
+final class HtmlWriter extends Writer {
+
+    private final StringBuilder buffer;
+
+    HtmlWriter(int capacity) {
+        this.buffer = new StringBuilder(capacity);
+    }
+
+    /**
+     * Escribe {@code value} escapando los caracteres especiales de XHTML; {@code null} no escribe nada.
+     */
+    HtmlWriter text(String value) {
+        if (value == null) {
+            return this;
+        }
+        int run = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String entity = entity(value.charAt(i));
+            if (entity != null) {
+                buffer.append(value, run, i).append(entity);
+                run = i + 1;
+            }
+        }
+        buffer.append(value, run, value.length());
+        return this;
+    }
+
+    HtmlWriter date(TemporalAccessor value, DateTimeFormatter format) {
+        format.formatTo(value, buffer);
+        return this;
+    }
+
+    HtmlWriter amount(BigDecimal value) {
+        buffer.append(value);
+        return this;
+    }
+
+    /**
+     * Vacía el documento para escribir el siguiente.
+     */
+    void reset() {
+        buffer.setLength(0);
+    }
+
+    @Override
+    public void write(int c) {
+        buffer.append((char) c);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+        buffer.append(chars, offset, length);
+    }
+
+    @Override
+    public void write(String markup) {
+        buffer.append(markup);
+    }
+
+    @Override
+    public void write(String markup, int offset, int length) {
+        buffer.append(markup, offset, offset + length);
+    }
+
+    @Override
+    public HtmlWriter append(CharSequence markup) {
+        buffer.append(markup);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+    private static String entity(char c) {
+        return switch (c) {
+            case '&' -> "&amp;";
+            case '<' -> "&lt;";
+            case '>' -> "&gt;";
+            case '"' -> "&quot;";
+            case '\'' -> "&#39;";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.IdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Borra las claves de idempotencia más antiguas que {@code accounts.movements.idempotency.retention};
+ * pasado ese plazo un canal ya no reintenta la misma operación y la tabla no crece sin límite.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyPurgeJob {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration retention;
+
+    public IdempotencyKeyPurgeJob(IdempotencyKeyRepository idempotencyKeyRepository,
+                                  @Value("${accounts.movements.idempotency.retention:P1D}") Duration retention) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${accounts.movements.idempotency.purge-interval:PT1H}")
+    @Transactional
+    public int purge() {
+        int deleted = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Claves de idempotencia purgadas: {}", deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,46 @@
+package com.pichincha.accounts.application.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Transacciones de los lotes de movimientos ({@code accounts.movements.batch.*}): cada cuenta del lote se
+ * confirma en su propia transacción, así un lote con miles de cuentas nunca retiene a la vez sus locks ni
+ * bloquea al resto de los escritores hasta el final. {@code max-size} acota los movimientos de un lote.
+ */
+@Component
+public class MovementBatchTransactions {
+
+    private final TransactionOperations accountTransaction;
+    private final int maxSize;
+
+    @Autowired
+    public MovementBatchTransactions(PlatformTransactionManager transactionManager,
+                                     @Value("${accounts.movements.batch.max-size:1000}") int maxSize) {
+        this(new TransactionTemplate(transactionManager), maxSize);
+    }
+
+    MovementBatchTransactions(TransactionOperations accountTransaction, int maxSize) {
+        this.accountTransaction = accountTransaction;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Ejecuta cada cuenta en el hilo que llama, sin abrir transacciones; para pruebas y benchmarks.
+     */
+    public static MovementBatchTransactions direct(int maxSize) {
+        return new MovementBatchTransactions(TransactionOperations.withoutTransaction(), maxSize);
+    }
+
+    int maxSize() {
+        return maxSize;
+    }
+
+    void inAccountTransaction(Runnable work) {
+        accountTransaction.executeWithoutResult(status -> work.run());
+    }
+}
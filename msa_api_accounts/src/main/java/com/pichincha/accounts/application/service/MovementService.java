@@ -1,42 +1,112 @@
 package com.pichincha.accounts.application.service;
 
 import com.pichincha.accounts.application.port.input.MovementInputPort;
+import com.pichincha.accounts.application.port.input.MovementSink;
 import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.IdempotencyKeyRepository;
 import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
 import com.pichincha.accounts.domain.Account;
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.domain.MovementPage;
+import com.pichincha.accounts.domain.MovementResult;
 import com.pichincha.accounts.domain.enums.MovementType;
 import com.pichincha.accounts.domain.exception.AccountInactiveException;
 import com.pichincha.accounts.domain.exception.AccountNotFoundException;
 import com.pichincha.accounts.domain.exception.InsufficientFundsException;
 import com.pichincha.accounts.domain.exception.InvalidMovementException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class MovementService implements MovementInputPort {
 
+    static final int MAX_PAGE_SIZE = PageLimits.MAX_PAGE_SIZE;
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final MovementRepository movementRepository;
     private final AccountRepository accountRepository;
+    private final AccountLocks accountLocks;
+    private final DailyBalanceRepository dailyBalanceRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final BusinessMetrics businessMetrics;
+    private final ReportCache reportCache;
+    private final MovementBatchTransactions batchTransactions;
+
+    @Override
+    public Movement createMovement(Movement movement, String idempotencyKey) {
+
+        if (idempotencyKey == null) {
+            return createMovement(movement);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidMovementException("La clave de idempotencia debe tener entre 1 y "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " caracteres");
+        }
+
+        // Los reintentos se resuelven sin bloquear ni leer la cuenta
+        Optional<Movement> original = findByIdempotencyKey(idempotencyKey, movement);
+        if (original.isPresent()) {
+            return original.get();
+        }
+
+        if (!idempotencyKeyRepository.claim(idempotencyKey)) {
+            // Otra solicitud con la misma clave se confirmó mientras se esperaba la reserva
+            return findByIdempotencyKey(idempotencyKey, movement)
+                    .orElseThrow(() -> new InvalidMovementException("La clave de idempotencia ya está en uso"));
+        }
+
+        Movement saved = createMovement(movement);
+        idempotencyKeyRepository.complete(idempotencyKey, saved.getId());
+        return saved;
+    }
 
     @Override
     public Movement createMovement(Movement movement) {
+        long start = businessMetrics.start();
+        RuntimeException failure = null;
+        try {
+            return applyMovement(movement);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            businessMetrics.recordMovementCreation(start, failure);
+        }
+    }
+
+    private Movement applyMovement(Movement movement) {
 
-        
         if (movement.getAccountId() == null) {
             throw new InvalidMovementException("El ID de la cuenta no puede ser nulo");
         }
 
+        accountLocks.lockUntilCompletion(movement.getAccountId());
+
         Account account = accountRepository.findById(movement.getAccountId())
                 .orElseThrow(() -> new AccountNotFoundException("Cuenta no encontrada con ID: " + movement.getAccountId()));
 
@@ -52,37 +122,183 @@ public class MovementService implements MovementInputPort {
             throw new InvalidMovementException("El valor del movimiento debe ser diferente de cero");
         }
 
-        BigDecimal currentBalance = account.getCurrentBalance();
-        BigDecimal newBalance;
+        BigDecimal delta = signedValue(movement);
+
+        BigDecimal newBalance = accountRepository.applyBalanceDelta(account.getId(), delta)
+                .orElseThrow(() -> new InsufficientFundsException("Saldo no disponible"));
+
+        movement.setValue(delta);
 
-        if (isDebitMovement(movement.getMovementType())) {
-            BigDecimal debitAmount = movement.getValue().abs().negate();
-            newBalance = currentBalance.add(debitAmount);
-            
-            if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
-                throw new InsufficientFundsException("Saldo no disponible");
-            }
-            
-            movement.setValue(debitAmount);
-        } else {
-            BigDecimal creditAmount = movement.getValue().abs();
-            newBalance = currentBalance.add(creditAmount);
-            movement.setValue(creditAmount);
-        }
-        
         if (movement.getDate() == null) {
             movement.setDate(LocalDateTime.now());
         }
-        
+
         movement.setBalance(newBalance);
 
-        account.setCurrentBalance(newBalance);
-        accountRepository.save(account);
+        Movement saved = movementRepository.save(movement);
+        DailyBalances.record(dailyBalanceRepository, account, List.of(saved));
+        reportCache.evictClient(account.getClientId());
+        return saved;
+    }
+
+    /**
+     * Sin transacción propia: cada cuenta del lote se aplica y confirma por separado, con solo su lock
+     * tomado. Si la transacción de una cuenta no se confirma, sus movimientos fallan y los del resto quedan.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MovementResult> createMovements(List<Movement> movements) {
+
+        if (movements == null || movements.isEmpty()) {
+            throw new InvalidMovementException("El lote de movimientos no puede estar vacío");
+        }
+        if (movements.size() > batchTransactions.maxSize()) {
+            throw new InvalidMovementException("El lote admite como máximo " + batchTransactions.maxSize() + " movimientos");
+        }
+
+        Movement[] saved = new Movement[movements.size()];
+        RuntimeException[] failures = new RuntimeException[movements.size()];
+        Map<UUID, List<Integer>> indexesByAccount = new TreeMap<>();
+
+        for (int i = 0; i < movements.size(); i++) {
+            Movement movement = movements.get(i);
+            if (movement == null) {
+                failures[i] = new InvalidMovementException("El movimiento no puede ser nulo");
+            } else if (movement.getAccountId() == null) {
+                failures[i] = new InvalidMovementException("El ID de la cuenta no puede ser nulo");
+            } else {
+                indexesByAccount.computeIfAbsent(movement.getAccountId(), id -> new ArrayList<>()).add(i);
+            }
+        }
 
-        Movement savedMovement = movementRepository.save(movement);
+        indexesByAccount.forEach((accountId, indexes) -> {
+            try {
+                batchTransactions.inAccountTransaction(() -> {
+                    accountLocks.lockUntilCompletion(accountId);
+                    applyAccountGroup(accountId, indexes, movements, saved, failures);
+                });
+            } catch (RuntimeException e) {
+                // Sin confirmar no se aplicó ninguno de la cuenta
+                for (int index : indexes) {
+                    saved[index] = null;
+                    failures[index] = e;
+                }
+            }
+        });
 
-        
-        return savedMovement;
+        List<MovementResult> results = new ArrayList<>(movements.size());
+        for (int i = 0; i < movements.size(); i++) {
+            if (failures[i] == null) {
+                results.add(MovementResult.succeeded(i, saved[i]));
+            } else {
+                recordRejection(failures[i]);
+                results.add(MovementResult.failed(i, failures[i].getMessage()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Aplica en una sola transacción los movimientos encolados de una cuenta: un bloqueo de la fila, un
+     * único UPDATE de saldo y un único INSERT por lotes. Devuelve, en el mismo orden, el movimiento guardado
+     * o la excepción que habría lanzado {@link #createMovement(Movement)}; los aceptados quedan confirmados
+     * al retornar. Solo para {@link CoalescingMovementService}, que lo llama a través del proxy transaccional.
+     */
+    List<QueuedMovement> applyQueued(UUID accountId, List<Movement> movements) {
+        Movement[] saved = new Movement[movements.size()];
+        RuntimeException[] failures = new RuntimeException[movements.size()];
+        List<Integer> indexes = new ArrayList<>(movements.size());
+        for (int i = 0; i < movements.size(); i++) {
+            indexes.add(i);
+        }
+
+        accountLocks.lockUntilCompletion(accountId);
+        applyAccountGroup(accountId, indexes, movements, saved, failures);
+
+        List<QueuedMovement> results = new ArrayList<>(movements.size());
+        for (int i = 0; i < movements.size(); i++) {
+            results.add(new QueuedMovement(saved[i], failures[i]));
+        }
+        return results;
+    }
+
+    /**
+     * Resultado de un movimiento aplicado con {@link #applyQueued}: {@code failure} es nulo si se guardó.
+     */
+    record QueuedMovement(Movement movement, RuntimeException failure) {
+    }
+
+    private void applyAccountGroup(UUID accountId, List<Integer> indexes, List<Movement> movements,
+                                   Movement[] saved, RuntimeException[] failures) {
+
+        Optional<Account> account = accountRepository.findByIdForUpdate(accountId);
+
+        if (account.isEmpty() || !account.get().getState()) {
+            for (int index : indexes) {
+                failures[index] = account.isEmpty()
+                        ? new AccountNotFoundException("Cuenta no encontrada con ID: " + accountId)
+                        : new AccountInactiveException("La cuenta no está activa");
+            }
+            return;
+        }
+
+        BigDecimal openingBalance = account.get().getCurrentBalance();
+        BigDecimal balance = openingBalance;
+        List<Movement> accepted = new ArrayList<>(indexes.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(indexes.size());
+
+        for (int index : indexes) {
+            Movement movement = movements.get(index);
+
+            if (movement.getMovementType() == null) {
+                failures[index] = new InvalidMovementException("El tipo de movimiento no puede ser nulo");
+                continue;
+            }
+            if (movement.getValue() == null || movement.getValue().compareTo(BigDecimal.ZERO) == 0) {
+                failures[index] = new InvalidMovementException("El valor del movimiento debe ser diferente de cero");
+                continue;
+            }
+
+            BigDecimal delta = signedValue(movement);
+            BigDecimal newBalance = balance.add(delta);
+            if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+                failures[index] = new InsufficientFundsException("Saldo no disponible");
+                continue;
+            }
+
+            balance = newBalance;
+            movement.setValue(delta);
+            movement.setBalance(newBalance);
+            if (movement.getDate() == null) {
+                movement.setDate(LocalDateTime.now());
+            }
+            accepted.add(movement);
+            acceptedIndexes.add(index);
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // También con neto cero: el UPDATE incrementa la versión de movimientos de la cuenta
+        BigDecimal netDelta = balance.subtract(openingBalance);
+        accountRepository.applyBalanceDelta(accountId, netDelta)
+                .orElseThrow(() -> new InsufficientFundsException("Saldo no disponible"));
+
+        List<Movement> persisted = movementRepository.saveAll(accepted);
+        DailyBalances.record(dailyBalanceRepository, account.get(), persisted);
+        reportCache.evictClient(account.get().getClientId());
+        for (int i = 0; i < persisted.size(); i++) {
+            saved[acceptedIndexes.get(i)] = persisted.get(i);
+        }
+    }
+
+    private void recordRejection(RuntimeException failure) {
+        if (failure instanceof InsufficientFundsException) {
+            businessMetrics.recordRejection(BusinessMetrics.Rejection.INSUFFICIENT_FUNDS);
+        } else if (failure instanceof AccountInactiveException) {
+            businessMetrics.recordRejection(BusinessMetrics.Rejection.ACCOUNT_INACTIVE);
+        }
     }
 
     @Override
@@ -94,9 +310,14 @@ public class MovementService implements MovementInputPort {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Movement> findAll() {
+    public Page<Movement> findAll(MovementFilter filter, Pageable pageable) {
+        return movementRepository.findAll(filter, PageLimits.bounded(pageable));
+    }
 
-        return movementRepository.findAll();
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Movement> findSlice(MovementFilter filter, Pageable pageable) {
+        return movementRepository.findSlice(filter, PageLimits.bounded(pageable));
     }
 
     @Override
@@ -106,6 +327,24 @@ public class MovementService implements MovementInputPort {
         return movementRepository.findByAccountId(accountId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MovementPage findByAccountId(UUID accountId, MovementCursor cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // Se pide una fila extra solo para saber si existe una página siguiente
+        List<Movement> rows = movementRepository.findPageByAccountId(accountId, cursor, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return MovementPage.builder().movements(rows).build();
+        }
+
+        List<Movement> movements = rows.subList(0, pageSize);
+        return MovementPage.builder()
+                .movements(movements)
+                .nextCursor(MovementCursor.after(movements.get(pageSize - 1)))
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Movement> findByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate) {
@@ -113,6 +352,20 @@ public class MovementService implements MovementInputPort {
         return movementRepository.findByAccountIdAndDateRange(accountId, startDate, endDate);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long exportMovements(MovementFilter filter, MovementSink sink) throws IOException {
+        long exported = 0;
+        try (Stream<Movement> movements = movementRepository.streamAll(filter)) {
+            Iterator<Movement> iterator = movements.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(iterator.next());
+                exported++;
+            }
+        }
+        return exported;
+    }
+
     @Override
     public Movement updateMovement(UUID id, Movement movement) {
 
@@ -123,6 +376,29 @@ public class MovementService implements MovementInputPort {
     public void deleteMovement(UUID id) {
         throw new InvalidMovementException("No se permite la eliminación de movimientos por integridad financiera");
     }
+
+    private Optional<Movement> findByIdempotencyKey(String idempotencyKey, Movement request) {
+        Optional<Movement> original = idempotencyKeyRepository.findMovementId(idempotencyKey)
+                .flatMap(movementRepository::findById);
+        if (original.isPresent() && !isSameRequest(original.get(), request)) {
+            throw new InvalidMovementException("La clave de idempotencia ya se usó para otro movimiento");
+        }
+        return original;
+    }
+
+    private boolean isSameRequest(Movement original, Movement request) {
+        return original.getAccountId().equals(request.getAccountId())
+                && original.getMovementType() == request.getMovementType()
+                && request.getValue() != null
+                && original.getValue().abs().compareTo(request.getValue().abs()) == 0;
+    }
+
+    private BigDecimal signedValue(Movement movement) {
+        return isDebitMovement(movement.getMovementType())
+                ? movement.getValue().abs().negate()
+                : movement.getValue().abs();
+    }
+
     private boolean isDebitMovement(MovementType movementType) {
         return movementType == MovementType.RETIRO || movementType == MovementType.TRANSFERENCIA_OUT;
     }
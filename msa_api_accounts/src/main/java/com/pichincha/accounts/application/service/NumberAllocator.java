@@ -0,0 +1,103 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.util.FeistelPermutation;
+import com.pichincha.accounts.util.LuhnCheckDigit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Asigna números de cuenta y clientIds sin consultar si ya existen. Cada instancia reserva en la
+ * base de datos bloques de {@code block-size} contadores; cada contador pasa por una permutación
+ * con clave (los números no son consecutivos) y recibe un dígito verificador Luhn al final.
+ * El primer dígito nunca es cero, porque {@code numeroCuenta} se expone como entero.
+ * <p>
+ * La clave y la cantidad de dígitos no deben cambiar una vez emitidos números con ese ancho: otra
+ * permutación podría repetir un número ya asignado. Ampliar el ancho sí es seguro, y el tamaño del
+ * bloque solo puede crecer.
+ */
+@Component
+public class NumberAllocator {
+
+    private final Sequence accountNumbers;
+    private final Sequence clientIds;
+
+    public NumberAllocator(AccountRepository accountRepository,
+                           ClientRepository clientRepository,
+                           @Value("${accounts.numbers.block-size:100}") int blockSize,
+                           @Value("${accounts.numbers.account-digits:10}") int accountDigits,
+                           @Value("${accounts.numbers.client-digits:10}") int clientDigits,
+                           @Value("${accounts.numbers.key:7046029254386353131}") long key) {
+        this.accountNumbers = new Sequence("cuenta", accountRepository::reserveAccountNumberBlock, blockSize, accountDigits, key);
+        this.clientIds = new Sequence("cliente", clientRepository::reserveClientIdBlock, blockSize, clientDigits, ~key);
+    }
+
+    public String nextAccountNumber() {
+        return accountNumbers.next();
+    }
+
+    public String nextClientId() {
+        return clientIds.next();
+    }
+
+    private static final class Sequence {
+
+        private final String name;
+        private final LongSupplier reserveBlock;
+        private final int blockSize;
+        private final long firstBody;
+        private final FeistelPermutation permutation;
+        // No synchronized: la reserva consulta la base de datos y fijaría un hilo virtual a su portador
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private long next;
+        private long end;
+
+        private Sequence(String name, LongSupplier reserveBlock, int blockSize, int digits, long key) {
+            if (digits < 3 || digits > 18) {
+                throw new IllegalArgumentException("El número de " + name + " debe tener entre 3 y 18 dígitos");
+            }
+            if (blockSize < 1) {
+                throw new IllegalArgumentException("El bloque de números debe tener al menos un valor");
+            }
+            this.name = name;
+            this.reserveBlock = reserveBlock;
+            this.blockSize = blockSize;
+            // Cuerpo de digits - 1 cifras sin cero inicial; la última cifra es el verificador
+            this.firstBody = pow10(digits - 2);
+            this.permutation = new FeistelPermutation(9 * firstBody, key);
+        }
+
+        String next() {
+            long counter;
+            lock.lock();
+            try {
+                if (next == end) {
+                    long block = reserveBlock.getAsLong();
+                    next = Math.multiplyExact(block, (long) blockSize);
+                    end = next + blockSize;
+                }
+                counter = next++;
+            } finally {
+                lock.unlock();
+            }
+            if (counter >= permutation.size()) {
+                throw new IllegalStateException("Se agotaron los números de " + name + "; amplíe la cantidad de dígitos");
+            }
+            long body = firstBody + permutation.permute(counter);
+            return Long.toString(body * 10 + LuhnCheckDigit.compute(body));
+        }
+
+        private static long pow10(int exponent) {
+            long value = 1;
+            for (int i = 0; i < exponent; i++) {
+                value *= 10;
+            }
+            return value;
+        }
+    }
+}
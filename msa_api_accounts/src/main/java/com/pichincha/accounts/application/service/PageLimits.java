@@ -0,0 +1,25 @@
+package com.pichincha.accounts.application.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Tope común de tamaño de página para los listados, para que ningún cliente pueda pedir una tabla entera.
+ */
+final class PageLimits {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private PageLimits() {
+    }
+
+    static Pageable bounded(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return PageRequest.of(0, MAX_PAGE_SIZE, pageable.getSort());
+        }
+        if (pageable.getPageSize() <= MAX_PAGE_SIZE) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), MAX_PAGE_SIZE, pageable.getSort());
+    }
+}
@@ -0,0 +1,154 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.domain.Account;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Lecturas de un reporte repartidas por grupos de cuentas ({@code accounts.reports.parallel.*}, desactivado
+ * por defecto). El primer grupo se lee en el hilo que llama, dentro de su transacción; los demás se leen en
+ * paralelo, cada uno en su propia transacción de solo lectura y por lo tanto con su propia conexión.
+ * <p>
+ * Las conexiones extra salen de un cupo global ({@code max-connections}) que nunca se espera: un reporte
+ * toma a lo sumo {@code max-connections-per-report} y, si el cupo está agotado, lee el grupo en el hilo que
+ * llama. Así un cliente con muchas cuentas no hace cola en Hikari ni deja sin conexiones al resto de las
+ * peticiones; {@code ConnectionPoolValidator} suma el cupo al tamaño de pool esperado.
+ */
+@Component
+public class ParallelReportReads {
+
+    private static final String THREAD_PREFIX = "report-read-";
+
+    private final int accountsPerTask;
+    private final int maxConnectionsPerReport;
+    private final Semaphore connections;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    public ParallelReportReads(@Value("${accounts.reports.parallel.enabled:false}") boolean enabled,
+                               @Value("${accounts.reports.parallel.accounts-per-task:25}") int accountsPerTask,
+                               @Value("${accounts.reports.parallel.max-connections:4}") int maxConnections,
+                               @Value("${accounts.reports.parallel.max-connections-per-report:2}") int maxConnectionsPerReport,
+                               PlatformTransactionManager transactionManager,
+                               Environment environment) {
+        this(enabled ? accountsPerTask : Integer.MAX_VALUE, maxConnections, maxConnectionsPerReport, transactionManager,
+                Threading.VIRTUAL.isActive(environment)
+                        ? new VirtualThreadTaskExecutor(THREAD_PREFIX).getVirtualThreadFactory()
+                        : namedThreads());
+    }
+
+    ParallelReportReads(int accountsPerTask, int maxConnections, int maxConnectionsPerReport,
+                        PlatformTransactionManager transactionManager, ThreadFactory threadFactory) {
+        this.accountsPerTask = accountsPerTask;
+        this.maxConnectionsPerReport = maxConnectionsPerReport;
+        this.connections = new Semaphore(maxConnections);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Nunca hay más tareas que permisos del cupo, así que la cola no crece más allá de él
+        int threads = Math.max(1, maxConnections);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    /**
+     * Lee todo en el hilo que llama, sin repartir; para pruebas y benchmarks.
+     */
+    public static ParallelReportReads sequential() {
+        return new ParallelReportReads(Integer.MAX_VALUE, 0, 0, null, namedThreads());
+    }
+
+    /**
+     * Aplica {@code read} a grupos consecutivos de {@code accounts} y devuelve los resultados en el orden de
+     * los grupos, sin importar en qué orden terminen.
+     */
+    public <T> List<T> read(List<Account> accounts, Function<List<Account>, T> read) {
+        if (accounts.size() <= accountsPerTask) {
+            return List.of(read.apply(accounts));
+        }
+
+        List<List<Account>> groups = new ArrayList<>();
+        for (int from = 0; from < accounts.size(); from += accountsPerTask) {
+            groups.add(accounts.subList(from, Math.min(from + accountsPerTask, accounts.size())));
+        }
+
+        List<Future<T>> forked = new ArrayList<>(groups.size());
+        forked.add(null);
+        int permits = 0;
+        for (List<Account> group : groups.subList(1, groups.size())) {
+            if (permits < maxConnectionsPerReport && connections.tryAcquire()) {
+                permits++;
+                forked.add(executor.submit(() -> {
+                    try {
+                        return readOnlyTransaction.execute(status -> read.apply(group));
+                    } finally {
+                        connections.release();
+                    }
+                }));
+            } else {
+                forked.add(null);
+            }
+        }
+
+        // Si una lectura falla, las ya lanzadas terminan por su cuenta y devuelven su permiso
+        List<T> results = new ArrayList<>(groups.size());
+        for (int i = 0; i < groups.size(); i++) {
+            results.add(forked.get(i) == null ? read.apply(groups.get(i)) : null);
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            if (forked.get(i) != null) {
+                results.set(i, join(forked.get(i)));
+            }
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Error leyendo los datos del reporte", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Lectura del reporte interrumpida", e);
+        }
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
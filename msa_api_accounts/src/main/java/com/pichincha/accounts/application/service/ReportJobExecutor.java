@@ -0,0 +1,104 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.domain.enums.ReportJobPriority;
+import com.pichincha.accounts.domain.exception.ReportJobRejectedException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool fijo de hilos para los trabajos de reporte. La cola atiende primero la prioridad más alta
+ * y, dentro de la misma prioridad, por orden de llegada; al superar la capacidad rechaza el trabajo
+ * en lugar de acumularlo sin límite. Con {@code spring.threads.virtual.enabled} (Java 21+) los
+ * trabajadores son hilos virtuales: se conserva el límite de concurrencia y la cola con prioridad,
+ * pero las esperas de base de datos no retienen un hilo de plataforma.
+ */
+@Component
+public class ReportJobExecutor {
+
+    private static final String THREAD_PREFIX = "report-job-";
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    public ReportJobExecutor(@Value("${accounts.reports.jobs.threads:2}") int threads,
+                             @Value("${accounts.reports.jobs.queue-capacity:100}") int queueCapacity,
+                             Environment environment) {
+        this(threads, queueCapacity, Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor(THREAD_PREFIX).getVirtualThreadFactory()
+                : namedThreads());
+    }
+
+    ReportJobExecutor(int threads, int queueCapacity) {
+        this(threads, queueCapacity, namedThreads());
+    }
+
+    private ReportJobExecutor(int threads, int queueCapacity, ThreadFactory threadFactory) {
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), threadFactory);
+    }
+
+    public void execute(ReportJobPriority priority, Runnable task) {
+        // La comprobación no es atómica con el encolado: el límite es aproximado, pero acotado
+        if (executor.getQueue().size() >= queueCapacity) {
+            throw new ReportJobRejectedException("La cola de reportes está llena, intente nuevamente más tarde");
+        }
+        executor.execute(new PrioritizedTask(priority, sequence.getAndIncrement(), task));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+
+        private static final Comparator<PrioritizedTask> ORDER = Comparator
+                .comparing((PrioritizedTask task) -> task.priority)
+                .thenComparingLong(task -> task.sequence);
+
+        private final ReportJobPriority priority;
+        private final long sequence;
+        private final Runnable task;
+
+        private PrioritizedTask(ReportJobPriority priority, long sequence, Runnable task) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
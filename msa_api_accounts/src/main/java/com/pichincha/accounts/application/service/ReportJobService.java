@@ -0,0 +1,174 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.input.ReportInputPort;
+import com.pichincha.accounts.application.port.input.ReportJobInputPort;
+import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.ReportResultStore;
+import com.pichincha.accounts.domain.ReportJob;
+import com.pichincha.accounts.domain.enums.ReportJobPriority;
+import com.pichincha.accounts.domain.enums.ReportJobStatus;
+import com.pichincha.accounts.domain.exception.ClientNotFoundException;
+import com.pichincha.accounts.domain.exception.ReportJobNotFoundException;
+import com.pichincha.accounts.domain.exception.ReportJobRejectedException;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Genera los PDF de estado de cuenta fuera del hilo de la petición. El estado de cada trabajo vive
+ * en memoria y el PDF en el {@link ReportResultStore}; ambos se descartan al cumplirse el TTL.
+ * Los trabajos publicados en el mapa no se modifican: cada cambio de estado publica una copia nueva.
+ */
+@Slf4j
+@Service
+public class ReportJobService implements ReportJobInputPort {
+
+    private final ClientRepository clientRepository;
+    private final ReportInputPort reportInputPort;
+    private final ReportResultStore resultStore;
+    private final ReportJobExecutor executor;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<JobKey, UUID> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportJobService(ClientRepository clientRepository,
+                            ReportInputPort reportInputPort,
+                            ReportResultStore resultStore,
+                            ReportJobExecutor executor,
+                            @Value("${accounts.reports.jobs.ttl:PT1H}") Duration ttl) {
+        this(clientRepository, reportInputPort, resultStore, executor, ttl, Clock.systemDefaultZone());
+    }
+
+    ReportJobService(ClientRepository clientRepository,
+                     ReportInputPort reportInputPort,
+                     ReportResultStore resultStore,
+                     ReportJobExecutor executor,
+                     Duration ttl,
+                     Clock clock) {
+        this.clientRepository = clientRepository;
+        this.reportInputPort = reportInputPort;
+        this.resultStore = resultStore;
+        this.executor = executor;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Override
+    public ReportJob submit(UUID clientId, LocalDate startDate, LocalDate endDate, ReportJobPriority priority) {
+        clientRepository.findById(clientId)
+                .orElseThrow(() -> new ClientNotFoundException("Cliente no encontrado con ID: " + clientId));
+
+        JobKey key = new JobKey(clientId, startDate, endDate);
+        ReportJob job = ReportJob.builder()
+                .id(UUID.randomUUID())
+                .clientId(clientId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .priority(priority != null ? priority : ReportJobPriority.NORMAL)
+                .status(ReportJobStatus.PENDIENTE)
+                .createdAt(LocalDateTime.now(clock))
+                .build();
+
+        // Se publica antes de reclamar la clave para que quien encuentre la clave siempre encuentre el trabajo
+        jobs.put(job.getId(), job);
+        UUID claimed = inFlight.compute(key, (k, current) ->
+                current != null && jobs.containsKey(current) ? current : job.getId());
+        if (!claimed.equals(job.getId())) {
+            jobs.remove(job.getId());
+            return findById(claimed);
+        }
+
+        try {
+            executor.execute(job.getPriority(), () -> run(job.getId(), key));
+        } catch (ReportJobRejectedException e) {
+            inFlight.remove(key, job.getId());
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    @Override
+    public ReportJob findById(UUID jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null || isExpired(job)) {
+            throw new ReportJobNotFoundException("Trabajo de reporte no encontrado con ID: " + jobId);
+        }
+        return job;
+    }
+
+    @Override
+    public InputStream openResult(UUID jobId) {
+        ReportJob job = findById(jobId);
+        if (!job.isCompleted()) {
+            throw new ReportJobNotFoundException("El trabajo de reporte " + jobId + " no tiene un PDF disponible");
+        }
+        return resultStore.open(jobId)
+                .orElseThrow(() -> new ReportJobNotFoundException("Trabajo de reporte no encontrado con ID: " + jobId));
+    }
+
+    @Scheduled(fixedDelayString = "${accounts.reports.jobs.purge-interval:PT5M}")
+    public void purgeExpired() {
+        jobs.values().stream()
+                .filter(this::isExpired)
+                .map(ReportJob::getId)
+                .forEach(id -> {
+                    jobs.remove(id);
+                    resultStore.delete(id);
+                });
+        resultStore.purgeOlderThan(clock.instant().minus(ttl));
+    }
+
+    private void run(UUID jobId, JobKey key) {
+        update(jobId, job -> job.toBuilder().status(ReportJobStatus.EN_PROCESO).build());
+        try {
+            long size = resultStore.save(jobId,
+                    reportInputPort.prepareReportPdf(key.getClientId(), key.getStartDate(), key.getEndDate()));
+            update(jobId, job -> finished(job, ReportJobStatus.COMPLETADO).size(size).build());
+        } catch (RuntimeException e) {
+            log.error("Error generando el reporte del trabajo {}", jobId, e);
+            update(jobId, job -> finished(job, ReportJobStatus.FALLIDO).error(e.getMessage()).build());
+        } finally {
+            inFlight.remove(key, jobId);
+        }
+    }
+
+    private ReportJob.ReportJobBuilder finished(ReportJob job, ReportJobStatus status) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return job.toBuilder()
+                .status(status)
+                .completedAt(now)
+                .expiresAt(now.plus(ttl));
+    }
+
+    private void update(UUID jobId, UnaryOperator<ReportJob> change) {
+        jobs.computeIfPresent(jobId, (id, job) -> change.apply(job));
+    }
+
+    private boolean isExpired(ReportJob job) {
+        return job.getExpiresAt() != null && job.getExpiresAt().isBefore(LocalDateTime.now(clock));
+    }
+
+    @Data
+    private static final class JobKey {
+        private final UUID clientId;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+    }
+}
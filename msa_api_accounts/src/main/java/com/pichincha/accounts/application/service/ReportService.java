@@ -1,11 +1,16 @@
 package com.pichincha.accounts.application.service;
 
 import com.pichincha.accounts.application.port.input.ReportInputPort;
+import com.pichincha.accounts.application.port.input.ReportPdfWriter;
 import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
 import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
 import com.pichincha.accounts.application.port.output.MovementRepository;
 import com.pichincha.accounts.application.port.output.PdfGeneratorPort;
+import com.pichincha.accounts.application.port.output.ReportCache;
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountTotals;
 import com.pichincha.accounts.domain.Client;
 import com.pichincha.accounts.domain.Movement;
 import com.pichincha.accounts.domain.Report;
@@ -16,27 +21,85 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReportService implements ReportInputPort {
 
+    static final int STATEMENT_CHUNK_ROWS = 500;
+
     private final ClientRepository clientRepository;
     private final AccountRepository accountRepository;
     private final MovementRepository movementRepository;
+    private final DailyBalanceRepository dailyBalanceRepository;
     private final PdfGeneratorPort pdfGeneratorPort;
+    private final BusinessMetrics businessMetrics;
+    private final ReportCache reportCache;
+    private final ParallelReportReads parallelReportReads;
 
     @Override
     public Report generateReport(UUID clientId, LocalDate startDate, LocalDate endDate) {
+        return generateReport(clientId, startDate, endDate, true);
+    }
+
+    @Override
+    public Report generateReport(UUID clientId, LocalDate startDate, LocalDate endDate, boolean includeMovements) {
+        long queryStart = businessMetrics.start();
+        return generateReport(request(clientId, startDate, endDate), includeMovements, queryStart);
+    }
+
+    /**
+     * Lee el cliente y sus cuentas: es lo único que se consulta cuando el reporte ya está en la cache.
+     */
+    private ReportRequest request(UUID clientId, LocalDate startDate, LocalDate endDate) {
         Client client = clientRepository.findById(clientId)
                 .orElseThrow(() -> new ClientNotFoundException("Cliente no encontrado con ID: " + clientId));
-
         List<Account> accounts = accountRepository.findByClientId(clientId);
+        return new ReportRequest(ReportCache.Key.of(clientId, startDate, endDate, accounts), client, accounts);
+    }
+
+    /**
+     * Cliente y cuentas leídos para un reporte, junto con su clave en la cache.
+     */
+    private record ReportRequest(ReportCache.Key key, Client client, List<Account> accounts) {
+    }
+
+    private Report generateReport(ReportRequest request, boolean includeMovements, long queryStart) {
+        Optional<Report> cached = reportCache.getReport(request.key(), includeMovements);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Report report = buildReport(request, includeMovements, queryStart);
+        reportCache.putReport(request.key(), includeMovements, report);
+        return report;
+    }
+
+    private Report buildReport(ReportRequest request, boolean includeMovements, long queryStart) {
+        Client client = request.client();
+        LocalDate startDate = request.key().startDate();
+        LocalDate endDate = request.key().endDate();
+        List<Account> accounts = request.accounts();
+
+        // Los grupos se unen por cuenta; el estado de cuenta se arma después en el orden de las cuentas
+        AccountReads reads = AccountReads.merge(parallelReportReads.read(accounts,
+                group -> readAccounts(group, startDate, endDate, includeMovements)));
+        Map<UUID, List<Movement>> movementsByAccount = reads.movements();
+        Map<UUID, AccountTotals> totalsByAccount = reads.totals();
+        Map<UUID, BigDecimal> openingBalances = reads.openingBalances();
+        Map<UUID, BigDecimal> closingBalances = reads.closingBalances();
+        businessMetrics.recordReportPhase(BusinessMetrics.ReportPhase.QUERY, queryStart);
+
+        long aggregationStart = businessMetrics.start();
 
         List<Report.AccountStatement> accountStatements = new ArrayList<>();
         BigDecimal totalCredits = BigDecimal.ZERO;
@@ -44,31 +107,21 @@ public class ReportService implements ReportInputPort {
         BigDecimal totalBalance = BigDecimal.ZERO;
 
         for (Account account : accounts) {
-            List<Movement> movements = movementRepository
-                    .findByAccountIdAndDateRange(account.getId(), startDate, endDate);
-
-            BigDecimal accountCredits = BigDecimal.ZERO;
-            BigDecimal accountDebits = BigDecimal.ZERO;
-
-            for (Movement movement : movements) {
-                if (movement.getValue().compareTo(BigDecimal.ZERO) > 0) {
-                    accountCredits = accountCredits.add(movement.getValue());
-                } else {
-                    accountDebits = accountDebits.add(movement.getValue().abs());
-                }
-            }
+            AccountTotals totals = totalsByAccount.getOrDefault(account.getId(), AccountTotals.empty(account.getId()));
 
             Report.AccountStatement statement = Report.AccountStatement.builder()
                     .account(account)
-                    .movements(movements)
-                    .accountTotalCredits(accountCredits)
-                    .accountTotalDebits(accountDebits)
+                    .movements(movementsByAccount.getOrDefault(account.getId(), List.of()))
+                    .accountTotalCredits(totals.getCredits())
+                    .accountTotalDebits(totals.getDebits())
                     .finalBalance(account.getCurrentBalance())
+                    .openingBalance(openingBalances.get(account.getId()))
+                    .closingBalance(closingBalances.get(account.getId()))
                     .build();
 
             accountStatements.add(statement);
-            totalCredits = totalCredits.add(accountCredits);
-            totalDebits = totalDebits.add(accountDebits);
+            totalCredits = totalCredits.add(totals.getCredits());
+            totalDebits = totalDebits.add(totals.getDebits());
             totalBalance = totalBalance.add(account.getCurrentBalance());
         }
 
@@ -81,103 +134,92 @@ public class ReportService implements ReportInputPort {
                 .totalDebits(totalDebits)
                 .totalBalance(totalBalance)
                 .build();
-
+        businessMetrics.recordReportPhase(BusinessMetrics.ReportPhase.AGGREGATION, aggregationStart);
 
         return report;
     }
 
-    @Override
-    public byte[] generateReportPdf(UUID clientId, LocalDate startDate, LocalDate endDate) {
-        Report report = generateReport(clientId, startDate, endDate);
-        String htmlContent = generateHtmlContent(report);
-        return pdfGeneratorPort.generatePdf(htmlContent);
-    }
-
-    @Override
-    public String generateReportPdfBase64(UUID clientId, LocalDate startDate, LocalDate endDate) {
-
-
-        Report report = generateReport(clientId, startDate, endDate);
-        String htmlContent = generateHtmlContent(report);
+    private AccountReads readAccounts(List<Account> accounts, LocalDate startDate, LocalDate endDate, boolean includeMovements) {
+        List<UUID> accountIds = accounts.stream().map(Account::getId).toList();
+
+        // Saldo al inicio del período: una fila diaria por cuenta, sin recorrer el historial
+        Map<UUID, BigDecimal> openingBalances = DailyBalances.snapshotBalances(dailyBalanceRepository, accountIds, startDate.minusDays(1));
+        // Sin fila previa al período (historial anterior al backfill de saldo_diario) se suman los movimientos
+        List<Account> fromMovements = accounts.stream()
+                .filter(account -> !openingBalances.containsKey(account.getId()))
+                .toList();
+        List<UUID> fromMovementIds = fromMovements.stream().map(Account::getId).toList();
+        List<UUID> fromSnapshotIds = accountIds.stream().filter(openingBalances::containsKey).toList();
+        openingBalances.putAll(DailyBalances.movementBalances(movementRepository, fromMovements, startDate.minusDays(1)));
+
+        Map<UUID, List<Movement>> movementsByAccount = Map.of();
+        Map<UUID, AccountTotals> totalsByAccount;
+        if (includeMovements) {
+            // Una sola consulta IN (...) para todas las cuentas; los totales salen de las mismas filas
+            movementsByAccount = movementRepository.findByAccountIdsAndDateRange(accountIds, startDate, endDate)
+                    .stream()
+                    .collect(Collectors.groupingBy(Movement::getAccountId));
+            totalsByAccount = new HashMap<>();
+            for (Map.Entry<UUID, List<Movement>> entry : movementsByAccount.entrySet()) {
+                totalsByAccount.put(entry.getKey(), AccountTotals.of(entry.getKey(), entry.getValue()));
+            }
+        } else {
+            // Una fila por cuenta y día en lugar de cada movimiento del rango
+            totalsByAccount = Stream.concat(
+                            dailyBalanceRepository.sumByAccountIdsAndDateRange(fromSnapshotIds, startDate, endDate).stream(),
+                            movementRepository.sumByAccountIdsAndDateRange(fromMovementIds, startDate, endDate).stream())
+                    .collect(Collectors.toMap(AccountTotals::getAccountId, Function.identity()));
+        }
 
-        return pdfGeneratorPort.generateBase64Pdf(htmlContent);
+        Map<UUID, BigDecimal> closingBalances = DailyBalances.snapshotBalances(dailyBalanceRepository, fromSnapshotIds, endDate);
+        for (UUID accountId : fromMovementIds) {
+            AccountTotals totals = totalsByAccount.get(accountId);
+            BigDecimal opening = openingBalances.get(accountId);
+            closingBalances.put(accountId, totals != null ? opening.add(DailyBalances.net(totals)) : opening);
+        }
+        return new AccountReads(movementsByAccount, totalsByAccount, openingBalances, closingBalances);
     }
 
-    private String generateHtmlContent(Report report) {
-        StringBuilder html = new StringBuilder();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-
-    html.append("<!DOCTYPE html>");
-    html.append("<html xmlns='http://www.w3.org/1999/xhtml'><head>");
-    html.append("<meta charset='UTF-8' />");
-        html.append("<style>");
-        html.append("body { font-family: Arial, sans-serif; margin: 20px; }");
-        html.append("h1 { text-align: center; color: #2c3e50; }");
-        html.append("h2 { color: #34495e; border-bottom: 2px solid #3498db; padding-bottom: 5px; }");
-        html.append("table { width: 100%; border-collapse: collapse; margin-bottom: 20px; }");
-        html.append("th, td { border: 1px solid #bdc3c7; padding: 8px; text-align: left; }");
-        html.append("th { background-color: #3498db; color: white; }");
-        html.append(".client-info { background-color: #ecf0f1; padding: 15px; margin-bottom: 20px; }");
-        html.append(".summary { background-color: #e8f5e8; padding: 15px; margin-top: 20px; }");
-        html.append(".credit { color: #27ae60; font-weight: bold; }");
-        html.append(".debit { color: #e74c3c; font-weight: bold; }");
-        html.append("</style>");
-        html.append("</head><body>");
-
-        html.append("<h1>Estado de Cuenta</h1>");
-
-        html.append("<div class='client-info'>");
-        html.append("<h2>Información del Cliente</h2>");
-        html.append("<p><strong>Nombre:</strong> ").append(report.getClient().getName()).append("</p>");
-        html.append("<p><strong>Identificación:</strong> ").append(report.getClient().getIdentification()).append("</p>");
-        html.append("<p><strong>Período:</strong> ").append(report.getStartDate().format(formatter))
-               .append(" - ").append(report.getEndDate().format(formatter)).append("</p>");
-        html.append("</div>");
-
-        for (Report.AccountStatement statement : report.getAccountStatements()) {
-            html.append("<h2>Cuenta: ").append(statement.getAccount().getAccountNumber()).append("</h2>");
-            html.append("<p><strong>Tipo:</strong> ").append(statement.getAccount().getType()).append("</p>");
-            html.append("<p><strong>Estado:</strong> ").append(statement.getAccount().getState() ? "Activa" : "Inactiva").append("</p>");
-            html.append("<p><strong>Saldo Actual:</strong> $").append(statement.getFinalBalance()).append("</p>");
-            
-            if (!statement.getMovements().isEmpty()) {
-                html.append("<table>");
-                html.append("<tr>");
-                html.append("<th>Fecha</th>");
-                html.append("<th>Tipo Movimiento</th>");
-                html.append("<th>Valor</th>");
-                html.append("<th>Saldo</th>");
-                html.append("</tr>");
-                
-                for (Movement movement : statement.getMovements()) {
-                    html.append("<tr>");
-                    html.append("<td>").append(movement.getDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"))).append("</td>");
-                    html.append("<td>").append(movement.getMovementType().getDescription()).append("</td>");
-                    
-                    String valueClass = movement.getValue().compareTo(BigDecimal.ZERO) > 0 ? "credit" : "debit";
-                    html.append("<td class='").append(valueClass).append("'>$").append(movement.getValue()).append("</td>");
-                    html.append("<td>$").append(movement.getBalance()).append("</td>");
-                    html.append("</tr>");
-                }
-                
-                html.append("</table>");
-
-                html.append("<p><strong>Total Créditos:</strong> <span class='credit'>$").append(statement.getAccountTotalCredits()).append("</span></p>");
-                html.append("<p><strong>Total Débitos:</strong> <span class='debit'>$").append(statement.getAccountTotalDebits()).append("</span></p>");
-            } else {
-                html.append("<p>No hay movimientos en el período seleccionado.</p>");
+    /**
+     * Lo leído de la base para un grupo de cuentas, indexado por id de cuenta.
+     */
+    private record AccountReads(Map<UUID, List<Movement>> movements, Map<UUID, AccountTotals> totals,
+                                Map<UUID, BigDecimal> openingBalances, Map<UUID, BigDecimal> closingBalances) {
+
+        static AccountReads merge(List<AccountReads> groups) {
+            if (groups.size() == 1) {
+                return groups.get(0);
+            }
+            AccountReads merged = new AccountReads(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+            for (AccountReads group : groups) {
+                merged.movements().putAll(group.movements());
+                merged.totals().putAll(group.totals());
+                merged.openingBalances().putAll(group.openingBalances());
+                merged.closingBalances().putAll(group.closingBalances());
             }
+            return merged;
         }
+    }
 
-        html.append("<div class='summary'>");
-        html.append("<h2>Resumen General</h2>");
-        html.append("<p><strong>Total Créditos:</strong> <span class='credit'>$").append(report.getTotalCredits()).append("</span></p>");
-        html.append("<p><strong>Total Débitos:</strong> <span class='debit'>$").append(report.getTotalDebits()).append("</span></p>");
-        html.append("<p><strong>Saldo Total:</strong> $").append(report.getTotalBalance()).append("</p>");
-        html.append("</div>");
-
-        html.append("</body></html>");
+    @Override
+    public ReportPdfWriter prepareReportPdf(UUID clientId, LocalDate startDate, LocalDate endDate) {
+        long queryStart = businessMetrics.start();
+        ReportRequest request = request(clientId, startDate, endDate);
+        ReportCache.Key key = request.key();
+        Optional<byte[]> cachedPdf = reportCache.getPdf(key);
+        if (cachedPdf.isPresent()) {
+            byte[] pdf = cachedPdf.get();
+            return output -> output.write(pdf);
+        }
 
-        return html.toString();
+        Report report = generateReport(request, false, queryStart);
+        return output -> {
+            // En streaming el HTML de cada bloque se arma mientras se renderiza; todo cuenta como fase PDF
+            long pdfStart = businessMetrics.start();
+            BoundedCopyOutputStream copy = new BoundedCopyOutputStream(output, reportCache.maxPdfBytes());
+            pdfGeneratorPort.writePdf(new StatementHtmlChunks(report, movementRepository, STATEMENT_CHUNK_ROWS), copy);
+            businessMetrics.recordReportPhase(BusinessMetrics.ReportPhase.PDF, pdfStart);
+            copy.copy().ifPresent(pdf -> reportCache.putPdf(key, pdf));
+        };
     }
 }
@@ -0,0 +1,113 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Report;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Plantilla HTML del estado de cuenta, compartida por el documento completo y por los bloques que se
+ * renderizan de forma incremental. El marcado fijo está precompilado en constantes y solo los datos se
+ * escriben por reporte, escapados, en un {@link HtmlWriter}.
+ */
+final class StatementHtml {
+
+    // Caracteres aproximados por fila de movimiento y del resto del documento, para reservar el buffer de una vez
+    static final int ROW_CHARS = 128;
+    static final int DOCUMENT_CHARS = 1024;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    // La hoja de estilos la resuelve y cachea el generador de PDF
+    private static final String HEAD = "<!DOCTYPE html>"
+            + "<html xmlns='http://www.w3.org/1999/xhtml'><head>"
+            + "<meta charset='UTF-8' />"
+            + "<link rel='stylesheet' type='text/css' href='statement.css' />"
+            + "</head><body>";
+    private static final String CLOSE = "</body></html>";
+    private static final String CLIENT_INFO = "<h1>Estado de Cuenta</h1>"
+            + "<div class='client-info'>"
+            + "<h2>Información del Cliente</h2>"
+            + "<p><strong>Nombre:</strong> ";
+    private static final String TABLE_HEAD = "<table><tr>"
+            + "<th>Fecha</th><th>Tipo Movimiento</th><th>Valor</th><th>Saldo</th>"
+            + "</tr>";
+    private static final String CREDIT_CELL = "</td><td class='credit'>$";
+    private static final String DEBIT_CELL = "</td><td class='debit'>$";
+    private static final String NO_MOVEMENTS = "<p>No hay movimientos en el período seleccionado.</p>";
+
+    private StatementHtml() {
+    }
+
+    static void open(HtmlWriter html) {
+        html.write(HEAD);
+    }
+
+    static void close(HtmlWriter html) {
+        html.write(CLOSE);
+    }
+
+    static void clientInfo(HtmlWriter html, Report report) {
+        html.write(CLIENT_INFO);
+        html.text(report.getClient().getName()).write("</p>");
+        html.write("<p><strong>Identificación:</strong> ");
+        html.text(report.getClient().getIdentification()).write("</p>");
+        html.write("<p><strong>Período:</strong> ");
+        html.date(report.getStartDate(), DATE_FORMAT).write(" - ");
+        html.date(report.getEndDate(), DATE_FORMAT).write("</p></div>");
+    }
+
+    static void accountHeader(HtmlWriter html, Report.AccountStatement statement) {
+        html.write("<h2>Cuenta: ");
+        html.text(statement.getAccount().getAccountNumber()).write("</h2>");
+        html.write("<p><strong>Tipo:</strong> ");
+        html.text(String.valueOf(statement.getAccount().getType())).write("</p>");
+        html.write(statement.getAccount().getState()
+                ? "<p><strong>Estado:</strong> Activa</p>"
+                : "<p><strong>Estado:</strong> Inactiva</p>");
+        html.write("<p><strong>Saldo Actual:</strong> $");
+        html.amount(statement.getFinalBalance()).write("</p>");
+        if (statement.getOpeningBalance() != null && statement.getClosingBalance() != null) {
+            html.write("<p><strong>Saldo al Inicio del Período:</strong> $");
+            html.amount(statement.getOpeningBalance()).write("</p>");
+            html.write("<p><strong>Saldo al Cierre del Período:</strong> $");
+            html.amount(statement.getClosingBalance()).write("</p>");
+        }
+    }
+
+    static void movementTable(HtmlWriter html, List<Movement> movements) {
+        html.write(TABLE_HEAD);
+        for (Movement movement : movements) {
+            html.write("<tr><td>");
+            html.date(movement.getDate(), DATE_TIME_FORMAT).write("</td><td>");
+            html.text(movement.getMovementType().getDescription());
+            html.write(movement.getValue().signum() > 0 ? CREDIT_CELL : DEBIT_CELL);
+            html.amount(movement.getValue()).write("</td><td>$");
+            html.amount(movement.getBalance()).write("</td></tr>");
+        }
+        html.write("</table>");
+    }
+
+    static void accountTotals(HtmlWriter html, Report.AccountStatement statement) {
+        html.write("<p><strong>Total Créditos:</strong> <span class='credit'>$");
+        html.amount(statement.getAccountTotalCredits()).write("</span></p>");
+        html.write("<p><strong>Total Débitos:</strong> <span class='debit'>$");
+        html.amount(statement.getAccountTotalDebits()).write("</span></p>");
+    }
+
+    static void noMovements(HtmlWriter html) {
+        html.write(NO_MOVEMENTS);
+    }
+
+    static void summary(HtmlWriter html, Report report) {
+        html.write("<div class='summary'><h2>Resumen General</h2>");
+        html.write("<p><strong>Total Créditos:</strong> <span class='credit'>$");
+        html.amount(report.getTotalCredits()).write("</span></p>");
+        html.write("<p><strong>Total Débitos:</strong> <span class='debit'>$");
+        html.amount(report.getTotalDebits()).write("</span></p>");
+        html.write("<p><strong>Saldo Total:</strong> $");
+        html.amount(report.getTotalBalance()).write("</p></div>");
+    }
+}
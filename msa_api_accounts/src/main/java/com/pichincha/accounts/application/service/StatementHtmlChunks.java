@@ -0,0 +1,99 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.Report;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Recorre el estado de cuenta como una secuencia de documentos HTML de a lo sumo {@code chunkRows}
+ * movimientos cada uno. Los movimientos se leen de la base por keyset recién al pedir el siguiente
+ * bloque, así que la memoria usada no depende del total de movimientos del cliente. Todos los bloques
+ * se escriben en el mismo {@link HtmlWriter}.
+ */
+class StatementHtmlChunks implements Iterator<String> {
+
+    private final Report report;
+    private final MovementRepository movementRepository;
+    private final int chunkRows;
+    private final HtmlWriter html;
+
+    private int accountIndex;
+    private boolean accountOpen;
+    private boolean accountHasMovements;
+    private MovementCursor cursor;
+    private boolean started;
+    private boolean finished;
+
+    StatementHtmlChunks(Report report, MovementRepository movementRepository, int chunkRows) {
+        this.report = report;
+        this.movementRepository = movementRepository;
+        this.chunkRows = chunkRows;
+        this.html = new HtmlWriter(StatementHtml.DOCUMENT_CHARS + StatementHtml.ROW_CHARS * chunkRows);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !finished;
+    }
+
+    @Override
+    public String next() {
+        if (finished) {
+            throw new NoSuchElementException();
+        }
+
+        html.reset();
+        StatementHtml.open(html);
+        if (!started) {
+            StatementHtml.clientInfo(html, report);
+            started = true;
+        }
+
+        List<Report.AccountStatement> statements = report.getAccountStatements();
+        int budget = chunkRows;
+        while (budget > 0 && accountIndex < statements.size()) {
+            Report.AccountStatement statement = statements.get(accountIndex);
+            if (!accountOpen) {
+                StatementHtml.accountHeader(html, statement);
+                accountOpen = true;
+            }
+
+            // Se pide una fila extra para saber si la cuenta continúa en el siguiente bloque
+            List<Movement> rows = movementRepository.findPageByAccountIdAndDateRange(
+                    statement.getAccount().getId(), report.getStartDate(), report.getEndDate(), cursor, budget + 1);
+            boolean more = rows.size() > budget;
+            List<Movement> page = more ? rows.subList(0, budget) : rows;
+            if (!page.isEmpty()) {
+                StatementHtml.movementTable(html, page);
+                budget -= page.size();
+                cursor = MovementCursor.after(page.get(page.size() - 1));
+                accountHasMovements = true;
+            }
+            if (more) {
+                break;
+            }
+
+            if (accountHasMovements) {
+                StatementHtml.accountTotals(html, statement);
+            } else {
+                StatementHtml.noMovements(html);
+            }
+            accountIndex++;
+            accountOpen = false;
+            accountHasMovements = false;
+            cursor = null;
+        }
+
+        if (accountIndex == statements.size()) {
+            StatementHtml.summary(html, report);
+            finished = true;
+        }
+        StatementHtml.close(html);
+        return html.toString();
+    }
+}
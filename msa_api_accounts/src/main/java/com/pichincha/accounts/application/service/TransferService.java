@@ -0,0 +1,238 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.input.TransferInputPort;
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Transfer;
+import com.pichincha.accounts.domain.TransferResult;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.domain.exception.AccountInactiveException;
+import com.pichincha.accounts.domain.exception.AccountNotFoundException;
+import com.pichincha.accounts.domain.exception.InsufficientFundsException;
+import com.pichincha.accounts.domain.exception.InvalidMovementException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Transferencias entre cuentas propias del banco: el débito ({@code TRANSFERENCIA_OUT}) y el crédito
+ * ({@code TRANSFERENCIA_IN}) se registran en la misma transacción. Las cuentas se bloquean siempre en
+ * el mismo orden (stripes ascendentes en memoria, UUID ascendente en la base) para que dos
+ * transferencias en sentidos opuestos no se esperen mutuamente.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TransferService implements TransferInputPort {
+
+    private final MovementRepository movementRepository;
+    private final AccountRepository accountRepository;
+    private final AccountLocks accountLocks;
+    private final DailyBalanceRepository dailyBalanceRepository;
+    private final BusinessMetrics businessMetrics;
+    private final ReportCache reportCache;
+
+    @Override
+    public TransferResult transfer(Transfer transfer) {
+
+        String error = validate(transfer);
+        if (error != null) {
+            throw new InvalidMovementException(error);
+        }
+
+        UUID sourceId = transfer.getSourceAccountId();
+        UUID targetId = transfer.getTargetAccountId();
+        accountLocks.lockUntilCompletion(sourceId, targetId);
+
+        // Las filas se bloquean por UUID ascendente antes de modificar cualquiera de las dos
+        Map<UUID, Account> accounts = new TreeMap<>();
+        for (UUID accountId : new TreeSet<>(List.of(sourceId, targetId))) {
+            accounts.put(accountId, activeAccount(accountId));
+        }
+        Account source = accounts.get(sourceId);
+        Account target = accounts.get(targetId);
+
+        BigDecimal value = transfer.getValue();
+        if (source.getCurrentBalance().compareTo(value) < 0) {
+            businessMetrics.recordRejection(BusinessMetrics.Rejection.INSUFFICIENT_FUNDS);
+            throw new InsufficientFundsException("Saldo no disponible");
+        }
+
+        Map<UUID, BigDecimal> balances = new HashMap<>();
+        balances.put(sourceId, applyDelta(sourceId, value.negate()));
+        balances.put(targetId, applyDelta(targetId, value));
+
+        LocalDateTime date = LocalDateTime.now();
+        List<Movement> saved = movementRepository.saveAll(List.of(
+                movement(sourceId, MovementType.TRANSFERENCIA_OUT, value.negate(), balances.get(sourceId), date),
+                movement(targetId, MovementType.TRANSFERENCIA_IN, value, balances.get(targetId), date)));
+        DailyBalances.record(dailyBalanceRepository, source, List.of(saved.get(0)));
+        DailyBalances.record(dailyBalanceRepository, target, List.of(saved.get(1)));
+        reportCache.evictClient(source.getClientId());
+        reportCache.evictClient(target.getClientId());
+
+        return TransferResult.succeeded(0, saved.get(0), saved.get(1));
+    }
+
+    @Override
+    public List<TransferResult> transfer(List<Transfer> transfers) {
+
+        if (transfers == null || transfers.isEmpty()) {
+            throw new InvalidMovementException("El lote de transferencias no puede estar vacío");
+        }
+
+        TransferResult[] results = new TransferResult[transfers.size()];
+        TreeSet<UUID> accountIds = new TreeSet<>();
+        for (int i = 0; i < transfers.size(); i++) {
+            String error = validate(transfers.get(i));
+            if (error != null) {
+                results[i] = TransferResult.failed(i, error);
+            } else {
+                accountIds.add(transfers.get(i).getSourceAccountId());
+                accountIds.add(transfers.get(i).getTargetAccountId());
+            }
+        }
+
+        accountLocks.lockUntilCompletion(accountIds.toArray(UUID[]::new));
+
+        // Cada cuenta se lee una sola vez y en orden, aunque participe en muchas transferencias del lote
+        Map<UUID, Account> accounts = new TreeMap<>();
+        Map<UUID, BigDecimal> balances = new HashMap<>();
+        for (UUID accountId : accountIds) {
+            Optional<Account> account = accountRepository.findByIdForUpdate(accountId);
+            account.ifPresent(a -> {
+                accounts.put(accountId, a);
+                balances.put(accountId, a.getCurrentBalance());
+            });
+        }
+
+        LocalDateTime date = LocalDateTime.now();
+        Map<UUID, List<Movement>> movementsByAccount = new TreeMap<>();
+        List<Movement> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < transfers.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            Transfer transfer = transfers.get(i);
+            UUID sourceId = transfer.getSourceAccountId();
+            UUID targetId = transfer.getTargetAccountId();
+
+            String error = accountError(accounts.get(sourceId), sourceId);
+            if (error == null) {
+                error = accountError(accounts.get(targetId), targetId);
+            }
+            BigDecimal sourceBalance = balances.get(sourceId);
+            if (error == null && sourceBalance.compareTo(transfer.getValue()) < 0) {
+                error = "Saldo no disponible";
+                businessMetrics.recordRejection(BusinessMetrics.Rejection.INSUFFICIENT_FUNDS);
+            }
+            if (error != null) {
+                results[i] = TransferResult.failed(i, error);
+                continue;
+            }
+
+            BigDecimal newSourceBalance = sourceBalance.subtract(transfer.getValue());
+            BigDecimal newTargetBalance = balances.get(targetId).add(transfer.getValue());
+            balances.put(sourceId, newSourceBalance);
+            balances.put(targetId, newTargetBalance);
+
+            Movement debit = movement(sourceId, MovementType.TRANSFERENCIA_OUT, transfer.getValue().negate(), newSourceBalance, date);
+            Movement credit = movement(targetId, MovementType.TRANSFERENCIA_IN, transfer.getValue(), newTargetBalance, date);
+            movementsByAccount.computeIfAbsent(sourceId, id -> new ArrayList<>()).add(debit);
+            movementsByAccount.computeIfAbsent(targetId, id -> new ArrayList<>()).add(credit);
+            accepted.add(debit);
+            accepted.add(credit);
+            acceptedIndexes.add(i);
+        }
+
+        if (acceptedIndexes.isEmpty()) {
+            return List.of(results);
+        }
+
+        // Un solo UPDATE por cuenta con el neto del lote, en el mismo orden en que se bloquearon las filas.
+        // También con neto cero: el UPDATE incrementa la versión de movimientos de la cuenta
+        for (Map.Entry<UUID, List<Movement>> entry : movementsByAccount.entrySet()) {
+            UUID accountId = entry.getKey();
+            applyDelta(accountId, balances.get(accountId).subtract(accounts.get(accountId).getCurrentBalance()));
+        }
+
+        List<Movement> saved = movementRepository.saveAll(accepted);
+        for (int i = 0; i < acceptedIndexes.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = TransferResult.succeeded(index, saved.get(2 * i), saved.get(2 * i + 1));
+        }
+        movementsByAccount.forEach((accountId, movements) -> {
+            DailyBalances.record(dailyBalanceRepository, accounts.get(accountId), movements);
+            reportCache.evictClient(accounts.get(accountId).getClientId());
+        });
+
+        return List.of(results);
+    }
+
+    private String validate(Transfer transfer) {
+        if (transfer.getSourceAccountId() == null || transfer.getTargetAccountId() == null) {
+            return "Las cuentas de origen y destino no pueden ser nulas";
+        }
+        if (transfer.getSourceAccountId().equals(transfer.getTargetAccountId())) {
+            return "La cuenta de origen y destino deben ser diferentes";
+        }
+        if (transfer.getValue() == null || transfer.getValue().signum() <= 0) {
+            return "El valor de la transferencia debe ser mayor que cero";
+        }
+        return null;
+    }
+
+    private Account activeAccount(UUID accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Cuenta no encontrada con ID: " + accountId));
+        if (!account.getState()) {
+            businessMetrics.recordRejection(BusinessMetrics.Rejection.ACCOUNT_INACTIVE);
+            throw new AccountInactiveException("La cuenta no está activa");
+        }
+        return account;
+    }
+
+    private BigDecimal applyDelta(UUID accountId, BigDecimal delta) {
+        return accountRepository.applyBalanceDelta(accountId, delta)
+                .orElseThrow(() -> new InsufficientFundsException("Saldo no disponible"));
+    }
+
+    private String accountError(Account account, UUID accountId) {
+        if (account == null) {
+            return "Cuenta no encontrada con ID: " + accountId;
+        }
+        if (!account.getState()) {
+            businessMetrics.recordRejection(BusinessMetrics.Rejection.ACCOUNT_INACTIVE);
+            return "La cuenta no está activa";
+        }
+        return null;
+    }
+
+    private Movement movement(UUID accountId, MovementType type, BigDecimal value, BigDecimal balance, LocalDateTime date) {
+        return Movement.builder()
+                .accountId(accountId)
+                .movementType(type)
+                .value(value)
+                .balance(balance)
+                .date(date)
+                .build();
+    }
+}
@@ -11,7 +11,7 @@ import java.math.BigDecimal;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Account {
@@ -39,4 +39,10 @@ public class Account {
     
     @JsonProperty("state")
     private Boolean state;
+
+    /**
+     * Crece con cada cambio de saldo; dos lecturas con la misma versión vieron los mismos movimientos.
+     */
+    @JsonProperty("ledgerVersion")
+    private Long ledgerVersion;
 }
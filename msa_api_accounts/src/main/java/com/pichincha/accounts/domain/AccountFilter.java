@@ -0,0 +1,22 @@
+package com.pichincha.accounts.domain;
+
+import com.pichincha.accounts.domain.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Criterios opcionales para listar cuentas; los campos nulos no filtran.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountFilter {
+    private Boolean state;
+    private AccountType type;
+    private UUID clientId;
+}
@@ -0,0 +1,40 @@
+package com.pichincha.accounts.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Créditos y débitos (en valor absoluto) de una cuenta dentro de un rango de fechas.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTotals {
+    private UUID accountId;
+    private BigDecimal credits;
+    private BigDecimal debits;
+
+    public static AccountTotals empty(UUID accountId) {
+        return new AccountTotals(accountId, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    public static AccountTotals of(UUID accountId, List<Movement> movements) {
+        BigDecimal credits = BigDecimal.ZERO;
+        BigDecimal debits = BigDecimal.ZERO;
+        for (Movement movement : movements) {
+            if (movement.getValue().signum() > 0) {
+                credits = credits.add(movement.getValue());
+            } else {
+                debits = debits.add(movement.getValue().abs());
+            }
+        }
+        return new AccountTotals(accountId, credits, debits);
+    }
+}
@@ -0,0 +1,17 @@
+package com.pichincha.accounts.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Criterios opcionales para listar clientes; los campos nulos no filtran.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientFilter {
+    private Boolean state;
+}
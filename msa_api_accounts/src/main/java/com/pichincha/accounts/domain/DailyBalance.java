@@ -0,0 +1,27 @@
+package com.pichincha.accounts.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Resumen diario de una cuenta: créditos y débitos del día y saldo al cierre, considerando todos
+ * los movimientos con fecha hasta ese día.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyBalance {
+    private UUID accountId;
+    private LocalDate date;
+    private BigDecimal credits;
+    private BigDecimal debits;
+    private long movementCount;
+    private BigDecimal closingBalance;
+}
@@ -0,0 +1,25 @@
+package com.pichincha.accounts.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Posición dentro del historial de una cuenta ordenado por (fecha DESC, id DESC).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementCursor {
+    private LocalDateTime date;
+    private UUID id;
+
+    public static MovementCursor after(Movement movement) {
+        return new MovementCursor(movement.getDate(), movement.getId());
+    }
+}
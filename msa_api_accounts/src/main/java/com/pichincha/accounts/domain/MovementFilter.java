@@ -0,0 +1,28 @@
+package com.pichincha.accounts.domain;
+
+import com.pichincha.accounts.domain.enums.MovementType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Criterios opcionales para listar movimientos; los campos nulos o vacíos no filtran.
+ * El rango de fechas es inclusivo en ambos extremos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementFilter {
+    private UUID accountId;
+    private String accountNumber;
+    private UUID clientId;
+    private Set<MovementType> types;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
@@ -0,0 +1,21 @@
+package com.pichincha.accounts.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementPage {
+    private List<Movement> movements;
+    private MovementCursor nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.pichincha.accounts.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementResult {
+    private int index;
+    private Movement movement;
+    private String error;
+
+    public static MovementResult succeeded(int index, Movement movement) {
+        return MovementResult.builder().index(index).movement(movement).build();
+    }
+
+    public static MovementResult failed(int index, String error) {
+        return MovementResult.builder().index(index).error(error).build();
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -10,7 +10,7 @@ import com.pichincha.accounts.domain.enums.Gender;
 import java.util.UUID;
 
 @Data
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Person {
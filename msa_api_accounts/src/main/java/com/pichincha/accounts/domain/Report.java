@@ -32,5 +32,7 @@ public class Report {
         private BigDecimal accountTotalCredits;
         private BigDecimal accountTotalDebits;
         private BigDecimal finalBalance;
+        private BigDecimal openingBalance;
+        private BigDecimal closingBalance;
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.pichincha.accounts.domain;
+
+import com.pichincha.accounts.domain.enums.ReportJobPriority;
+import com.pichincha.accounts.domain.enums.ReportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJob {
+    private UUID id;
+    private UUID clientId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private ReportJobPriority priority;
+    private ReportJobStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt;
+    private Long size;
+    private String error;
+
+    public boolean isCompleted() {
+        return status == ReportJobStatus.COMPLETADO;
+    }
+}
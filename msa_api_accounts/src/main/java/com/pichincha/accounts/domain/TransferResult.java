@@ -0,0 +1,29 @@
+package com.pichincha.accounts.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferResult {
+    private int index;
+    private Movement debit;
+    private Movement credit;
+    private String error;
+
+    public static TransferResult succeeded(int index, Movement debit, Movement credit) {
+        return TransferResult.builder().index(index).debit(debit).credit(credit).build();
+    }
+
+    public static TransferResult failed(int index, String error) {
+        return TransferResult.builder().index(index).error(error).build();
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
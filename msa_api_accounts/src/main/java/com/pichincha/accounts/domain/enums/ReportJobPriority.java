@@ -0,0 +1,10 @@
+package com.pichincha.accounts.domain.enums;
+
+/**
+ * Prioridad de ejecución de un trabajo de reporte; el orden de declaración es el orden de atención.
+ */
+public enum ReportJobPriority {
+    ALTA,
+    NORMAL,
+    BAJA
+}
@@ -0,0 +1,8 @@
+package com.pichincha.accounts.domain.enums;
+
+public enum ReportJobStatus {
+    PENDIENTE,
+    EN_PROCESO,
+    COMPLETADO,
+    FALLIDO
+}
@@ -0,0 +1,11 @@
+package com.pichincha.accounts.domain.exception;
+
+public class ReportJobNotFoundException extends RuntimeException {
+    public ReportJobNotFoundException(String message) {
+        super(message);
+    }
+    
+    public ReportJobNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.pichincha.accounts.domain.exception;
+
+public class ReportJobRejectedException extends RuntimeException {
+    public ReportJobRejectedException(String message) {
+        super(message);
+    }
+    
+    public ReportJobRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
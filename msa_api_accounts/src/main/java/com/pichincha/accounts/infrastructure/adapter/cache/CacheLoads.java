@@ -0,0 +1,51 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Carga de lectura que consulta la base de datos en el hilo que llama y fuera de cualquier lock de
+ * la cache. {@code Cache.get(key, loader)} ejecuta el loader dentro de {@code ConcurrentHashMap.compute},
+ * un bloque {@code synchronized} que con hilos virtuales fija el hilo a su portador durante la consulta.
+ * Aquí solo se publica un future pendiente: quien llega después lo espera, una invalidación durante la
+ * carga lo retira (el valor cargado no queda en la cache) y un resultado nulo no se guarda.
+ */
+final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return join(cached);
+        }
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            V value = loader.apply(key);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
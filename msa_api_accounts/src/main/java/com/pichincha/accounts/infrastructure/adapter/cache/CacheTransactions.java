@@ -0,0 +1,50 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Reglas compartidas por los repositorios con cache respecto a la transacción en curso.
+ */
+final class CacheTransactions {
+
+    private CacheTransactions() {
+    }
+
+    static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Invalida ahora y de nuevo al terminar la transacción, porque entre la escritura y el commit
+     * otro hilo puede volver a cargar el valor anterior, y si hay rollback lo cargado no existe.
+     */
+    static void invalidate(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Ejecuta {@code action} cuando la transacción en curso confirma, o de inmediato si no hay transacción.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
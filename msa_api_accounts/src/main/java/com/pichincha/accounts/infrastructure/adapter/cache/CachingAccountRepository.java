@@ -0,0 +1,132 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cache de lectura sobre {@link AccountRepository} para las búsquedas por id y por número de cuenta.
+ * Dentro de una transacción de escritura siempre se consulta la base de datos, así el saldo que ve
+ * un movimiento nunca sale de la cache. Las listas y los bloqueos pasan directo al repositorio.
+ */
+public class CachingAccountRepository implements AccountRepository {
+
+    private final AccountRepository delegate;
+    private final AsyncCache<UUID, Account> byId;
+    private final AsyncCache<String, UUID> idByNumber;
+
+    public CachingAccountRepository(AccountRepository delegate, AsyncCache<UUID, Account> byId, AsyncCache<String, UUID> idByNumber) {
+        this.delegate = delegate;
+        this.byId = byId;
+        this.idByNumber = idByNumber;
+    }
+
+    @Override
+    public Account save(Account account) {
+        Account saved = delegate.save(account);
+        evict(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Account> findById(UUID id) {
+        if (id == null || CacheTransactions.inReadWriteTransaction()) {
+            return delegate.findById(id);
+        }
+        return Optional.ofNullable(CacheLoads.get(byId, id, key -> delegate.findById(key).orElse(null))).map(CachingAccountRepository::copy);
+    }
+
+    @Override
+    public Optional<Account> findByIdForUpdate(UUID id) {
+        return delegate.findByIdForUpdate(id);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        if (accountNumber == null || CacheTransactions.inReadWriteTransaction()) {
+            return delegate.findByAccountNumber(accountNumber);
+        }
+        UUID id = CacheLoads.get(idByNumber, accountNumber, number -> delegate.findByAccountNumber(number)
+                .map(account -> {
+                    byId.put(account.getId(), CompletableFuture.completedFuture(account));
+                    return account.getId();
+                })
+                .orElse(null));
+        if (id == null) {
+            return Optional.empty();
+        }
+        Optional<Account> account = findById(id);
+        if (account.isEmpty()) {
+            // La cuenta fue eliminada después de indexar su número
+            idByNumber.synchronous().invalidate(accountNumber);
+        }
+        return account;
+    }
+
+    @Override
+    public List<Account> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<Account> findAll(AccountFilter filter, Pageable pageable) {
+        return delegate.findAll(filter, pageable);
+    }
+
+    @Override
+    public Slice<Account> findSlice(AccountFilter filter, Pageable pageable) {
+        return delegate.findSlice(filter, pageable);
+    }
+
+    @Override
+    public List<Account> findByClientId(UUID clientId) {
+        return delegate.findByClientId(clientId);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        evict(id);
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return delegate.existsByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public Optional<BigDecimal> applyBalanceDelta(UUID id, BigDecimal delta) {
+        Optional<BigDecimal> balance = delegate.applyBalanceDelta(id, delta);
+        evict(id);
+        return balance;
+    }
+
+    @Override
+    public long reserveAccountNumberBlock() {
+        return delegate.reserveAccountNumberBlock();
+    }
+
+    private void evict(UUID id) {
+        // El número de cuenta no cambia; su índice se limpia solo cuando apunta a una cuenta que ya no existe
+        CacheTransactions.invalidate(() -> byId.synchronous().invalidate(id));
+    }
+
+    /**
+     * El dominio es mutable, así que quien lee recibe una copia y no puede alterar lo cacheado.
+     */
+    private static Account copy(Account account) {
+        return account.toBuilder()
+                .client(account.getClient() == null ? null : account.getClient().toBuilder().build())
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cache de lectura sobre {@link ClientRepository} para las búsquedas por id y por clientId.
+ * Las listas y las validaciones de unicidad pasan directo al repositorio.
+ */
+public class CachingClientRepository implements ClientRepository {
+
+    private final ClientRepository delegate;
+    private final AsyncCache<UUID, Client> byId;
+    private final AsyncCache<String, UUID> idByClientId;
+
+    public CachingClientRepository(ClientRepository delegate, AsyncCache<UUID, Client> byId, AsyncCache<String, UUID> idByClientId) {
+        this.delegate = delegate;
+        this.byId = byId;
+        this.idByClientId = idByClientId;
+    }
+
+    @Override
+    public Client save(Client client) {
+        Client saved = delegate.save(client);
+        evict(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Client> findById(UUID id) {
+        if (id == null) {
+            return delegate.findById(id);
+        }
+        return Optional.ofNullable(CacheLoads.get(byId, id, key -> delegate.findById(key).orElse(null))).map(CachingClientRepository::copy);
+    }
+
+    @Override
+    public Optional<Client> findByClientId(String clientId) {
+        if (clientId == null) {
+            return delegate.findByClientId(clientId);
+        }
+        UUID id = CacheLoads.get(idByClientId, clientId, key -> delegate.findByClientId(key)
+                .map(client -> {
+                    byId.put(client.getId(), CompletableFuture.completedFuture(client));
+                    return client.getId();
+                })
+                .orElse(null));
+        if (id == null) {
+            return Optional.empty();
+        }
+        Optional<Client> client = findById(id);
+        if (client.isEmpty() || !clientId.equals(client.get().getClientId())) {
+            // El cliente fue eliminado o cambió su clientId después de indexarlo
+            idByClientId.synchronous().invalidate(clientId);
+            return delegate.findByClientId(clientId);
+        }
+        return client;
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<Client> findAll(ClientFilter filter, Pageable pageable) {
+        return delegate.findAll(filter, pageable);
+    }
+
+    @Override
+    public Slice<Client> findSlice(ClientFilter filter, Pageable pageable) {
+        return delegate.findSlice(filter, pageable);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        evict(id);
+    }
+
+    @Override
+    public boolean existsByClientId(String clientId) {
+        return delegate.existsByClientId(clientId);
+    }
+
+    @Override
+    public boolean existsByIdentification(String identification) {
+        return delegate.existsByIdentification(identification);
+    }
+
+    @Override
+    public long reserveClientIdBlock() {
+        return delegate.reserveClientIdBlock();
+    }
+
+    private void evict(UUID id) {
+        // El índice por clientId se valida al leerlo contra el cliente cacheado por id
+        CacheTransactions.invalidate(() -> byId.synchronous().invalidate(id));
+    }
+
+    /**
+     * El dominio es mutable, así que quien lee recibe una copia y no puede alterar lo cacheado.
+     */
+    private static Client copy(Client client) {
+        return client.toBuilder().build();
+    }
+}
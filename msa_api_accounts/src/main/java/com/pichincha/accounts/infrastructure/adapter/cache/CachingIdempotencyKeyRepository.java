@@ -0,0 +1,53 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pichincha.accounts.application.port.output.IdempotencyKeyRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Índice en memoria de las claves ya confirmadas, para responder los reintentos sin consultar la tabla.
+ * Una clave confirmada no cambia de movimiento, así que el índice no se invalida: solo guarda lo que ya
+ * se confirmó y el tamaño máximo y el TTL de la cache acotan cuánto crece. Las lecturas y escrituras de
+ * Caffeine no bloquean entre claves distintas.
+ */
+public class CachingIdempotencyKeyRepository implements IdempotencyKeyRepository {
+
+    private final IdempotencyKeyRepository delegate;
+    private final Cache<String, UUID> movementIdByKey;
+
+    public CachingIdempotencyKeyRepository(IdempotencyKeyRepository delegate, Cache<String, UUID> movementIdByKey) {
+        this.delegate = delegate;
+        this.movementIdByKey = movementIdByKey;
+    }
+
+    @Override
+    public Optional<UUID> findMovementId(String key) {
+        UUID cached = movementIdByKey.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UUID> movementId = delegate.findMovementId(key);
+        movementId.ifPresent(id -> movementIdByKey.put(key, id));
+        return movementId;
+    }
+
+    @Override
+    public boolean claim(String key) {
+        return delegate.claim(key);
+    }
+
+    @Override
+    public void complete(String key, UUID movementId) {
+        delegate.complete(key, movementId);
+        // Si la transacción revierte la clave queda libre para el reintento
+        CacheTransactions.afterCommit(() -> movementIdByKey.put(key, movementId));
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        return delegate.deleteCreatedBefore(cutoff);
+    }
+}
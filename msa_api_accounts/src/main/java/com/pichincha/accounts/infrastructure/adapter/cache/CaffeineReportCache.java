@@ -0,0 +1,121 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.domain.Report;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ReportCache} en Caffeine acotada por bytes: cada entrada pesa lo que ocupa su PDF o una estimación
+ * del reporte, y W-TinyLFU desaloja primero lo que menos se vuelve a pedir. Un índice por
+ * cliente permite descartar sus entradas sin recorrer la cache. Si el índice pierde una clave por una
+ * carrera con el desalojo, la entrada queda hasta que la desaloje el tamaño o el TTL, nunca se sirve vieja.
+ */
+public class CaffeineReportCache implements ReportCache {
+
+    // Estimación del heap de un movimiento del dominio (UUIDs, fecha, BigDecimals) y de una cuenta
+    static final int MOVEMENT_BYTES = 200;
+    static final int ACCOUNT_BYTES = 400;
+
+    private enum Artifact {
+        REPORT, SUMMARY, PDF
+    }
+
+    private record EntryKey(Key key, Artifact artifact) {
+    }
+
+    private final Cache<EntryKey, Object> entries;
+    private final Map<UUID, Set<EntryKey>> keysByClient = new ConcurrentHashMap<>();
+    private final int maxPdfBytes;
+
+    /**
+     * Un PDF puede ocupar hasta un octavo de {@code maxBytes}, así un estado de cuenta grande no vacía la cache.
+     */
+    public CaffeineReportCache(long maxBytes, Duration ttl) {
+        this.maxPdfBytes = (int) Math.min(Integer.MAX_VALUE, maxBytes / 8);
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((EntryKey key, Object value) -> weight(value))
+                .expireAfterWrite(ttl)
+                .evictionListener((EntryKey key, Object value, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+    }
+
+    public Cache<?, ?> entries() {
+        return entries;
+    }
+
+    @Override
+    public Optional<Report> getReport(Key key, boolean includeMovements) {
+        return Optional.ofNullable((Report) entries.getIfPresent(new EntryKey(key, reportArtifact(includeMovements))));
+    }
+
+    @Override
+    public void putReport(Key key, boolean includeMovements, Report report) {
+        put(new EntryKey(key, reportArtifact(includeMovements)), report);
+    }
+
+    @Override
+    public Optional<byte[]> getPdf(Key key) {
+        return Optional.ofNullable((byte[]) entries.getIfPresent(new EntryKey(key, Artifact.PDF)));
+    }
+
+    @Override
+    public void putPdf(Key key, byte[] pdf) {
+        if (pdf.length <= maxPdfBytes) {
+            put(new EntryKey(key, Artifact.PDF), pdf);
+        }
+    }
+
+    @Override
+    public int maxPdfBytes() {
+        return maxPdfBytes;
+    }
+
+    @Override
+    public void evictClient(UUID clientId) {
+        CacheTransactions.invalidate(() -> {
+            Set<EntryKey> keys = keysByClient.remove(clientId);
+            if (keys != null) {
+                entries.invalidateAll(keys);
+            }
+        });
+    }
+
+    private void put(EntryKey key, Object value) {
+        keysByClient.computeIfAbsent(key.key().clientId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        entries.put(key, value);
+    }
+
+    private void unindex(EntryKey key) {
+        Set<EntryKey> keys = keysByClient.get(key.key().clientId());
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByClient.remove(key.key().clientId(), keys);
+        }
+    }
+
+    private static Artifact reportArtifact(boolean includeMovements) {
+        return includeMovements ? Artifact.REPORT : Artifact.SUMMARY;
+    }
+
+    private static int weight(Object value) {
+        if (value instanceof byte[] pdf) {
+            return pdf.length;
+        }
+        Report report = (Report) value;
+        long bytes = 0;
+        for (Report.AccountStatement statement : report.getAccountStatements()) {
+            bytes += ACCOUNT_BYTES + (long) MOVEMENT_BYTES * statement.getMovements().size();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+}
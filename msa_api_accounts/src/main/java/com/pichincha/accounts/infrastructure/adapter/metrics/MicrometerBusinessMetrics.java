@@ -0,0 +1,101 @@
+package com.pichincha.accounts.infrastructure.adapter.metrics;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.domain.exception.AccountInactiveException;
+import com.pichincha.accounts.domain.exception.InsufficientFundsException;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BusinessMetrics} sobre Micrometer. Los timers publican p50/p95/p99 calculados en la
+ * instancia y además el histograma, para poder agregar percentiles entre instancias en Prometheus.
+ * Todos los medidores se registran al crear el bean; medir no busca ni crea medidores.
+ */
+public class MicrometerBusinessMetrics implements BusinessMetrics {
+
+    private final Clock clock;
+    private final Timer movementsCreated;
+    private final Timer movementsInsufficientFunds;
+    private final Timer movementsAccountInactive;
+    private final Timer movementsFailed;
+    private final Map<ReportPhase, Timer> reportPhases = new EnumMap<>(ReportPhase.class);
+    private final Map<Rejection, Counter> rejections = new EnumMap<>(Rejection.class);
+
+    public MicrometerBusinessMetrics(MeterRegistry meterRegistry) {
+        this.clock = meterRegistry.config().clock();
+        this.movementsCreated = movementTimer(meterRegistry, "success");
+        this.movementsInsufficientFunds = movementTimer(meterRegistry, "insufficient_funds");
+        this.movementsAccountInactive = movementTimer(meterRegistry, "account_inactive");
+        this.movementsFailed = movementTimer(meterRegistry, "error");
+        for (ReportPhase phase : ReportPhase.values()) {
+            reportPhases.put(phase, Timer.builder("reports.phase")
+                    .description("Tiempo de cada fase de un estado de cuenta")
+                    .tag("phase", tagValue(phase))
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofMinutes(1))
+                    .register(meterRegistry));
+        }
+        for (Rejection rejection : Rejection.values()) {
+            rejections.put(rejection, Counter.builder("movements.rejected")
+                    .description("Movimientos y transferencias rechazados por regla de negocio")
+                    .tag("reason", tagValue(rejection))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public long start() {
+        return clock.monotonicTime();
+    }
+
+    @Override
+    public void recordMovementCreation(long start, RuntimeException failure) {
+        long elapsed = clock.monotonicTime() - start;
+        if (failure == null) {
+            movementsCreated.record(elapsed, TimeUnit.NANOSECONDS);
+        } else if (failure instanceof InsufficientFundsException) {
+            movementsInsufficientFunds.record(elapsed, TimeUnit.NANOSECONDS);
+            recordRejection(Rejection.INSUFFICIENT_FUNDS);
+        } else if (failure instanceof AccountInactiveException) {
+            movementsAccountInactive.record(elapsed, TimeUnit.NANOSECONDS);
+            recordRejection(Rejection.ACCOUNT_INACTIVE);
+        } else {
+            movementsFailed.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordReportPhase(ReportPhase phase, long start) {
+        reportPhases.get(phase).record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRejection(Rejection rejection) {
+        rejections.get(rejection).increment();
+    }
+
+    private static Timer movementTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("movements.create")
+                .description("Tiempo de creación de un movimiento, sin contar el commit")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,54 @@
+package com.pichincha.accounts.infrastructure.adapter.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Publica cuántas sentencias SQL ejecutó cada solicitud ({@code requests.sql.statements}), por
+ * método y ruta. En las respuestas en streaming solo cuenta lo ejecutado antes de empezar a escribir.
+ */
+@RequiredArgsConstructor
+public class SqlStatementCountInterceptor implements AsyncHandlerInterceptor {
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            counter.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        record(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // El despacho que cierra una respuesta asíncrona ya se registró al empezar el streaming
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            record(request);
+        }
+    }
+
+    private void record(HttpServletRequest request) {
+        long statements = counter.end();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("requests.sql.statements")
+                .description("Sentencias SQL ejecutadas por solicitud")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
@@ -0,0 +1,34 @@
+package com.pichincha.accounts.infrastructure.adapter.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate prepara en el hilo actual entre {@link #begin()} y
+ * {@link #end()}. Un listado que debería costar dos consultas y cuesta cincuenta es un N+1.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> current = new ThreadLocal<>();
+
+    public void begin() {
+        current.set(new long[1]);
+    }
+
+    /**
+     * Termina el conteo del hilo actual y devuelve cuántas sentencias se prepararon desde {@link #begin()}.
+     */
+    public long end() {
+        long[] count = current.get();
+        current.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = current.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
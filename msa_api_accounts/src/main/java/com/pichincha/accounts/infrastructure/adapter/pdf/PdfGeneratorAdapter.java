@@ -1,48 +1,123 @@
 package com.pichincha.accounts.infrastructure.adapter.pdf;
 
+import com.openhtmltopdf.pdfboxout.PdfBoxRenderer;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
 import com.pichincha.accounts.application.port.output.PdfGeneratorPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
-import java.util.Base64;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Renderiza los estados de cuenta con recursos precargados ({@link PdfRenderResources}) y limita
+ * cuántos renderizados corren a la vez, porque cada uno ocupa CPU y memoria de forma intensiva.
+ */
+@Slf4j
 @Component
 public class PdfGeneratorAdapter implements PdfGeneratorPort {
 
-    @Override
-    public byte[] generatePdf(String htmlContent) {
-        try {
-
-            
-            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                PdfRendererBuilder builder = new PdfRendererBuilder();
-                builder.useFastMode();
+    private final PdfRenderResources resources;
+    private final Semaphore renderPermits;
+    private final Duration acquireTimeout;
+    private final Timer renderTimer;
+    private final Timer waitTimer;
+    private final DistributionSummary sizeSummary;
 
-                builder.withHtmlContent(htmlContent, "");
-                builder.toStream(outputStream);
-                builder.run();
-                byte[] pdfBytes = outputStream.toByteArray();
+    public PdfGeneratorAdapter(PdfRenderResources resources,
+                               MeterRegistry meterRegistry,
+                               @Value("${accounts.reports.pdf.max-concurrent-renders:4}") int maxConcurrentRenders,
+                               @Value("${accounts.reports.pdf.acquire-timeout:PT30S}") Duration acquireTimeout) {
+        this.resources = resources;
+        this.renderPermits = new Semaphore(maxConcurrentRenders, true);
+        this.acquireTimeout = acquireTimeout;
+        this.renderTimer = Timer.builder("reports.pdf.render")
+                .description("Tiempo de renderizado de PDF")
+                .tag("mode", "stream")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("reports.pdf.render.wait")
+                .description("Tiempo de espera por un turno de renderizado")
+                .register(meterRegistry);
+        this.sizeSummary = DistributionSummary.builder("reports.pdf.size")
+                .description("Tamaño de los PDF generados")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
 
-                return pdfBytes;
+    @Override
+    public void writePdf(Iterator<String> htmlDocuments, OutputStream output) {
+        // Las páginas ya renderizadas se guardan en un archivo temporal y no en el heap
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+            while (htmlDocuments.hasNext()) {
+                PdfRendererBuilder builder = resources.builder(htmlDocuments.next());
+                builder.usePDDocument(document);
+                // El turno se toma por bloque, así un estado de cuenta largo no acapara el limitador
+                render(() -> {
+                    try (PdfBoxRenderer renderer = builder.buildPdfRenderer()) {
+                        renderer.createPDFWithoutClosing();
+                    }
+                });
             }
+            CountingOutputStream counting = new CountingOutputStream(output);
+            document.save(counting);
+            sizeSummary.record(counting.count);
         } catch (Exception e) {
-
             throw new RuntimeException("Error generando PDF: " + e.getMessage(), e);
         }
     }
 
-    @Override
-    public String generateBase64Pdf(String htmlContent) {
+    private void render(RenderTask task) throws Exception {
+        long waitStart = System.nanoTime();
+        if (!renderPermits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+            throw new IllegalStateException("No hay capacidad para renderizar el PDF tras " + acquireTimeout);
+        }
+        waitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        long renderStart = System.nanoTime();
         try {
-            
-            byte[] pdfBytes = generatePdf(htmlContent);
-            String base64Pdf = Base64.getEncoder().encodeToString(pdfBytes);
+            task.run();
+        } finally {
+            renderPermits.release();
+            renderTimer.record(System.nanoTime() - renderStart, TimeUnit.NANOSECONDS);
+        }
+    }
 
-            return base64Pdf;
-        } catch (Exception e) {
-            throw new RuntimeException("Error generando PDF Base64: " + e.getMessage(), e);
+    @FunctionalInterface
+    private interface RenderTask {
+        void run() throws Exception;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+package com.pichincha.accounts.infrastructure.adapter.pdf;
+
+import com.openhtmltopdf.extend.FSStream;
+import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Recursos que se reutilizan entre renderizados: las hojas de estilo de {@code classpath:/reports}
+ * se leen una sola vez y se sirven desde memoria bajo el protocolo {@code report:}, y el HTML se
+ * parsea con {@link DocumentBuilder} reutilizados en lugar de que cada renderer busque y configure
+ * sus propias fábricas XML. Los parsers se prestan desde un pool y no desde un {@code ThreadLocal},
+ * que con hilos virtuales (uno por petición) crearía uno nuevo en cada renderizado.
+ */
+@Component
+public class PdfRenderResources {
+
+    static final String PROTOCOL = "report";
+    static final String BASE_URI = PROTOCOL + ":/reports/";
+
+    private static final String[] STYLESHEETS = {"statement.css"};
+
+    private final Map<String, byte[]> resources = new HashMap<>();
+    private final DocumentBuilderFactory factory;
+    private final Queue<DocumentBuilder> idleDocumentBuilders = new ConcurrentLinkedQueue<>();
+
+    public PdfRenderResources() {
+        for (String name : STYLESHEETS) {
+            resources.put(BASE_URI + name, load("/reports/" + name));
+        }
+
+        factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setValidating(false);
+        factory.setExpandEntityReferences(false);
+        try {
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Parser XML no soportado para generar PDF", e);
+        }
+    }
+
+    /**
+     * Prepara un builder para renderizar {@code html}: modo rápido, recursos en memoria y documento ya parseado.
+     */
+    PdfRendererBuilder builder(String html) throws IOException, SAXException {
+        PdfRendererBuilder builder = new PdfRendererBuilder();
+        builder.useFastMode();
+        builder.useProtocolsStreamImplementation(this::open, PROTOCOL);
+        builder.withW3cDocument(parse(html), BASE_URI);
+        return builder;
+    }
+
+    private Document parse(String html) throws IOException, SAXException {
+        DocumentBuilder documentBuilder = idleDocumentBuilders.poll();
+        if (documentBuilder == null) {
+            documentBuilder = newDocumentBuilder();
+        }
+        try {
+            return documentBuilder.parse(new InputSource(new StringReader(html)));
+        } finally {
+            documentBuilder.reset();
+            idleDocumentBuilders.offer(documentBuilder);
+        }
+    }
+
+    private DocumentBuilder newDocumentBuilder() {
+        try {
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Parser XML no soportado para generar PDF", e);
+        }
+    }
+
+    FSStream open(String uri) {
+        byte[] content = resources.get(uri);
+        if (content == null) {
+            return null;
+        }
+        return new FSStream() {
+            @Override
+            public InputStream getStream() {
+                return new ByteArrayInputStream(content);
+            }
+
+            @Override
+            public Reader getReader() {
+                return new InputStreamReader(getStream(), StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    private static byte[] load(String path) {
+        try (InputStream input = PdfRenderResources.class.getResourceAsStream(path)) {
+            if (input == null) {
+                throw new IllegalStateException("No se encontró el recurso " + path);
+            }
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el recurso " + path, e);
+        }
+    }
+}
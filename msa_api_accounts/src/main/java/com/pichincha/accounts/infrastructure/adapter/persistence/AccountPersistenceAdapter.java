@@ -2,13 +2,21 @@ package com.pichincha.accounts.infrastructure.adapter.persistence;
 
 import com.pichincha.accounts.application.port.output.AccountRepository;
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
+import com.pichincha.accounts.domain.enums.AccountType;
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.AccountEntity;
 import com.pichincha.accounts.infrastructure.adapter.persistence.repository.AccountJpaRepository;
+import com.pichincha.accounts.infrastructure.adapter.persistence.specification.AccountSpecifications;
 import com.pichincha.accounts.infrastructure.mapper.AccountEntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,8 +27,22 @@ import java.util.stream.Collectors;
 
 public class AccountPersistenceAdapter implements AccountRepository {
 
+    // Listados: columnas de cuenta directo al dominio, sin entidad ni mapper
+    static final ProjectionQueries.Row<Account> LIST_ROW = new ProjectionQueries.Row<>(
+            List.of("id", "clientId", "accountNumber", "type", "initialBalance", "currentBalance", "state"),
+            row -> Account.builder()
+                    .id((UUID) row[0])
+                    .clientId((UUID) row[1])
+                    .accountNumber((String) row[2])
+                    .type((AccountType) row[3])
+                    .initialBalance((BigDecimal) row[4])
+                    .currentBalance((BigDecimal) row[5])
+                    .state((Boolean) row[6])
+                    .build());
+
     private final AccountJpaRepository accountJpaRepository;
     private final AccountEntityMapper accountEntityMapper;
+    private final ProjectionQueries projectionQueries;
 
     @Override
     public Account save(Account account) {
@@ -37,6 +59,13 @@ public class AccountPersistenceAdapter implements AccountRepository {
                 .map(accountEntityMapper::toDomain);
     }
 
+    @Override
+    public Optional<Account> findByIdForUpdate(UUID id) {
+
+        return accountJpaRepository.findByIdForUpdate(id)
+                .map(accountEntityMapper::toDomain);
+    }
+
     @Override
     public Optional<Account> findByAccountNumber(String accountNumber) {
 
@@ -53,6 +82,20 @@ public class AccountPersistenceAdapter implements AccountRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<Account> findAll(AccountFilter filter, Pageable pageable) {
+
+        Specification<AccountEntity> specification = AccountSpecifications.matching(filter);
+        return projectionQueries.findPage(AccountEntity.class, specification, pageable, LIST_ROW,
+                () -> accountJpaRepository.count(specification));
+    }
+
+    @Override
+    public Slice<Account> findSlice(AccountFilter filter, Pageable pageable) {
+
+        return projectionQueries.findSlice(AccountEntity.class, AccountSpecifications.matching(filter), pageable, LIST_ROW);
+    }
+
     @Override
     public List<Account> findByClientId(UUID clientId) {
 
@@ -73,4 +116,19 @@ public class AccountPersistenceAdapter implements AccountRepository {
 
         return accountJpaRepository.existsByAccountNumber(accountNumber);
     }
+
+    @Override
+    public Optional<BigDecimal> applyBalanceDelta(UUID id, BigDecimal delta) {
+
+        if (accountJpaRepository.applyBalanceDelta(id, delta) == 0) {
+            return Optional.empty();
+        }
+        return accountJpaRepository.findCurrentBalanceById(id);
+    }
+
+    @Override
+    public long reserveAccountNumberBlock() {
+
+        return accountJpaRepository.nextAccountNumberBlock();
+    }
 }
\ No newline at end of file
@@ -2,11 +2,18 @@ package com.pichincha.accounts.infrastructure.adapter.persistence;
 
 import com.pichincha.accounts.application.port.output.ClientRepository;
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
+import com.pichincha.accounts.domain.enums.Gender;
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.ClientEntity;
 import com.pichincha.accounts.infrastructure.adapter.persistence.repository.ClientJpaRepository;
+import com.pichincha.accounts.infrastructure.adapter.persistence.specification.ClientSpecifications;
 import com.pichincha.accounts.infrastructure.mapper.ClientEntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,8 +26,25 @@ import java.util.stream.Collectors;
 
 public class ClientPersistenceAdapter implements ClientRepository {
 
+    // Listados: columnas de cliente directo al dominio, sin entidad ni mapper. La contraseña no se
+    // expone en las respuestas y no se lee
+    static final ProjectionQueries.Row<Client> LIST_ROW = new ProjectionQueries.Row<>(
+            List.of("id", "name", "gender", "age", "identification", "phone", "address", "clientId", "state"),
+            row -> Client.builder()
+                    .id((UUID) row[0])
+                    .name((String) row[1])
+                    .gender((Gender) row[2])
+                    .age((Integer) row[3])
+                    .identification((String) row[4])
+                    .phone((String) row[5])
+                    .address((String) row[6])
+                    .clientId((String) row[7])
+                    .state((Boolean) row[8])
+                    .build());
+
     private final ClientJpaRepository clientJpaRepository;
     private final ClientEntityMapper clientEntityMapper;
+    private final ProjectionQueries projectionQueries;
 
     @Override
     public Client save(Client client) {
@@ -53,6 +77,20 @@ public class ClientPersistenceAdapter implements ClientRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<Client> findAll(ClientFilter filter, Pageable pageable) {
+
+        Specification<ClientEntity> specification = ClientSpecifications.matching(filter);
+        return projectionQueries.findPage(ClientEntity.class, specification, pageable, LIST_ROW,
+                () -> clientJpaRepository.count(specification));
+    }
+
+    @Override
+    public Slice<Client> findSlice(ClientFilter filter, Pageable pageable) {
+
+        return projectionQueries.findSlice(ClientEntity.class, ClientSpecifications.matching(filter), pageable, LIST_ROW);
+    }
+
     @Override
     public void deleteById(UUID id) {
         clientJpaRepository.deleteById(id);
@@ -67,4 +105,9 @@ public class ClientPersistenceAdapter implements ClientRepository {
     public boolean existsByIdentification(String identification) {
         return clientJpaRepository.existsByIdentification(identification);
     }
+
+    @Override
+    public long reserveClientIdBlock() {
+        return clientJpaRepository.nextClientIdBlock();
+    }
 }
\ No newline at end of file
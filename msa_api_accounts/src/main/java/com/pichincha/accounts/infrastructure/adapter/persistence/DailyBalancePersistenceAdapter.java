@@ -0,0 +1,65 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence;
+
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.domain.AccountTotals;
+import com.pichincha.accounts.domain.DailyBalance;
+import com.pichincha.accounts.infrastructure.adapter.persistence.repository.DailyBalanceJpaRepository;
+import com.pichincha.accounts.infrastructure.mapper.DailyBalanceEntityMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class DailyBalancePersistenceAdapter implements DailyBalanceRepository {
+
+    private final DailyBalanceJpaRepository dailyBalanceJpaRepository;
+    private final DailyBalanceEntityMapper dailyBalanceEntityMapper;
+
+    @Override
+    public void addMovements(UUID accountId, BigDecimal initialBalance, LocalDate date, AccountTotals totals, long movementCount) {
+        dailyBalanceJpaRepository.upsertDay(accountId, date, totals.getCredits(), totals.getDebits(), movementCount, initialBalance);
+
+        BigDecimal net = totals.getCredits().subtract(totals.getDebits());
+        if (net.signum() != 0) {
+            // Solo hay filas posteriores cuando el movimiento llega con una fecha pasada
+            dailyBalanceJpaRepository.shiftClosingBalanceAfter(accountId, date, net);
+        }
+    }
+
+    @Override
+    public List<DailyBalance> findLatestOnOrBefore(Collection<UUID> accountIds, LocalDate date) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        return dailyBalanceJpaRepository.findLatestOnOrBefore(accountIds, date)
+                .stream()
+                .map(dailyBalanceEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AccountTotals> sumByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        return dailyBalanceJpaRepository.sumByAccountIdInAndDateBetween(accountIds, startDate, endDate)
+                .stream()
+                .map(view -> new AccountTotals(view.getAccountId(), view.getCredits(), view.getDebits()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void rebuild(UUID accountId, BigDecimal initialBalance) {
+        dailyBalanceJpaRepository.deleteByAccountId(accountId);
+        dailyBalanceJpaRepository.insertFromMovements(accountId, initialBalance);
+    }
+}
@@ -0,0 +1,37 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence;
+
+import com.pichincha.accounts.application.port.output.IdempotencyKeyRepository;
+import com.pichincha.accounts.infrastructure.adapter.persistence.repository.IdempotencyKeyJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyPersistenceAdapter implements IdempotencyKeyRepository {
+
+    private final IdempotencyKeyJpaRepository idempotencyKeyJpaRepository;
+
+    @Override
+    public Optional<UUID> findMovementId(String key) {
+        return idempotencyKeyJpaRepository.findMovementIdByKey(key);
+    }
+
+    @Override
+    public boolean claim(String key) {
+        return idempotencyKeyJpaRepository.insertIfAbsent(key, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    public void complete(String key, UUID movementId) {
+        idempotencyKeyJpaRepository.setMovementId(key, movementId);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        return idempotencyKeyJpaRepository.deleteByCreatedAtBefore(cutoff);
+    }
+}
@@ -1,29 +1,59 @@
 package com.pichincha.accounts.infrastructure.adapter.persistence;
 
 import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.domain.AccountTotals;
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.enums.MovementType;
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.MovementEntity;
 import com.pichincha.accounts.infrastructure.adapter.persistence.repository.MovementJpaRepository;
+import com.pichincha.accounts.infrastructure.adapter.persistence.specification.MovementSpecifications;
 import com.pichincha.accounts.infrastructure.mapper.MovementEntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 
 public class MovementPersistenceAdapter implements MovementRepository {
 
+    // Listados: columnas de movimiento directo al dominio, sin entidad ni mapper
+    static final ProjectionQueries.Row<Movement> LIST_ROW = new ProjectionQueries.Row<>(
+            List.of("id", "accountId", "date", "movementType", "value", "balance"),
+            row -> Movement.builder()
+                    .id((UUID) row[0])
+                    .accountId((UUID) row[1])
+                    .date((LocalDateTime) row[2])
+                    .movementType((MovementType) row[3])
+                    .value((BigDecimal) row[4])
+                    .balance((BigDecimal) row[5])
+                    .build());
+
+    // Exportaciones: filas por viaje a la base; el resto del resultado queda en el cursor del servidor
+    static final int EXPORT_FETCH_SIZE = 1_000;
+    private static final Sort EXPORT_ORDER = Sort.by(Sort.Order.asc("date"), Sort.Order.asc("id"));
+
     private final MovementJpaRepository movementJpaRepository;
     private final MovementEntityMapper movementEntityMapper;
+    private final ProjectionQueries projectionQueries;
 
     @Override
     public Movement save(Movement movement) {
@@ -32,6 +62,18 @@ public class MovementPersistenceAdapter implements MovementRepository {
         return movementEntityMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Movement> saveAll(List<Movement> movements) {
+        List<MovementEntity> entities = movements.stream()
+                .map(movementEntityMapper::toEntity)
+                .collect(Collectors.toList());
+
+        return movementJpaRepository.saveAll(entities)
+                .stream()
+                .map(movementEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Movement> findById(UUID id) {
 
@@ -48,6 +90,20 @@ public class MovementPersistenceAdapter implements MovementRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<Movement> findAll(MovementFilter filter, Pageable pageable) {
+
+        Specification<MovementEntity> specification = MovementSpecifications.matching(filter);
+        return projectionQueries.findPage(MovementEntity.class, specification, pageable, LIST_ROW,
+                () -> movementJpaRepository.count(specification));
+    }
+
+    @Override
+    public Slice<Movement> findSlice(MovementFilter filter, Pageable pageable) {
+
+        return projectionQueries.findSlice(MovementEntity.class, MovementSpecifications.matching(filter), pageable, LIST_ROW);
+    }
+
     @Override
     public List<Movement> findByAccountId(UUID accountId) {
 
@@ -57,6 +113,17 @@ public class MovementPersistenceAdapter implements MovementRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Movement> findPageByAccountId(UUID accountId, MovementCursor after, int limit) {
+        List<MovementEntity> entities = after == null
+                ? movementJpaRepository.findFirstPageByAccountId(accountId, limit)
+                : movementJpaRepository.findPageByAccountIdBefore(accountId, after.getDate(), after.getId(), limit);
+
+        return entities.stream()
+                .map(movementEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Movement> findByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate) {
         LocalDateTime startDateTime = startDate.atStartOfDay();
@@ -68,6 +135,54 @@ public class MovementPersistenceAdapter implements MovementRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<Movement> streamAll(MovementFilter filter) {
+
+        return projectionQueries.stream(MovementEntity.class, MovementSpecifications.matching(filter), EXPORT_ORDER,
+                LIST_ROW, EXPORT_FETCH_SIZE);
+    }
+
+    @Override
+    public List<Movement> findPageByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate,
+                                                          MovementCursor after, int limit) {
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+        List<MovementEntity> entities = after == null
+                ? movementJpaRepository.findFirstPageByAccountIdAndDateBetween(accountId, startDateTime, endDateTime, limit)
+                : movementJpaRepository.findPageByAccountIdAndDateBetweenBefore(
+                        accountId, startDateTime, endDateTime, after.getDate(), after.getId(), limit);
+
+        return entities.stream()
+                .map(movementEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Movement> findByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        return movementJpaRepository.findByAccountIdInAndDateBetweenOrderByDateDesc(
+                        accountIds, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX))
+                .stream()
+                .map(movementEntityMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AccountTotals> sumByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+
+        return movementJpaRepository.sumByAccountIdInAndDateBetween(
+                        accountIds, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX))
+                .stream()
+                .map(view -> new AccountTotals(view.getAccountId(), view.getCredits(), view.getDebits()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteById(UUID id) {
 
@@ -0,0 +1,107 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de listado que seleccionan columnas en lugar de entidades: las filas no se registran en el
+ * contexto de persistencia y cada una se convierte directo al modelo de dominio, sin instanciar la
+ * entidad ni pasar por su mapper. Los filtros son las mismas {@link Specification} de las consultas por entidad.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectionQueries {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Columnas a seleccionar (atributos de la entidad) y cómo convertir cada fila, en ese mismo orden.
+     */
+    public record Row<T>(List<String> attributes, Function<Object[], T> mapper) {
+    }
+
+    public <E, T> Slice<T> findSlice(Class<E> entityType, Specification<E> specification, Pageable pageable, Row<T> row) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(select(entityType, specification, pageable, row, -1), pageable, false);
+        }
+
+        // Se pide una fila extra solo para saber si existe una página siguiente
+        List<T> rows = select(entityType, specification, pageable, row, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    public <E, T> Page<T> findPage(Class<E> entityType, Specification<E> specification, Pageable pageable, Row<T> row,
+                                   LongSupplier count) {
+        List<T> rows = select(entityType, specification, pageable, row, pageable.isPaged() ? pageable.getPageSize() : -1);
+        return PageableExecutionUtils.getPage(rows, pageable, count);
+    }
+
+    /**
+     * Recorre todas las filas con un cursor de solo avance que trae {@code fetchSize} filas por viaje.
+     * Requiere una transacción abierta (en PostgreSQL el cursor solo existe sin autocommit) y el
+     * stream debe cerrarse al terminar.
+     */
+    public <E, T> Stream<T> stream(Class<E> entityType, Specification<E> specification, Sort sort, Row<T> row,
+                                   int fetchSize) {
+        return createQuery(entityType, specification, sort, row)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()
+                .map(row.mapper());
+    }
+
+    private <E, T> List<T> select(Class<E> entityType, Specification<E> specification, Pageable pageable, Row<T> row, int limit) {
+        TypedQuery<Object[]> typedQuery = createQuery(entityType, specification, pageable.getSort(), row);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        }
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+
+        List<Object[]> results = typedQuery.getResultList();
+        List<T> mapped = new ArrayList<>(results.size());
+        for (Object[] result : results) {
+            mapped.add(row.mapper().apply(result));
+        }
+        return mapped;
+    }
+
+    private <E, T> TypedQuery<Object[]> createQuery(Class<E> entityType, Specification<E> specification, Sort sort, Row<T> row) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<E> root = query.from(entityType);
+
+        List<Selection<?>> selections = new ArrayList<>(row.attributes().size());
+        for (String attribute : row.attributes()) {
+            selections.add(root.get(attribute));
+        }
+        query.multiselect(selections);
+        query.where(specification.toPredicate(root, query, cb));
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+}
@@ -6,12 +6,15 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name = "cuenta")
+@Table(name = "cuenta", indexes = {
+        @Index(name = "idx_cuenta_cliente", columnList = "cliente_id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -19,7 +22,7 @@ import java.util.UUID;
 public class AccountEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private UUID id;
 
     @Column(name = "cliente_id", nullable = false)
@@ -35,9 +38,14 @@ public class AccountEntity {
     @Column(name = "saldo_inicial", precision = 15, scale = 2, nullable = false)
     private BigDecimal initialBalance;
 
-    @Column(name = "saldo_actual", precision = 15, scale = 2, nullable = false)
+    // Solo lo cambia applyBalanceDelta; un save de la cuenta no escribe un saldo leído antes
+    @Column(name = "saldo_actual", precision = 15, scale = 2, nullable = false, updatable = false)
     private BigDecimal currentBalance;
 
     @Column(name = "estado", nullable = false)
     private Boolean state = true;
+
+    // Solo la incrementa applyBalanceDelta; un save de la cuenta no la sobrescribe
+    @Column(name = "version_movimientos", nullable = false, updatable = false)
+    private long ledgerVersion;
 }
@@ -0,0 +1,53 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Entity
+@Table(name = "saldo_diario")
+@IdClass(DailyBalanceEntity.Key.class)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyBalanceEntity {
+
+    @Id
+    @Column(name = "cuenta_id")
+    private UUID accountId;
+
+    @Id
+    @Column(name = "fecha")
+    private LocalDate date;
+
+    @Column(name = "creditos", precision = 15, scale = 2, nullable = false)
+    private BigDecimal credits;
+
+    @Column(name = "debitos", precision = 15, scale = 2, nullable = false)
+    private BigDecimal debits;
+
+    @Column(name = "movimientos", nullable = false)
+    private long movementCount;
+
+    @Column(name = "saldo_cierre", precision = 15, scale = 2, nullable = false)
+    private BigDecimal closingBalance;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private UUID accountId;
+        private LocalDate date;
+    }
+}
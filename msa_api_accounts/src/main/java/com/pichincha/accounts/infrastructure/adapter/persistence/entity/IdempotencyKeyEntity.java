@@ -0,0 +1,31 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "movimiento_idempotencia", indexes = {
+        @Index(name = "idx_movimiento_idempotencia_creado", columnList = "creado_en")
+})
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotencyKeyEntity {
+
+    @Id
+    @Column(name = "clave", length = 100)
+    private String key;
+
+    @Column(name = "movimiento_id")
+    private UUID movementId;
+
+    @Column(name = "creado_en", nullable = false)
+    private LocalDateTime createdAt;
+}
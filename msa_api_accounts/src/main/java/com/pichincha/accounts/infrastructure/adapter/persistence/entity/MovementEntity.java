@@ -6,13 +6,16 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "movimiento")
+@Table(name = "movimiento", indexes = {
+        @Index(name = "idx_movimiento_cuenta_fecha_id", columnList = "cuenta_id, fecha DESC, id DESC")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -20,7 +23,7 @@ import java.util.UUID;
 public class MovementEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private UUID id;
 
     @Column(name = "cuenta_id", nullable = false)
@@ -38,8 +41,4 @@ public class MovementEntity {
 
     @Column(name = "saldo_despues", precision = 15, scale = 2, nullable = false)
     private BigDecimal balance;
-
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "cuenta_id", insertable = false, updatable = false)
-    private AccountEntity account;
 }
@@ -0,0 +1,19 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence.entity;
+
+import com.pichincha.accounts.util.TimeOrderedUuid;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Claves primarias UUIDv7 generadas en memoria, sin consultar la base de datos.
+ * Se usa con {@code @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)}.
+ */
+public class TimeOrderedUuidGenerator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return TimeOrderedUuid.generate();
+    }
+}
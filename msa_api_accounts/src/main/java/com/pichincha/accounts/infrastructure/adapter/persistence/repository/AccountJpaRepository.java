@@ -1,16 +1,39 @@
 package com.pichincha.accounts.infrastructure.adapter.persistence.repository;
 
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.AccountEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AccountJpaRepository extends JpaRepository<AccountEntity, UUID> {
+public interface AccountJpaRepository extends JpaRepository<AccountEntity, UUID>, JpaSpecificationExecutor<AccountEntity> {
     Optional<AccountEntity> findByAccountNumber(String accountNumber);
     List<AccountEntity> findByClientId(UUID clientId);
     boolean existsByAccountNumber(String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountEntity a WHERE a.id = :id")
+    Optional<AccountEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountEntity a SET a.currentBalance = a.currentBalance + :delta, " +
+            "a.ledgerVersion = a.ledgerVersion + 1 " +
+            "WHERE a.id = :id AND a.state = true AND a.currentBalance + :delta >= 0")
+    int applyBalanceDelta(@Param("id") UUID id, @Param("delta") BigDecimal delta);
+
+    @Query("SELECT a.currentBalance FROM AccountEntity a WHERE a.id = :id")
+    Optional<BigDecimal> findCurrentBalanceById(@Param("id") UUID id);
+
+    @Query(value = "SELECT nextval('account_number_block_seq')", nativeQuery = true)
+    long nextAccountNumberBlock();
 }
\ No newline at end of file
@@ -2,14 +2,19 @@ package com.pichincha.accounts.infrastructure.adapter.persistence.repository;
 
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.ClientEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ClientJpaRepository extends JpaRepository<ClientEntity, UUID> {
+public interface ClientJpaRepository extends JpaRepository<ClientEntity, UUID>, JpaSpecificationExecutor<ClientEntity> {
     Optional<ClientEntity> findByClientId(String clientId);
     boolean existsByClientId(String clientId);
     boolean existsByIdentification(String identification);
+
+    @Query(value = "SELECT nextval('client_id_block_seq')", nativeQuery = true)
+    long nextClientIdBlock();
 }
\ No newline at end of file
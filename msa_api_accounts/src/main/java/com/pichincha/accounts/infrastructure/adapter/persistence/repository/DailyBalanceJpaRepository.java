@@ -0,0 +1,72 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence.repository;
+
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.DailyBalanceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DailyBalanceJpaRepository extends JpaRepository<DailyBalanceEntity, DailyBalanceEntity.Key> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO saldo_diario (cuenta_id, fecha, creditos, debitos, movimientos, saldo_cierre) " +
+            "VALUES (:accountId, :date, :credits, :debits, :count, " +
+            "COALESCE((SELECT s.saldo_cierre FROM saldo_diario s WHERE s.cuenta_id = :accountId AND s.fecha < :date " +
+            "ORDER BY s.fecha DESC LIMIT 1), :initialBalance) + :credits - :debits) " +
+            "ON CONFLICT (cuenta_id, fecha) DO UPDATE SET " +
+            "creditos = saldo_diario.creditos + EXCLUDED.creditos, " +
+            "debitos = saldo_diario.debitos + EXCLUDED.debitos, " +
+            "movimientos = saldo_diario.movimientos + EXCLUDED.movimientos, " +
+            "saldo_cierre = saldo_diario.saldo_cierre + EXCLUDED.creditos - EXCLUDED.debitos", nativeQuery = true)
+    int upsertDay(@Param("accountId") UUID accountId,
+                  @Param("date") LocalDate date,
+                  @Param("credits") BigDecimal credits,
+                  @Param("debits") BigDecimal debits,
+                  @Param("count") long count,
+                  @Param("initialBalance") BigDecimal initialBalance);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE saldo_diario SET saldo_cierre = saldo_cierre + :delta " +
+            "WHERE cuenta_id = :accountId AND fecha > :date", nativeQuery = true)
+    int shiftClosingBalanceAfter(@Param("accountId") UUID accountId,
+                                 @Param("date") LocalDate date,
+                                 @Param("delta") BigDecimal delta);
+
+    @Query(value = "SELECT DISTINCT ON (cuenta_id) * FROM saldo_diario " +
+            "WHERE cuenta_id IN (:accountIds) AND fecha <= :date " +
+            "ORDER BY cuenta_id, fecha DESC", nativeQuery = true)
+    List<DailyBalanceEntity> findLatestOnOrBefore(@Param("accountIds") Collection<UUID> accountIds,
+                                                  @Param("date") LocalDate date);
+
+    @Query("SELECT d.accountId AS accountId, SUM(d.credits) AS credits, SUM(d.debits) AS debits " +
+            "FROM DailyBalanceEntity d " +
+            "WHERE d.accountId IN :accountIds AND d.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY d.accountId")
+    List<MovementJpaRepository.AccountTotalsView> sumByAccountIdInAndDateBetween(@Param("accountIds") Collection<UUID> accountIds,
+                                                                                 @Param("startDate") LocalDate startDate,
+                                                                                 @Param("endDate") LocalDate endDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM saldo_diario WHERE cuenta_id = :accountId", nativeQuery = true)
+    int deleteByAccountId(@Param("accountId") UUID accountId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO saldo_diario (cuenta_id, fecha, creditos, debitos, movimientos, saldo_cierre) " +
+            "SELECT cuenta_id, dia, creditos, debitos, movimientos, " +
+            ":initialBalance + SUM(creditos - debitos) OVER (ORDER BY dia) " +
+            "FROM (SELECT cuenta_id, CAST(fecha AS DATE) AS dia, " +
+            "SUM(CASE WHEN valor > 0 THEN valor ELSE 0 END) AS creditos, " +
+            "SUM(CASE WHEN valor < 0 THEN -valor ELSE 0 END) AS debitos, " +
+            "COUNT(*) AS movimientos " +
+            "FROM movimiento WHERE cuenta_id = :accountId " +
+            "GROUP BY cuenta_id, CAST(fecha AS DATE)) dias", nativeQuery = true)
+    int insertFromMovements(@Param("accountId") UUID accountId, @Param("initialBalance") BigDecimal initialBalance);
+}
@@ -0,0 +1,33 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence.repository;
+
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    // Con la clave reservada por otra transacción abierta, PostgreSQL espera a que esta termine
+    @Modifying
+    @Query(value = "INSERT INTO movimiento_idempotencia (clave, creado_en) VALUES (:key, :createdAt) " +
+            "ON CONFLICT (clave) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query(value = "UPDATE movimiento_idempotencia SET movimiento_id = :movementId WHERE clave = :key", nativeQuery = true)
+    int setMovementId(@Param("key") String key, @Param("movementId") UUID movementId);
+
+    @Query("SELECT k.movementId FROM IdempotencyKeyEntity k WHERE k.key = :key AND k.movementId IS NOT NULL")
+    Optional<UUID> findMovementIdByKey(@Param("key") String key);
+
+    @Modifying
+    @Query(value = "DELETE FROM movimiento_idempotencia WHERE creado_en < :cutoff", nativeQuery = true)
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,14 +2,67 @@ package com.pichincha.accounts.infrastructure.adapter.persistence.repository;
 
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.MovementEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface MovementJpaRepository extends JpaRepository<MovementEntity, UUID> {
+public interface MovementJpaRepository extends JpaRepository<MovementEntity, UUID>, JpaSpecificationExecutor<MovementEntity> {
     List<MovementEntity> findByAccountIdOrderByDateDesc(UUID accountId);
+
+    @Query(value = "SELECT * FROM movimiento WHERE cuenta_id = :accountId " +
+            "ORDER BY fecha DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<MovementEntity> findFirstPageByAccountId(@Param("accountId") UUID accountId, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM movimiento WHERE cuenta_id = :accountId AND (fecha, id) < (:date, :id) " +
+            "ORDER BY fecha DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<MovementEntity> findPageByAccountIdBefore(@Param("accountId") UUID accountId,
+                                                   @Param("date") LocalDateTime date,
+                                                   @Param("id") UUID id,
+                                                   @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM movimiento WHERE cuenta_id = :accountId " +
+            "AND fecha BETWEEN :startDate AND :endDate " +
+            "ORDER BY fecha DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<MovementEntity> findFirstPageByAccountIdAndDateBetween(@Param("accountId") UUID accountId,
+                                                                @Param("startDate") LocalDateTime startDate,
+                                                                @Param("endDate") LocalDateTime endDate,
+                                                                @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM movimiento WHERE cuenta_id = :accountId " +
+            "AND fecha BETWEEN :startDate AND :endDate AND (fecha, id) < (:date, :id) " +
+            "ORDER BY fecha DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<MovementEntity> findPageByAccountIdAndDateBetweenBefore(@Param("accountId") UUID accountId,
+                                                                 @Param("startDate") LocalDateTime startDate,
+                                                                 @Param("endDate") LocalDateTime endDate,
+                                                                 @Param("date") LocalDateTime date,
+                                                                 @Param("id") UUID id,
+                                                                 @Param("limit") int limit);
+
     List<MovementEntity> findByAccountIdAndDateBetweenOrderByDateDesc(UUID accountId, LocalDateTime startDate, LocalDateTime endDate);
-}
\ No newline at end of file
+
+    List<MovementEntity> findByAccountIdInAndDateBetweenOrderByDateDesc(Collection<UUID> accountIds, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT m.accountId AS accountId, " +
+            "SUM(CASE WHEN m.value > 0 THEN m.value ELSE 0 END) AS credits, " +
+            "SUM(CASE WHEN m.value < 0 THEN -m.value ELSE 0 END) AS debits " +
+            "FROM MovementEntity m " +
+            "WHERE m.accountId IN :accountIds AND m.date BETWEEN :startDate AND :endDate " +
+            "GROUP BY m.accountId")
+    List<AccountTotalsView> sumByAccountIdInAndDateBetween(@Param("accountIds") Collection<UUID> accountIds,
+                                                           @Param("startDate") LocalDateTime startDate,
+                                                           @Param("endDate") LocalDateTime endDate);
+
+    interface AccountTotalsView {
+        UUID getAccountId();
+        BigDecimal getCredits();
+        BigDecimal getDebits();
+    }
+}
@@ -0,0 +1,33 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence.specification;
+
+import com.pichincha.accounts.domain.AccountFilter;
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.AccountEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class AccountSpecifications {
+
+    private AccountSpecifications() {
+    }
+
+    public static Specification<AccountEntity> matching(AccountFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter != null) {
+                if (filter.getState() != null) {
+                    predicates.add(cb.equal(root.get("state"), filter.getState()));
+                }
+                if (filter.getType() != null) {
+                    predicates.add(cb.equal(root.get("type"), filter.getType()));
+                }
+                if (filter.getClientId() != null) {
+                    predicates.add(cb.equal(root.get("clientId"), filter.getClientId()));
+                }
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
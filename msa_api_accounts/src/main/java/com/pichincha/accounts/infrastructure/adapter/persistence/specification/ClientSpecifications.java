@@ -0,0 +1,25 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence.specification;
+
+import com.pichincha.accounts.domain.ClientFilter;
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.ClientEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ClientSpecifications {
+
+    private ClientSpecifications() {
+    }
+
+    public static Specification<ClientEntity> matching(ClientFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter != null && filter.getState() != null) {
+                predicates.add(cb.equal(root.get("state"), filter.getState()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
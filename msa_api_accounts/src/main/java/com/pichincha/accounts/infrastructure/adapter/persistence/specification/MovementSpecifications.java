@@ -0,0 +1,58 @@
+package com.pichincha.accounts.infrastructure.adapter.persistence.specification;
+
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.AccountEntity;
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.MovementEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public final class MovementSpecifications {
+
+    private MovementSpecifications() {
+    }
+
+    /**
+     * Los filtros por cliente y número de cuenta se resuelven con una subconsulta sobre cuenta,
+     * ya que movimiento solo guarda cuenta_id.
+     */
+    public static Specification<MovementEntity> matching(MovementFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter != null) {
+                if (filter.getAccountId() != null) {
+                    predicates.add(cb.equal(root.get("accountId"), filter.getAccountId()));
+                }
+                if (filter.getAccountNumber() != null) {
+                    predicates.add(root.get("accountId").in(accountIds(query, cb, "accountNumber", filter.getAccountNumber())));
+                }
+                if (filter.getClientId() != null) {
+                    predicates.add(root.get("accountId").in(accountIds(query, cb, "clientId", filter.getClientId())));
+                }
+                if (filter.getTypes() != null && !filter.getTypes().isEmpty()) {
+                    predicates.add(root.get("movementType").in(filter.getTypes()));
+                }
+                if (filter.getStartDate() != null) {
+                    predicates.add(cb.greaterThanOrEqualTo(root.get("date"), filter.getStartDate().atStartOfDay()));
+                }
+                if (filter.getEndDate() != null) {
+                    predicates.add(cb.lessThan(root.get("date"), filter.getEndDate().plusDays(1).atStartOfDay()));
+                }
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static Subquery<UUID> accountIds(CriteriaQuery<?> query, CriteriaBuilder cb, String attribute, Object value) {
+        Subquery<UUID> accounts = query.subquery(UUID.class);
+        Root<AccountEntity> account = accounts.from(AccountEntity.class);
+        return accounts.select(account.get("id")).where(cb.equal(account.get(attribute), value));
+    }
+}
@@ -1,19 +1,30 @@
 package com.pichincha.accounts.infrastructure.adapter.rest;
 
 import com.pichincha.accounts.application.port.input.AccountInputPort;
+import com.pichincha.accounts.application.port.input.BalanceInputPort;
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
+import com.pichincha.accounts.domain.enums.AccountType;
 import com.pichincha.accounts.domain.exception.AccountNotFoundException;
 import com.pichincha.accounts.infrastructure.mapper.AccountDtoMapper;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.CuentaListaDto;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaUpdateDto;
+import com.pichincha.infrastructure.adapter.rest.dto.SaldoDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +37,7 @@ import java.util.UUID;
 public class AccountController {
 
     private final AccountInputPort accountInputPort;
+    private final BalanceInputPort balanceInputPort;
     private final AccountDtoMapper accountDtoMapper;
 
     @PostMapping
@@ -49,6 +61,19 @@ public class AccountController {
                      .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/saldo")
+    public ResponseEntity<SaldoDto> getBalanceAsOf(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fecha) {
+
+        LocalDateTime instant = fecha != null ? fecha : LocalDateTime.now();
+        SaldoDto balance = new SaldoDto()
+                .cuentaId(id)
+                .fecha(instant.atOffset(ZoneOffset.UTC))
+                .saldo(balanceInputPort.getBalanceAsOf(id, instant));
+        return ResponseEntity.ok(balance);
+    }
+
     @GetMapping("/number/{accountNumber}")
     public ResponseEntity<CuentaDto> getAccountByNumber(@PathVariable String accountNumber) {
 
@@ -58,12 +83,20 @@ public class AccountController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CuentaDto>> getAllAccounts() {
-
-        List<CuentaDto> accounts = accountInputPort.findAll().stream()
-                .map(accountDtoMapper::toDto)
-                .toList();
-        return ResponseEntity.ok(accounts);
+    public ResponseEntity<CuentaListaDto> getAllAccounts(
+            @RequestParam(required = false) UUID clienteId,
+            @RequestParam(required = false) Boolean estado,
+            @RequestParam(required = false) AccountType tipo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean total) {
+
+        AccountFilter filter = AccountFilter.builder().clientId(clienteId).state(estado).type(tipo).build();
+        Pageable pageable = PageRequests.of(page, size, Sort.by("accountNumber"));
+        Slice<Account> accounts = total
+                ? accountInputPort.findAll(filter, pageable)
+                : accountInputPort.findSlice(filter, pageable);
+        return ResponseEntity.ok(accountDtoMapper.toListDto(accounts));
     }
 
     @GetMapping("/client/{clientId}")
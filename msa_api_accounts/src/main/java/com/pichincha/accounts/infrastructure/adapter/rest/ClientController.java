@@ -2,19 +2,23 @@ package com.pichincha.accounts.infrastructure.adapter.rest;
 
 import com.pichincha.accounts.application.port.input.ClientInputPort;
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
 import com.pichincha.accounts.domain.exception.ClientNotFoundException;
 import com.pichincha.accounts.infrastructure.mapper.ClientDtoMapper;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteDto;
+import com.pichincha.infrastructure.adapter.rest.dto.ClienteListaDto;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteUpdateDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -55,12 +59,18 @@ public class ClientController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ClienteDto>> getAllClients() {
-
-        List<ClienteDto> clients = clientInputPort.findAll().stream()
-                .map(clientDtoMapper::toDto)
-                .toList();
-        return ResponseEntity.ok(clients);
+    public ResponseEntity<ClienteListaDto> getAllClients(
+            @RequestParam(required = false) Boolean estado,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean total) {
+
+        ClientFilter filter = ClientFilter.builder().state(estado).build();
+        Pageable pageable = PageRequests.of(page, size, Sort.by("name", "id"));
+        Slice<Client> clients = total
+                ? clientInputPort.findAll(filter, pageable)
+                : clientInputPort.findSlice(filter, pageable);
+        return ResponseEntity.ok(clientDtoMapper.toListDto(clients));
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,48 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV con encabezado y las columnas de {@link MovimientoDto}. Ningún valor puede contener comas ni
+ * comillas (UUID, fechas ISO-8601, tipo y montos), así que no se escapan.
+ */
+final class CsvMovementWriter implements MovementExportWriter {
+
+    static final String HEADER = "id,cuentaId,fecha,tipo,valor,saldoPostMovimiento";
+
+    private final Writer writer;
+
+    CsvMovementWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(MovimientoDto movement) throws IOException {
+        writer.write(String.valueOf(movement.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(movement.getCuentaId()));
+        writer.write(',');
+        writer.write(String.valueOf(movement.getFecha()));
+        writer.write(',');
+        writer.write(movement.getTipo().getValue());
+        writer.write(',');
+        writer.write(movement.getValor().toPlainString());
+        writer.write(',');
+        writer.write(movement.getSaldoPostMovimiento().toPlainString());
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -1,19 +1,35 @@
 package com.pichincha.accounts.infrastructure.adapter.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pichincha.accounts.application.port.input.MovementInputPort;
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.domain.MovementPage;
+import com.pichincha.accounts.domain.MovementResult;
 import com.pichincha.accounts.domain.exception.InvalidMovementException;
+import com.pichincha.accounts.infrastructure.mapper.MovementCursorCodec;
 import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapper;
 import com.pichincha.infrastructure.adapter.rest.dto.MovimientoCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoListaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoLoteResultadoDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoPaginaDto;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -26,15 +42,20 @@ import java.util.UUID;
 @CrossOrigin(origins = {"http://localhost:4200", "http://127.0.0.1:4200"})
 public class MovementController {
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
     private final MovementInputPort movementInputPort;
     private final MovementDtoMapper movementDtoMapper;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    public ResponseEntity<MovimientoDto> createMovement(@Valid @RequestBody MovimientoCreateDto dto) {
+    public ResponseEntity<MovimientoDto> createMovement(@Valid @RequestBody MovimientoCreateDto dto,
+                                                        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Movement movement = movementDtoMapper.toDomain(dto);
 
         try {
-            Movement createdMovement = movementInputPort.createMovement(movement);
+            // Un reintento con la misma clave responde con el movimiento original
+            Movement createdMovement = movementInputPort.createMovement(movement, idempotencyKey);
             return ResponseEntity.status(HttpStatus.CREATED).body(movementDtoMapper.toDto(createdMovement));
         } catch (RuntimeException e) {
 
@@ -42,6 +63,20 @@ public class MovementController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<MovimientoLoteResultadoDto>> createMovements(
+            @RequestBody List<@Valid @NotNull MovimientoCreateDto> dtos) {
+
+        List<Movement> movements = dtos.stream()
+                .map(movementDtoMapper::toDomain)
+                .toList();
+
+        List<MovementResult> results = movementInputPort.createMovements(movements);
+        return ResponseEntity.ok(results.stream()
+                .map(movementDtoMapper::toResultDto)
+                .toList());
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MovimientoDto> getMovementById(@PathVariable UUID id) {
 
@@ -51,21 +86,69 @@ public class MovementController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MovimientoDto>> getAllMovements() {
+    public ResponseEntity<MovimientoListaDto> getAllMovements(
+            @RequestParam(required = false) UUID cuentaId,
+            @RequestParam(required = false) UUID clienteId,
+            @RequestParam(required = false) String numeroCuenta,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaDesde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaHasta,
+            @RequestParam(required = false) MovimientoDto.TipoEnum tipo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean total) {
+
+        MovementFilter filter = filter(cuentaId, clienteId, numeroCuenta, fechaDesde, fechaHasta, tipo);
+        Pageable pageable = PageRequests.of(page, size, Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id")));
+        Slice<Movement> movements = total
+                ? movementInputPort.findAll(filter, pageable)
+                : movementInputPort.findSlice(filter, pageable);
+        return ResponseEntity.ok(movementDtoMapper.toListDto(movements));
+    }
 
-        List<MovimientoDto> movements = movementInputPort.findAll().stream()
-                .map(movementDtoMapper::toDto)
-                .toList();
-        return ResponseEntity.ok(movements);
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMovements(
+            @RequestParam(required = false) UUID cuentaId,
+            @RequestParam(required = false) UUID clienteId,
+            @RequestParam(required = false) String numeroCuenta,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaDesde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaHasta,
+            @RequestParam(required = false) MovimientoDto.TipoEnum tipo,
+            @RequestParam(defaultValue = "NDJSON") String formato) {
+
+        boolean csv = "CSV".equalsIgnoreCase(formato);
+        if (!csv && !"NDJSON".equalsIgnoreCase(formato)) {
+            throw new InvalidMovementException("Formato de exportación no soportado: " + formato);
+        }
+        MovementFilter filter = filter(cuentaId, clienteId, numeroCuenta, fechaDesde, fechaHasta, tipo);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON);
+        headers.setContentDispositionFormData("attachment", csv ? "movimientos.csv" : "movimientos.ndjson");
+
+        // Cada movimiento se escribe en la respuesta apenas llega del cursor de la base
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(output -> {
+                    MovementExportWriter writer = csv
+                            ? new CsvMovementWriter(output)
+                            : new NdjsonMovementWriter(objectMapper, output);
+                    movementInputPort.exportMovements(filter, movement -> writer.write(movementDtoMapper.toDto(movement)));
+                    writer.flush();
+                });
     }
 
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<MovimientoDto>> getMovementsByAccountId(@PathVariable UUID accountId) {
+    public ResponseEntity<MovimientoPaginaDto> getMovementsByAccountId(
+            @PathVariable UUID accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
 
-        List<MovimientoDto> movements = movementInputPort.findByAccountId(accountId).stream()
+        MovementPage page = movementInputPort.findByAccountId(accountId, MovementCursorCodec.decode(cursor), size);
+        MovimientoPaginaDto dto = new MovimientoPaginaDto(page.getMovements().stream()
                 .map(movementDtoMapper::toDto)
-                .toList();
-        return ResponseEntity.ok(movements);
+                .toList());
+        dto.setSiguienteCursor(MovementCursorCodec.encode(page.getNextCursor()));
+        return ResponseEntity.ok(dto);
     }
 
     @GetMapping("/account/{accountId}/dateRange")
@@ -104,4 +187,16 @@ public class MovementController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    private MovementFilter filter(UUID cuentaId, UUID clienteId, String numeroCuenta, LocalDate fechaDesde,
+                                  LocalDate fechaHasta, MovimientoDto.TipoEnum tipo) {
+        return MovementFilter.builder()
+                .accountId(cuentaId)
+                .clientId(clienteId)
+                .accountNumber(numeroCuenta)
+                .startDate(fechaDesde)
+                .endDate(fechaHasta)
+                .types(movementDtoMapper.toMovementTypes(tipo))
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Escribe movimientos de una exportación directamente sobre el stream de la respuesta; solo el
+ * buffer de salida queda en memoria, sin importar cuántas filas se exporten.
+ */
+interface MovementExportWriter extends Flushable {
+    void write(MovimientoDto movement) throws IOException;
+}
@@ -0,0 +1,38 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Un objeto JSON por línea ({@code application/x-ndjson}), con la misma serialización que el resto de la API.
+ */
+final class NdjsonMovementWriter implements MovementExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    NdjsonMovementWriter(ObjectMapper objectMapper, OutputStream output) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(output);
+        this.generator.setRootValueSeparator(null);
+        // Sin flush por fila: el generador vacía su buffer al llenarse
+        this.writer = objectMapper.writerFor(MovimientoDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(MovimientoDto movement) throws IOException {
+        writer.writeValue(generator, movement);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,19 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Construye el {@link Pageable} de los listados tolerando valores fuera de rango en page/size;
+ * el tope superior del tamaño lo aplican los servicios.
+ */
+final class PageRequests {
+
+    private PageRequests() {
+    }
+
+    static Pageable of(int page, int size, Sort sort) {
+        return PageRequest.of(Math.max(page, 0), Math.max(size, 1), sort);
+    }
+}
@@ -0,0 +1,57 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import com.pichincha.accounts.application.port.input.ReportPdfWriter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Respuesta {@code {"pdfBase64":"...","filename":"..."}} escrita a mano: el PDF pasa por el codificador
+ * Base64 directo al cuerpo HTTP a medida que se renderiza, sin el {@code byte[]}, el {@code String}
+ * codificado ni la copia de Jackson en memoria.
+ */
+final class PdfBase64JsonBody implements StreamingResponseBody {
+
+    private static final byte[] PREFIX = "{\"pdfBase64\":\"".getBytes(StandardCharsets.US_ASCII);
+
+    private final ReportPdfWriter pdfWriter;
+    private final byte[] suffix;
+
+    /**
+     * {@code filename} se escribe sin escapar: debe ser ASCII sin comillas ni barras invertidas.
+     */
+    PdfBase64JsonBody(ReportPdfWriter pdfWriter, String filename) {
+        this.pdfWriter = pdfWriter;
+        this.suffix = ("\",\"filename\":\"" + filename + "\"}").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(PREFIX);
+        // El generador de PDF cierra el stream al terminar; eso solo debe cerrar el codificador (y escribir el relleno)
+        OutputStream base64 = Base64.getEncoder().wrap(new NonClosingOutputStream(output));
+        pdfWriter.writeTo(base64);
+        base64.close();
+        output.write(suffix);
+    }
+
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.pichincha.accounts.infrastructure.adapter.rest;
 
 import com.pichincha.accounts.application.port.input.ReportInputPort;
+import com.pichincha.accounts.application.port.input.ReportPdfWriter;
 import com.pichincha.accounts.domain.Report;
 import com.pichincha.accounts.domain.exception.ClientNotFoundException;
 import com.pichincha.accounts.infrastructure.mapper.ReportDtoMapper;
@@ -13,10 +14,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -33,10 +33,11 @@ public class ReportController {
     public ResponseEntity<ReportDto> generateReport(
             @RequestParam UUID clienteId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin,
+            @RequestParam(defaultValue = "true") boolean detalle) {
 
         try {
-            Report report = reportInputPort.generateReport(clienteId, fechaInicio, fechaFin);
+            Report report = reportInputPort.generateReport(clienteId, fechaInicio, fechaFin, detalle);
             return ResponseEntity.ok(reportDtoMapper.toDto(report));
         } catch (ClientNotFoundException e) {
             return ResponseEntity.notFound().build();
@@ -47,21 +48,22 @@ public class ReportController {
     }
 
     @GetMapping("/pdf")
-    public ResponseEntity<byte[]> generateReportPdf(
+    public ResponseEntity<StreamingResponseBody> generateReportPdf(
             @RequestParam UUID clienteId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin) {
 
          try {
-            byte[] pdfBytes = reportInputPort.generateReportPdf(clienteId, fechaInicio, fechaFin);
+            ReportPdfWriter pdfWriter = reportInputPort.prepareReportPdf(clienteId, fechaInicio, fechaFin);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_PDF);
             headers.setContentDispositionFormData("attachment", "reporte_" + clienteId + ".pdf");
 
+            // El PDF se escribe directamente en la respuesta a medida que se renderiza
         return ResponseEntity.ok()
             .headers(headers)
-            .body(pdfBytes);
+            .body(pdfWriter::writeTo);
 
         } catch (ClientNotFoundException e) {
             return ResponseEntity.notFound().build();
@@ -72,19 +74,18 @@ public class ReportController {
     }
 
     @GetMapping("/pdf/base64")
-    public ResponseEntity<Map<String, String>> generateReportPdfBase64(
+    public ResponseEntity<StreamingResponseBody> generateReportPdfBase64(
             @RequestParam UUID clienteId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin) {
 
         try {
-            String base64Pdf = reportInputPort.generateReportPdfBase64(clienteId, fechaInicio, fechaFin);
-
-            Map<String, String> response = new HashMap<>();
-            response.put("pdfBase64", base64Pdf);
-            response.put("filename", "reporte_" + clienteId + ".pdf");
+            ReportPdfWriter pdfWriter = reportInputPort.prepareReportPdf(clienteId, fechaInicio, fechaFin);
 
-            return ResponseEntity.ok(response);
+            // El PDF se codifica en Base64 directamente sobre la respuesta, sin armarlo en memoria
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new PdfBase64JsonBody(pdfWriter, "reporte_" + clienteId + ".pdf"));
 
         } catch (ClientNotFoundException e) {
             return ResponseEntity.notFound().build();
@@ -93,4 +94,4 @@ public class ReportController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import com.pichincha.accounts.application.port.input.ReportJobInputPort;
+import com.pichincha.accounts.domain.ReportJob;
+import com.pichincha.accounts.domain.enums.ReportJobPriority;
+import com.pichincha.accounts.domain.exception.ClientNotFoundException;
+import com.pichincha.accounts.domain.exception.ReportJobNotFoundException;
+import com.pichincha.accounts.infrastructure.mapper.ReportDtoMapper;
+import com.pichincha.infrastructure.adapter.rest.dto.ReporteTrabajoDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/reportes/trabajos")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:4200", "http://127.0.0.1:4200"})
+public class ReportJobController {
+
+    private final ReportJobInputPort reportJobInputPort;
+    private final ReportDtoMapper reportDtoMapper;
+
+    @PostMapping
+    public ResponseEntity<ReporteTrabajoDto> submitReportJob(
+            @RequestParam UUID clienteId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin,
+            @RequestParam(defaultValue = "NORMAL") ReportJobPriority prioridad) {
+
+        try {
+            ReportJob job = reportJobInputPort.submit(clienteId, fechaInicio, fechaFin, prioridad);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/reportes/trabajos/" + job.getId()))
+                    .body(reportDtoMapper.toDto(job));
+        } catch (ClientNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{trabajoId}")
+    public ResponseEntity<ReporteTrabajoDto> getReportJob(@PathVariable UUID trabajoId) {
+        try {
+            return ResponseEntity.ok(reportDtoMapper.toDto(reportJobInputPort.findById(trabajoId)));
+        } catch (ReportJobNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{trabajoId}/pdf")
+    public ResponseEntity<StreamingResponseBody> downloadReportJob(@PathVariable UUID trabajoId) {
+        try {
+            ReportJob job = reportJobInputPort.findById(trabajoId);
+            if (!job.isCompleted()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+
+            InputStream pdf = reportJobInputPort.openResult(trabajoId);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_PDF);
+            headers.setContentDispositionFormData("attachment", "reporte_" + job.getClientId() + ".pdf");
+            if (job.getSize() != null) {
+                headers.setContentLength(job.getSize());
+            }
+
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(output -> {
+                        try (pdf) {
+                            pdf.transferTo(output);
+                        }
+                    });
+        } catch (ReportJobNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import com.pichincha.accounts.application.port.input.TransferInputPort;
+import com.pichincha.accounts.domain.Transfer;
+import com.pichincha.accounts.domain.TransferResult;
+import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapper;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaCreateDto;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaLoteResultadoDto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/transferencias")
+@RequiredArgsConstructor
+
+@CrossOrigin(origins = {"http://localhost:4200", "http://127.0.0.1:4200"})
+public class TransferController {
+
+    private final TransferInputPort transferInputPort;
+    private final MovementDtoMapper movementDtoMapper;
+
+    @PostMapping
+    public ResponseEntity<TransferenciaDto> createTransfer(@Valid @RequestBody TransferenciaCreateDto dto) {
+
+        TransferResult result = transferInputPort.transfer(movementDtoMapper.toDomain(dto));
+        return ResponseEntity.status(HttpStatus.CREATED).body(movementDtoMapper.toTransferDto(result));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<TransferenciaLoteResultadoDto>> createTransfers(@RequestBody List<TransferenciaCreateDto> dtos) {
+
+        List<Transfer> transfers = dtos.stream()
+                .map(movementDtoMapper::toDomain)
+                .toList();
+
+        List<TransferResult> results = transferInputPort.transfer(transfers);
+        return ResponseEntity.ok(results.stream()
+                .map(movementDtoMapper::toTransferResultDto)
+                .toList());
+    }
+}
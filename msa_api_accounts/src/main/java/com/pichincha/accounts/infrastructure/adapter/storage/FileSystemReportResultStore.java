@@ -0,0 +1,103 @@
+package com.pichincha.accounts.infrastructure.adapter.storage;
+
+import com.pichincha.accounts.application.port.input.ReportPdfWriter;
+import com.pichincha.accounts.application.port.output.ReportResultStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Guarda los PDF de los trabajos de reporte en un directorio local. Cada resultado se escribe
+ * primero en un archivo temporal y se renombra al terminar, así nunca se sirve un PDF a medias.
+ */
+@Slf4j
+@Component
+public class FileSystemReportResultStore implements ReportResultStore {
+
+    private static final String EXTENSION = ".pdf";
+
+    private final Path directory;
+
+    public FileSystemReportResultStore(
+            @Value("${accounts.reports.jobs.directory:${java.io.tmpdir}/accounts-reports}") Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el directorio de reportes " + directory, e);
+        }
+    }
+
+    @Override
+    public long save(UUID jobId, ReportPdfWriter content) {
+        Path target = resolve(jobId);
+        Path partial = target.resolveSibling(jobId + EXTENSION + ".part");
+        try {
+            try (OutputStream output = Files.newOutputStream(partial)) {
+                content.writeTo(output);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return Files.size(target);
+        } catch (IOException e) {
+            deleteQuietly(partial);
+            throw new UncheckedIOException("Error guardando el reporte " + jobId, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(partial);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<InputStream> open(UUID jobId) {
+        try {
+            return Optional.of(Files.newInputStream(resolve(jobId)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error leyendo el reporte " + jobId, e);
+        }
+    }
+
+    @Override
+    public void delete(UUID jobId) {
+        deleteQuietly(resolve(jobId));
+    }
+
+    @Override
+    public void purgeOlderThan(Instant cutoff) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("No se pudo depurar el directorio de reportes {}", directory, e);
+        }
+    }
+
+    private Path resolve(UUID jobId) {
+        return directory.resolve(jobId + EXTENSION);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.pichincha.accounts.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.IdempotencyKeyRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.infrastructure.adapter.cache.CachingAccountRepository;
+import com.pichincha.accounts.infrastructure.adapter.cache.CachingClientRepository;
+import com.pichincha.accounts.infrastructure.adapter.cache.CachingIdempotencyKeyRepository;
+import com.pichincha.accounts.infrastructure.adapter.cache.CaffeineReportCache;
+import com.pichincha.accounts.infrastructure.adapter.persistence.AccountPersistenceAdapter;
+import com.pichincha.accounts.infrastructure.adapter.persistence.ClientPersistenceAdapter;
+import com.pichincha.accounts.infrastructure.adapter.persistence.IdempotencyKeyPersistenceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Decora los puertos de cuentas, clientes y claves de idempotencia con caches Caffeine (desalojo W-TinyLFU por tamaño).
+ * El TTL acota cuánto puede durar un dato modificado por otra instancia del servicio.
+ * Los estados de cuenta generados se guardan en una cache aparte, acotada por bytes.
+ * Aciertos y fallos se publican en {@code /actuator/metrics/cache.gets}.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Value("${accounts.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${accounts.cache.ttl:PT10M}")
+    private Duration ttl;
+
+    @Bean
+    @Primary
+    public AccountRepository cachingAccountRepository(AccountPersistenceAdapter delegate, MeterRegistry meterRegistry) {
+        return new CachingAccountRepository(delegate,
+                cache("accounts.byId", meterRegistry),
+                cache("accounts.byNumber", meterRegistry));
+    }
+
+    @Bean
+    @Primary
+    public ClientRepository cachingClientRepository(ClientPersistenceAdapter delegate, MeterRegistry meterRegistry) {
+        return new CachingClientRepository(delegate,
+                cache("clients.byId", meterRegistry),
+                cache("clients.byClientId", meterRegistry));
+    }
+
+    @Bean
+    @Primary
+    public IdempotencyKeyRepository cachingIdempotencyKeyRepository(
+            IdempotencyKeyPersistenceAdapter delegate,
+            MeterRegistry meterRegistry,
+            @Value("${accounts.movements.idempotency.index-size:100000}") long indexSize,
+            @Value("${accounts.movements.idempotency.retention:P1D}") Duration retention) {
+        // El índice no puede sobrevivir a la fila que la purga elimina
+        Cache<String, UUID> index = Caffeine.newBuilder()
+                .maximumSize(indexSize)
+                .expireAfterWrite(retention)
+                .recordStats()
+                .build();
+        return new CachingIdempotencyKeyRepository(delegate,
+                CaffeineCacheMetrics.monitor(meterRegistry, index, "movements.idempotency"));
+    }
+
+    @Bean
+    public ReportCache reportCache(MeterRegistry meterRegistry,
+                                   @Value("${accounts.reports.cache.max-size:64MB}") DataSize maxSize,
+                                   @Value("${accounts.reports.cache.ttl:PT10M}") Duration reportTtl) {
+        if (maxSize.toBytes() <= 0) {
+            return ReportCache.DISABLED;
+        }
+        CaffeineReportCache reportCache = new CaffeineReportCache(maxSize.toBytes(), reportTtl);
+        CaffeineCacheMetrics.monitor(meterRegistry, reportCache.entries(), "reports");
+        return reportCache;
+    }
+
+    private <K, V> AsyncCache<K, V> cache(String name, MeterRegistry meterRegistry) {
+        // Cache asíncrona solo para publicar cargas pendientes sin bloquear (ver CacheLoads); se carga en el hilo que llama
+        AsyncCache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
@@ -0,0 +1,67 @@
+package com.pichincha.accounts.infrastructure.config;
+
+import com.pichincha.accounts.application.service.CoalescingMovementService;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * Compara al arrancar el tamaño del pool de conexiones con la concurrencia de los trabajadores.
+ * Con hilos de plataforma cada hilo de Tomcat y cada trabajador de reportes puede retener una
+ * conexión; si el pool es menor, las peticiones hacen cola en Hikari y no en Tomcat. Las lecturas
+ * paralelas de reportes suman su cupo de conexiones cuando están activas, y cada cuenta de alta
+ * frecuencia suma su escritor, que retiene una conexión durante cada lote.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolValidator {
+
+    static final int DEFAULT_TOMCAT_THREADS = 200;
+    static final int DEFAULT_REPORT_JOB_THREADS = 2;
+    static final int DEFAULT_PARALLEL_REPORT_CONNECTIONS = 4;
+
+    private final DataSource dataSource;
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        check().ifPresent(log::warn);
+    }
+
+    Optional<String> check() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return Optional.empty();
+        }
+        int poolSize = hikari.getMaximumPoolSize();
+        int reportJobThreads = environment.getProperty("accounts.reports.jobs.threads", Integer.class, DEFAULT_REPORT_JOB_THREADS);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // Sin límite de hilos por petición: el pool es el que acota la concurrencia contra la base de datos
+            log.info("Hilos virtuales activos: el pool de {} conexiones limita la concurrencia hacia la base de datos", poolSize);
+            return Optional.empty();
+        }
+        int workers = environment.getProperty("server.tomcat.threads.max", Integer.class, DEFAULT_TOMCAT_THREADS)
+                + reportJobThreads;
+        if (environment.getProperty("accounts.reports.parallel.enabled", Boolean.class, false)) {
+            workers += environment.getProperty("accounts.reports.parallel.max-connections", Integer.class,
+                    DEFAULT_PARALLEL_REPORT_CONNECTIONS);
+        }
+        workers += CoalescingMovementService.parseAccounts(
+                environment.getProperty("accounts.movements.coalescing.accounts", "")).size();
+        if (poolSize >= workers) {
+            return Optional.empty();
+        }
+        return Optional.of(String.format(
+                "El pool de conexiones (%d) es menor que la concurrencia de trabajadores (%d): "
+                        + "ajuste spring.datasource.hikari.maximum-pool-size o server.tomcat.threads.max",
+                poolSize, workers));
+    }
+}
@@ -5,13 +5,17 @@ import com.pichincha.accounts.domain.exception.AccountNotFoundException;
 import com.pichincha.accounts.domain.exception.ClientNotFoundException;
 import com.pichincha.accounts.domain.exception.InsufficientFundsException;
 import com.pichincha.accounts.domain.exception.InvalidMovementException;
+import com.pichincha.accounts.domain.exception.ReportJobNotFoundException;
+import com.pichincha.accounts.domain.exception.ReportJobRejectedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -86,6 +90,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(ReportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleReportJobNotFoundException(ReportJobNotFoundException e) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Trabajo de reporte no encontrado")
+                .message(e.getMessage())
+                .path("/api/reportes/trabajos")
+                .build();
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(ReportJobRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleReportJobRejectedException(ReportJobRejectedException e) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Cola de reportes llena")
+                .message(e.getMessage())
+                .path("/api/reportes/trabajos")
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException e) {
         
@@ -107,6 +137,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Validación de los elementos de un lote: la clave lleva el índice del elemento, p. ej. {@code [3].valor}.
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleMethodValidationExceptions(HandlerMethodValidationException e) {
+
+        Map<String, String> validationErrors = new HashMap<>();
+        e.getParameterValidationResults().forEach(result -> {
+            String prefix = result.getContainerIndex() == null
+                    ? result.getMethodParameter().getParameterName()
+                    : "[" + result.getContainerIndex() + "]";
+            if (result instanceof ParameterErrors errors) {
+                errors.getFieldErrors().forEach(error ->
+                        validationErrors.put(prefix + "." + error.getField(), error.getDefaultMessage()));
+            } else {
+                result.getResolvableErrors().forEach(error -> validationErrors.put(prefix, error.getDefaultMessage()));
+            }
+        });
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Errores de validación")
+                .message("Datos de entrada inválidos")
+                .validationErrors(validationErrors)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e) {
 
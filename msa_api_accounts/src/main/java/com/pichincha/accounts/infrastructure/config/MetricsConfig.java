@@ -0,0 +1,52 @@
+package com.pichincha.accounts.infrastructure.config;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.infrastructure.adapter.metrics.MicrometerBusinessMetrics;
+import com.pichincha.accounts.infrastructure.adapter.metrics.SqlStatementCountInterceptor;
+import com.pichincha.accounts.infrastructure.adapter.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Métricas de negocio y sentencias SQL por solicitud, publicadas en {@code /actuator/prometheus}.
+ * Con {@code accounts.metrics.enabled=false} los servicios reciben {@link BusinessMetrics#NOOP} y no
+ * se registra el conteo de sentencias.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public BusinessMetrics businessMetrics(MeterRegistry meterRegistry,
+                                           @Value("${accounts.metrics.enabled:true}") boolean enabled) {
+        return enabled ? new MicrometerBusinessMetrics(meterRegistry) : BusinessMetrics.NOOP;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "accounts.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    static class SqlStatementMetricsConfig implements WebMvcConfigurer {
+
+        private final SqlStatementCounter counter = new SqlStatementCounter();
+        private final MeterRegistry meterRegistry;
+
+        SqlStatementMetricsConfig(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Bean
+        public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new SqlStatementCountInterceptor(counter, meterRegistry));
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.pichincha.accounts.infrastructure.mapper;
 
 import com.pichincha.accounts.domain.Account;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.CuentaListaDto;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaUpdateDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Mapper(componentModel = "spring")
 public interface AccountDtoMapper {
@@ -19,6 +22,7 @@ public interface AccountDtoMapper {
     @Mapping(source = "saldoInicial", target = "currentBalance")
     @Mapping(source = "estado", target = "state")
     @Mapping(target = "client", ignore = true)
+    @Mapping(target = "ledgerVersion", ignore = true)
     Account toEntity(CuentaCreateDto dto);
     
     @Mapping(source = "clienteId", target = "clientId")
@@ -28,6 +32,7 @@ public interface AccountDtoMapper {
     @Mapping(source = "saldoActual", target = "currentBalance")
     @Mapping(source = "estado", target = "state")
     @Mapping(target = "client", ignore = true)
+    @Mapping(target = "ledgerVersion", ignore = true)
     Account toEntity(CuentaDto dto);
     
     @Mapping(target = "numeroCuenta", expression = "java(entity.getAccountNumber() != null ? Long.valueOf(entity.getAccountNumber()) : null)")
@@ -47,6 +52,21 @@ public interface AccountDtoMapper {
     @Mapping(target = "initialBalance", ignore = true)
     @Mapping(source = "estado", target = "state")
     @Mapping(target = "client", ignore = true)
+    @Mapping(target = "ledgerVersion", ignore = true)
     @Mapping(target = "currentBalance", ignore = true)
     void updateEntity(@MappingTarget Account entity, CuentaUpdateDto dto);
+
+    default CuentaListaDto toListDto(Slice<Account> slice) {
+        if (slice == null) return null;
+        CuentaListaDto dto = new CuentaListaDto(
+                slice.getContent().stream().map(this::toDto).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext());
+        if (slice instanceof Page<Account> page) {
+            dto.setTotalElementos(page.getTotalElements());
+            dto.setTotalPaginas(page.getTotalPages());
+        }
+        return dto;
+    }
 }
\ No newline at end of file
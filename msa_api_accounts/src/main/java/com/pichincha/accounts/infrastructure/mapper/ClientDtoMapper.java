@@ -2,6 +2,7 @@ package com.pichincha.accounts.infrastructure.mapper;
 
 import com.pichincha.accounts.domain.Client;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteDto;
+import com.pichincha.infrastructure.adapter.rest.dto.ClienteListaDto;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteUpdateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.PersonaCreateDto;
@@ -9,6 +10,8 @@ import com.pichincha.infrastructure.adapter.rest.dto.PersonaDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Mapper(componentModel = "spring")
 public interface ClientDtoMapper {
@@ -67,4 +70,18 @@ public interface ClientDtoMapper {
         persona.setDireccion(entity.getAddress());
         return persona;
     }
+
+    default ClienteListaDto toListDto(Slice<Client> slice) {
+        if (slice == null) return null;
+        ClienteListaDto dto = new ClienteListaDto(
+                slice.getContent().stream().map(this::toDto).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext());
+        if (slice instanceof Page<Client> page) {
+            dto.setTotalElementos(page.getTotalElements());
+            dto.setTotalPaginas(page.getTotalPages());
+        }
+        return dto;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.pichincha.accounts.infrastructure.mapper;
+
+import com.pichincha.accounts.domain.DailyBalance;
+import com.pichincha.accounts.infrastructure.adapter.persistence.entity.DailyBalanceEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface DailyBalanceEntityMapper {
+
+    DailyBalance toDomain(DailyBalanceEntity entity);
+}
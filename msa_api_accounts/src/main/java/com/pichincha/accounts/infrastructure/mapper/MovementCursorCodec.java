@@ -0,0 +1,39 @@
+package com.pichincha.accounts.infrastructure.mapper;
+
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.exception.InvalidMovementException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Convierte un {@link MovementCursor} en un token opaco para el cliente y viceversa.
+ */
+public final class MovementCursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private MovementCursorCodec() {
+    }
+
+    public static String encode(MovementCursor cursor) {
+        if (cursor == null) return null;
+        String raw = cursor.getDate().toString() + SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MovementCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new MovementCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidMovementException("Cursor de paginación inválido", e);
+        }
+    }
+}
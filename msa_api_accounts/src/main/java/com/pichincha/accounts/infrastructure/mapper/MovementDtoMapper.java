@@ -1,17 +1,29 @@
 package com.pichincha.accounts.infrastructure.mapper;
 
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementResult;
+import com.pichincha.accounts.domain.Transfer;
+import com.pichincha.accounts.domain.TransferResult;
 import com.pichincha.accounts.domain.enums.MovementType;
 import com.pichincha.infrastructure.adapter.rest.dto.MovimientoCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoListaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoLoteResultadoDto;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaCreateDto;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaLoteResultadoDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface MovementDtoMapper {
@@ -39,6 +51,59 @@ public interface MovementDtoMapper {
         return dto;
     }
 
+    default MovimientoLoteResultadoDto toResultDto(MovementResult result) {
+        if (result == null) return null;
+        MovimientoLoteResultadoDto dto = new MovimientoLoteResultadoDto(result.getIndex(), result.isSuccess());
+        dto.setMovimiento(toDto(result.getMovement()));
+        dto.setError(result.getError());
+        return dto;
+    }
+
+    default Transfer toDomain(TransferenciaCreateDto dto) {
+        if (dto == null) return null;
+        return Transfer.builder()
+                .sourceAccountId(dto.getCuentaOrigenId())
+                .targetAccountId(dto.getCuentaDestinoId())
+                .value(dto.getValor())
+                .build();
+    }
+
+    default TransferenciaDto toTransferDto(TransferResult result) {
+        if (result == null) return null;
+        return new TransferenciaDto(toDto(result.getDebit()), toDto(result.getCredit()));
+    }
+
+    default TransferenciaLoteResultadoDto toTransferResultDto(TransferResult result) {
+        if (result == null) return null;
+        TransferenciaLoteResultadoDto dto = new TransferenciaLoteResultadoDto(result.getIndex(), result.isSuccess());
+        dto.setDebito(toDto(result.getDebit()));
+        dto.setCredito(toDto(result.getCredit()));
+        dto.setError(result.getError());
+        return dto;
+    }
+
+    default MovimientoListaDto toListDto(Slice<Movement> slice) {
+        if (slice == null) return null;
+        MovimientoListaDto dto = new MovimientoListaDto(
+                slice.getContent().stream().map(this::toDto).toList(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.hasNext());
+        if (slice instanceof Page<Movement> page) {
+            dto.setTotalElementos(page.getTotalElements());
+            dto.setTotalPaginas(page.getTotalPages());
+        }
+        return dto;
+    }
+
+    default Set<MovementType> toMovementTypes(MovimientoDto.TipoEnum tipo) {
+        if (tipo == null) return null;
+        return switch (tipo) {
+            case DEBITO -> EnumSet.of(MovementType.RETIRO, MovementType.TRANSFERENCIA_OUT);
+            case CREDITO -> EnumSet.of(MovementType.DEPOSITO, MovementType.TRANSFERENCIA_IN);
+        };
+    }
+
     private static MovimientoCreateDto.TipoEnum mapDomainToTipoEnum(MovementType type) {
         if (type == null) return null;
         return switch (type) {
@@ -3,12 +3,15 @@ package com.pichincha.accounts.infrastructure.mapper;
 import com.pichincha.accounts.domain.Account;
 import com.pichincha.accounts.domain.Movement;
 import com.pichincha.accounts.domain.Report;
+import com.pichincha.accounts.domain.ReportJob;
 import com.pichincha.infrastructure.adapter.rest.dto.AccountSummaryDto;
 import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
 import com.pichincha.infrastructure.adapter.rest.dto.ReportDto;
+import com.pichincha.infrastructure.adapter.rest.dto.ReporteTrabajoDto;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
@@ -24,7 +27,7 @@ public class ReportDtoMapper {
                 report.getStartDate(),
                 report.getEndDate(),
                 report.getAccountStatements().stream()
-                        .map(as -> toAccountSummaryDto(as.getAccount(), as.getMovements(), as.getAccountTotalDebits(), as.getAccountTotalCredits()))
+                        .map(this::toAccountSummaryDto)
                         .collect(Collectors.toList()),
                 report.getTotalDebits(),
                 report.getTotalCredits()
@@ -32,6 +35,35 @@ public class ReportDtoMapper {
         return dto;
     }
 
+    public ReporteTrabajoDto toDto(ReportJob job) {
+        ReporteTrabajoDto dto = new ReporteTrabajoDto(
+                job.getId(),
+                job.getClientId(),
+                job.getStartDate(),
+                job.getEndDate(),
+                ReporteTrabajoDto.PrioridadEnum.valueOf(job.getPriority().name()),
+                ReporteTrabajoDto.EstadoEnum.valueOf(job.getStatus().name()),
+                toOffset(job.getCreatedAt())
+        );
+        dto.setFinalizadoEn(toOffset(job.getCompletedAt()));
+        dto.setExpiraEn(toOffset(job.getExpiresAt()));
+        dto.setTamanioBytes(job.getSize());
+        dto.setError(job.getError());
+        return dto;
+    }
+
+    private OffsetDateTime toOffset(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atOffset(ZoneOffset.UTC) : null;
+    }
+
+    private AccountSummaryDto toAccountSummaryDto(Report.AccountStatement statement) {
+        AccountSummaryDto summary = toAccountSummaryDto(statement.getAccount(), statement.getMovements(),
+                statement.getAccountTotalDebits(), statement.getAccountTotalCredits());
+        summary.setSaldoInicioPeriodo(statement.getOpeningBalance());
+        summary.setSaldoFinPeriodo(statement.getClosingBalance());
+        return summary;
+    }
+
     private AccountSummaryDto toAccountSummaryDto(Account account, List<Movement> movements, BigDecimal debitos, BigDecimal creditos) {
         AccountSummaryDto summary = new AccountSummaryDto(
                 account.getAccountNumber() != null ? Long.valueOf(account.getAccountNumber()) : null,
@@ -0,0 +1,62 @@
+package com.pichincha.accounts.util;
+
+/**
+ * Permutación biyectiva y con clave sobre {@code [0, size)}: una red Feistel de cuatro rondas
+ * sobre la potencia de dos inmediata, con cycle-walking para volver al rango. Valores consecutivos
+ * de entrada producen salidas sin orden aparente, pero dos entradas distintas nunca colisionan.
+ */
+public final class FeistelPermutation {
+
+    private static final int ROUNDS = 4;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long key;
+
+    public FeistelPermutation(long size, long key) {
+        if (size < 2) {
+            throw new IllegalArgumentException("El dominio de la permutación debe tener al menos 2 valores");
+        }
+        int bits = 64 - Long.numberOfLeadingZeros(size - 1);
+        this.size = size;
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        this.key = key;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long permute(long value) {
+        if (value < 0 || value >= size) {
+            throw new IllegalArgumentException("Valor fuera del dominio de la permutación: " + value);
+        }
+        long result = encrypt(value);
+        // El dominio binario es a lo sumo 4 veces el real, así que en promedio basta con pocas vueltas
+        while (result >= size) {
+            result = encrypt(result);
+        }
+        return result;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ (mix(right, round) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private long mix(long value, int round) {
+        // Finalizador de SplitMix64
+        long z = value + key + (round + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,36 @@
+package com.pichincha.accounts.util;
+
+/**
+ * Dígito verificador Luhn (módulo 10): detecta cualquier error en un solo dígito y casi todas
+ * las transposiciones de dígitos adyacentes al digitar un número.
+ */
+public final class LuhnCheckDigit {
+
+    private LuhnCheckDigit() {
+    }
+
+    public static int compute(long body) {
+        int sum = 0;
+        boolean doubled = true;
+        for (long rest = body; rest > 0; rest /= 10) {
+            int digit = (int) (rest % 10);
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    public static boolean isValid(String number) {
+        if (number == null || number.length() < 2 || number.length() > 18 || !number.chars().allMatch(Character::isDigit)) {
+            return false;
+        }
+        long value = Long.parseLong(number);
+        return compute(value / 10) == value % 10;
+    }
+}
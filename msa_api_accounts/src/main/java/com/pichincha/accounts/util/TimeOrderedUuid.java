@@ -0,0 +1,45 @@
+package com.pichincha.accounts.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUID versión 7 (RFC 9562): 48 bits de milisegundos Unix, 12 bits de contador y 62 bits aleatorios.
+ * Los valores crecen con el tiempo, así los INSERT caen al final del índice de la clave primaria en
+ * lugar de repartirse por todo el B-tree. Dentro de una instancia son estrictamente crecientes: si en
+ * un milisegundo se agota el contador se toma prestado el siguiente.
+ * La parte aleatoria no es criptográfica; los identificadores no son secretos.
+ */
+public final class TimeOrderedUuid {
+
+    private static final TimeOrderedUuid INSTANCE = new TimeOrderedUuid(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    // Milisegundos << 12 | contador del último UUID emitido
+    private final AtomicLong last = new AtomicLong();
+
+    TimeOrderedUuid(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static UUID generate() {
+        return INSTANCE.next();
+    }
+
+    UUID next() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long stamp = last.accumulateAndGet(now, (previous, current) -> Math.max(previous + 1, current));
+        long millis = stamp >>> COUNTER_BITS;
+        long counter = stamp & ((1L << COUNTER_BITS) - 1);
+        long mostSignificant = (millis << 16) | VERSION | counter;
+        long leastSignificant = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
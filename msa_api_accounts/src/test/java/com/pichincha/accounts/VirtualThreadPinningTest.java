@@ -0,0 +1,46 @@
+package com.pichincha.accounts;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * En Java 21 un bloque {@code synchronized} que espera E/S (JDBC, disco) fija el hilo virtual a su
+ * portador; con {@code spring.threads.virtual.enabled} eso agota los portadores. Se exige usar locks
+ * de {@code java.util.concurrent} en el código propio. Es solo una revisión del código fuente: no cubre
+ * las dependencias ni reemplaza ejecutar con {@code -Djdk.tracePinnedThreads} en Java 21.
+ */
+class VirtualThreadPinningTest {
+
+    private static final Pattern SYNCHRONIZED = Pattern.compile("^(?!\\s*(//|\\*|/\\*)).*\\bsynchronized\\b");
+
+    @Test
+    void shouldNotUseSynchronizedInMainSources() throws IOException {
+        List<String> offenders;
+        try (Stream<Path> files = Files.walk(Path.of("src/main/java"))) {
+            offenders = files.filter(file -> file.toString().endsWith(".java"))
+                    .flatMap(VirtualThreadPinningTest::synchronizedLines)
+                    .toList();
+        }
+
+        assertThat(offenders).isEmpty();
+    }
+
+    private static Stream<String> synchronizedLines(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file);
+            return lines.stream()
+                    .filter(line -> SYNCHRONIZED.matcher(line).find())
+                    .map(line -> file + ": " + line.trim());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
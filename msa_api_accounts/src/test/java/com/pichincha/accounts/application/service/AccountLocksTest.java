@@ -0,0 +1,79 @@
+package com.pichincha.accounts.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountLocksTest {
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldRoundStripeCountUpToPowerOfTwo() {
+        assertThat(new AccountLocks(1000).stripeCount()).isEqualTo(1024);
+        assertThat(new AccountLocks(1).stripeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRegisterAnythingOutsideTransaction() {
+        AccountLocks locks = new AccountLocks(16);
+        locks.lockUntilCompletion(UUID.randomUUID());
+        assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+    }
+
+    @Test
+    void shouldRegisterOneReleasePerDistinctStripe() {
+        AccountLocks locks = new AccountLocks(16);
+        UUID accountId = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        locks.lockUntilCompletion(accountId, accountId);
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    }
+
+    @Test
+    void shouldHoldLockUntilTransactionCompletes() throws Exception {
+        AccountLocks locks = new AccountLocks(16);
+        UUID accountId = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        locks.lockUntilCompletion(accountId);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            started.countDown();
+            locks.lockUntilCompletion(accountId);
+            acquired.set(true);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        });
+
+        started.await(1, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        assertThat(acquired).isFalse();
+
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        other.get(1, TimeUnit.SECONDS);
+        assertThat(acquired).isTrue();
+    }
+}
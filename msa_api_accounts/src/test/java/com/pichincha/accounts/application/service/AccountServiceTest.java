@@ -2,7 +2,9 @@ package com.pichincha.accounts.application.service;
 
 import com.pichincha.accounts.application.port.output.AccountRepository;
 import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
 import com.pichincha.accounts.domain.Client;
 import com.pichincha.accounts.domain.enums.AccountType;
 import com.pichincha.accounts.domain.exception.AccountNotFoundException;
@@ -13,6 +15,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -31,6 +39,12 @@ class AccountServiceTest {
     private AccountRepository accountRepository;
     @Mock
     private ClientRepository clientRepository;
+    @Mock
+    private NumberAllocator numberAllocator;
+    @Mock
+    private AccountLocks accountLocks;
+    @Mock
+    private ReportCache reportCache;
 
     @InjectMocks
     private AccountService accountService;
@@ -59,7 +73,7 @@ class AccountServiceTest {
                 .build();
 
         when(clientRepository.findById(clientId)).thenReturn(Optional.of(activeClient()));
-        when(accountRepository.existsByAccountNumber(any())).thenReturn(false);
+        when(numberAllocator.nextAccountNumber()).thenReturn("4787580123");
         when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> {
             Account a = invocation.getArgument(0);
             a.setId(UUID.randomUUID());
@@ -69,11 +83,12 @@ class AccountServiceTest {
         Account saved = accountService.createAccount(toCreate);
 
         assertThat(saved.getId()).isNotNull();
-        assertThat(saved.getAccountNumber()).isNotBlank();
+        assertThat(saved.getAccountNumber()).isEqualTo("4787580123");
         assertThat(saved.getCurrentBalance()).isEqualByComparingTo("100.00");
         assertThat(saved.getState()).isTrue();
 
         verify(accountRepository).save(any(Account.class));
+        verify(accountRepository, never()).existsByAccountNumber(any());
     }
 
     @Test
@@ -119,7 +134,7 @@ class AccountServiceTest {
         .build();
 
     when(clientRepository.findById(clientId)).thenReturn(Optional.of(activeClient()));
-    when(accountRepository.existsByAccountNumber(any())).thenReturn(false);
+    when(numberAllocator.nextAccountNumber()).thenReturn("4787580123");
     when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     Account saved = accountService.createAccount(toCreate);
@@ -135,7 +150,7 @@ class AccountServiceTest {
                 .currentBalance(new BigDecimal("5.00"))
                 .build();
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(existing));
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(existing));
 
         assertThatThrownBy(() -> accountService.deleteAccount(accountId))
                 .isInstanceOf(RuntimeException.class)
@@ -151,7 +166,7 @@ class AccountServiceTest {
                 .currentBalance(BigDecimal.ZERO)
                 .build();
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(existing));
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(existing));
 
         accountService.deleteAccount(accountId);
 
@@ -161,7 +176,7 @@ class AccountServiceTest {
     @Test
     void shouldThrowAccountNotFoundWhenDeleteAccountDoesNotExist() {
         UUID id = UUID.randomUUID();
-        when(accountRepository.findById(id)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> accountService.deleteAccount(id))
                 .isInstanceOf(AccountNotFoundException.class)
@@ -173,11 +188,12 @@ class AccountServiceTest {
         UUID accountId = UUID.randomUUID();
         Account existing = Account.builder()
                 .id(accountId)
+                .clientId(clientId)
                 .type(AccountType.AHORROS)
                 .state(true)
                 .build();
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(existing));
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(existing));
         when(accountRepository.save(any(Account.class))).thenAnswer(i -> i.getArgument(0));
 
         Account request = Account.builder()
@@ -190,12 +206,13 @@ class AccountServiceTest {
         assertThat(updated.getType()).isEqualTo(AccountType.CORRIENTE);
         assertThat(updated.getState()).isFalse();
         verify(accountRepository).save(any(Account.class));
+        verify(reportCache).evictClient(clientId);
     }
 
     @Test
     void shouldThrowAccountNotFoundWhenAccountDoesNotExistOnUpdate() {
         UUID id = UUID.randomUUID();
-        when(accountRepository.findById(id)).thenReturn(Optional.empty());
+        when(accountRepository.findByIdForUpdate(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> accountService.updateAccount(id, new Account()))
                 .isInstanceOf(AccountNotFoundException.class)
@@ -203,10 +220,20 @@ class AccountServiceTest {
     }
 
     @Test
-    void shouldDelegateFindAllWhenInvoked() {
-        when(accountRepository.findAll()).thenReturn(List.of());
-        assertThat(accountService.findAll()).isEmpty();
-        verify(accountRepository).findAll();
+    void shouldDelegatePagedFindAllWhenInvoked() {
+        AccountFilter filter = AccountFilter.builder().state(true).build();
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<Account> page = Page.empty(pageable);
+        when(accountRepository.findAll(filter, pageable)).thenReturn(page);
+        assertThat(accountService.findAll(filter, pageable)).isSameAs(page);
+    }
+
+    @Test
+    void shouldCapPageSizeWhenFindSliceInvoked() {
+        AccountFilter filter = new AccountFilter();
+        Slice<Account> slice = new SliceImpl<>(List.of());
+        when(accountRepository.findSlice(filter, PageRequest.of(3, 500, Sort.by("accountNumber")))).thenReturn(slice);
+        assertThat(accountService.findSlice(filter, PageRequest.of(3, 10_000, Sort.by("accountNumber")))).isSameAs(slice);
     }
 
     @Test
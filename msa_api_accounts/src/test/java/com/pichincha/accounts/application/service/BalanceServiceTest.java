@@ -0,0 +1,169 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.DailyBalance;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.domain.exception.AccountNotFoundException;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryIdempotencyKeyRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.pichincha.accounts.support.TestTransactions.inTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BalanceServiceTest {
+
+    private InMemoryAccountRepository accountRepository;
+    private InMemoryMovementRepository movementRepository;
+    private InMemoryDailyBalanceRepository dailyBalanceRepository;
+    private MovementService movementService;
+    private BalanceService balanceService;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new InMemoryAccountRepository();
+        movementRepository = spy(new InMemoryMovementRepository());
+        dailyBalanceRepository = new InMemoryDailyBalanceRepository(movementRepository);
+        AccountLocks accountLocks = new AccountLocks(16);
+        movementService = new MovementService(movementRepository, accountRepository, accountLocks, dailyBalanceRepository,
+                new InMemoryIdempotencyKeyRepository(), BusinessMetrics.NOOP, ReportCache.DISABLED,
+                MovementBatchTransactions.direct(1000));
+        balanceService = new BalanceService(accountRepository, movementRepository, dailyBalanceRepository, accountLocks);
+        account = accountRepository.save(Account.builder()
+                .clientId(UUID.randomUUID())
+                .accountNumber("478758")
+                .type(AccountType.AHORROS)
+                .initialBalance(new BigDecimal("100.00"))
+                .currentBalance(new BigDecimal("100.00"))
+                .state(true)
+                .build());
+    }
+
+    @Test
+    void shouldKeepClosingBalancePerDayAsMovementsAreRecorded() {
+        deposit("50.00", LocalDateTime.of(2024, 1, 10, 9, 0));
+        withdraw("20.00", LocalDateTime.of(2024, 1, 10, 15, 0));
+        deposit("5.00", LocalDateTime.of(2024, 1, 12, 8, 0));
+
+        assertThat(closingOn(LocalDate.of(2024, 1, 10))).isEqualByComparingTo("130.00");
+        assertThat(closingOn(LocalDate.of(2024, 1, 11))).isEqualByComparingTo("130.00");
+        assertThat(closingOn(LocalDate.of(2024, 1, 12))).isEqualByComparingTo("135.00");
+        assertThat(dailyBalanceRepository.findLatestOnOrBefore(List.of(account.getId()), LocalDate.of(2024, 1, 10)))
+                .singleElement()
+                .satisfies(day -> {
+                    assertThat(day.getCredits()).isEqualByComparingTo("50.00");
+                    assertThat(day.getDebits()).isEqualByComparingTo("20.00");
+                    assertThat(day.getMovementCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void shouldShiftLaterDaysWhenMovementIsBackdated() {
+        deposit("50.00", LocalDateTime.of(2024, 1, 10, 9, 0));
+        deposit("10.00", LocalDateTime.of(2024, 1, 5, 9, 0));
+
+        assertThat(closingOn(LocalDate.of(2024, 1, 5))).isEqualByComparingTo("110.00");
+        assertThat(closingOn(LocalDate.of(2024, 1, 10))).isEqualByComparingTo("160.00");
+    }
+
+    @Test
+    void shouldComputeBalanceAsOfFromPreviousCloseAndSameDayMovements() {
+        deposit("50.00", LocalDateTime.of(2024, 1, 10, 9, 0));
+        withdraw("20.00", LocalDateTime.of(2024, 1, 12, 9, 0));
+        deposit("7.00", LocalDateTime.of(2024, 1, 12, 18, 0));
+
+        assertThat(balanceService.getBalanceAsOf(account.getId(), LocalDateTime.of(2024, 1, 1, 0, 0))).isEqualByComparingTo("100.00");
+        assertThat(balanceService.getBalanceAsOf(account.getId(), LocalDateTime.of(2024, 1, 11, 12, 0))).isEqualByComparingTo("150.00");
+        assertThat(balanceService.getBalanceAsOf(account.getId(), LocalDateTime.of(2024, 1, 12, 12, 0))).isEqualByComparingTo("130.00");
+        assertThat(balanceService.getBalanceAsOf(account.getId(), LocalDateTime.of(2024, 1, 12, 23, 0))).isEqualByComparingTo("137.00");
+        // Solo se leen los movimientos del día consultado, nunca el historial completo
+        ArgumentCaptor<LocalDate> from = ArgumentCaptor.forClass(LocalDate.class);
+        ArgumentCaptor<LocalDate> to = ArgumentCaptor.forClass(LocalDate.class);
+        verify(movementRepository, times(4)).findByAccountIdAndDateRange(eq(account.getId()), from.capture(), to.capture());
+        assertThat(from.getAllValues()).isEqualTo(to.getAllValues());
+    }
+
+    @Test
+    void shouldSumMovementHistoryWhenAccountHasNoDailySnapshots() {
+        // Movimientos anteriores al backfill: existen en la tabla pero no en saldo_diario
+        movementRepository.save(Movement.builder()
+                .accountId(account.getId())
+                .movementType(MovementType.DEPOSITO)
+                .value(new BigDecimal("40.00"))
+                .date(LocalDateTime.of(2024, 1, 3, 9, 0))
+                .build());
+
+        assertThat(balanceService.getBalanceAsOf(account.getId(), LocalDateTime.of(2024, 1, 20, 12, 0))).isEqualByComparingTo("140.00");
+        verify(movementRepository).sumByAccountIdsAndDateRange(List.of(account.getId()), DailyBalances.HISTORY_START, LocalDate.of(2024, 1, 19));
+    }
+
+    @Test
+    void shouldRebuildSameSnapshotsFromMovementHistory() {
+        deposit("50.00", LocalDateTime.of(2024, 1, 10, 9, 0));
+        withdraw("20.00", LocalDateTime.of(2024, 1, 11, 9, 0));
+        deposit("10.00", LocalDateTime.of(2024, 1, 5, 9, 0));
+        List<DailyBalance> incremental = snapshots();
+
+        inTransaction(() -> {
+            balanceService.rebuildDailyBalances(account.getId());
+            return null;
+        });
+
+        assertThat(snapshots()).usingRecursiveFieldByFieldElementComparator().isEqualTo(incremental);
+    }
+
+    @Test
+    void shouldRejectUnknownAccount() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThatThrownBy(() -> balanceService.getBalanceAsOf(unknown, LocalDateTime.now()))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    private void deposit(String value, LocalDateTime date) {
+        record(MovementType.DEPOSITO, value, date);
+    }
+
+    private void withdraw(String value, LocalDateTime date) {
+        record(MovementType.RETIRO, value, date);
+    }
+
+    private void record(MovementType type, String value, LocalDateTime date) {
+        inTransaction(() -> movementService.createMovement(Movement.builder()
+                .accountId(account.getId())
+                .movementType(type)
+                .value(new BigDecimal(value))
+                .date(date)
+                .build()));
+    }
+
+    private BigDecimal closingOn(LocalDate date) {
+        return dailyBalanceRepository.findLatestOnOrBefore(List.of(account.getId()), date).get(0).getClosingBalance();
+    }
+
+    private List<DailyBalance> snapshots() {
+        return List.of(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11)).stream()
+                .map(date -> dailyBalanceRepository.findLatestOnOrBefore(List.of(account.getId()), date).get(0))
+                .toList();
+    }
+}
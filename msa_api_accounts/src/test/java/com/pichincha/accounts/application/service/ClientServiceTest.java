@@ -1,7 +1,9 @@
 package com.pichincha.accounts.application.service;
 
 import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
 import com.pichincha.accounts.domain.enums.Gender;
 import com.pichincha.accounts.domain.exception.ClientNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +32,10 @@ class ClientServiceTest {
 
 	@Mock
 	private ClientRepository clientRepository;
+	@Mock
+	private NumberAllocator numberAllocator;
+	@Mock
+	private ReportCache reportCache;
 
 	@InjectMocks
 	private ClientService clientService;
@@ -51,8 +62,7 @@ class ClientServiceTest {
 		toCreate.setClientId(null); // fuerza generación
 
 		when(clientRepository.existsByIdentification("0102030405")).thenReturn(false);
-		// Lazo de generación de clientId: simular no existe
-		when(clientRepository.existsByClientId(any())).thenReturn(false);
+		when(numberAllocator.nextClientId()).thenReturn("1000000009");
 		when(clientRepository.save(any(Client.class))).thenAnswer(i -> {
 			Client saved = i.getArgument(0);
 			saved.setId(UUID.randomUUID());
@@ -62,9 +72,10 @@ class ClientServiceTest {
 		Client saved = clientService.createClient(toCreate);
 
 		assertThat(saved.getId()).isNotNull();
-		assertThat(saved.getClientId()).isNotBlank();
+		assertThat(saved.getClientId()).isEqualTo("1000000009");
 		assertThat(saved.getState()).isTrue();
 		verify(clientRepository).save(any(Client.class));
+		verify(clientRepository, never()).existsByClientId(any());
 	}
 
 	@Test
@@ -121,6 +132,7 @@ class ClientServiceTest {
 		assertThat(updated.getPassword()).isEqualTo("secret");
 		assertThat(updated.getState()).isFalse();
 		verify(clientRepository).save(any(Client.class));
+		verify(reportCache).evictClient(id);
 	}
 
 	@Test
@@ -191,10 +203,20 @@ class ClientServiceTest {
 	}
 
 	@Test
-	void shouldDelegateFindAllWhenInvoked() {
-		when(clientRepository.findAll()).thenReturn(List.of());
-		assertThat(clientService.findAll()).isEmpty();
-		verify(clientRepository).findAll();
+	void shouldDelegatePagedFindAllWhenInvoked() {
+		ClientFilter filter = ClientFilter.builder().state(false).build();
+		Pageable pageable = PageRequest.of(1, 20);
+		Page<Client> page = Page.empty(pageable);
+		when(clientRepository.findAll(filter, pageable)).thenReturn(page);
+		assertThat(clientService.findAll(filter, pageable)).isSameAs(page);
+	}
+
+	@Test
+	void shouldBoundUnpagedRequestWhenFindSliceInvoked() {
+		ClientFilter filter = new ClientFilter();
+		Slice<Client> slice = new SliceImpl<>(List.of());
+		when(clientRepository.findSlice(filter, PageRequest.of(0, 500))).thenReturn(slice);
+		assertThat(clientService.findSlice(filter, Pageable.unpaged())).isSameAs(slice);
 	}
 
 	@Test
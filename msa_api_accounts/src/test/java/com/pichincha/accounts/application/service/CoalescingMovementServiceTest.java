@@ -0,0 +1,149 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.domain.exception.InsufficientFundsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingMovementServiceTest {
+
+    private final UUID hotAccount = UUID.randomUUID();
+    private final MovementService movementService = mock(MovementService.class);
+    private final BusinessMetrics businessMetrics = mock(BusinessMetrics.class);
+    private final CoalescingMovementService service = new CoalescingMovementService(movementService, businessMetrics,
+            List.of(hotAccount), 16, 16, Executors.defaultThreadFactory());
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldDelegateMovementsOfOtherAccounts() {
+        Movement movement = movement(UUID.randomUUID(), "5.00");
+        when(movementService.createMovement(movement)).thenReturn(movement);
+
+        assertThat(service.createMovement(movement, null)).isSameAs(movement);
+        verify(movementService, never()).applyQueued(any(), anyList());
+    }
+
+    @Test
+    void shouldDelegateMovementsWithIdempotencyKey() {
+        Movement movement = movement(hotAccount, "5.00");
+        when(movementService.createMovement(movement, "clave-1")).thenReturn(movement);
+
+        assertThat(service.createMovement(movement, "clave-1")).isSameAs(movement);
+        verify(movementService, never()).applyQueued(any(), anyList());
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldApplyMovementsQueuedDuringPreviousCommitAsOneBatch() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        when(movementService.applyQueued(eq(hotAccount), anyList())).thenAnswer(invocation -> {
+            List<Movement> batch = invocation.getArgument(1);
+            batchSizes.add(batch.size());
+            if (batchSizes.size() == 1) {
+                firstBatchStarted.countDown();
+                releaseFirstBatch.await();
+            }
+            return batch.stream().map(m -> new MovementService.QueuedMovement(m, null)).toList();
+        });
+
+        CompletableFuture<Movement> first = CompletableFuture.supplyAsync(() -> service.createMovement(movement(hotAccount, "1.00")));
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Thread> waiting = new ArrayList<>();
+        List<Movement> queued = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Thread caller = new Thread(() -> queued.add(service.createMovement(movement(hotAccount, "2.00"))));
+            caller.start();
+            waiting.add(caller);
+        }
+        while (!waiting.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            Thread.onSpinWait();
+        }
+        releaseFirstBatch.countDown();
+        for (Thread caller : waiting) {
+            caller.join();
+        }
+
+        assertThat(first.get()).isNotNull();
+        assertThat(queued).hasSize(3);
+        assertThat(batchSizes).containsExactly(1, 3);
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldFailOnlyTheRejectedMovement() {
+        InsufficientFundsException rejection = new InsufficientFundsException("Saldo no disponible");
+        when(movementService.applyQueued(eq(hotAccount), anyList()))
+                .thenReturn(List.of(new MovementService.QueuedMovement(null, rejection)));
+
+        assertThatThrownBy(() -> service.createMovement(movement(hotAccount, "5.00"))).isSameAs(rejection);
+        verify(businessMetrics).recordMovementCreation(0L, rejection);
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldFailEveryMovementWhenBatchDoesNotCommit() {
+        IllegalStateException commitFailure = new IllegalStateException("Conexión perdida");
+        when(movementService.applyQueued(eq(hotAccount), anyList())).thenThrow(commitFailure);
+
+        assertThatThrownBy(() -> service.createMovement(movement(hotAccount, "5.00"))).isSameAs(commitFailure);
+        verify(movementService, never()).createMovement(any(Movement.class));
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldRecordSuccessfulCoalescedMovement() {
+        Movement movement = movement(hotAccount, "5.00");
+        when(movementService.applyQueued(eq(hotAccount), anyList()))
+                .thenReturn(List.of(new MovementService.QueuedMovement(movement, null)));
+
+        assertThat(service.createMovement(movement)).isSameAs(movement);
+        verify(businessMetrics).recordMovementCreation(eq(0L), isNull());
+    }
+
+    @Test
+    void shouldParseConfiguredAccounts() {
+        UUID other = UUID.randomUUID();
+
+        assertThat(CoalescingMovementService.parseAccounts(" " + hotAccount + ", ," + other + "," + hotAccount))
+                .containsExactly(hotAccount, other);
+        assertThat(CoalescingMovementService.parseAccounts("")).isEmpty();
+    }
+
+    private static Movement movement(UUID accountId, String value) {
+        return Movement.builder()
+                .accountId(accountId)
+                .movementType(MovementType.DEPOSITO)
+                .value(new BigDecimal(value))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.input.BalanceInputPort;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DailyBalanceBackfillJobTest {
+
+    private final InMemoryAccountRepository accountRepository = new InMemoryAccountRepository();
+    private final BalanceInputPort balanceInputPort = mock(BalanceInputPort.class);
+
+    @Test
+    void shouldRebuildEveryAccountAcrossPages() {
+        for (int i = 0; i < 7; i++) {
+            accountRepository.save(account(String.valueOf(i), i % 2 == 0));
+        }
+
+        int rebuilt = new DailyBalanceBackfillJob(accountRepository, balanceInputPort, false, 3).run();
+
+        assertThat(rebuilt).isEqualTo(7);
+        for (Account account : accountRepository.findAll()) {
+            verify(balanceInputPort).rebuildDailyBalances(account.getId());
+        }
+    }
+
+    @Test
+    void shouldOnlyRunOnStartupWhenEnabled() {
+        accountRepository.save(account("1", true));
+
+        new DailyBalanceBackfillJob(accountRepository, balanceInputPort, false, 10).onStartup();
+        verify(balanceInputPort, never()).rebuildDailyBalances(any());
+
+        new DailyBalanceBackfillJob(accountRepository, balanceInputPort, true, 10).onStartup();
+        verify(balanceInputPort, times(1)).rebuildDailyBalances(any());
+    }
+
+    private static Account account(String number, boolean state) {
+        return Account.builder()
+                .clientId(UUID.randomUUID())
+                .accountNumber(number)
+                .currentBalance(BigDecimal.ZERO)
+                .state(state)
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.input.MovementInputPort;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.domain.exception.InsufficientFundsException;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryClientRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryIdempotencyKeyRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static com.pichincha.accounts.support.TestTransactions.inTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MovementServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    private InMemoryAccountRepository accountRepository;
+    private InMemoryMovementRepository movementRepository;
+    private AccountLocks accountLocks;
+    private MovementService movementService;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new InMemoryAccountRepository();
+        movementRepository = new InMemoryMovementRepository();
+        accountLocks = new AccountLocks(1024);
+        movementService = new MovementService(movementRepository, accountRepository, accountLocks,
+                new InMemoryDailyBalanceRepository(movementRepository), new InMemoryIdempotencyKeyRepository(),
+                BusinessMetrics.NOOP, ReportCache.DISABLED, MovementBatchTransactions.direct(1000)) {
+            // Como el proxy transaccional: el escritor de cuentas agrupadas no tiene transacción propia
+            @Override
+            public List<QueuedMovement> applyQueued(UUID accountId, List<Movement> movements) {
+                return inTransaction(() -> super.applyQueued(accountId, movements));
+            }
+        };
+    }
+
+    @Test
+    @Timeout(60)
+    void shouldNotLoseUpdatesOnSingleHotAccount() throws Exception {
+        Account hot = openAccount(new BigDecimal("1000.00"));
+
+        int successes = hammer(List.of(hot.getId()), 2_000);
+
+        assertLedgerIsConsistent(hot, successes);
+    }
+
+    @Test
+    @Timeout(60)
+    void shouldNotLoseUpdatesAcrossManyAccounts() throws Exception {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            accounts.add(openAccount(new BigDecimal("100.00")));
+        }
+
+        hammer(accounts.stream().map(Account::getId).toList(), 2_000);
+
+        Map<UUID, List<Movement>> byAccount = movementRepository.findAll().stream()
+                .collect(Collectors.groupingBy(Movement::getAccountId));
+        for (Account account : accounts) {
+            assertLedgerIsConsistent(account, byAccount.getOrDefault(account.getId(), List.of()).size());
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void shouldNotLoseUpdatesWhenHotAccountIsCoalesced() throws Exception {
+        Account hot = openAccount(new BigDecimal("1000.00"));
+        CoalescingMovementService coalescing = new CoalescingMovementService(movementService, BusinessMetrics.NOOP,
+                List.of(hot.getId()), 64, 256, Executors.defaultThreadFactory());
+        try {
+            // La mitad de los hilos agrupa y la otra mitad escribe directo sobre la misma cuenta
+            int successes = hammer(List.of(hot.getId()), 2_000,
+                    thread -> thread % 2 == 0 ? coalescing : movementService);
+
+            assertLedgerIsConsistent(hot, successes);
+        } finally {
+            coalescing.shutdown();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void shouldNotLoseUpdatesWhileAccountIsEdited() throws Exception {
+        Account hot = openAccount(new BigDecimal("1000.00"));
+        AccountService accountService = new AccountService(accountRepository, new InMemoryClientRepository(),
+                mock(NumberAllocator.class), accountLocks, ReportCache.DISABLED);
+        AtomicBoolean posting = new AtomicBoolean(true);
+        Thread editor = new Thread(() -> {
+            AccountType[] types = AccountType.values();
+            for (int i = 0; posting.get(); i++) {
+                Account change = Account.builder().type(types[i % types.length]).state(true).build();
+                inTransaction(() -> accountService.updateAccount(hot.getId(), change));
+            }
+        });
+        editor.start();
+        int successes;
+        try {
+            successes = hammer(List.of(hot.getId()), 2_000);
+        } finally {
+            posting.set(false);
+            editor.join();
+        }
+
+        assertLedgerIsConsistent(hot, successes);
+    }
+
+    private int hammer(List<UUID> accountIds, int operationsPerThread) throws Exception {
+        return hammer(accountIds, operationsPerThread, thread -> movementService);
+    }
+
+    private int hammer(List<UUID> accountIds, int operationsPerThread, IntFunction<MovementInputPort> ports) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                MovementInputPort port = ports.apply(t);
+                results.add(executor.submit(() -> {
+                    int applied = 0;
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        Movement movement = Movement.builder()
+                                .accountId(accountIds.get(random.nextInt(accountIds.size())))
+                                .movementType(random.nextBoolean() ? MovementType.DEPOSITO : MovementType.RETIRO)
+                                .value(BigDecimal.valueOf(random.nextInt(1, 5_000), 2))
+                                .build();
+                        try {
+                            inTransaction(() -> port.createMovement(movement));
+                            applied++;
+                        } catch (InsufficientFundsException ignored) {
+                            // rechazo legítimo: el saldo no alcanza
+                        }
+                    }
+                    return applied;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertLedgerIsConsistent(Account account, int expectedMovements) {
+        List<Movement> movements = movementRepository.findAll().stream()
+                .filter(m -> account.getId().equals(m.getAccountId()))
+                .toList();
+        BigDecimal sum = movements.stream().map(Movement::getValue).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal finalBalance = accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance();
+
+        assertThat(movements).hasSize(expectedMovements);
+        assertThat(finalBalance).isEqualByComparingTo(account.getInitialBalance().add(sum));
+        assertThat(finalBalance.signum()).isGreaterThanOrEqualTo(0);
+        assertThat(movements).allSatisfy(m -> assertThat(m.getBalance().signum()).isGreaterThanOrEqualTo(0));
+    }
+
+    private Account openAccount(BigDecimal initialBalance) {
+        return accountRepository.save(Account.builder()
+                .clientId(UUID.randomUUID())
+                .accountNumber(UUID.randomUUID().toString())
+                .type(AccountType.AHORROS)
+                .initialBalance(initialBalance)
+                .currentBalance(initialBalance)
+                .state(true)
+                .build());
+    }
+}
@@ -1,9 +1,17 @@
 package com.pichincha.accounts.application.service;
 
 import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.IdempotencyKeyRepository;
 import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
 import com.pichincha.accounts.domain.Account;
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.domain.MovementPage;
+import com.pichincha.accounts.domain.MovementResult;
 import com.pichincha.accounts.domain.enums.MovementType;
 import com.pichincha.accounts.domain.exception.AccountInactiveException;
 import com.pichincha.accounts.domain.exception.AccountNotFoundException;
@@ -13,18 +21,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +55,18 @@ class MovementServiceTest {
     private MovementRepository movementRepository;
     @Mock
     private AccountRepository accountRepository;
+    @Mock
+    private AccountLocks accountLocks;
+    @Mock
+    private DailyBalanceRepository dailyBalanceRepository;
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+    @Mock
+    private BusinessMetrics businessMetrics;
+    @Mock
+    private ReportCache reportCache;
+    @Spy
+    private MovementBatchTransactions batchTransactions = MovementBatchTransactions.direct(5);
 
     @InjectMocks
     private MovementService movementService;
@@ -49,7 +82,11 @@ class MovementServiceTest {
     @Test
     void shouldCreateCreditMovementAndIncreaseBalanceWhenValidRequest() {
         UUID accountId = UUID.randomUUID();
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(activeAccount(accountId, new BigDecimal("50.00"))));
+        UUID clientId = UUID.randomUUID();
+        Account account = activeAccount(accountId, new BigDecimal("50.00"));
+        account.setClientId(clientId);
+        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.applyBalanceDelta(accountId, new BigDecimal("30.00"))).thenReturn(Optional.of(new BigDecimal("80.00")));
         when(movementRepository.save(any(Movement.class))).thenAnswer(i -> {
             Movement m = i.getArgument(0);
             m.setId(UUID.randomUUID());
@@ -67,14 +104,19 @@ class MovementServiceTest {
 
         assertThat(saved.getValue()).isEqualByComparingTo("30.00");
         assertThat(saved.getBalance()).isEqualByComparingTo("80.00");
-        verify(accountRepository).save(any(Account.class));
+        verify(accountLocks).lockUntilCompletion(accountId);
+        verify(reportCache).evictClient(clientId);
+        verify(accountRepository).applyBalanceDelta(accountId, new BigDecimal("30.00"));
+        verify(accountRepository, never()).save(any(Account.class));
         verify(movementRepository).save(any(Movement.class));
+        verify(businessMetrics).recordMovementCreation(anyLong(), isNull());
     }
 
     @Test
     void shouldCreateDebitMovementAndDecreaseBalanceWhenSufficientFunds() {
         UUID accountId = UUID.randomUUID();
         when(accountRepository.findById(accountId)).thenReturn(Optional.of(activeAccount(accountId, new BigDecimal("100.00"))));
+        when(accountRepository.applyBalanceDelta(accountId, new BigDecimal("-30.00"))).thenReturn(Optional.of(new BigDecimal("70.00")));
         when(movementRepository.save(any(Movement.class))).thenAnswer(i -> {
             Movement m = i.getArgument(0);
             m.setId(UUID.randomUUID());
@@ -91,7 +133,7 @@ class MovementServiceTest {
 
         assertThat(saved.getValue()).isEqualByComparingTo("-30.00");
         assertThat(saved.getBalance()).isEqualByComparingTo("70.00");
-        verify(accountRepository).save(any(Account.class));
+        verify(accountRepository).applyBalanceDelta(accountId, new BigDecimal("-30.00"));
         verify(movementRepository).save(any(Movement.class));
     }
 
@@ -99,6 +141,7 @@ class MovementServiceTest {
     void shouldCreateTransferenciaOutDebitMovementWhenSufficientFunds() {
         UUID accountId = UUID.randomUUID();
         when(accountRepository.findById(accountId)).thenReturn(Optional.of(activeAccount(accountId, new BigDecimal("100.00"))));
+        when(accountRepository.applyBalanceDelta(accountId, new BigDecimal("-25.00"))).thenReturn(Optional.of(new BigDecimal("75.00")));
         when(movementRepository.save(any(Movement.class))).thenAnswer(i -> {
             Movement m = i.getArgument(0);
             m.setId(UUID.randomUUID());
@@ -121,6 +164,7 @@ class MovementServiceTest {
     void shouldSetCurrentDateWhenDateIsNull() {
         UUID accountId = UUID.randomUUID();
         when(accountRepository.findById(accountId)).thenReturn(Optional.of(activeAccount(accountId, new BigDecimal("50.00"))));
+        when(accountRepository.applyBalanceDelta(accountId, new BigDecimal("10.00"))).thenReturn(Optional.of(new BigDecimal("60.00")));
         when(movementRepository.save(any(Movement.class))).thenAnswer(i -> {
             Movement m = i.getArgument(0);
             m.setId(UUID.randomUUID());
@@ -205,6 +249,7 @@ class MovementServiceTest {
     void shouldThrowInsufficientFundsExceptionWhenDebitExceedsBalance() {
         UUID accountId = UUID.randomUUID();
         when(accountRepository.findById(accountId)).thenReturn(Optional.of(activeAccount(accountId, new BigDecimal("10.00"))));
+        when(accountRepository.applyBalanceDelta(accountId, new BigDecimal("-20.00"))).thenReturn(Optional.empty());
 
         Movement req = Movement.builder()
                 .accountId(accountId)
@@ -215,6 +260,8 @@ class MovementServiceTest {
         assertThatThrownBy(() -> movementService.createMovement(req))
                 .isInstanceOf(InsufficientFundsException.class)
                 .hasMessageContaining("Saldo no disponible");
+        verify(movementRepository, never()).save(any(Movement.class));
+        verify(businessMetrics).recordMovementCreation(anyLong(), any(InsufficientFundsException.class));
     }
 
     @Test
@@ -249,6 +296,117 @@ class MovementServiceTest {
                 .isInstanceOf(AccountInactiveException.class);
     }
 
+    @Test
+    void shouldClaimAndCompleteIdempotencyKeyOnFirstRequest() {
+        UUID accountId = UUID.randomUUID();
+        UUID movementId = UUID.randomUUID();
+        when(idempotencyKeyRepository.findMovementId("k-1")).thenReturn(Optional.empty());
+        when(idempotencyKeyRepository.claim("k-1")).thenReturn(true);
+        when(accountRepository.findById(accountId)).thenReturn(Optional.of(activeAccount(accountId, new BigDecimal("50.00"))));
+        when(accountRepository.applyBalanceDelta(accountId, new BigDecimal("-20.00"))).thenReturn(Optional.of(new BigDecimal("30.00")));
+        when(movementRepository.save(any(Movement.class))).thenAnswer(i -> {
+            Movement m = i.getArgument(0);
+            m.setId(movementId);
+            return m;
+        });
+
+        Movement saved = movementService.createMovement(Movement.builder()
+                .accountId(accountId)
+                .movementType(MovementType.RETIRO)
+                .value(new BigDecimal("20.00"))
+                .build(), "k-1");
+
+        assertThat(saved.getId()).isEqualTo(movementId);
+        verify(idempotencyKeyRepository).complete("k-1", movementId);
+    }
+
+    @Test
+    void shouldReturnOriginalMovementWithoutTouchingAccountWhenIdempotencyKeyRepeats() {
+        UUID accountId = UUID.randomUUID();
+        Movement original = Movement.builder()
+                .id(UUID.randomUUID())
+                .accountId(accountId)
+                .movementType(MovementType.RETIRO)
+                .value(new BigDecimal("-20.00"))
+                .balance(new BigDecimal("30.00"))
+                .build();
+        when(idempotencyKeyRepository.findMovementId("k-1")).thenReturn(Optional.of(original.getId()));
+        when(movementRepository.findById(original.getId())).thenReturn(Optional.of(original));
+
+        Movement result = movementService.createMovement(Movement.builder()
+                .accountId(accountId)
+                .movementType(MovementType.RETIRO)
+                .value(new BigDecimal("20.00"))
+                .build(), "k-1");
+
+        assertThat(result).isSameAs(original);
+        verifyNoInteractions(accountRepository, accountLocks, dailyBalanceRepository);
+        verify(idempotencyKeyRepository, never()).claim(any());
+        verify(movementRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldReturnMovementOfConcurrentRequestWhenClaimFails() {
+        UUID accountId = UUID.randomUUID();
+        Movement original = Movement.builder()
+                .id(UUID.randomUUID())
+                .accountId(accountId)
+                .movementType(MovementType.DEPOSITO)
+                .value(new BigDecimal("10.00"))
+                .build();
+        when(idempotencyKeyRepository.findMovementId("k-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(original.getId()));
+        when(idempotencyKeyRepository.claim("k-1")).thenReturn(false);
+        when(movementRepository.findById(original.getId())).thenReturn(Optional.of(original));
+
+        Movement result = movementService.createMovement(Movement.builder()
+                .accountId(accountId)
+                .movementType(MovementType.DEPOSITO)
+                .value(new BigDecimal("10.00"))
+                .build(), "k-1");
+
+        assertThat(result).isSameAs(original);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void shouldRejectIdempotencyKeyReusedForDifferentMovement() {
+        UUID accountId = UUID.randomUUID();
+        Movement original = Movement.builder()
+                .id(UUID.randomUUID())
+                .accountId(accountId)
+                .movementType(MovementType.RETIRO)
+                .value(new BigDecimal("-20.00"))
+                .build();
+        when(idempotencyKeyRepository.findMovementId("k-1")).thenReturn(Optional.of(original.getId()));
+        when(movementRepository.findById(original.getId())).thenReturn(Optional.of(original));
+
+        assertThatThrownBy(() -> movementService.createMovement(Movement.builder()
+                .accountId(accountId)
+                .movementType(MovementType.RETIRO)
+                .value(new BigDecimal("25.00"))
+                .build(), "k-1"))
+                .isInstanceOf(InvalidMovementException.class)
+                .hasMessage("La clave de idempotencia ya se usó para otro movimiento");
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void shouldRejectBlankOrTooLongIdempotencyKey() {
+        Movement req = Movement.builder()
+                .accountId(UUID.randomUUID())
+                .movementType(MovementType.DEPOSITO)
+                .value(BigDecimal.ONE)
+                .build();
+
+        assertThatThrownBy(() -> movementService.createMovement(req, " "))
+                .isInstanceOf(InvalidMovementException.class);
+        assertThatThrownBy(() -> movementService.createMovement(req, "x".repeat(101)))
+                .isInstanceOf(InvalidMovementException.class);
+        verifyNoInteractions(idempotencyKeyRepository, accountRepository);
+    }
+
     @Test
     void shouldReturnMovementWhenFindByIdExists() {
         UUID movementId = UUID.randomUUID();
@@ -275,14 +433,83 @@ class MovementServiceTest {
     }
 
     @Test
-    void shouldReturnAllMovementsWhenFindAllCalled() {
-        List<Movement> movements = List.of(new Movement(), new Movement());
-        when(movementRepository.findAll()).thenReturn(movements);
+    void shouldReturnPageOfMovementsWhenFindAllCalled() {
+        MovementFilter filter = MovementFilter.builder().accountId(UUID.randomUUID()).build();
+        Pageable pageable = PageRequest.of(0, 50);
+        Page<Movement> page = new PageImpl<>(List.of(new Movement(), new Movement()), pageable, 2);
+        when(movementRepository.findAll(filter, pageable)).thenReturn(page);
+
+        Page<Movement> result = movementService.findAll(filter, pageable);
+
+        assertThat(result.getContent()).hasSize(2);
+        verify(movementRepository, never()).findSlice(any(), any());
+    }
+
+    @Test
+    void shouldReturnSliceOfMovementsWhenFindSliceCalled() {
+        MovementFilter filter = new MovementFilter();
+        Pageable pageable = PageRequest.of(4, 50);
+        Slice<Movement> slice = new SliceImpl<>(List.of(new Movement()), pageable, true);
+        when(movementRepository.findSlice(filter, pageable)).thenReturn(slice);
+
+        assertThat(movementService.findSlice(filter, pageable)).isSameAs(slice);
+        verify(movementRepository, never()).findAll(any(), any());
+    }
+
+    @Test
+    void shouldHandEveryStreamedMovementToSinkAndCloseStream() throws IOException {
+        MovementFilter filter = MovementFilter.builder().accountId(UUID.randomUUID()).build();
+        Movement first = new Movement();
+        Movement second = new Movement();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(movementRepository.streamAll(filter)).thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        List<Movement> received = new ArrayList<>();
+
+        long exported = movementService.exportMovements(filter, received::add);
+
+        assertThat(exported).isEqualTo(2);
+        assertThat(received).containsExactly(first, second);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldCloseStreamWhenSinkFails() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(movementRepository.streamAll(any())).thenReturn(Stream.of(new Movement()).onClose(() -> closed.set(true)));
+
+        assertThatThrownBy(() -> movementService.exportMovements(new MovementFilter(), movement -> {
+            throw new IOException("cliente desconectado");
+        })).isInstanceOf(IOException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldReturnPageWithNextCursorWhenMoreRowsExist() {
+        UUID accountId = UUID.randomUUID();
+        List<Movement> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(Movement.builder().id(UUID.randomUUID()).accountId(accountId)
+                    .date(LocalDateTime.of(2024, 1, 10 - i, 0, 0)).build());
+        }
+        when(movementRepository.findPageByAccountId(accountId, null, 3)).thenReturn(rows);
+
+        MovementPage page = movementService.findByAccountId(accountId, null, 2);
+
+        assertThat(page.getMovements()).containsExactly(rows.get(0), rows.get(1));
+        assertThat(page.getNextCursor()).isEqualTo(MovementCursor.after(rows.get(1)));
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursorAndClampPageSize() {
+        UUID accountId = UUID.randomUUID();
+        MovementCursor cursor = new MovementCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(movementRepository.findPageByAccountId(accountId, cursor, MovementService.MAX_PAGE_SIZE + 1))
+                .thenReturn(List.of(new Movement()));
 
-        List<Movement> result = movementService.findAll();
+        MovementPage page = movementService.findByAccountId(accountId, cursor, 10_000);
 
-        assertThat(result).hasSize(2);
-        verify(movementRepository).findAll();
+        assertThat(page.getMovements()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
     }
 
     @Test
@@ -324,4 +551,158 @@ class MovementServiceTest {
                 .isInstanceOf(InvalidMovementException.class)
                 .hasMessageContaining("No se permite la eliminación");
     }
+
+    @Test
+    void shouldApplyBatchGroupedByAccountWithOneBalanceUpdateAndOneInsertPerAccount() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(accountRepository.findByIdForUpdate(first)).thenReturn(Optional.of(activeAccount(first, new BigDecimal("100.00"))));
+        when(accountRepository.findByIdForUpdate(second)).thenReturn(Optional.of(activeAccount(second, new BigDecimal("10.00"))));
+        when(accountRepository.applyBalanceDelta(any(), any())).thenAnswer(i -> Optional.of(BigDecimal.ZERO));
+        when(movementRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        List<Movement> batch = List.of(
+                Movement.builder().accountId(first).movementType(MovementType.RETIRO).value(new BigDecimal("30.00")).build(),
+                Movement.builder().accountId(second).movementType(MovementType.DEPOSITO).value(new BigDecimal("5.00")).build(),
+                Movement.builder().accountId(first).movementType(MovementType.DEPOSITO).value(new BigDecimal("10.00")).build());
+
+        List<MovementResult> results = movementService.createMovements(batch);
+
+        assertThat(results).extracting(MovementResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).allMatch(MovementResult::isSuccess);
+        assertThat(results.get(0).getMovement().getBalance()).isEqualByComparingTo("70.00");
+        assertThat(results.get(2).getMovement().getBalance()).isEqualByComparingTo("80.00");
+        assertThat(results.get(1).getMovement().getBalance()).isEqualByComparingTo("15.00");
+        verify(accountRepository).applyBalanceDelta(first, new BigDecimal("-20.00"));
+        verify(accountRepository).applyBalanceDelta(second, new BigDecimal("5.00"));
+        verify(movementRepository, times(2)).saveAll(anyList());
+        verify(accountRepository, never()).findById(any());
+        verify(movementRepository, never()).save(any(Movement.class));
+        // Cada cuenta en su transacción, con solo su lock
+        verify(batchTransactions, times(2)).inAccountTransaction(any());
+        verify(accountLocks).lockUntilCompletion(first);
+        verify(accountLocks).lockUntilCompletion(second);
+    }
+
+    @Test
+    void shouldKeepOtherAccountsWhenOneAccountTransactionFails() {
+        UUID failing = UUID.randomUUID();
+        UUID healthy = UUID.randomUUID();
+        when(accountRepository.findByIdForUpdate(failing)).thenReturn(Optional.of(activeAccount(failing, BigDecimal.TEN)));
+        when(accountRepository.findByIdForUpdate(healthy)).thenReturn(Optional.of(activeAccount(healthy, BigDecimal.TEN)));
+        when(accountRepository.applyBalanceDelta(any(), any())).thenAnswer(i -> Optional.of(BigDecimal.ZERO));
+        when(movementRepository.saveAll(anyList())).thenAnswer(i -> {
+            List<Movement> movements = i.getArgument(0);
+            if (failing.equals(movements.get(0).getAccountId())) {
+                throw new IllegalStateException("Conexión perdida");
+            }
+            return movements;
+        });
+
+        List<MovementResult> results = movementService.createMovements(List.of(
+                Movement.builder().accountId(failing).movementType(MovementType.DEPOSITO).value(BigDecimal.ONE).build(),
+                Movement.builder().accountId(healthy).movementType(MovementType.DEPOSITO).value(BigDecimal.ONE).build()));
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(0).getError()).isEqualTo("Conexión perdida");
+        assertThat(results.get(1).isSuccess()).isTrue();
+    }
+
+    @Test
+    void shouldFailNullElementOfBatch() {
+        UUID accountId = UUID.randomUUID();
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(activeAccount(accountId, BigDecimal.TEN)));
+        when(accountRepository.applyBalanceDelta(any(), any())).thenAnswer(i -> Optional.of(BigDecimal.ZERO));
+        when(movementRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        List<MovementResult> results = movementService.createMovements(Arrays.asList(
+                null,
+                Movement.builder().accountId(accountId).movementType(MovementType.DEPOSITO).value(BigDecimal.ONE).build()));
+
+        assertThat(results.get(0).getError()).contains("El movimiento no puede ser nulo");
+        assertThat(results.get(1).isSuccess()).isTrue();
+    }
+
+    @Test
+    void shouldRejectBatchLargerThanMaxSize() {
+        List<Movement> batch = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            batch.add(Movement.builder().accountId(UUID.randomUUID()).movementType(MovementType.DEPOSITO).value(BigDecimal.ONE).build());
+        }
+
+        assertThatThrownBy(() -> movementService.createMovements(batch))
+                .isInstanceOf(InvalidMovementException.class)
+                .hasMessageContaining("como máximo 5");
+        verifyNoInteractions(accountRepository, movementRepository);
+    }
+
+    @Test
+    void shouldReportPerItemFailuresWithoutAbortingTheBatch() {
+        UUID accountId = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(activeAccount(accountId, new BigDecimal("20.00"))));
+        when(accountRepository.findByIdForUpdate(missing)).thenReturn(Optional.empty());
+        when(accountRepository.applyBalanceDelta(any(), any())).thenAnswer(i -> Optional.of(BigDecimal.ZERO));
+        when(movementRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        List<Movement> batch = List.of(
+                Movement.builder().accountId(accountId).movementType(MovementType.RETIRO).value(new BigDecimal("50.00")).build(),
+                Movement.builder().accountId(null).movementType(MovementType.DEPOSITO).value(BigDecimal.ONE).build(),
+                Movement.builder().accountId(missing).movementType(MovementType.DEPOSITO).value(BigDecimal.ONE).build(),
+                Movement.builder().accountId(accountId).movementType(MovementType.DEPOSITO).value(BigDecimal.ZERO).build(),
+                Movement.builder().accountId(accountId).movementType(MovementType.RETIRO).value(new BigDecimal("15.00")).build());
+
+        List<MovementResult> results = movementService.createMovements(batch);
+
+        assertThat(results.get(0).getError()).isEqualTo("Saldo no disponible");
+        assertThat(results.get(1).getError()).contains("El ID de la cuenta no puede ser nulo");
+        assertThat(results.get(2).getError()).contains("Cuenta no encontrada");
+        assertThat(results.get(3).getError()).contains("diferente de cero");
+        assertThat(results.get(4).isSuccess()).isTrue();
+        assertThat(results.get(4).getMovement().getBalance()).isEqualByComparingTo("5.00");
+        verify(accountRepository).applyBalanceDelta(accountId, new BigDecimal("-15.00"));
+    }
+
+    @Test
+    void shouldRejectWholeGroupWhenAccountIsInactiveInBatch() {
+        UUID accountId = UUID.randomUUID();
+        Account inactive = activeAccount(accountId, BigDecimal.TEN);
+        inactive.setState(false);
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(inactive));
+
+        List<MovementResult> results = movementService.createMovements(List.of(
+                Movement.builder().accountId(accountId).movementType(MovementType.DEPOSITO).value(BigDecimal.ONE).build()));
+
+        assertThat(results).singleElement().satisfies(r -> assertThat(r.getError()).contains("no está activa"));
+        verify(movementRepository, never()).saveAll(anyList());
+        verify(businessMetrics).recordRejection(BusinessMetrics.Rejection.ACCOUNT_INACTIVE);
+    }
+
+    @Test
+    void shouldApplyQueuedMovementsWithOneBalanceUpdateAndTypedFailures() {
+        UUID accountId = UUID.randomUUID();
+        when(accountRepository.findByIdForUpdate(accountId)).thenReturn(Optional.of(activeAccount(accountId, BigDecimal.TEN)));
+        when(accountRepository.applyBalanceDelta(accountId, new BigDecimal("-5.00"))).thenReturn(Optional.of(new BigDecimal("5.00")));
+        when(movementRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        List<MovementService.QueuedMovement> results = movementService.applyQueued(accountId, List.of(
+                Movement.builder().accountId(accountId).movementType(MovementType.RETIRO).value(new BigDecimal("8.00")).build(),
+                Movement.builder().accountId(accountId).movementType(MovementType.RETIRO).value(new BigDecimal("5.00")).build(),
+                Movement.builder().accountId(accountId).movementType(MovementType.DEPOSITO).value(new BigDecimal("3.00")).build(),
+                Movement.builder().accountId(accountId).value(BigDecimal.ONE).build()));
+
+        assertThat(results.get(0).movement().getBalance()).isEqualByComparingTo("2.00");
+        assertThat(results.get(1).failure()).isInstanceOf(InsufficientFundsException.class);
+        assertThat(results.get(2).movement().getBalance()).isEqualByComparingTo("5.00");
+        assertThat(results.get(3).failure()).isInstanceOf(InvalidMovementException.class);
+        verify(accountRepository).applyBalanceDelta(accountId, new BigDecimal("-5.00"));
+        verify(movementRepository).saveAll(anyList());
+        verify(businessMetrics, never()).recordRejection(any());
+    }
+
+    @Test
+    void shouldThrowInvalidMovementExceptionWhenBatchIsEmpty() {
+        assertThatThrownBy(() -> movementService.createMovements(List.of()))
+                .isInstanceOf(InvalidMovementException.class);
+    }
 }
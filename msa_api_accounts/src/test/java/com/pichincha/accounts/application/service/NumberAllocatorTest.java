@@ -0,0 +1,134 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryClientRepository;
+import com.pichincha.accounts.util.LuhnCheckDigit;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NumberAllocatorTest {
+
+    private static final long KEY = 7046029254386353131L;
+
+    private final InMemoryAccountRepository accountRepository = new InMemoryAccountRepository();
+    private final InMemoryClientRepository clientRepository = new InMemoryClientRepository();
+
+    @Test
+    void shouldIssueNonSequentialNumbersWithCheckDigitAndNoLeadingZero() {
+        NumberAllocator allocator = new NumberAllocator(accountRepository, clientRepository, 100, 10, 10, KEY);
+
+        String first = allocator.nextAccountNumber();
+        String second = allocator.nextAccountNumber();
+
+        assertThat(List.of(first, second, allocator.nextClientId()))
+                .allSatisfy(number -> assertThat(number).matches("[1-9]\\d{9}").satisfies(n -> assertThat(LuhnCheckDigit.isValid(n)).isTrue()));
+        assertThat(Math.abs(Long.parseLong(second) - Long.parseLong(first))).isGreaterThan(100);
+    }
+
+    @Test
+    void shouldReserveOneBlockPerBlockSizeNumbers() {
+        NumberAllocator allocator = new NumberAllocator(accountRepository, clientRepository, 50, 10, 10, KEY);
+
+        for (int i = 0; i < 120; i++) {
+            allocator.nextAccountNumber();
+        }
+
+        // 3 bloques usados; la siguiente reserva sería la cuarta
+        assertThat(accountRepository.reserveAccountNumberBlock()).isEqualTo(4);
+        assertThat(clientRepository.reserveClientIdBlock()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSupportWiderFormats() {
+        NumberAllocator allocator = new NumberAllocator(accountRepository, clientRepository, 100, 18, 12, KEY);
+
+        assertThat(allocator.nextAccountNumber()).matches("[1-9]\\d{17}");
+        assertThat(allocator.nextClientId()).matches("[1-9]\\d{11}");
+    }
+
+    @Test
+    void shouldFailOnceTheFormatIsExhausted() {
+        // 3 dígitos: 90 cuerpos de dos cifras sin cero inicial
+        NumberAllocator allocator = new NumberAllocator(accountRepository, clientRepository, 10, 3, 10, KEY);
+        Set<String> issued = new HashSet<>();
+
+        assertThatThrownBy(() -> {
+            while (true) {
+                assertThat(issued.add(allocator.nextAccountNumber())).isTrue();
+            }
+        }).isInstanceOf(IllegalStateException.class).hasMessageContaining("Se agotaron");
+        // El bloque 0 no se reserva nunca, así que quedan 80 números disponibles
+        assertThat(issued).hasSize(80);
+    }
+
+    @Test
+    void shouldRejectInvalidFormats() {
+        assertThatThrownBy(() -> new NumberAllocator(accountRepository, clientRepository, 100, 2, 10, KEY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new NumberAllocator(accountRepository, clientRepository, 0, 10, 10, KEY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldOpenHalfAMillionAccountsAcrossTwoNodesWithoutExistenceQueries() throws Exception {
+        InMemoryAccountRepository accounts = new InMemoryAccountRepository() {
+            @Override
+            public boolean existsByAccountNumber(String accountNumber) {
+                throw new AssertionError("La apertura de cuentas no debe consultar si el número existe");
+            }
+        };
+        UUID clientId = UUID.randomUUID();
+        clientRepository.save(Client.builder().id(clientId).name("Carga").state(true).build());
+        // Dos instancias del servicio comparten la secuencia de bloques de la base de datos
+        List<AccountService> nodes = List.of(
+                new AccountService(accounts, clientRepository, new NumberAllocator(accounts, clientRepository, 100, 10, 10, KEY), new AccountLocks(1024), ReportCache.DISABLED),
+                new AccountService(accounts, clientRepository, new NumberAllocator(accounts, clientRepository, 100, 10, 10, KEY), new AccountLocks(1024), ReportCache.DISABLED));
+
+        int threads = 8;
+        int perThread = 62_500;
+        Set<String> numbers = ConcurrentHashMap.newKeySet(threads * perThread);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                AccountService node = nodes.get(t % nodes.size());
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        Account opened = node.createAccount(Account.builder()
+                                .clientId(clientId)
+                                .type(AccountType.AHORROS)
+                                .initialBalance(BigDecimal.ZERO)
+                                .build());
+                        numbers.add(opened.getAccountNumber());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(numbers).hasSize(500_000);
+        assertThat(accounts.findByClientId(clientId)).hasSize(500_000);
+        assertThat(numbers).allSatisfy(number -> assertThat(LuhnCheckDigit.isValid(number)).isTrue());
+    }
+}
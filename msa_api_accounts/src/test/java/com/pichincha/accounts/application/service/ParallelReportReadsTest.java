@@ -0,0 +1,129 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.domain.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelReportReadsTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private ParallelReportReads reads;
+
+    @AfterEach
+    void tearDown() {
+        if (reads != null) {
+            reads.shutdown();
+        }
+    }
+
+    @Test
+    void shouldReturnGroupResultsInAccountOrder() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        reads = new ParallelReportReads(2, 4, 4, transactionManager, Executors.defaultThreadFactory());
+
+        List<List<String>> results = reads.read(accounts(7), group -> group.stream().map(Account::getAccountNumber).toList());
+
+        assertThat(results).containsExactly(
+                List.of("0", "1"), List.of("2", "3"), List.of("4", "5"), List.of("6"));
+        verify(transactionManager, times(3)).getTransaction(any());
+    }
+
+    @Test
+    void shouldReadGroupsInCallerWhenReportCapIsReached() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        reads = new ParallelReportReads(1, 4, 1, transactionManager, Executors.defaultThreadFactory());
+        Thread caller = Thread.currentThread();
+
+        List<Boolean> inCaller = reads.read(accounts(3), group -> Thread.currentThread() == caller);
+
+        assertThat(inCaller).containsExactly(true, false, true);
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void shouldReadInCallerWhenConnectionQuotaIsExhausted() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        reads = new ParallelReportReads(1, 1, 1, transactionManager, Executors.defaultThreadFactory());
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread other = new Thread(() -> reads.read(accounts(2), group -> {
+            if (Thread.currentThread().getName().startsWith("pool")) {
+                holding.countDown();
+                await(release);
+            }
+            return null;
+        }));
+        other.start();
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread caller = Thread.currentThread();
+        List<Boolean> inCaller = reads.read(accounts(2), group -> Thread.currentThread() == caller);
+
+        release.countDown();
+        other.join(5_000);
+        assertThat(inCaller).containsExactly(true, true);
+    }
+
+    @Test
+    void shouldReadEverythingInOneCallWhenSequential() {
+        reads = ParallelReportReads.sequential();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        List<Integer> sizes = reads.read(accounts(100), group -> {
+            threads.add(Thread.currentThread());
+            return group.size();
+        });
+
+        assertThat(sizes).containsExactly(100);
+        assertThat(threads).containsExactly(Thread.currentThread());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void shouldPropagateFailureFromForkedGroup() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        reads = new ParallelReportReads(1, 2, 2, transactionManager, Executors.defaultThreadFactory());
+
+        assertThatThrownBy(() -> reads.read(accounts(2), group -> {
+            if (group.get(0).getAccountNumber().equals("1")) {
+                throw new IllegalArgumentException("Cuenta no encontrada");
+            }
+            return group.size();
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("Cuenta no encontrada");
+    }
+
+    private static List<Account> accounts(int count) {
+        return new ArrayList<>(IntStream.range(0, count)
+                .mapToObj(i -> Account.builder().id(UUID.randomUUID()).accountNumber(String.valueOf(i)).build())
+                .toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.domain.enums.ReportJobPriority;
+import com.pichincha.accounts.domain.exception.ReportJobRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReportJobExecutorTest {
+
+    private ReportJobExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldRunHigherPriorityFirstAndKeepArrivalOrderWithinPriority() throws Exception {
+        executor = new ReportJobExecutor(1, 10);
+        CountDownLatch release = blockWorker();
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+
+        executor.execute(ReportJobPriority.BAJA, record(order, "baja", done));
+        executor.execute(ReportJobPriority.ALTA, record(order, "alta-1", done));
+        executor.execute(ReportJobPriority.NORMAL, record(order, "normal", done));
+        executor.execute(ReportJobPriority.ALTA, record(order, "alta-2", done));
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly("alta-1", "alta-2", "normal", "baja");
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        executor = new ReportJobExecutor(1, 1);
+        CountDownLatch release = blockWorker();
+
+        executor.execute(ReportJobPriority.NORMAL, () -> { });
+
+        assertThatThrownBy(() -> executor.execute(ReportJobPriority.ALTA, () -> { }))
+                .isInstanceOf(ReportJobRejectedException.class);
+        release.countDown();
+    }
+
+    private CountDownLatch blockWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(ReportJobPriority.NORMAL, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        return release;
+    }
+
+    private static Runnable record(List<String> order, String name, CountDownLatch done) {
+        return () -> {
+            order.add(name);
+            done.countDown();
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.input.ReportInputPort;
+import com.pichincha.accounts.application.port.input.ReportPdfWriter;
+import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.ReportResultStore;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ReportJob;
+import com.pichincha.accounts.domain.enums.ReportJobPriority;
+import com.pichincha.accounts.domain.enums.ReportJobStatus;
+import com.pichincha.accounts.domain.exception.ClientNotFoundException;
+import com.pichincha.accounts.domain.exception.ReportJobNotFoundException;
+import com.pichincha.accounts.domain.exception.ReportJobRejectedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+
+    @Mock private ClientRepository clientRepository;
+    @Mock private ReportInputPort reportInputPort;
+    @Mock private ReportResultStore resultStore;
+    @Mock private ReportJobExecutor executor;
+
+    private final UUID clientId = UUID.randomUUID();
+    private MutableClock clock;
+    private ReportJobService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-02-01T10:00:00Z"));
+        service = new ReportJobService(clientRepository, reportInputPort, resultStore, executor, Duration.ofHours(1), clock);
+    }
+
+    @Test
+    void shouldQueueJobAndStoreResultWhenItRuns() {
+        givenClientExists();
+        ReportPdfWriter pdf = output -> output.write(1);
+        when(reportInputPort.prepareReportPdf(clientId, START, END)).thenReturn(pdf);
+        when(resultStore.save(any(), eq(pdf))).thenReturn(1L);
+
+        ReportJob job = service.submit(clientId, START, END, ReportJobPriority.ALTA);
+        assertThat(job.getStatus()).isEqualTo(ReportJobStatus.PENDIENTE);
+
+        queuedTask(ReportJobPriority.ALTA).run();
+
+        ReportJob done = service.findById(job.getId());
+        assertThat(done.getStatus()).isEqualTo(ReportJobStatus.COMPLETADO);
+        assertThat(done.getSize()).isEqualTo(1L);
+        assertThat(done.getExpiresAt()).isEqualTo(done.getCompletedAt().plusHours(1));
+    }
+
+    @Test
+    void shouldReuseInFlightJobForSameRequest() {
+        givenClientExists();
+
+        ReportJob first = service.submit(clientId, START, END, ReportJobPriority.NORMAL);
+        ReportJob second = service.submit(clientId, START, END, ReportJobPriority.ALTA);
+        ReportJob otherRange = service.submit(clientId, START, END.plusDays(1), ReportJobPriority.NORMAL);
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(otherRange.getId()).isNotEqualTo(first.getId());
+        verify(executor, times(2)).execute(any(), any());
+    }
+
+    @Test
+    void shouldStartNewJobOnceThePreviousOneFinished() {
+        givenClientExists();
+
+        ReportJob first = service.submit(clientId, START, END, ReportJobPriority.NORMAL);
+        queuedTask(ReportJobPriority.NORMAL).run();
+        ReportJob second = service.submit(clientId, START, END, ReportJobPriority.NORMAL);
+
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+    }
+
+    @Test
+    void shouldMarkJobAsFailedWhenGenerationThrows() {
+        givenClientExists();
+        when(reportInputPort.prepareReportPdf(clientId, START, END)).thenThrow(new RuntimeException("boom"));
+
+        ReportJob job = service.submit(clientId, START, END, null);
+        queuedTask(ReportJobPriority.NORMAL).run();
+
+        ReportJob failed = service.findById(job.getId());
+        assertThat(failed.getStatus()).isEqualTo(ReportJobStatus.FALLIDO);
+        assertThat(failed.getError()).isEqualTo("boom");
+        assertThatThrownBy(() -> service.openResult(job.getId())).isInstanceOf(ReportJobNotFoundException.class);
+    }
+
+    @Test
+    void shouldForgetJobWhenQueueRejectsIt() {
+        givenClientExists();
+        doThrow(new ReportJobRejectedException("llena")).when(executor).execute(any(), any());
+
+        assertThatThrownBy(() -> service.submit(clientId, START, END, ReportJobPriority.NORMAL))
+                .isInstanceOf(ReportJobRejectedException.class);
+
+        doNothing().when(executor).execute(any(), any());
+        ReportJob retry = service.submit(clientId, START, END, ReportJobPriority.NORMAL);
+        assertThat(retry.getStatus()).isEqualTo(ReportJobStatus.PENDIENTE);
+    }
+
+    @Test
+    void shouldExpireResultsAfterTtl() {
+        givenClientExists();
+        InputStream content = new ByteArrayInputStream(new byte[]{1});
+        when(resultStore.open(any())).thenReturn(Optional.of(content));
+
+        ReportJob job = service.submit(clientId, START, END, ReportJobPriority.NORMAL);
+        queuedTask(ReportJobPriority.NORMAL).run();
+        assertThat(service.openResult(job.getId())).isSameAs(content);
+
+        clock.advance(Duration.ofHours(2));
+        assertThatThrownBy(() -> service.findById(job.getId())).isInstanceOf(ReportJobNotFoundException.class);
+
+        service.purgeExpired();
+        verify(resultStore).delete(job.getId());
+        verify(resultStore).purgeOlderThan(clock.instant().minus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void shouldRejectUnknownClientBeforeQueueing() {
+        when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.submit(clientId, START, END, ReportJobPriority.NORMAL))
+                .isInstanceOf(ClientNotFoundException.class);
+        verify(executor, never()).execute(any(), any());
+    }
+
+    private void givenClientExists() {
+        when(clientRepository.findById(clientId))
+                .thenReturn(Optional.of(Client.builder().id(clientId).name("Ana").state(true).build()));
+    }
+
+    private Runnable queuedTask(ReportJobPriority priority) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(eq(priority), task.capture());
+        return task.getValue();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,31 +1,51 @@
 package com.pichincha.accounts.application.service;
 
 import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
 import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
 import com.pichincha.accounts.application.port.output.MovementRepository;
 import com.pichincha.accounts.application.port.output.PdfGeneratorPort;
+import com.pichincha.accounts.application.port.output.ReportCache;
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountTotals;
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.DailyBalance;
 import com.pichincha.accounts.domain.Movement;
 import com.pichincha.accounts.domain.Report;
 import com.pichincha.accounts.domain.enums.AccountType;
 import com.pichincha.accounts.domain.enums.Gender;
 import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.domain.exception.ClientNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,7 +54,11 @@ class ReportServiceTest {
     @Mock private ClientRepository clientRepository;
     @Mock private AccountRepository accountRepository;
     @Mock private MovementRepository movementRepository;
+    @Mock private DailyBalanceRepository dailyBalanceRepository;
     @Mock private PdfGeneratorPort pdfGeneratorPort;
+    @Mock private BusinessMetrics businessMetrics;
+    @Mock private ReportCache reportCache;
+    @Spy private ParallelReportReads parallelReportReads = ParallelReportReads.sequential();
 
     @InjectMocks private ReportService reportService;
 
@@ -78,27 +102,239 @@ class ReportServiceTest {
 
         when(clientRepository.findById(clientId)).thenReturn(Optional.of(client));
         when(accountRepository.findByClientId(clientId)).thenReturn(List.of(acc));
-        when(movementRepository.findByAccountIdAndDateRange(any(), any(), any()))
+        when(movementRepository.findByAccountIdsAndDateRange(eq(List.of(acc.getId())), any(), any()))
                 .thenReturn(List.of(m1, m2));
 
-        Report report = reportService.generateReport(clientId, LocalDate.now().minusDays(1), LocalDate.now());
+        LocalDate start = LocalDate.now().minusDays(1);
+        Report report = reportService.generateReport(clientId, start, LocalDate.now());
 
         assertThat(report.getTotalCredits()).isEqualByComparingTo("50.00");
         assertThat(report.getTotalDebits()).isEqualByComparingTo("30.00");
         assertThat(report.getTotalBalance()).isEqualByComparingTo("120.00");
         assertThat(report.getAccountStatements()).hasSize(1);
         assertThat(report.getAccountStatements().get(0).getMovements()).hasSize(2);
+        verify(movementRepository, never()).findByAccountIdAndDateRange(any(), any(), any());
+        // Los totales del período salen de las filas del detalle
+        verify(movementRepository, never()).sumByAccountIdsAndDateRange(any(), eq(start), any());
     }
 
-        @Test
-        void generateReportPdf_returnsPdfBytes() {
+    @Test
+    void generateReport_fetchesDetailForAllAccountsInOneQuery() {
+        UUID clientId = UUID.randomUUID();
+        Account first = account(clientId, "100.00");
+        Account second = account(clientId, "40.00");
+        Account idle = account(clientId, "7.00");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 31);
+
+        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client(clientId)));
+        when(accountRepository.findByClientId(clientId)).thenReturn(List.of(first, second, idle));
+        when(movementRepository.findByAccountIdsAndDateRange(List.of(first.getId(), second.getId(), idle.getId()), start, end))
+                .thenReturn(List.of(
+                        movement(first.getId(), "25.00"),
+                        movement(second.getId(), "-10.00"),
+                        movement(first.getId(), "-5.00")));
+
+        Report report = reportService.generateReport(clientId, start, end, true);
+
+        assertThat(report.getAccountStatements()).extracting(s -> s.getMovements().size()).containsExactly(2, 1, 0);
+        assertThat(report.getAccountStatements().get(0).getAccountTotalCredits()).isEqualByComparingTo("25.00");
+        assertThat(report.getAccountStatements().get(0).getAccountTotalDebits()).isEqualByComparingTo("5.00");
+        assertThat(report.getAccountStatements().get(2).getAccountTotalCredits()).isEqualByComparingTo("0");
+        assertThat(report.getTotalDebits()).isEqualByComparingTo("15.00");
+        assertThat(report.getTotalBalance()).isEqualByComparingTo("147.00");
+        verify(movementRepository, times(1)).findByAccountIdsAndDateRange(any(), any(), any());
+    }
+
+    @Test
+    void generateReport_usesAggregateQueryWhenDetailNotRequested() {
+        UUID clientId = UUID.randomUUID();
+        Account first = account(clientId, "100.00");
+        Account idle = account(clientId, "5.00");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 31);
+
+        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client(clientId)));
+        when(accountRepository.findByClientId(clientId)).thenReturn(List.of(first, idle));
+        when(dailyBalanceRepository.findLatestOnOrBefore(List.of(first.getId(), idle.getId()), LocalDate.of(2023, 12, 31)))
+                .thenReturn(List.of(closing(first.getId(), LocalDate.of(2023, 12, 20), "50.00")));
+        when(dailyBalanceRepository.sumByAccountIdsAndDateRange(List.of(first.getId()), start, end))
+                .thenReturn(List.of(new AccountTotals(first.getId(), new BigDecimal("80.00"), new BigDecimal("30.00"))));
+
+        Report report = reportService.generateReport(clientId, start, end, false);
+
+        assertThat(report.getTotalCredits()).isEqualByComparingTo("80.00");
+        assertThat(report.getTotalDebits()).isEqualByComparingTo("30.00");
+        assertThat(report.getAccountStatements().get(1).getAccountTotalDebits()).isEqualByComparingTo("0");
+        assertThat(report.getAccountStatements()).allSatisfy(s -> assertThat(s.getMovements()).isEmpty());
+        verify(movementRepository, never()).findByAccountIdsAndDateRange(any(), any(), any());
+        // Solo la cuenta sin fila diaria previa al período suma sus movimientos
+        verify(movementRepository).sumByAccountIdsAndDateRange(List.of(idle.getId()), start, end);
+        verify(movementRepository, never()).sumByAccountIdsAndDateRange(eq(List.of(first.getId())), any(), any());
+        verify(reportCache).putReport(ReportCache.Key.of(clientId, start, end, List.of(first, idle)), false, report);
+    }
+
+    @Test
+    void generateReport_returnsCachedReportForSameAccountVersions() {
+        UUID clientId = UUID.randomUUID();
+        Account account = account(clientId, "100.00");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 31);
+        Report cached = Report.builder().build();
+        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client(clientId)));
+        when(accountRepository.findByClientId(clientId)).thenReturn(List.of(account));
+        when(reportCache.getReport(ReportCache.Key.of(clientId, start, end, List.of(account)), true))
+                .thenReturn(Optional.of(cached));
+
+        assertThat(reportService.generateReport(clientId, start, end)).isSameAs(cached);
+        verifyNoInteractions(movementRepository, dailyBalanceRepository);
+    }
+
+    @Test
+    void generateReport_readsPeriodBalancesFromDailySnapshots() {
+        UUID clientId = UUID.randomUUID();
+        Account active = account(clientId, "150.00");
+        Account dormant = account(clientId, "30.00");
+        dormant.setInitialBalance(new BigDecimal("30.00"));
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 31);
+        List<UUID> accountIds = List.of(active.getId(), dormant.getId());
+
+        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client(clientId)));
+        when(accountRepository.findByClientId(clientId)).thenReturn(List.of(active, dormant));
+        when(dailyBalanceRepository.sumByAccountIdsAndDateRange(List.of(active.getId()), start, end)).thenReturn(List.of());
+        when(dailyBalanceRepository.findLatestOnOrBefore(accountIds, LocalDate.of(2023, 12, 31)))
+                .thenReturn(List.of(closing(active.getId(), LocalDate.of(2023, 12, 20), "90.00")));
+        when(dailyBalanceRepository.findLatestOnOrBefore(List.of(active.getId()), end))
+                .thenReturn(List.of(closing(active.getId(), LocalDate.of(2024, 1, 28), "120.00")));
+
+        Report report = reportService.generateReport(clientId, start, end, false);
+
+        assertThat(report.getAccountStatements().get(0).getOpeningBalance()).isEqualByComparingTo("90.00");
+        assertThat(report.getAccountStatements().get(0).getClosingBalance()).isEqualByComparingTo("120.00");
+        // Sin filas diarias la cuenta conserva su saldo inicial
+        assertThat(report.getAccountStatements().get(1).getOpeningBalance()).isEqualByComparingTo("30.00");
+        assertThat(report.getAccountStatements().get(1).getClosingBalance()).isEqualByComparingTo("30.00");
+        verify(movementRepository, never()).findByAccountId(any());
+    }
+
+    @Test
+    void generateReport_fallsBackToMovementTotalsForHistoryWithoutDailySnapshots() {
+        UUID clientId = UUID.randomUUID();
+        Account account = account(clientId, "170.00");
+        account.setInitialBalance(new BigDecimal("100.00"));
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 31);
+        List<UUID> accountIds = List.of(account.getId());
+
+        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client(clientId)));
+        when(accountRepository.findByClientId(clientId)).thenReturn(List.of(account));
+        // Historial anterior al backfill: sin filas en saldo_diario
+        when(dailyBalanceRepository.findLatestOnOrBefore(accountIds, LocalDate.of(2023, 12, 31))).thenReturn(List.of());
+        when(movementRepository.sumByAccountIdsAndDateRange(accountIds, DailyBalances.HISTORY_START, LocalDate.of(2023, 12, 31)))
+                .thenReturn(List.of(new AccountTotals(account.getId(), new BigDecimal("50.00"), BigDecimal.ZERO)));
+        when(movementRepository.sumByAccountIdsAndDateRange(accountIds, start, end))
+                .thenReturn(List.of(new AccountTotals(account.getId(), new BigDecimal("40.00"), new BigDecimal("20.00"))));
+
+        Report report = reportService.generateReport(clientId, start, end, false);
+
+        Report.AccountStatement statement = report.getAccountStatements().get(0);
+        assertThat(statement.getAccountTotalCredits()).isEqualByComparingTo("40.00");
+        assertThat(statement.getAccountTotalDebits()).isEqualByComparingTo("20.00");
+        assertThat(statement.getOpeningBalance()).isEqualByComparingTo("150.00");
+        assertThat(statement.getClosingBalance()).isEqualByComparingTo("170.00");
+        verify(dailyBalanceRepository, never()).sumByAccountIdsAndDateRange(eq(accountIds), any(), any());
+    }
+
+    private static DailyBalance closing(UUID accountId, LocalDate date, String balance) {
+        return DailyBalance.builder()
+                .accountId(accountId)
+                .date(date)
+                .credits(BigDecimal.ZERO)
+                .debits(BigDecimal.ZERO)
+                .closingBalance(new BigDecimal(balance))
+                .build();
+    }
+
+    private static Client client(UUID clientId) {
+        return Client.builder().id(clientId).name("Ana").identification("0102").state(true).build();
+    }
+
+    private static Account account(UUID clientId, String balance) {
+        return Account.builder()
+                .id(UUID.randomUUID())
+                .clientId(clientId)
+                .accountNumber("123456")
+                .type(AccountType.CORRIENTE)
+                .currentBalance(new BigDecimal(balance))
+                .state(true)
+                .build();
+    }
+
+    private static Movement movement(UUID accountId, String value) {
+        return Movement.builder()
+                .id(UUID.randomUUID())
+                .accountId(accountId)
+                .date(LocalDateTime.of(2024, 1, 15, 9, 0))
+                .value(new BigDecimal(value))
+                .build();
+    }
+
+    @Test
+    void prepareReportPdf_streamsStatementThroughPdfPort() throws Exception {
+        UUID clientId = UUID.randomUUID();
+        Account account = account(clientId, "100.00");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 31);
+        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client(clientId)));
+        when(accountRepository.findByClientId(clientId)).thenReturn(List.of(account));
+        when(movementRepository.findPageByAccountIdAndDateRange(eq(account.getId()), eq(start), eq(end), any(), anyInt()))
+                .thenReturn(List.of());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            Iterator<String> documents = invocation.getArgument(0);
+            OutputStream out = invocation.getArgument(1);
+            while (documents.hasNext()) {
+                out.write(documents.next().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        }).when(pdfGeneratorPort).writePdf(any(), any());
+
+        when(reportCache.maxPdfBytes()).thenReturn(1_000_000);
+
+        reportService.prepareReportPdf(clientId, start, end).writeTo(output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8))
+                .contains("Ana", "Cuenta: 123456", "No hay movimientos", "Resumen General");
+        verify(movementRepository, never()).findByAccountIdsAndDateRange(any(), any(), any());
+        verify(reportCache).putPdf(any(), aryEq(output.toByteArray()));
+    }
+
+    @Test
+    void prepareReportPdf_writesCachedPdfWithoutRendering() throws Exception {
+        UUID clientId = UUID.randomUUID();
+        Account account = account(clientId, "100.00");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 31);
+        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client(clientId)));
+        when(accountRepository.findByClientId(clientId)).thenReturn(List.of(account));
+        when(reportCache.getPdf(ReportCache.Key.of(clientId, start, end, List.of(account))))
+                .thenReturn(Optional.of(new byte[]{'%', 'P', 'D', 'F'}));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        reportService.prepareReportPdf(clientId, start, end).writeTo(output);
+
+        assertThat(output.toString(StandardCharsets.US_ASCII)).isEqualTo("%PDF");
+        verifyNoInteractions(pdfGeneratorPort, movementRepository, dailyBalanceRepository);
+    }
+
+    @Test
+    void prepareReportPdf_failsBeforeStreamingWhenClientMissing() {
         UUID clientId = UUID.randomUUID();
-        when(clientRepository.findById(clientId)).thenReturn(Optional.of(Client.builder().id(clientId).name("J").identification("1").state(true).build()));
-        when(accountRepository.findByClientId(clientId)).thenReturn(List.of());
-                when(pdfGeneratorPort.generatePdf(any())).thenReturn("PDF".getBytes());
+        when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
 
-                byte[] pdfBytes = reportService.generateReportPdf(clientId, LocalDate.now(), LocalDate.now());
-                assertThat(pdfBytes).isNotNull();
-                assertThat(new String(pdfBytes)).isEqualTo("PDF");
+        assertThatThrownBy(() -> reportService.prepareReportPdf(clientId, LocalDate.now(), LocalDate.now()))
+                .isInstanceOf(ClientNotFoundException.class);
+        verifyNoInteractions(pdfGeneratorPort);
     }
 }
@@ -0,0 +1,116 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Report;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementHtmlChunksTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+
+    private InMemoryMovementRepository movementRepository;
+
+    @BeforeEach
+    void setUp() {
+        movementRepository = new InMemoryMovementRepository();
+    }
+
+    @Test
+    void shouldSplitMovementsIntoBoundedDocuments() {
+        Account busy = account("111");
+        Account empty = account("222");
+        for (int day = 1; day <= 5; day++) {
+            movement(busy, LocalDateTime.of(2024, 1, day, 10, 0));
+        }
+        movement(busy, LocalDateTime.of(2024, 2, 1, 10, 0));
+
+        List<String> documents = drain(new StatementHtmlChunks(report(busy, empty), movementRepository, 2));
+
+        assertThat(documents).hasSize(3);
+        assertThat(documents).allSatisfy(html -> {
+            assertThat(html).startsWith("<!DOCTYPE html>").endsWith("</body></html>");
+            assertThat(rows(html)).isLessThanOrEqualTo(2);
+        });
+        assertThat(documents.get(0)).contains("Información del Cliente", "Cuenta: 111", "05/01/2024", "04/01/2024");
+        assertThat(documents.get(1)).doesNotContain("Información del Cliente", "Cuenta: 111");
+        assertThat(documents.get(2)).contains("01/01/2024", "Total Créditos", "Cuenta: 222",
+                "No hay movimientos", "Resumen General");
+        assertThat(String.join("", documents)).doesNotContain("01/02/2024");
+    }
+
+    @Test
+    void shouldProduceSingleDocumentWhenClientHasNoAccounts() {
+        List<String> documents = drain(new StatementHtmlChunks(report(), movementRepository, 2));
+
+        assertThat(documents).singleElement()
+                .satisfies(html -> assertThat(html).contains("Información del Cliente", "Resumen General"));
+    }
+
+    private static List<String> drain(StatementHtmlChunks chunks) {
+        List<String> documents = new ArrayList<>();
+        chunks.forEachRemaining(documents::add);
+        return documents;
+    }
+
+    private static int rows(String html) {
+        return html.split("<td class=", -1).length - 1;
+    }
+
+    private static Report report(Account... accounts) {
+        List<Report.AccountStatement> statements = new ArrayList<>();
+        for (Account account : accounts) {
+            statements.add(Report.AccountStatement.builder()
+                    .account(account)
+                    .movements(List.of())
+                    .accountTotalCredits(BigDecimal.ZERO)
+                    .accountTotalDebits(BigDecimal.ZERO)
+                    .finalBalance(account.getCurrentBalance())
+                    .build());
+        }
+        return Report.builder()
+                .startDate(START)
+                .endDate(END)
+                .client(Client.builder().id(UUID.randomUUID()).name("Ana").identification("0102").build())
+                .accountStatements(statements)
+                .totalCredits(BigDecimal.ZERO)
+                .totalDebits(BigDecimal.ZERO)
+                .totalBalance(BigDecimal.ZERO)
+                .build();
+    }
+
+    private static Account account(String accountNumber) {
+        return Account.builder()
+                .id(UUID.randomUUID())
+                .accountNumber(accountNumber)
+                .type(AccountType.AHORROS)
+                .currentBalance(new BigDecimal("100.00"))
+                .state(true)
+                .build();
+    }
+
+    private void movement(Account account, LocalDateTime date) {
+        movementRepository.save(Movement.builder()
+                .accountId(account.getId())
+                .date(date)
+                .movementType(MovementType.DEPOSITO)
+                .value(new BigDecimal("10.00"))
+                .balance(new BigDecimal("100.00"))
+                .build());
+    }
+}
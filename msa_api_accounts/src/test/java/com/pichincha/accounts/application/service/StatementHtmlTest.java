@@ -0,0 +1,98 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Report;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.enums.MovementType;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementHtmlTest {
+
+    @Test
+    void shouldWriteMovementRowsWithFormattedDatesAndAmounts() {
+        HtmlWriter html = new HtmlWriter(16);
+
+        StatementHtml.movementTable(html, List.of(
+                movement(MovementType.DEPOSITO, "25.00", "125.00"),
+                movement(MovementType.RETIRO, "-10.00", "115.00")));
+
+        assertThat(html.toString()).isEqualTo("<table><tr>"
+                + "<th>Fecha</th><th>Tipo Movimiento</th><th>Valor</th><th>Saldo</th></tr>"
+                + "<tr><td>05/03/2024 09:30</td><td>Depósito</td><td class='credit'>$25.00</td><td>$125.00</td></tr>"
+                + "<tr><td>05/03/2024 09:30</td><td>Retiro</td><td class='debit'>$-10.00</td><td>$115.00</td></tr>"
+                + "</table>");
+    }
+
+    @Test
+    void shouldEscapeClientAndAccountTextIntoWellFormedDocument() throws Exception {
+        Account account = Account.builder()
+                .accountNumber("<001>")
+                .type(AccountType.AHORROS)
+                .currentBalance(new BigDecimal("100.00"))
+                .state(true)
+                .build();
+        Report report = Report.builder()
+                .startDate(LocalDate.of(2024, 3, 1))
+                .endDate(LocalDate.of(2024, 3, 31))
+                .client(Client.builder().id(UUID.randomUUID()).name("Pérez & Hijos 'S.A.'").identification("<01\"02>").build())
+                .accountStatements(List.of(Report.AccountStatement.builder()
+                        .account(account)
+                        .movements(List.of())
+                        .finalBalance(account.getCurrentBalance())
+                        .build()))
+                .totalCredits(BigDecimal.ZERO)
+                .totalDebits(BigDecimal.ZERO)
+                .totalBalance(new BigDecimal("100.00"))
+                .build();
+        HtmlWriter html = new HtmlWriter(StatementHtml.DOCUMENT_CHARS);
+
+        StatementHtml.open(html);
+        StatementHtml.clientInfo(html, report);
+        StatementHtml.accountHeader(html, report.getAccountStatements().get(0));
+        StatementHtml.noMovements(html);
+        StatementHtml.summary(html, report);
+        StatementHtml.close(html);
+
+        assertThat(html.toString()).contains(
+                "Pérez &amp; Hijos &#39;S.A.&#39;", "&lt;01&quot;02&gt;", "Cuenta: &lt;001&gt;", "01/03/2024 - 31/03/2024");
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(html.toString())));
+        assertThat(document.getDocumentElement().getTextContent()).contains("Pérez & Hijos 'S.A.'", "Cuenta: <001>");
+    }
+
+    @Test
+    void shouldReuseWriterAcrossDocuments() {
+        HtmlWriter html = new HtmlWriter(16);
+        StatementHtml.open(html);
+        StatementHtml.noMovements(html);
+
+        html.reset();
+        StatementHtml.noMovements(html);
+
+        assertThat(html.toString()).isEqualTo("<p>No hay movimientos en el período seleccionado.</p>");
+    }
+
+    private static Movement movement(MovementType type, String value, String balance) {
+        return Movement.builder()
+                .date(LocalDateTime.of(2024, 3, 5, 9, 30))
+                .movementType(type)
+                .value(new BigDecimal(value))
+                .balance(new BigDecimal(balance))
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Transfer;
+import com.pichincha.accounts.domain.TransferResult;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.domain.exception.InsufficientFundsException;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.InMemoryDailyBalanceRepository;
+import com.pichincha.accounts.support.InMemoryMovementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static com.pichincha.accounts.support.TestTransactions.inTransaction;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ACCOUNTS = 1_000;
+    private static final int OPERATIONS_PER_THREAD = 1_000;
+    private static final int BATCH_SIZE = 20;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100.00");
+
+    private InMemoryAccountRepository accountRepository;
+    private InMemoryMovementRepository movementRepository;
+    private TransferService transferService;
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = new InMemoryAccountRepository();
+        movementRepository = new InMemoryMovementRepository();
+        transferService = new TransferService(movementRepository, accountRepository, new AccountLocks(1024),
+                new InMemoryDailyBalanceRepository(movementRepository), BusinessMetrics.NOOP, ReportCache.DISABLED);
+        accounts = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(openAccount());
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void shouldKeepTotalMoneyConstantUnderRandomTransfers() throws Exception {
+        long start = System.nanoTime();
+        int transfers = hammer(false);
+        double perSecond = transfers / ((System.nanoTime() - start) / 1e9);
+
+        assertMoneyIsConserved();
+        assertThat(transfers).isPositive();
+        // Cota holgada: detecta contención accidental (p. ej. un lock global), no mide rendimiento fino
+        assertThat(perSecond).isGreaterThan(1_000);
+    }
+
+    @Test
+    @Timeout(60)
+    void shouldKeepTotalMoneyConstantUnderRandomBatches() throws Exception {
+        int transfers = hammer(true);
+
+        assertMoneyIsConserved();
+        assertThat(transfers).isPositive();
+    }
+
+    private int hammer(boolean batches) throws Exception {
+        List<UUID> accountIds = accounts.stream().map(Account::getId).toList();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    int applied = 0;
+                    if (batches) {
+                        for (int i = 0; i < OPERATIONS_PER_THREAD / BATCH_SIZE; i++) {
+                            // Cuentas de un rango pequeño para que las transferencias del lote compartan cuentas
+                            int from = ThreadLocalRandom.current().nextInt(ACCOUNTS - 50);
+                            List<Transfer> batch = new ArrayList<>();
+                            for (int j = 0; j < BATCH_SIZE; j++) {
+                                batch.add(randomTransfer(accountIds.subList(from, from + 50)));
+                            }
+                            List<TransferResult> batchResults = inTransaction(() -> transferService.transfer(batch));
+                            applied += (int) batchResults.stream().filter(TransferResult::isSuccess).count();
+                        }
+                    } else {
+                        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                            Transfer transfer = randomTransfer(accountIds);
+                            try {
+                                inTransaction(() -> transferService.transfer(transfer));
+                                applied++;
+                            } catch (InsufficientFundsException ignored) {
+                                // rechazo legítimo: el saldo no alcanza
+                            }
+                        }
+                    }
+                    return applied;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Transfer randomTransfer(List<UUID> accountIds) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(accountIds.size());
+        int target = (source + random.nextInt(1, accountIds.size())) % accountIds.size();
+        return Transfer.builder()
+                .sourceAccountId(accountIds.get(source))
+                .targetAccountId(accountIds.get(target))
+                .value(BigDecimal.valueOf(random.nextInt(1, 5_000), 2))
+                .build();
+    }
+
+    private void assertMoneyIsConserved() {
+        Map<UUID, List<Movement>> byAccount = movementRepository.findAll().stream()
+                .collect(Collectors.groupingBy(Movement::getAccountId));
+        BigDecimal total = BigDecimal.ZERO;
+        for (Account account : accounts) {
+            BigDecimal balance = accountRepository.findById(account.getId()).orElseThrow().getCurrentBalance();
+            BigDecimal sum = byAccount.getOrDefault(account.getId(), List.of()).stream()
+                    .map(Movement::getValue)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertThat(balance).isEqualByComparingTo(INITIAL_BALANCE.add(sum));
+            assertThat(balance.signum()).isGreaterThanOrEqualTo(0);
+            total = total.add(balance);
+        }
+        assertThat(total).isEqualByComparingTo(INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS)));
+    }
+
+    private Account openAccount() {
+        return accountRepository.save(Account.builder()
+                .clientId(UUID.randomUUID())
+                .accountNumber(UUID.randomUUID().toString())
+                .type(AccountType.AHORROS)
+                .initialBalance(INITIAL_BALANCE)
+                .currentBalance(INITIAL_BALANCE)
+                .state(true)
+                .build());
+    }
+}
@@ -0,0 +1,188 @@
+package com.pichincha.accounts.application.service;
+
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.Transfer;
+import com.pichincha.accounts.domain.TransferResult;
+import com.pichincha.accounts.domain.enums.MovementType;
+import com.pichincha.accounts.domain.exception.AccountInactiveException;
+import com.pichincha.accounts.domain.exception.InsufficientFundsException;
+import com.pichincha.accounts.domain.exception.InvalidMovementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransferServiceTest {
+
+    // Ordenados para poder verificar el orden de bloqueo
+    private static final UUID LOW = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID HIGH = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID THIRD = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @Mock
+    private MovementRepository movementRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private AccountLocks accountLocks;
+    @Mock
+    private DailyBalanceRepository dailyBalanceRepository;
+    @Mock
+    private BusinessMetrics businessMetrics;
+    @Mock
+    private ReportCache reportCache;
+
+    @InjectMocks
+    private TransferService transferService;
+
+    private Account account(UUID id, String balance) {
+        Account a = new Account();
+        a.setId(id);
+        a.setInitialBalance(BigDecimal.ZERO);
+        a.setCurrentBalance(new BigDecimal(balance));
+        a.setState(true);
+        return a;
+    }
+
+    private Transfer transfer(UUID source, UUID target, String value) {
+        return Transfer.builder().sourceAccountId(source).targetAccountId(target).value(new BigDecimal(value)).build();
+    }
+
+    @Test
+    void shouldDebitAndCreditInOneTransactionLockingRowsInIdOrder() {
+        when(accountRepository.findByIdForUpdate(HIGH)).thenReturn(Optional.of(account(HIGH, "100.00")));
+        when(accountRepository.findByIdForUpdate(LOW)).thenReturn(Optional.of(account(LOW, "5.00")));
+        when(accountRepository.applyBalanceDelta(HIGH, new BigDecimal("-40.00"))).thenReturn(Optional.of(new BigDecimal("60.00")));
+        when(accountRepository.applyBalanceDelta(LOW, new BigDecimal("40.00"))).thenReturn(Optional.of(new BigDecimal("45.00")));
+        when(movementRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        TransferResult result = transferService.transfer(transfer(HIGH, LOW, "40.00"));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getDebit().getMovementType()).isEqualTo(MovementType.TRANSFERENCIA_OUT);
+        assertThat(result.getDebit().getValue()).isEqualByComparingTo("-40.00");
+        assertThat(result.getDebit().getBalance()).isEqualByComparingTo("60.00");
+        assertThat(result.getCredit().getMovementType()).isEqualTo(MovementType.TRANSFERENCIA_IN);
+        assertThat(result.getCredit().getBalance()).isEqualByComparingTo("45.00");
+        assertThat(result.getDebit().getDate()).isEqualTo(result.getCredit().getDate());
+
+        InOrder inOrder = inOrder(accountLocks, accountRepository);
+        inOrder.verify(accountLocks).lockUntilCompletion(HIGH, LOW);
+        inOrder.verify(accountRepository).findByIdForUpdate(LOW);
+        inOrder.verify(accountRepository).findByIdForUpdate(HIGH);
+        verify(movementRepository).saveAll(anyList());
+        verify(dailyBalanceRepository, times(2)).addMovements(any(), any(), any(), any(), eq(1L));
+    }
+
+    @Test
+    void shouldNotTouchBalancesWhenSourceHasInsufficientFunds() {
+        when(accountRepository.findByIdForUpdate(LOW)).thenReturn(Optional.of(account(LOW, "10.00")));
+        when(accountRepository.findByIdForUpdate(HIGH)).thenReturn(Optional.of(account(HIGH, "0.00")));
+
+        assertThatThrownBy(() -> transferService.transfer(transfer(LOW, HIGH, "10.01")))
+                .isInstanceOf(InsufficientFundsException.class);
+        verify(accountRepository, never()).applyBalanceDelta(any(), any());
+        verifyNoInteractions(movementRepository, dailyBalanceRepository);
+        verify(businessMetrics).recordRejection(BusinessMetrics.Rejection.INSUFFICIENT_FUNDS);
+    }
+
+    @Test
+    void shouldRejectInactiveAccount() {
+        Account inactive = account(HIGH, "0.00");
+        inactive.setState(false);
+        when(accountRepository.findByIdForUpdate(LOW)).thenReturn(Optional.of(account(LOW, "10.00")));
+        when(accountRepository.findByIdForUpdate(HIGH)).thenReturn(Optional.of(inactive));
+
+        assertThatThrownBy(() -> transferService.transfer(transfer(LOW, HIGH, "1.00")))
+                .isInstanceOf(AccountInactiveException.class);
+        verify(accountRepository, never()).applyBalanceDelta(any(), any());
+    }
+
+    @Test
+    void shouldRejectInvalidTransferBeforeLocking() {
+        assertThatThrownBy(() -> transferService.transfer(transfer(LOW, LOW, "1.00")))
+                .isInstanceOf(InvalidMovementException.class)
+                .hasMessage("La cuenta de origen y destino deben ser diferentes");
+        assertThatThrownBy(() -> transferService.transfer(transfer(LOW, HIGH, "0.00")))
+                .isInstanceOf(InvalidMovementException.class)
+                .hasMessage("El valor de la transferencia debe ser mayor que cero");
+        assertThatThrownBy(() -> transferService.transfer(transfer(null, HIGH, "1.00")))
+                .isInstanceOf(InvalidMovementException.class);
+        verifyNoInteractions(accountLocks, accountRepository);
+    }
+
+    @Test
+    void shouldApplyBatchWithOneBalanceUpdatePerAccount() {
+        when(accountRepository.findByIdForUpdate(LOW)).thenReturn(Optional.of(account(LOW, "100.00")));
+        when(accountRepository.findByIdForUpdate(HIGH)).thenReturn(Optional.of(account(HIGH, "0.00")));
+        when(accountRepository.findByIdForUpdate(THIRD)).thenReturn(Optional.of(account(THIRD, "0.00")));
+        when(accountRepository.applyBalanceDelta(any(), any())).thenAnswer(i -> Optional.of(BigDecimal.ZERO));
+        when(movementRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        List<TransferResult> results = transferService.transfer(List.of(
+                transfer(LOW, HIGH, "30.00"),
+                transfer(HIGH, THIRD, "20.00"),
+                transfer(LOW, THIRD, "50.00")));
+
+        assertThat(results).allMatch(TransferResult::isSuccess);
+        assertThat(results.get(1).getDebit().getBalance()).isEqualByComparingTo("10.00");
+        assertThat(results.get(2).getCredit().getBalance()).isEqualByComparingTo("70.00");
+        verify(accountLocks).lockUntilCompletion(LOW, HIGH, THIRD);
+        verify(accountRepository).applyBalanceDelta(LOW, new BigDecimal("-80.00"));
+        verify(accountRepository).applyBalanceDelta(HIGH, new BigDecimal("10.00"));
+        verify(accountRepository).applyBalanceDelta(THIRD, new BigDecimal("70.00"));
+        verify(accountRepository, times(3)).findByIdForUpdate(any());
+        verify(movementRepository).saveAll(argThat((List<Movement> movements) -> movements.size() == 6));
+    }
+
+    @Test
+    void shouldUseBalanceCreditedEarlierInBatchAndReportPerItemFailures() {
+        UUID missing = UUID.fromString("00000000-0000-0000-0000-000000000009");
+        when(accountRepository.findByIdForUpdate(LOW)).thenReturn(Optional.of(account(LOW, "0.00")));
+        when(accountRepository.findByIdForUpdate(HIGH)).thenReturn(Optional.of(account(HIGH, "10.00")));
+        when(accountRepository.findByIdForUpdate(missing)).thenReturn(Optional.empty());
+        when(accountRepository.applyBalanceDelta(any(), any())).thenAnswer(i -> Optional.of(BigDecimal.ZERO));
+        when(movementRepository.saveAll(anyList())).thenAnswer(i -> i.getArgument(0));
+
+        List<TransferResult> results = transferService.transfer(List.of(
+                transfer(LOW, HIGH, "5.00"),
+                transfer(HIGH, LOW, "10.00"),
+                transfer(LOW, HIGH, "5.00"),
+                transfer(LOW, missing, "1.00"),
+                transfer(LOW, LOW, "1.00")));
+
+        assertThat(results.get(0).getError()).isEqualTo("Saldo no disponible");
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(2).isSuccess()).isTrue();
+        assertThat(results.get(3).getError()).contains("Cuenta no encontrada");
+        assertThat(results.get(4).getError()).isEqualTo("La cuenta de origen y destino deben ser diferentes");
+        verify(accountRepository).applyBalanceDelta(LOW, new BigDecimal("5.00"));
+        verify(accountRepository).applyBalanceDelta(HIGH, new BigDecimal("-5.00"));
+    }
+
+    @Test
+    void shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> transferService.transfer(List.<Transfer>of()))
+                .isInstanceOf(InvalidMovementException.class);
+    }
+}
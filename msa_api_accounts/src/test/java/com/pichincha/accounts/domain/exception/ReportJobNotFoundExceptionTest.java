@@ -0,0 +1,31 @@
+package com.pichincha.accounts.domain.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportJobNotFoundExceptionTest {
+
+    @Test
+    void shouldCreateExceptionWithMessageWhenMessageProvided() {
+        String message = "Trabajo de reporte no encontrado con ID: 789";
+        
+        ReportJobNotFoundException exception = new ReportJobNotFoundException(message);
+        
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception).isInstanceOf(RuntimeException.class);
+        assertThat(exception.getCause()).isNull();
+    }
+
+    @Test
+    void shouldCreateExceptionWithMessageAndCauseWhenBothProvided() {
+        String message = "Trabajo de reporte no encontrado con ID: 789";
+        Throwable cause = new IllegalStateException("Causa");
+        
+        ReportJobNotFoundException exception = new ReportJobNotFoundException(message, cause);
+        
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getCause()).isEqualTo(cause);
+        assertThat(exception).isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.pichincha.accounts.domain.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportJobRejectedExceptionTest {
+
+    @Test
+    void shouldCreateExceptionWithMessageWhenMessageProvided() {
+        String message = "La cola de reportes está llena, intente nuevamente más tarde";
+        
+        ReportJobRejectedException exception = new ReportJobRejectedException(message);
+        
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception).isInstanceOf(RuntimeException.class);
+        assertThat(exception.getCause()).isNull();
+    }
+
+    @Test
+    void shouldCreateExceptionWithMessageAndCauseWhenBothProvided() {
+        String message = "La cola de reportes está llena, intente nuevamente más tarde";
+        Throwable cause = new IllegalStateException("Causa");
+        
+        ReportJobRejectedException exception = new ReportJobRejectedException(message, cause);
+        
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getCause()).isEqualTo(cause);
+        assertThat(exception).isInstanceOf(RuntimeException.class);
+    }
+}
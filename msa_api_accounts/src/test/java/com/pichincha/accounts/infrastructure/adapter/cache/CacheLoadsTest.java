@@ -0,0 +1,82 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheLoadsTest {
+
+    private AsyncCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().executor(Runnable::run).buildAsync();
+    }
+
+    @Test
+    void shouldLoadOnceAndServeFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        CacheLoads.get(cache, "a", key -> "valor-" + loads.incrementAndGet());
+        String value = CacheLoads.get(cache, "a", key -> "valor-" + loads.incrementAndGet());
+
+        assertThat(value).isEqualTo("valor-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotCacheNullsOrFailures() {
+        assertThat(CacheLoads.get(cache, "a", key -> null)).isNull();
+        assertThatThrownBy(() -> CacheLoads.get(cache, "b", key -> {
+            throw new IllegalStateException("falla");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("falla");
+
+        assertThat(cache.asMap()).isEmpty();
+    }
+
+    @Test
+    void shouldDropValueLoadedWhileInvalidated() {
+        String value = CacheLoads.get(cache, "a", key -> {
+            cache.synchronous().invalidate(key);
+            return "obsoleto";
+        });
+
+        assertThat(value).isEqualTo("obsoleto");
+        assertThat(cache.getIfPresent("a")).isNull();
+    }
+
+    @Test
+    void shouldLetConcurrentReadersWaitForPendingLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> CacheLoads.get(cache, "a", key -> {
+            loading.countDown();
+            await(release);
+            return "valor";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> CacheLoads.get(cache, "a", key -> "duplicado"));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.enums.AccountType;
+import com.pichincha.accounts.support.InMemoryAccountRepository;
+import com.pichincha.accounts.support.TestTransactions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CachingAccountRepositoryTest {
+
+    private InMemoryAccountRepository delegate;
+    private CachingAccountRepository repository;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new InMemoryAccountRepository());
+        repository = new CachingAccountRepository(delegate, Caffeine.newBuilder().buildAsync(), Caffeine.newBuilder().buildAsync());
+        account = delegate.save(Account.builder()
+                .clientId(UUID.randomUUID())
+                .accountNumber("478758")
+                .type(AccountType.AHORROS)
+                .initialBalance(new BigDecimal("100.00"))
+                .currentBalance(new BigDecimal("100.00"))
+                .state(true)
+                .build());
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        repository.findById(account.getId());
+        repository.findById(account.getId());
+        repository.findByAccountNumber("478758");
+
+        verify(delegate, times(1)).findById(account.getId());
+        verify(delegate, times(1)).findByAccountNumber("478758");
+    }
+
+    @Test
+    void shouldIndexAccountNumberAndShareEntryById() {
+        assertThat(repository.findByAccountNumber("478758")).map(Account::getId).contains(account.getId());
+        assertThat(repository.findByAccountNumber("478758")).isPresent();
+        assertThat(repository.findById(account.getId())).isPresent();
+
+        verify(delegate, times(1)).findByAccountNumber("478758");
+        verify(delegate, times(0)).findById(account.getId());
+    }
+
+    @Test
+    void shouldReturnCopiesThatDoNotAlterCachedAccount() {
+        repository.findById(account.getId()).orElseThrow().setCurrentBalance(BigDecimal.ZERO);
+
+        assertThat(repository.findById(account.getId()).orElseThrow().getCurrentBalance()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void shouldInvalidateOnBalanceChangeSaveAndDelete() {
+        repository.findById(account.getId());
+        repository.applyBalanceDelta(account.getId(), new BigDecimal("-40.00"));
+        assertThat(repository.findById(account.getId()).orElseThrow().getCurrentBalance()).isEqualByComparingTo("60.00");
+
+        Account inactive = repository.findById(account.getId()).orElseThrow();
+        inactive.setState(false);
+        repository.save(inactive);
+        assertThat(repository.findById(account.getId()).orElseThrow().getState()).isFalse();
+
+        repository.deleteById(account.getId());
+        assertThat(repository.findById(account.getId())).isEmpty();
+        assertThat(repository.findByAccountNumber("478758")).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheMissingAccounts() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThat(repository.findById(unknown)).isEmpty();
+        assertThat(repository.findById(unknown)).isEmpty();
+        assertThat(repository.findByAccountNumber("000000")).isEmpty();
+
+        verify(delegate, times(2)).findById(unknown);
+    }
+
+    @Test
+    void shouldAlwaysReadFromDatabaseInsideReadWriteTransaction() {
+        repository.findById(account.getId());
+        delegate.applyBalanceDelta(account.getId(), new BigDecimal("-40.00"));
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(repository.findById(account.getId()).orElseThrow().getCurrentBalance()).isEqualByComparingTo("60.00");
+            assertThat(repository.findByAccountNumber("478758").orElseThrow().getCurrentBalance()).isEqualByComparingTo("60.00");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    void shouldInvalidateAgainWhenTransactionCompletes() {
+        TestTransactions.inTransaction(() -> {
+            repository.applyBalanceDelta(account.getId(), new BigDecimal("-40.00"));
+            // Otra lectura vuelve a cargar la cuenta antes del commit
+            return repository.findById(account.getId());
+        });
+        delegate.applyBalanceDelta(account.getId(), new BigDecimal("-10.00"));
+
+        assertThat(repository.findById(account.getId()).orElseThrow().getCurrentBalance()).isEqualByComparingTo("50.00");
+    }
+}
@@ -0,0 +1,74 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.support.InMemoryClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CachingClientRepositoryTest {
+
+    private InMemoryClientRepository delegate;
+    private CachingClientRepository repository;
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new InMemoryClientRepository());
+        repository = new CachingClientRepository(delegate, Caffeine.newBuilder().buildAsync(), Caffeine.newBuilder().buildAsync());
+        client = delegate.save(Client.builder()
+                .id(UUID.randomUUID())
+                .name("Jose Lema")
+                .identification("1234567890")
+                .clientId("jlema")
+                .state(true)
+                .build());
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        repository.findByClientId("jlema");
+        repository.findByClientId("jlema");
+        repository.findById(client.getId());
+
+        verify(delegate, times(1)).findByClientId("jlema");
+        verify(delegate, times(0)).findById(client.getId());
+    }
+
+    @Test
+    void shouldReturnCopiesThatDoNotAlterCachedClient() {
+        repository.findById(client.getId()).orElseThrow().setName("Otro");
+
+        assertThat(repository.findById(client.getId()).orElseThrow().getName()).isEqualTo("Jose Lema");
+    }
+
+    @Test
+    void shouldInvalidateOnSaveAndDelete() {
+        Client renamed = repository.findById(client.getId()).orElseThrow();
+        renamed.setName("Jose A. Lema");
+        repository.save(renamed);
+        assertThat(repository.findById(client.getId()).orElseThrow().getName()).isEqualTo("Jose A. Lema");
+
+        repository.deleteById(client.getId());
+        assertThat(repository.findById(client.getId())).isEmpty();
+        assertThat(repository.findByClientId("jlema")).isEmpty();
+    }
+
+    @Test
+    void shouldDropClientIdIndexWhenClientIdChanges() {
+        repository.findByClientId("jlema");
+        Client updated = repository.findById(client.getId()).orElseThrow();
+        updated.setClientId("joselema");
+        repository.save(updated);
+
+        assertThat(repository.findByClientId("jlema")).isEmpty();
+        assertThat(repository.findByClientId("joselema")).map(Client::getId).contains(client.getId());
+    }
+}
@@ -0,0 +1,82 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pichincha.accounts.support.InMemoryIdempotencyKeyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CachingIdempotencyKeyRepositoryTest {
+
+    private InMemoryIdempotencyKeyRepository delegate;
+    private CachingIdempotencyKeyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new InMemoryIdempotencyKeyRepository());
+        repository = new CachingIdempotencyKeyRepository(delegate, Caffeine.newBuilder().maximumSize(100).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldServeCompletedKeyFromIndex() {
+        UUID movementId = UUID.randomUUID();
+        repository.claim("k-1");
+        repository.complete("k-1", movementId);
+
+        assertThat(repository.findMovementId("k-1")).contains(movementId);
+        assertThat(repository.findMovementId("k-1")).contains(movementId);
+        verify(delegate, never()).findMovementId("k-1");
+    }
+
+    @Test
+    void shouldIndexKeyLoadedFromDelegate() {
+        UUID movementId = UUID.randomUUID();
+        delegate.claim("k-1");
+        delegate.complete("k-1", movementId);
+
+        repository.findMovementId("k-1");
+        repository.findMovementId("k-1");
+
+        verify(delegate, times(1)).findMovementId("k-1");
+    }
+
+    @Test
+    void shouldNotIndexMissingKeys() {
+        repository.findMovementId("k-1");
+        delegate.claim("k-1");
+        delegate.complete("k-1", UUID.randomUUID());
+
+        assertThat(repository.findMovementId("k-1")).isPresent();
+    }
+
+    @Test
+    void shouldIndexCompletedKeyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        repository.claim("k-1");
+        repository.complete("k-1", UUID.randomUUID());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        repository.findMovementId("k-1");
+
+        verify(delegate, times(1)).findMovementId("k-1");
+    }
+}
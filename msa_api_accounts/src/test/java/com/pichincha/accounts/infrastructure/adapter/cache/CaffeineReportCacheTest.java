@@ -0,0 +1,115 @@
+package com.pichincha.accounts.infrastructure.adapter.cache;
+
+import com.pichincha.accounts.application.port.output.ReportCache;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.Report;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineReportCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+
+    private final CaffeineReportCache cache = new CaffeineReportCache(8_000, Duration.ofMinutes(10));
+
+    @Test
+    void shouldKeepEachArtifactSeparately() {
+        ReportCache.Key key = key(UUID.randomUUID(), 1);
+        Report report = report();
+        cache.putReport(key, true, report);
+        cache.putPdf(key, new byte[]{1, 2, 3});
+
+        assertThat(cache.getReport(key, true)).containsSame(report);
+        assertThat(cache.getReport(key, false)).isEmpty();
+        assertThat(cache.getPdf(key)).hasValueSatisfying(pdf -> assertThat(pdf).containsExactly(1, 2, 3));
+    }
+
+    @Test
+    void shouldMissWhenLedgerVersionChanges() {
+        UUID clientId = UUID.randomUUID();
+        cache.putPdf(key(clientId, 1), new byte[]{1});
+
+        assertThat(cache.getPdf(key(clientId, 1))).isPresent();
+        assertThat(cache.getPdf(key(clientId, 2))).isEmpty();
+    }
+
+    @Test
+    void shouldKeyOnlyByLedgerVersionNotByAccountState() {
+        UUID clientId = UUID.randomUUID();
+        Account account = account(clientId, 1);
+        List<Account> accounts = new ArrayList<>(List.of(account));
+        ReportCache.Key key = ReportCache.Key.of(clientId, START, END, accounts);
+        cache.putPdf(key, new byte[]{1});
+
+        // Cambiar la cuenta o la lista leída después no altera la clave ya guardada
+        account.setCurrentBalance(new BigDecimal("99.00"));
+        accounts.clear();
+
+        assertThat(key.accounts()).containsExactly(new ReportCache.AccountVersion(account.getId(), 1L));
+        assertThat(cache.getPdf(ReportCache.Key.of(clientId, START, END, List.of(account)))).isPresent();
+    }
+
+    @Test
+    void shouldEvictOnlyEntriesOfClient() {
+        ReportCache.Key evicted = key(UUID.randomUUID(), 1);
+        ReportCache.Key kept = key(UUID.randomUUID(), 1);
+        cache.putPdf(evicted, new byte[]{1});
+        cache.putReport(evicted, false, report());
+        cache.putPdf(kept, new byte[]{2});
+
+        cache.evictClient(evicted.clientId());
+
+        assertThat(cache.getPdf(evicted)).isEmpty();
+        assertThat(cache.getReport(evicted, false)).isEmpty();
+        assertThat(cache.getPdf(kept)).isPresent();
+    }
+
+    @Test
+    void shouldNotKeepPdfLargerThanAnEighthOfCapacity() {
+        ReportCache.Key key = key(UUID.randomUUID(), 1);
+
+        cache.putPdf(key, new byte[cache.maxPdfBytes() + 1]);
+
+        assertThat(cache.maxPdfBytes()).isEqualTo(1_000);
+        assertThat(cache.getPdf(key)).isEmpty();
+    }
+
+    @Test
+    void shouldBoundCacheByBytes() {
+        UUID clientId = UUID.randomUUID();
+        for (int version = 0; version < 100; version++) {
+            cache.putPdf(key(clientId, version), new byte[1_000]);
+        }
+        cache.entries().cleanUp();
+
+        assertThat(cache.entries().policy().eviction().orElseThrow().weightedSize().orElseThrow())
+                .isLessThanOrEqualTo(8_000);
+    }
+
+    private static ReportCache.Key key(UUID clientId, long ledgerVersion) {
+        return ReportCache.Key.of(clientId, START, END, List.of(account(clientId, ledgerVersion)));
+    }
+
+    private static Account account(UUID clientId, long ledgerVersion) {
+        return Account.builder()
+                .id(new UUID(0, 1))
+                .clientId(clientId)
+                .currentBalance(new BigDecimal("10.00"))
+                .state(true)
+                .ledgerVersion(ledgerVersion)
+                .build();
+    }
+
+    private static Report report() {
+        return Report.builder().startDate(START).endDate(END).accountStatements(List.of()).build();
+    }
+}
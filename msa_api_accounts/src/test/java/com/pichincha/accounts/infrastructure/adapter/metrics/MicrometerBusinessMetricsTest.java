@@ -0,0 +1,55 @@
+package com.pichincha.accounts.infrastructure.adapter.metrics;
+
+import com.pichincha.accounts.application.port.output.BusinessMetrics;
+import com.pichincha.accounts.domain.exception.AccountInactiveException;
+import com.pichincha.accounts.domain.exception.InsufficientFundsException;
+import com.pichincha.accounts.domain.exception.InvalidMovementException;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerBusinessMetricsTest {
+
+    private final MockClock clock = new MockClock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+    private final MicrometerBusinessMetrics metrics = new MicrometerBusinessMetrics(registry);
+
+    @Test
+    void shouldTimeMovementCreationByOutcome() {
+        long start = metrics.start();
+        clock.add(25, TimeUnit.MILLISECONDS);
+        metrics.recordMovementCreation(start, null);
+        metrics.recordMovementCreation(metrics.start(), new InvalidMovementException("x"));
+
+        assertThat(registry.get("movements.create").tag("outcome", "success").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(25);
+        assertThat(registry.get("movements.create").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get("movements.rejected").counters()).allMatch(counter -> counter.count() == 0);
+    }
+
+    @Test
+    void shouldCountBusinessRejectionsOfMovementCreation() {
+        metrics.recordMovementCreation(metrics.start(), new InsufficientFundsException("Saldo no disponible"));
+        metrics.recordMovementCreation(metrics.start(), new AccountInactiveException("La cuenta no está activa"));
+        metrics.recordRejection(BusinessMetrics.Rejection.INSUFFICIENT_FUNDS);
+
+        assertThat(registry.get("movements.rejected").tag("reason", "insufficient_funds").counter().count()).isEqualTo(2);
+        assertThat(registry.get("movements.rejected").tag("reason", "account_inactive").counter().count()).isEqualTo(1);
+        assertThat(registry.get("movements.create").tag("outcome", "insufficient_funds").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTimeEachReportPhaseSeparately() {
+        long start = metrics.start();
+        clock.add(40, TimeUnit.MILLISECONDS);
+        metrics.recordReportPhase(BusinessMetrics.ReportPhase.PDF, start);
+
+        assertThat(registry.get("reports.phase").tag("phase", "pdf").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40);
+        assertThat(registry.get("reports.phase").tag("phase", "query").timer().count()).isZero();
+    }
+}
@@ -0,0 +1,62 @@
+package com.pichincha.accounts.infrastructure.adapter.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCountInterceptorTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SqlStatementCountInterceptor interceptor = new SqlStatementCountInterceptor(counter, registry);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/cuentas");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    @Test
+    void shouldRecordStatementsExecutedDuringRequestByRoute() {
+        MockHttpServletRequest request = request("/api/cuentas");
+        interceptor.preHandle(request, response, null);
+        for (int i = 0; i < 3; i++) {
+            counter.inspect("select 1");
+        }
+        interceptor.afterCompletion(request, response, null, null);
+
+        DistributionSummary summary = registry.get("requests.sql.statements")
+                .tag("method", "GET").tag("uri", "/api/cuentas").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCountStatementsOutsideRequests() {
+        assertThat(counter.inspect("select 1")).isEqualTo("select 1");
+        assertThat(counter.end()).isZero();
+    }
+
+    @Test
+    void shouldRecordStreamingRequestOnceWhenAsyncHandlingStarts() {
+        MockHttpServletRequest request = request("/api/movimientos/export");
+        interceptor.preHandle(request, response, null);
+        counter.inspect("select 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        DistributionSummary summary = registry.get("requests.sql.statements").tag("uri", "/api/movimientos/export").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(1);
+    }
+}
@@ -1,25 +1,85 @@
 package com.pichincha.accounts.infrastructure.adapter.pdf;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PdfGeneratorAdapterTest {
 
     @Test
-    void shouldThrowRuntimeExceptionWhenHtmlIsNullOnGeneratePdf() {
-        PdfGeneratorAdapter adapter = new PdfGeneratorAdapter();
-        assertThatThrownBy(() -> adapter.generatePdf(null))
+    void shouldAppendEveryHtmlDocumentToSinglePdfOnWritePdf() throws Exception {
+        PdfGeneratorAdapter adapter = adapter();
+        String html = "<html><body><p>Bloque</p></body></html>";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        adapter.writePdf(List.of(html, html, html).iterator(), output);
+
+        try (PDDocument document = PDDocument.load(output.toByteArray())) {
+            assertThat(document.getNumberOfPages()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void shouldThrowRuntimeExceptionWhenHtmlIsNullOnWritePdf() {
+        PdfGeneratorAdapter adapter = adapter();
+        List<String> documents = Collections.singletonList(null);
+        assertThatThrownBy(() -> adapter.writePdf(documents.iterator(), new ByteArrayOutputStream()))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Error generando PDF");
     }
 
     @Test
-    void shouldThrowRuntimeExceptionWhenHtmlIsNullOnGenerateBase64Pdf() {
-        PdfGeneratorAdapter adapter = new PdfGeneratorAdapter();
-        assertThatThrownBy(() -> adapter.generateBase64Pdf(null))
+    void shouldRecordRenderTimeAndSizeMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PdfGeneratorAdapter adapter = new PdfGeneratorAdapter(new PdfRenderResources(), registry, 1, Duration.ofSeconds(5));
+        String html = "<html><body><p>Bloque</p></body></html>";
+
+        byte[] pdf = render(adapter, html);
+        adapter.writePdf(List.of(html, html).iterator(), new ByteArrayOutputStream());
+
+        assertThat(registry.get("reports.pdf.render").tag("mode", "stream").timer().count()).isEqualTo(3);
+        assertThat(registry.get("reports.pdf.render.wait").timer().count()).isEqualTo(3);
+        assertThat(registry.get("reports.pdf.size").summary().count()).isEqualTo(2);
+        assertThat(registry.get("reports.pdf.size").summary().max()).isGreaterThanOrEqualTo(pdf.length);
+    }
+
+    @Test
+    void shouldFailWhenNoRenderPermitIsAvailable() {
+        PdfGeneratorAdapter adapter = new PdfGeneratorAdapter(new PdfRenderResources(), new SimpleMeterRegistry(), 0, Duration.ZERO);
+
+        assertThatThrownBy(() -> render(adapter, "<html><body></body></html>"))
                 .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Error generando PDF Base64");
+                .hasMessageContaining("No hay capacidad para renderizar el PDF");
+    }
+
+    @Test
+    void shouldResolveCachedStatementStylesheet() throws Exception {
+        String html = "<html><head><link rel='stylesheet' type='text/css' href='statement.css' /></head>"
+                + "<body><h1>Estado de Cuenta</h1></body></html>";
+
+        byte[] pdf = render(adapter(), html);
+
+        try (PDDocument document = PDDocument.load(pdf)) {
+            assertThat(new PDFTextStripper().getText(document)).contains("Estado de Cuenta");
+        }
+    }
+
+    private static byte[] render(PdfGeneratorAdapter adapter, String html) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        adapter.writePdf(List.of(html).iterator(), output);
+        return output.toByteArray();
+    }
+
+    private static PdfGeneratorAdapter adapter() {
+        return new PdfGeneratorAdapter(new PdfRenderResources(), new SimpleMeterRegistry(), 2, Duration.ofSeconds(5));
     }
 }
@@ -0,0 +1,42 @@
+package com.pichincha.accounts.infrastructure.adapter.pdf;
+
+import com.openhtmltopdf.extend.FSStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PdfRenderResourcesTest {
+
+    private final PdfRenderResources resources = new PdfRenderResources();
+
+    @Test
+    void shouldServeStatementStylesheetFromMemory() throws Exception {
+        FSStream stream = resources.open(PdfRenderResources.BASE_URI + "statement.css");
+
+        try (InputStream input = stream.getStream()) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).contains("table-layout: fixed");
+        }
+    }
+
+    @Test
+    void shouldReturnNullForUnknownResource() {
+        assertThat(resources.open(PdfRenderResources.BASE_URI + "otro.css")).isNull();
+    }
+
+    @Test
+    void shouldParseHtmlWithoutLoadingExternalDtd() throws Exception {
+        String html = "<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.0 Strict//EN\" "
+                + "\"http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd\"><html><body><p>Hola</p></body></html>";
+
+        assertThat(resources.builder(html)).isNotNull();
+    }
+
+    @Test
+    void shouldRejectMalformedHtml() {
+        assertThatThrownBy(() -> resources.builder("<html><body>")).isInstanceOf(Exception.class);
+    }
+}
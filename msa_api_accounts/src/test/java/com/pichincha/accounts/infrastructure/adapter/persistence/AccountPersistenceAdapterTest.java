@@ -1,21 +1,33 @@
 package com.pichincha.accounts.infrastructure.adapter.persistence;
 
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.AccountEntity;
 import com.pichincha.accounts.infrastructure.adapter.persistence.repository.AccountJpaRepository;
 import com.pichincha.accounts.infrastructure.mapper.AccountEntityMapper;
+import com.pichincha.accounts.domain.enums.AccountType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +38,9 @@ class AccountPersistenceAdapterTest {
     @Mock
     private AccountEntityMapper accountEntityMapper;
 
+    @Mock
+    private ProjectionQueries projectionQueries;
+
     @InjectMocks
     private AccountPersistenceAdapter adapter;
 
@@ -111,6 +126,52 @@ class AccountPersistenceAdapterTest {
         assertThat(result).hasSize(1).first().isSameAs(domain);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFindPageWithProjectionAndCountBySpecification() {
+        Account d = new Account();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(projectionQueries.findPage(eq(AccountEntity.class), any(Specification.class), eq(pageable), any(), any()))
+                .thenAnswer(inv -> new PageImpl<>(List.of(d), pageable, inv.<LongSupplier>getArgument(4).getAsLong()));
+        when(accountJpaRepository.count(any(Specification.class))).thenReturn(41L);
+
+        Page<Account> result = adapter.findAll(new AccountFilter(), pageable);
+        assertThat(result.getContent()).containsExactly(d);
+        assertThat(result.getTotalElements()).isEqualTo(41);
+        verify(accountJpaRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFindSliceWithProjectionWithoutCountQuery() {
+        Account d = new Account();
+        Pageable pageable = PageRequest.of(1, 20);
+        when(projectionQueries.findSlice(eq(AccountEntity.class), any(Specification.class), eq(pageable), eq(AccountPersistenceAdapter.LIST_ROW)))
+                .thenReturn(new SliceImpl<>(List.of(d), pageable, true));
+
+        Slice<Account> result = adapter.findSlice(new AccountFilter(), pageable);
+        assertThat(result.getContent()).containsExactly(d);
+        assertThat(result.hasNext()).isTrue();
+        verify(accountJpaRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void shouldMapProjectedRowToDomain() {
+        UUID id = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+
+        Account account = AccountPersistenceAdapter.LIST_ROW.mapper().apply(new Object[]{
+                id, clientId, "4780000001", AccountType.AHORROS, new BigDecimal("100.00"), new BigDecimal("75.00"), true});
+
+        assertThat(account.getId()).isEqualTo(id);
+        assertThat(account.getClientId()).isEqualTo(clientId);
+        assertThat(account.getAccountNumber()).isEqualTo("4780000001");
+        assertThat(account.getType()).isEqualTo(AccountType.AHORROS);
+        assertThat(account.getInitialBalance()).isEqualByComparingTo("100.00");
+        assertThat(account.getCurrentBalance()).isEqualByComparingTo("75.00");
+        assertThat(account.getState()).isTrue();
+    }
+
     @Test
     void shouldFindByClientIdAndMapList() {
         UUID clientId = UUID.randomUUID();
@@ -142,4 +203,33 @@ class AccountPersistenceAdapterTest {
         when(accountJpaRepository.existsByAccountNumber("N")).thenReturn(false);
         assertThat(adapter.existsByAccountNumber("N")).isFalse();
     }
+
+    @Test
+    void shouldFindByIdForUpdateAndMapWhenPresent() {
+        UUID id = UUID.randomUUID();
+        AccountEntity entity = sampleEntity(id);
+        Account domain = sampleDomain(id);
+        when(accountJpaRepository.findByIdForUpdate(id)).thenReturn(Optional.of(entity));
+        when(accountEntityMapper.toDomain(entity)).thenReturn(domain);
+
+        assertThat(adapter.findByIdForUpdate(id)).contains(domain);
+    }
+
+    @Test
+    void shouldReturnNewBalanceWhenBalanceDeltaIsApplied() {
+        UUID id = UUID.randomUUID();
+        when(accountJpaRepository.applyBalanceDelta(id, new BigDecimal("-10.00"))).thenReturn(1);
+        when(accountJpaRepository.findCurrentBalanceById(id)).thenReturn(Optional.of(new BigDecimal("90.00")));
+
+        assertThat(adapter.applyBalanceDelta(id, new BigDecimal("-10.00"))).contains(new BigDecimal("90.00"));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenBalanceDeltaIsRejected() {
+        UUID id = UUID.randomUUID();
+        when(accountJpaRepository.applyBalanceDelta(id, new BigDecimal("-10.00"))).thenReturn(0);
+
+        assertThat(adapter.applyBalanceDelta(id, new BigDecimal("-10.00"))).isEmpty();
+        verify(accountJpaRepository, never()).findCurrentBalanceById(any());
+    }
 }
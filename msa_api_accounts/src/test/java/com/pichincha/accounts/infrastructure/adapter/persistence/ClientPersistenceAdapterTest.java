@@ -1,20 +1,31 @@
 package com.pichincha.accounts.infrastructure.adapter.persistence;
 
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.ClientEntity;
 import com.pichincha.accounts.infrastructure.adapter.persistence.repository.ClientJpaRepository;
 import com.pichincha.accounts.infrastructure.mapper.ClientEntityMapper;
+import com.pichincha.accounts.domain.enums.Gender;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +36,9 @@ class ClientPersistenceAdapterTest {
     @Mock
     private ClientEntityMapper clientEntityMapper;
 
+    @Mock
+    private ProjectionQueries projectionQueries;
+
     @InjectMocks
     private ClientPersistenceAdapter adapter;
 
@@ -99,6 +113,54 @@ class ClientPersistenceAdapterTest {
         assertThat(adapter.findAll()).hasSize(1).first().isSameAs(d);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFindPageWithProjectionAndCountBySpecification() {
+        Client d = new Client();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(projectionQueries.findPage(eq(ClientEntity.class), any(Specification.class), eq(pageable), any(), any()))
+                .thenAnswer(inv -> new PageImpl<>(List.of(d), pageable, inv.<LongSupplier>getArgument(4).getAsLong()));
+        when(clientJpaRepository.count(any(Specification.class))).thenReturn(41L);
+
+        Page<Client> result = adapter.findAll(new ClientFilter(), pageable);
+        assertThat(result.getContent()).containsExactly(d);
+        assertThat(result.getTotalElements()).isEqualTo(41);
+        verify(clientJpaRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFindSliceWithProjectionWithoutCountQuery() {
+        Client d = new Client();
+        Pageable pageable = PageRequest.of(1, 20);
+        when(projectionQueries.findSlice(eq(ClientEntity.class), any(Specification.class), eq(pageable), eq(ClientPersistenceAdapter.LIST_ROW)))
+                .thenReturn(new SliceImpl<>(List.of(d), pageable, true));
+
+        Slice<Client> result = adapter.findSlice(new ClientFilter(), pageable);
+        assertThat(result.getContent()).containsExactly(d);
+        assertThat(result.hasNext()).isTrue();
+        verify(clientJpaRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void shouldMapProjectedRowToDomain() {
+        UUID id = UUID.randomUUID();
+
+        Client client = ClientPersistenceAdapter.LIST_ROW.mapper().apply(new Object[]{
+                id, "Jose Lema", Gender.MASCULINO, 30, "1234567890", "098254785", "Otavalo sn y principal", "jlema", true});
+
+        assertThat(client.getId()).isEqualTo(id);
+        assertThat(client.getName()).isEqualTo("Jose Lema");
+        assertThat(client.getGender()).isEqualTo(Gender.MASCULINO);
+        assertThat(client.getAge()).isEqualTo(30);
+        assertThat(client.getIdentification()).isEqualTo("1234567890");
+        assertThat(client.getPhone()).isEqualTo("098254785");
+        assertThat(client.getAddress()).isEqualTo("Otavalo sn y principal");
+        assertThat(client.getClientId()).isEqualTo("jlema");
+        assertThat(client.getState()).isTrue();
+        assertThat(client.getPassword()).isNull();
+    }
+
     @Test
     void shouldDeleteByIdWhenCalled() {
         UUID id = UUID.randomUUID();
@@ -1,22 +1,39 @@
 package com.pichincha.accounts.infrastructure.adapter.persistence;
 
+import com.pichincha.accounts.domain.AccountTotals;
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.MovementFilter;
 import com.pichincha.accounts.infrastructure.adapter.persistence.entity.MovementEntity;
 import com.pichincha.accounts.infrastructure.adapter.persistence.repository.MovementJpaRepository;
 import com.pichincha.accounts.infrastructure.mapper.MovementEntityMapper;
+import com.pichincha.accounts.domain.enums.MovementType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +44,9 @@ class MovementPersistenceAdapterTest {
     @Mock
     private MovementEntityMapper movementEntityMapper;
 
+    @Mock
+    private ProjectionQueries projectionQueries;
+
     @InjectMocks
     private MovementPersistenceAdapter adapter;
 
@@ -56,6 +76,23 @@ class MovementPersistenceAdapterTest {
         verify(movementJpaRepository).save(e);
     }
 
+    @Test
+    void shouldSaveAllInSingleRepositoryCall() {
+        Movement d1 = domain(null);
+        Movement d2 = domain(null);
+        MovementEntity e1 = entity(null);
+        MovementEntity e2 = entity(null);
+        when(movementEntityMapper.toEntity(d1)).thenReturn(e1);
+        when(movementEntityMapper.toEntity(d2)).thenReturn(e2);
+        when(movementJpaRepository.saveAll(List.of(e1, e2))).thenReturn(List.of(e1, e2));
+        when(movementEntityMapper.toDomain(e1)).thenReturn(d1);
+        when(movementEntityMapper.toDomain(e2)).thenReturn(d2);
+
+        assertThat(adapter.saveAll(List.of(d1, d2))).containsExactly(d1, d2);
+        verify(movementJpaRepository).saveAll(List.of(e1, e2));
+        verify(movementJpaRepository, never()).save(any());
+    }
+
     @Test
     void shouldFindByIdAndMapWhenPresent() {
         UUID id = UUID.randomUUID();
@@ -82,6 +119,52 @@ class MovementPersistenceAdapterTest {
         assertThat(adapter.findAll()).hasSize(1).first().isSameAs(d);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFindPageWithProjectionAndCountBySpecification() {
+        Movement d = new Movement();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(projectionQueries.findPage(eq(MovementEntity.class), any(Specification.class), eq(pageable), any(), any()))
+                .thenAnswer(inv -> new PageImpl<>(List.of(d), pageable, inv.<LongSupplier>getArgument(4).getAsLong()));
+        when(movementJpaRepository.count(any(Specification.class))).thenReturn(41L);
+
+        Page<Movement> result = adapter.findAll(new MovementFilter(), pageable);
+        assertThat(result.getContent()).containsExactly(d);
+        assertThat(result.getTotalElements()).isEqualTo(41);
+        verify(movementJpaRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFindSliceWithProjectionWithoutCountQuery() {
+        Movement d = new Movement();
+        Pageable pageable = PageRequest.of(1, 20);
+        when(projectionQueries.findSlice(eq(MovementEntity.class), any(Specification.class), eq(pageable), eq(MovementPersistenceAdapter.LIST_ROW)))
+                .thenReturn(new SliceImpl<>(List.of(d), pageable, true));
+
+        Slice<Movement> result = adapter.findSlice(new MovementFilter(), pageable);
+        assertThat(result.getContent()).containsExactly(d);
+        assertThat(result.hasNext()).isTrue();
+        verify(movementJpaRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void shouldMapProjectedRowToDomain() {
+        UUID id = UUID.randomUUID();
+        UUID accountId = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.of(2024, 1, 2, 10, 0);
+
+        Movement movement = MovementPersistenceAdapter.LIST_ROW.mapper().apply(new Object[]{
+                id, accountId, date, MovementType.RETIRO, new BigDecimal("-10.00"), new BigDecimal("90.00")});
+
+        assertThat(movement.getId()).isEqualTo(id);
+        assertThat(movement.getAccountId()).isEqualTo(accountId);
+        assertThat(movement.getDate()).isEqualTo(date);
+        assertThat(movement.getMovementType()).isEqualTo(MovementType.RETIRO);
+        assertThat(movement.getValue()).isEqualByComparingTo("-10.00");
+        assertThat(movement.getBalance()).isEqualByComparingTo("90.00");
+    }
+
     @Test
     void shouldFindByAccountIdAndMapList() {
         UUID accountId = UUID.randomUUID();
@@ -92,6 +175,43 @@ class MovementPersistenceAdapterTest {
         assertThat(adapter.findByAccountId(accountId)).hasSize(1).first().isSameAs(d);
     }
 
+    @Test
+    void shouldFindFirstPageWhenCursorIsNull() {
+        UUID accountId = UUID.randomUUID();
+        MovementEntity e = entity(UUID.randomUUID());
+        Movement d = domain(e.getId());
+        when(movementJpaRepository.findFirstPageByAccountId(accountId, 51)).thenReturn(List.of(e));
+        when(movementEntityMapper.toDomain(e)).thenReturn(d);
+        assertThat(adapter.findPageByAccountId(accountId, null, 51)).containsExactly(d);
+    }
+
+    @Test
+    void shouldSeekPastCursorWhenCursorIsPresent() {
+        UUID accountId = UUID.randomUUID();
+        MovementCursor cursor = new MovementCursor(LocalDateTime.of(2024, 3, 1, 8, 0), UUID.randomUUID());
+        MovementEntity e = entity(UUID.randomUUID());
+        Movement d = domain(e.getId());
+        when(movementJpaRepository.findPageByAccountIdBefore(accountId, cursor.getDate(), cursor.getId(), 51))
+                .thenReturn(List.of(e));
+        when(movementEntityMapper.toDomain(e)).thenReturn(d);
+        assertThat(adapter.findPageByAccountId(accountId, cursor, 51)).containsExactly(d);
+    }
+
+    @Test
+    void shouldSeekWithinDateRangeWhenReadingStatementChunks() {
+        UUID accountId = UUID.randomUUID();
+        MovementCursor cursor = new MovementCursor(LocalDateTime.of(2024, 1, 20, 8, 0), UUID.randomUUID());
+        MovementEntity e = entity(UUID.randomUUID());
+        Movement d = domain(e.getId());
+        when(movementJpaRepository.findPageByAccountIdAndDateBetweenBefore(accountId,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDate.of(2024, 1, 31).atTime(LocalTime.MAX),
+                cursor.getDate(), cursor.getId(), 501))
+                .thenReturn(List.of(e));
+        when(movementEntityMapper.toDomain(e)).thenReturn(d);
+        assertThat(adapter.findPageByAccountIdAndDateRange(accountId, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), cursor, 501))
+                .containsExactly(d);
+    }
+
     @Test
     void shouldFindByAccountIdAndDateRangeAndMapList() {
         UUID accountId = UUID.randomUUID();
@@ -105,6 +225,57 @@ class MovementPersistenceAdapterTest {
         assertThat(adapter.findByAccountIdAndDateRange(accountId, start, end)).hasSize(1).first().isSameAs(d);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamExportInChronologicalOrderWithFetchSize() {
+        Movement d = new Movement();
+        Sort chronological = Sort.by(Sort.Order.asc("date"), Sort.Order.asc("id"));
+        when(projectionQueries.stream(eq(MovementEntity.class), any(Specification.class), eq(chronological),
+                eq(MovementPersistenceAdapter.LIST_ROW), eq(MovementPersistenceAdapter.EXPORT_FETCH_SIZE)))
+                .thenReturn(Stream.of(d));
+
+        try (Stream<Movement> result = adapter.streamAll(new MovementFilter())) {
+            assertThat(result).containsExactly(d);
+        }
+    }
+
+    @Test
+    void shouldFindMovementsOfSeveralAccountsInOneQuery() {
+        List<UUID> accountIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        LocalDate start = LocalDate.of(2024,1,1);
+        LocalDate end = LocalDate.of(2024,1,31);
+        MovementEntity e = entity(UUID.randomUUID());
+        Movement d = domain(e.getId());
+        when(movementJpaRepository.findByAccountIdInAndDateBetweenOrderByDateDesc(
+                accountIds, start.atStartOfDay(), end.atTime(LocalTime.MAX))).thenReturn(List.of(e));
+        when(movementEntityMapper.toDomain(e)).thenReturn(d);
+        assertThat(adapter.findByAccountIdsAndDateRange(accountIds, start, end)).containsExactly(d);
+    }
+
+    @Test
+    void shouldMapAggregatedTotalsPerAccount() {
+        UUID accountId = UUID.randomUUID();
+        LocalDate start = LocalDate.of(2024,1,1);
+        LocalDate end = LocalDate.of(2024,1,31);
+        MovementJpaRepository.AccountTotalsView view = mock(MovementJpaRepository.AccountTotalsView.class);
+        when(view.getAccountId()).thenReturn(accountId);
+        when(view.getCredits()).thenReturn(new BigDecimal("12.50"));
+        when(view.getDebits()).thenReturn(new BigDecimal("3.00"));
+        when(movementJpaRepository.sumByAccountIdInAndDateBetween(List.of(accountId), start.atStartOfDay(), end.atTime(LocalTime.MAX)))
+                .thenReturn(List.of(view));
+
+        assertThat(adapter.sumByAccountIdsAndDateRange(List.of(accountId), start, end))
+                .containsExactly(new AccountTotals(accountId, new BigDecimal("12.50"), new BigDecimal("3.00")));
+    }
+
+    @Test
+    void shouldSkipQueriesWhenNoAccountIdsGiven() {
+        LocalDate day = LocalDate.of(2024,1,1);
+        assertThat(adapter.findByAccountIdsAndDateRange(List.of(), day, day)).isEmpty();
+        assertThat(adapter.sumByAccountIdsAndDateRange(List.of(), day, day)).isEmpty();
+        verifyNoInteractions(movementJpaRepository);
+    }
+
     @Test
     void shouldDeleteByIdWhenCalled() {
         UUID id = UUID.randomUUID();
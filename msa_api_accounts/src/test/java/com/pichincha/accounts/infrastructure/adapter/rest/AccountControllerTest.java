@@ -1,20 +1,33 @@
 package com.pichincha.accounts.infrastructure.adapter.rest;
 
 import com.pichincha.accounts.application.port.input.AccountInputPort;
+import com.pichincha.accounts.application.port.input.BalanceInputPort;
 import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
+import com.pichincha.accounts.domain.enums.AccountType;
 import com.pichincha.accounts.domain.exception.AccountNotFoundException;
 import com.pichincha.accounts.infrastructure.mapper.AccountDtoMapper;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.CuentaListaDto;
 import com.pichincha.infrastructure.adapter.rest.dto.CuentaUpdateDto;
+import com.pichincha.infrastructure.adapter.rest.dto.SaldoDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +43,8 @@ class AccountControllerTest {
     private AccountInputPort accountInputPort;
     @Mock
     private AccountDtoMapper accountDtoMapper;
+    @Mock
+    private BalanceInputPort balanceInputPort;
 
     @InjectMocks
     private AccountController controller;
@@ -56,6 +71,19 @@ class AccountControllerTest {
         assertThat(response.getBody()).isSameAs(responseDto);
     }
 
+    @Test
+    void shouldReturnBalanceAsOfRequestedInstant() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime instant = LocalDateTime.of(2024, 1, 12, 12, 0);
+        when(balanceInputPort.getBalanceAsOf(id, instant)).thenReturn(new BigDecimal("130.00"));
+
+        ResponseEntity<SaldoDto> response = controller.getBalanceAsOf(id, instant);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getCuentaId()).isEqualTo(id);
+        assertThat(response.getBody().getFecha().toLocalDateTime()).isEqualTo(instant);
+        assertThat(response.getBody().getSaldo()).isEqualByComparingTo("130.00");
+    }
+
     @Test
     void shouldReturnOkWhenGetAccountByIdExists() {
         UUID id = UUID.randomUUID();
@@ -98,15 +126,28 @@ class AccountControllerTest {
     }
 
     @Test
-    void shouldReturnAllAccountsWhenGetAllCalled() {
-        Account domain = account(UUID.randomUUID());
-        CuentaDto dto = new CuentaDto();
-        when(accountInputPort.findAll()).thenReturn(List.of(domain));
-        when(accountDtoMapper.toDto(domain)).thenReturn(dto);
+    void shouldReturnCountedPageOfAccountsWhenTotalRequested() {
+        UUID clientId = UUID.randomUUID();
+        AccountFilter filter = AccountFilter.builder().clientId(clientId).state(true).type(AccountType.AHORROS).build();
+        Page<Account> page = new PageImpl<>(List.of(account(UUID.randomUUID())));
+        CuentaListaDto dto = new CuentaListaDto();
+        when(accountInputPort.findAll(filter, PageRequest.of(1, 20, Sort.by("accountNumber")))).thenReturn(page);
+        when(accountDtoMapper.toListDto(page)).thenReturn(dto);
 
-        ResponseEntity<List<CuentaDto>> response = controller.getAllAccounts();
+        ResponseEntity<CuentaListaDto> response = controller.getAllAccounts(clientId, true, AccountType.AHORROS, 1, 20, true);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody()).isSameAs(dto);
+        verify(accountInputPort, never()).findSlice(any(), any());
+    }
+
+    @Test
+    void shouldUseCountFreeSliceAndSanitizePagingWhenTotalNotRequested() {
+        Slice<Account> slice = new SliceImpl<>(List.of());
+        when(accountInputPort.findSlice(new AccountFilter(), PageRequest.of(0, 1, Sort.by("accountNumber")))).thenReturn(slice);
+        when(accountDtoMapper.toListDto(slice)).thenReturn(new CuentaListaDto());
+
+        controller.getAllAccounts(null, null, null, -3, 0, false);
+        verify(accountInputPort, never()).findAll(any(), any());
     }
 
     @Test
@@ -2,16 +2,25 @@ package com.pichincha.accounts.infrastructure.adapter.rest;
 
 import com.pichincha.accounts.application.port.input.ClientInputPort;
 import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
 import com.pichincha.accounts.domain.exception.ClientNotFoundException;
 import com.pichincha.accounts.infrastructure.mapper.ClientDtoMapper;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteDto;
+import com.pichincha.infrastructure.adapter.rest.dto.ClienteListaDto;
 import com.pichincha.infrastructure.adapter.rest.dto.ClienteUpdateDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -97,15 +106,26 @@ class ClientControllerTest {
     }
 
     @Test
-    void shouldReturnAllClientsWhenGetAllCalled() {
-        Client d = domain(UUID.randomUUID());
-        ClienteDto dto = new ClienteDto();
-        when(clientInputPort.findAll()).thenReturn(List.of(d));
-        when(clientDtoMapper.toDto(d)).thenReturn(dto);
-
-        ResponseEntity<List<ClienteDto>> response = controller.getAllClients();
+    void shouldReturnCountedPageOfClientsWhenTotalRequested() {
+        ClientFilter filter = ClientFilter.builder().state(true).build();
+        Page<Client> page = new PageImpl<>(List.of(domain(UUID.randomUUID())));
+        ClienteListaDto dto = new ClienteListaDto();
+        when(clientInputPort.findAll(filter, PageRequest.of(0, 20, Sort.by("name", "id")))).thenReturn(page);
+        when(clientDtoMapper.toListDto(page)).thenReturn(dto);
+
+        ResponseEntity<ClienteListaDto> response = controller.getAllClients(true, 0, 20, true);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody()).isSameAs(dto);
+    }
+
+    @Test
+    void shouldUseCountFreeSliceWhenTotalNotRequested() {
+        Slice<Client> slice = new SliceImpl<>(List.of());
+        when(clientInputPort.findSlice(any(ClientFilter.class), any(Pageable.class))).thenReturn(slice);
+        when(clientDtoMapper.toListDto(slice)).thenReturn(new ClienteListaDto());
+
+        controller.getAllClients(null, 0, 20, false);
+        verify(clientInputPort, never()).findAll(any(), any());
     }
 
     @Test
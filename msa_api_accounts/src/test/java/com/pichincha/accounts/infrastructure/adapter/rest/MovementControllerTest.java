@@ -1,26 +1,57 @@
 package com.pichincha.accounts.infrastructure.adapter.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pichincha.accounts.application.port.input.MovementInputPort;
+import com.pichincha.accounts.application.port.input.MovementSink;
 import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.MovementFilter;
+import com.pichincha.accounts.domain.MovementPage;
+import com.pichincha.accounts.domain.MovementResult;
+import com.pichincha.accounts.domain.enums.MovementType;
 import com.pichincha.accounts.domain.exception.InvalidMovementException;
+import com.pichincha.accounts.infrastructure.mapper.MovementCursorCodec;
+import com.pichincha.accounts.infrastructure.config.ApplicationConfig;
 import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapper;
+import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapperImpl;
 import com.pichincha.infrastructure.adapter.rest.dto.MovimientoCreateDto;
 import com.pichincha.infrastructure.adapter.rest.dto.MovimientoDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoListaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoLoteResultadoDto;
+import com.pichincha.infrastructure.adapter.rest.dto.MovimientoPaginaDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,14 +77,44 @@ class MovementControllerTest {
         Movement d = domain(UUID.randomUUID());
         MovimientoDto dto = new MovimientoDto();
         when(movementDtoMapper.toDomain(createDto)).thenReturn(d);
-        when(movementInputPort.createMovement(d)).thenReturn(d);
+        when(movementInputPort.createMovement(d, null)).thenReturn(d);
         when(movementDtoMapper.toDto(d)).thenReturn(dto);
 
-        ResponseEntity<MovimientoDto> response = controller.createMovement(createDto);
+        ResponseEntity<MovimientoDto> response = controller.createMovement(createDto, null);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
         assertThat(response.getBody()).isSameAs(dto);
     }
 
+    @Test
+    void shouldPassIdempotencyKeyToInputPort() {
+        MovimientoCreateDto createDto = new MovimientoCreateDto();
+        Movement d = domain(UUID.randomUUID());
+        MovimientoDto dto = new MovimientoDto();
+        when(movementDtoMapper.toDomain(createDto)).thenReturn(d);
+        when(movementInputPort.createMovement(d, "retiro-cajero-42")).thenReturn(d);
+        when(movementDtoMapper.toDto(d)).thenReturn(dto);
+
+        ResponseEntity<MovimientoDto> response = controller.createMovement(createDto, "retiro-cajero-42");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isSameAs(dto);
+        verify(movementInputPort, never()).createMovement(any());
+    }
+
+    @Test
+    void shouldCreateMovementsInBatchAndReturnResultPerItem() {
+        MovimientoCreateDto createDto = new MovimientoCreateDto();
+        Movement d = domain(null);
+        MovementResult result = MovementResult.failed(0, "Saldo no disponible");
+        MovimientoLoteResultadoDto resultDto = new MovimientoLoteResultadoDto(0, false);
+        when(movementDtoMapper.toDomain(createDto)).thenReturn(d);
+        when(movementInputPort.createMovements(List.of(d))).thenReturn(List.of(result));
+        when(movementDtoMapper.toResultDto(result)).thenReturn(resultDto);
+
+        ResponseEntity<List<MovimientoLoteResultadoDto>> response = controller.createMovements(List.of(createDto));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(resultDto);
+    }
+
     @Test
     void shouldReturnOkWhenGetMovementByIdExists() {
         UUID id = UUID.randomUUID();
@@ -76,28 +137,141 @@ class MovementControllerTest {
     }
 
     @Test
-    void shouldReturnAllMovementsWhenGetAllCalled() {
-        Movement d = domain(UUID.randomUUID());
-        MovimientoDto dto = new MovimientoDto();
-        when(movementInputPort.findAll()).thenReturn(List.of(d));
-        when(movementDtoMapper.toDto(d)).thenReturn(dto);
+    void shouldPushFiltersAndUseCountFreeSliceByDefault() {
+        UUID clientId = UUID.randomUUID();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 31);
+        Set<MovementType> debits = EnumSet.of(MovementType.RETIRO, MovementType.TRANSFERENCIA_OUT);
+        Slice<Movement> slice = new SliceImpl<>(List.of(domain(UUID.randomUUID())));
+        MovimientoListaDto dto = new MovimientoListaDto();
+        when(movementDtoMapper.toMovementTypes(MovimientoDto.TipoEnum.DEBITO)).thenReturn(debits);
+        when(movementInputPort.findSlice(any(MovementFilter.class), any(Pageable.class))).thenReturn(slice);
+        when(movementDtoMapper.toListDto(slice)).thenReturn(dto);
+
+        ResponseEntity<MovimientoListaDto> response = controller.getAllMovements(
+                null, clientId, "123456", start, end, MovimientoDto.TipoEnum.DEBITO, 2, 50, false);
 
-        ResponseEntity<List<MovimientoDto>> response = controller.getAllMovements();
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody()).isSameAs(dto);
+        verify(movementInputPort).findSlice(
+                MovementFilter.builder().clientId(clientId).accountNumber("123456")
+                        .startDate(start).endDate(end).types(debits).build(),
+                PageRequest.of(2, 50, Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"))));
+        verify(movementInputPort, never()).findAll(any(), any());
+    }
+
+    @Test
+    void shouldReturnCountedPageOfMovementsWhenTotalRequested() {
+        Page<Movement> page = new PageImpl<>(List.of());
+        when(movementInputPort.findAll(any(MovementFilter.class), any(Pageable.class))).thenReturn(page);
+        when(movementDtoMapper.toListDto(page)).thenReturn(new MovimientoListaDto());
+
+        controller.getAllMovements(null, null, null, null, null, null, 0, 50, true);
+        verify(movementInputPort, never()).findSlice(any(), any());
+    }
+
+    private MovementController exportController(Movement... movements) throws IOException {
+        when(movementInputPort.exportMovements(any(MovementFilter.class), any(MovementSink.class))).thenAnswer(invocation -> {
+            MovementSink sink = invocation.getArgument(1);
+            for (Movement movement : movements) {
+                sink.accept(movement);
+            }
+            return (long) movements.length;
+        });
+        return new MovementController(movementInputPort, new MovementDtoMapperImpl(), new ApplicationConfig().objectMapper());
+    }
+
+    private Movement exported(String value, String balance) {
+        return Movement.builder()
+                .id(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .date(LocalDateTime.of(2024, 3, 1, 9, 30))
+                .movementType(value.startsWith("-") ? MovementType.RETIRO : MovementType.DEPOSITO)
+                .value(new BigDecimal(value))
+                .balance(new BigDecimal(balance))
+                .build();
+    }
+
+    @Test
+    void shouldStreamOneJsonObjectPerLineWhenExportingNdjson() throws Exception {
+        Movement deposit = exported("100.00", "100.00");
+        Movement withdrawal = exported("-40.50", "59.50");
+        ObjectMapper objectMapper = new ApplicationConfig().objectMapper();
+
+        ResponseEntity<StreamingResponseBody> response = exportController(deposit, withdrawal)
+                .exportMovements(deposit.getAccountId(), null, null, null, null, null, "NDJSON");
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        MovimientoDto first = objectMapper.readValue(lines[0], MovimientoDto.class);
+        MovimientoDto second = objectMapper.readValue(lines[1], MovimientoDto.class);
+        assertThat(first.getId()).isEqualTo(deposit.getId());
+        assertThat(first.getTipo()).isEqualTo(MovimientoDto.TipoEnum.CREDITO);
+        assertThat(second.getValor()).isEqualByComparingTo("-40.50");
+        assertThat(output.toString(StandardCharsets.UTF_8)).endsWith("\n");
+        verify(movementInputPort).exportMovements(eq(MovementFilter.builder().accountId(deposit.getAccountId()).build()), any());
     }
 
     @Test
-    void shouldReturnMovementsByAccountIdWhenGetByAccountIdCalled() {
+    void shouldStreamCsvWithHeaderWhenExportingCsv() throws Exception {
+        Movement withdrawal = exported("-40.50", "59.50");
+
+        ResponseEntity<StreamingResponseBody> response = exportController(withdrawal)
+                .exportMovements(null, null, null, null, null, null, "csv");
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/csv"))).isTrue();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "id,cuentaId,fecha,tipo,valor,saldoPostMovimiento",
+                withdrawal.getId() + "," + withdrawal.getAccountId() + ",2024-03-01T09:30Z,DEBITO,-40.50,59.50");
+    }
+
+    @Test
+    void shouldRejectUnknownExportFormatBeforeStreaming() {
+        assertThatThrownBy(() -> controller.exportMovements(null, null, null, null, null, null, "xlsx"))
+                .isInstanceOf(InvalidMovementException.class)
+                .hasMessage("Formato de exportación no soportado: xlsx");
+        verifyNoInteractions(movementInputPort);
+    }
+
+    @Test
+    void shouldReturnFirstPageWithNextCursorWhenGetByAccountIdCalled() {
         UUID accountId = UUID.randomUUID();
         Movement d = domain(UUID.randomUUID());
         MovimientoDto dto = new MovimientoDto();
-        when(movementInputPort.findByAccountId(accountId)).thenReturn(List.of(d));
+        MovementCursor next = new MovementCursor(LocalDateTime.of(2024, 5, 1, 10, 0), d.getId());
+        when(movementInputPort.findByAccountId(accountId, null, 50))
+                .thenReturn(MovementPage.builder().movements(List.of(d)).nextCursor(next).build());
         when(movementDtoMapper.toDto(d)).thenReturn(dto);
 
-        ResponseEntity<List<MovimientoDto>> response = controller.getMovementsByAccountId(accountId);
+        ResponseEntity<MovimientoPaginaDto> response = controller.getMovementsByAccountId(accountId, null, 50);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getBody().getMovimientos()).containsExactly(dto);
+        assertThat(MovementCursorCodec.decode(response.getBody().getSiguienteCursor())).isEqualTo(next);
+    }
+
+    @Test
+    void shouldPassDecodedCursorAndOmitNextCursorOnLastPage() {
+        UUID accountId = UUID.randomUUID();
+        MovementCursor cursor = new MovementCursor(LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_000_000), UUID.randomUUID());
+        when(movementInputPort.findByAccountId(accountId, cursor, 20))
+                .thenReturn(MovementPage.builder().movements(List.of()).build());
+
+        ResponseEntity<MovimientoPaginaDto> response =
+                controller.getMovementsByAccountId(accountId, MovementCursorCodec.encode(cursor), 20);
+        assertThat(response.getBody().getMovimientos()).isEmpty();
+        assertThat(response.getBody().getSiguienteCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> controller.getMovementsByAccountId(UUID.randomUUID(), "no-es-un-cursor", 50))
+                .isInstanceOf(InvalidMovementException.class);
+        verifyNoInteractions(movementInputPort);
     }
 
     @Test
@@ -1,6 +1,9 @@
 package com.pichincha.accounts.infrastructure.adapter.rest;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pichincha.accounts.application.port.input.ReportInputPort;
+import com.pichincha.accounts.application.port.input.ReportPdfWriter;
 import com.pichincha.accounts.domain.Report;
 import com.pichincha.accounts.domain.exception.ClientNotFoundException;
 import com.pichincha.accounts.infrastructure.mapper.ReportDtoMapper;
@@ -11,9 +14,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Base64;
 import java.util.Map;
 import java.util.UUID;
 
@@ -38,35 +46,63 @@ class ReportControllerTest {
         LocalDate end = LocalDate.of(2024,12,31);
         Report report = new Report();
         ReportDto dto = new ReportDto();
-        when(reportInputPort.generateReport(clientId, start, end)).thenReturn(report);
+        when(reportInputPort.generateReport(clientId, start, end, true)).thenReturn(report);
         when(reportDtoMapper.toDto(report)).thenReturn(dto);
 
-        ResponseEntity<ReportDto> response = controller.generateReport(clientId, start, end);
+        ResponseEntity<ReportDto> response = controller.generateReport(clientId, start, end, true);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isSameAs(dto);
     }
 
+    @Test
+    void shouldRequestSummaryOnlyWhenDetailDisabled() {
+        UUID clientId = UUID.randomUUID();
+        LocalDate start = LocalDate.of(2024,1,1);
+        LocalDate end = LocalDate.of(2024,12,31);
+        Report report = new Report();
+        when(reportInputPort.generateReport(clientId, start, end, false)).thenReturn(report);
+        when(reportDtoMapper.toDto(report)).thenReturn(new ReportDto());
+
+        assertThat(controller.generateReport(clientId, start, end, false).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
     @Test
     void shouldReturnNotFoundWhenGenerateReportClientNotFound() {
         UUID clientId = UUID.randomUUID();
         LocalDate start = LocalDate.of(2024,1,1);
         LocalDate end = LocalDate.of(2024,12,31);
-        when(reportInputPort.generateReport(clientId, start, end)).thenThrow(new ClientNotFoundException("not found"));
+        when(reportInputPort.generateReport(clientId, start, end, true)).thenThrow(new ClientNotFoundException("not found"));
 
-        ResponseEntity<ReportDto> response = controller.generateReport(clientId, start, end);
+        ResponseEntity<ReportDto> response = controller.generateReport(clientId, start, end, true);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
-    void shouldReturnOkWithPdfBytesWhenGenerateReportPdfSucceeds() {
+    void shouldStreamPdfWhenGenerateReportPdfSucceeds() throws Exception {
         UUID clientId = UUID.randomUUID();
         LocalDate start = LocalDate.of(2024,1,1);
         LocalDate end = LocalDate.of(2024,12,31);
-        when(reportInputPort.generateReportPdf(clientId, start, end)).thenReturn("PDF_CONTENT".getBytes());
+        ReportPdfWriter pdfWriter = output -> output.write("PDF_CONTENT".getBytes());
+        when(reportInputPort.prepareReportPdf(clientId, start, end)).thenReturn(pdfWriter);
 
-        ResponseEntity<byte[]> response = controller.generateReportPdf(clientId, start, end);
+        ResponseEntity<StreamingResponseBody> response = controller.generateReportPdf(clientId, start, end);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PDF);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        assertThat(output.toString()).isEqualTo("PDF_CONTENT");
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenGenerateReportPdfClientNotFound() {
+        UUID clientId = UUID.randomUUID();
+        LocalDate start = LocalDate.of(2024,1,1);
+        LocalDate end = LocalDate.of(2024,12,31);
+        when(reportInputPort.prepareReportPdf(clientId, start, end)).thenThrow(new ClientNotFoundException("not found"));
+
+        ResponseEntity<StreamingResponseBody> response = controller.generateReportPdf(clientId, start, end);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
@@ -74,22 +110,36 @@ class ReportControllerTest {
         UUID clientId = UUID.randomUUID();
         LocalDate start = LocalDate.of(2024,1,1);
         LocalDate end = LocalDate.of(2024,12,31);
-    when(reportInputPort.generateReportPdf(clientId, start, end)).thenThrow(new RuntimeException("boom"));
+    when(reportInputPort.prepareReportPdf(clientId, start, end)).thenThrow(new RuntimeException("boom"));
 
-        ResponseEntity<byte[]> response = controller.generateReportPdf(clientId, start, end);
+        ResponseEntity<StreamingResponseBody> response = controller.generateReportPdf(clientId, start, end);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     @Test
-    void shouldReturnOkWithBase64WhenGenerateReportPdfBase64Succeeds() {
+    void shouldStreamBase64JsonWhenGenerateReportPdfBase64Succeeds() throws Exception {
         UUID clientId = UUID.randomUUID();
         LocalDate start = LocalDate.of(2024,1,1);
         LocalDate end = LocalDate.of(2024,12,31);
-        when(reportInputPort.generateReportPdfBase64(clientId, start, end)).thenReturn("BASE64");
-
-        ResponseEntity<Map<String, String>> response = controller.generateReportPdfBase64(clientId, start, end);
+        byte[] pdf = "%PDF-1.4 contenido".getBytes(StandardCharsets.US_ASCII);
+        // Como PDFBox, el generador cierra el stream que recibe
+        ReportPdfWriter pdfWriter = output -> {
+            output.write(pdf, 0, 5);
+            output.write(pdf, 5, pdf.length - 5);
+            output.close();
+        };
+        when(reportInputPort.prepareReportPdf(clientId, start, end)).thenReturn(pdfWriter);
+
+        ResponseEntity<StreamingResponseBody> response = controller.generateReportPdfBase64(clientId, start, end);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).containsEntry("pdfBase64", "BASE64");
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        Map<String, String> body = new ObjectMapper().readValue(output.toByteArray(), new TypeReference<>() {
+        });
+        assertThat(body).containsEntry("filename", "reporte_" + clientId + ".pdf");
+        assertThat(Base64.getDecoder().decode(body.get("pdfBase64"))).isEqualTo(pdf);
     }
 
     @Test
@@ -97,9 +147,9 @@ class ReportControllerTest {
         UUID clientId = UUID.randomUUID();
         LocalDate start = LocalDate.of(2024,1,1);
         LocalDate end = LocalDate.of(2024,12,31);
-        when(reportInputPort.generateReportPdfBase64(clientId, start, end)).thenThrow(new ClientNotFoundException("not found"));
+        when(reportInputPort.prepareReportPdf(clientId, start, end)).thenThrow(new ClientNotFoundException("not found"));
 
-        ResponseEntity<Map<String, String>> response = controller.generateReportPdfBase64(clientId, start, end);
+        ResponseEntity<StreamingResponseBody> response = controller.generateReportPdfBase64(clientId, start, end);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
@@ -108,9 +158,9 @@ class ReportControllerTest {
         UUID clientId = UUID.randomUUID();
         LocalDate start = LocalDate.of(2024,1,1);
         LocalDate end = LocalDate.of(2024,12,31);
-        when(reportInputPort.generateReportPdfBase64(clientId, start, end)).thenThrow(new RuntimeException("boom"));
+        when(reportInputPort.prepareReportPdf(clientId, start, end)).thenThrow(new RuntimeException("boom"));
 
-        ResponseEntity<Map<String, String>> response = controller.generateReportPdfBase64(clientId, start, end);
+        ResponseEntity<StreamingResponseBody> response = controller.generateReportPdfBase64(clientId, start, end);
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 }
@@ -0,0 +1,132 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import com.pichincha.accounts.application.port.input.ReportJobInputPort;
+import com.pichincha.accounts.domain.ReportJob;
+import com.pichincha.accounts.domain.enums.ReportJobPriority;
+import com.pichincha.accounts.domain.enums.ReportJobStatus;
+import com.pichincha.accounts.domain.exception.ClientNotFoundException;
+import com.pichincha.accounts.domain.exception.ReportJobNotFoundException;
+import com.pichincha.accounts.infrastructure.mapper.ReportDtoMapper;
+import com.pichincha.infrastructure.adapter.rest.dto.ReporteTrabajoDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobControllerTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+
+    @Mock
+    private ReportJobInputPort reportJobInputPort;
+    @Spy
+    private ReportDtoMapper reportDtoMapper = new ReportDtoMapper();
+
+    @InjectMocks
+    private ReportJobController controller;
+
+    @Test
+    void shouldAcceptJobAndPointToItsLocation() {
+        ReportJob job = job(ReportJobStatus.PENDIENTE);
+        when(reportJobInputPort.submit(job.getClientId(), START, END, ReportJobPriority.ALTA)).thenReturn(job);
+
+        ResponseEntity<ReporteTrabajoDto> response = controller.submitReportJob(job.getClientId(), START, END, ReportJobPriority.ALTA);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).hasToString("/api/reportes/trabajos/" + job.getId());
+        assertThat(response.getBody().getEstado()).isEqualTo(ReporteTrabajoDto.EstadoEnum.PENDIENTE);
+        assertThat(response.getBody().getPrioridad()).isEqualTo(ReporteTrabajoDto.PrioridadEnum.NORMAL);
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenSubmittingForUnknownClient() {
+        UUID clientId = UUID.randomUUID();
+        when(reportJobInputPort.submit(clientId, START, END, ReportJobPriority.NORMAL))
+                .thenThrow(new ClientNotFoundException("not found"));
+
+        assertThat(controller.submitReportJob(clientId, START, END, ReportJobPriority.NORMAL).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void shouldReturnJobStatus() {
+        ReportJob job = job(ReportJobStatus.COMPLETADO);
+        when(reportJobInputPort.findById(job.getId())).thenReturn(job);
+
+        ResponseEntity<ReporteTrabajoDto> response = controller.getReportJob(job.getId());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getTamanioBytes()).isEqualTo(3L);
+        assertThat(response.getBody().getFinalizadoEn()).isNotNull();
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownOrExpiredJob() {
+        UUID jobId = UUID.randomUUID();
+        when(reportJobInputPort.findById(jobId)).thenThrow(new ReportJobNotFoundException("not found"));
+
+        assertThat(controller.getReportJob(jobId).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.downloadReportJob(jobId).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void shouldReturnConflictWhileJobIsNotCompleted() {
+        ReportJob job = job(ReportJobStatus.EN_PROCESO);
+        when(reportJobInputPort.findById(job.getId())).thenReturn(job);
+
+        assertThat(controller.downloadReportJob(job.getId()).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        verify(reportJobInputPort, never()).openResult(job.getId());
+    }
+
+    @Test
+    void shouldStreamStoredPdfWhenJobIsCompleted() throws Exception {
+        ReportJob job = job(ReportJobStatus.COMPLETADO);
+        when(reportJobInputPort.findById(job.getId())).thenReturn(job);
+        when(reportJobInputPort.openResult(job.getId())).thenReturn(new ByteArrayInputStream("PDF".getBytes()));
+
+        ResponseEntity<StreamingResponseBody> response = controller.downloadReportJob(job.getId());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PDF);
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(3L);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        assertThat(output.toString()).isEqualTo("PDF");
+    }
+
+    private static ReportJob job(ReportJobStatus status) {
+        boolean finished = status == ReportJobStatus.COMPLETADO || status == ReportJobStatus.FALLIDO;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 2, 1, 10, 0);
+        return ReportJob.builder()
+                .id(UUID.randomUUID())
+                .clientId(UUID.randomUUID())
+                .startDate(START)
+                .endDate(END)
+                .priority(ReportJobPriority.NORMAL)
+                .status(status)
+                .createdAt(createdAt)
+                .completedAt(finished ? createdAt.plusSeconds(5) : null)
+                .expiresAt(finished ? createdAt.plusHours(1) : null)
+                .size(status == ReportJobStatus.COMPLETADO ? 3L : null)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.pichincha.accounts.infrastructure.adapter.rest;
+
+import com.pichincha.accounts.application.port.input.TransferInputPort;
+import com.pichincha.accounts.domain.Transfer;
+import com.pichincha.accounts.domain.TransferResult;
+import com.pichincha.accounts.infrastructure.mapper.MovementDtoMapper;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaCreateDto;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaDto;
+import com.pichincha.infrastructure.adapter.rest.dto.TransferenciaLoteResultadoDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransferControllerTest {
+
+    @Mock
+    private TransferInputPort transferInputPort;
+    @Mock
+    private MovementDtoMapper movementDtoMapper;
+
+    @InjectMocks
+    private TransferController controller;
+
+    @Test
+    void shouldCreateTransferAndReturnCreated() {
+        TransferenciaCreateDto createDto = new TransferenciaCreateDto();
+        Transfer transfer = new Transfer();
+        TransferResult result = TransferResult.succeeded(0, null, null);
+        TransferenciaDto dto = new TransferenciaDto();
+        when(movementDtoMapper.toDomain(createDto)).thenReturn(transfer);
+        when(transferInputPort.transfer(transfer)).thenReturn(result);
+        when(movementDtoMapper.toTransferDto(result)).thenReturn(dto);
+
+        ResponseEntity<TransferenciaDto> response = controller.createTransfer(createDto);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isSameAs(dto);
+    }
+
+    @Test
+    void shouldCreateTransfersInBatchAndReturnResultPerItem() {
+        TransferenciaCreateDto createDto = new TransferenciaCreateDto();
+        Transfer transfer = new Transfer();
+        TransferResult result = TransferResult.failed(0, "Saldo no disponible");
+        TransferenciaLoteResultadoDto resultDto = new TransferenciaLoteResultadoDto(0, false);
+        when(movementDtoMapper.toDomain(createDto)).thenReturn(transfer);
+        when(transferInputPort.transfer(List.of(transfer))).thenReturn(List.of(result));
+        when(movementDtoMapper.toTransferResultDto(result)).thenReturn(resultDto);
+
+        ResponseEntity<List<TransferenciaLoteResultadoDto>> response = controller.createTransfers(List.of(createDto));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(resultDto);
+    }
+}
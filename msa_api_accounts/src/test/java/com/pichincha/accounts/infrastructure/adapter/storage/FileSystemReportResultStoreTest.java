@@ -0,0 +1,71 @@
+package com.pichincha.accounts.infrastructure.adapter.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSystemReportResultStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldSaveAndReadBackResult() throws Exception {
+        FileSystemReportResultStore store = new FileSystemReportResultStore(directory);
+        UUID jobId = UUID.randomUUID();
+
+        long size = store.save(jobId, output -> output.write("PDF".getBytes()));
+
+        assertThat(size).isEqualTo(3);
+        try (InputStream input = store.open(jobId).orElseThrow()) {
+            assertThat(input.readAllBytes()).isEqualTo("PDF".getBytes());
+        }
+    }
+
+    @Test
+    void shouldNotExposePartialResultWhenWriterFails() throws Exception {
+        FileSystemReportResultStore store = new FileSystemReportResultStore(directory);
+        UUID jobId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> store.save(jobId, output -> {
+            output.write("PD".getBytes());
+            throw new IOException("disco lleno");
+        })).hasMessageContaining("Error guardando el reporte");
+
+        assertThat(store.open(jobId)).isEmpty();
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldDeleteAndPurgeResults() throws Exception {
+        FileSystemReportResultStore store = new FileSystemReportResultStore(directory);
+        UUID deleted = UUID.randomUUID();
+        UUID old = UUID.randomUUID();
+        UUID recent = UUID.randomUUID();
+        store.save(deleted, output -> output.write(1));
+        store.save(old, output -> output.write(1));
+        store.save(recent, output -> output.write(1));
+        Files.setLastModifiedTime(directory.resolve(old + ".pdf"),
+                FileTime.from(Instant.now().minus(Duration.ofHours(3))));
+
+        store.delete(deleted);
+        store.purgeOlderThan(Instant.now().minus(Duration.ofHours(1)));
+
+        assertThat(store.open(deleted)).isEmpty();
+        assertThat(store.open(old)).isEmpty();
+        assertThat(store.open(recent)).isPresent().get().satisfies(input -> input.close());
+    }
+}
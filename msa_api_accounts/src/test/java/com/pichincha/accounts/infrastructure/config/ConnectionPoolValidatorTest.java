@@ -0,0 +1,67 @@
+package com.pichincha.accounts.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolValidatorTest {
+
+    private HikariDataSource dataSource;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        environment = new MockEnvironment();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void shouldWarnWhenPoolIsSmallerThanTomcatAndReportWorkers() {
+        dataSource.setMaximumPoolSize(10);
+
+        assertThat(new ConnectionPoolValidator(dataSource, environment).check())
+                .hasValueSatisfying(warning -> assertThat(warning).contains("(10)", "(202)"));
+    }
+
+    @Test
+    void shouldAcceptPoolSizedForConfiguredWorkers() {
+        dataSource.setMaximumPoolSize(50);
+        environment.setProperty("server.tomcat.threads.max", "48");
+        environment.setProperty("accounts.reports.jobs.threads", "2");
+
+        assertThat(new ConnectionPoolValidator(dataSource, environment).check()).isEmpty();
+    }
+
+    @Test
+    void shouldCountParallelReportConnectionsWhenEnabled() {
+        dataSource.setMaximumPoolSize(50);
+        environment.setProperty("server.tomcat.threads.max", "48");
+        environment.setProperty("accounts.reports.jobs.threads", "2");
+        environment.setProperty("accounts.reports.parallel.enabled", "true");
+        environment.setProperty("accounts.reports.parallel.max-connections", "4");
+
+        assertThat(new ConnectionPoolValidator(dataSource, environment).check())
+                .hasValueSatisfying(warning -> assertThat(warning).contains("(50)", "(54)"));
+    }
+
+    @Test
+    void shouldCountOneConnectionPerCoalescingWriter() {
+        dataSource.setMaximumPoolSize(50);
+        environment.setProperty("server.tomcat.threads.max", "48");
+        environment.setProperty("accounts.reports.jobs.threads", "2");
+        environment.setProperty("accounts.movements.coalescing.accounts",
+                "018f0000-0000-7000-8000-000000000001, 018f0000-0000-7000-8000-000000000002");
+
+        assertThat(new ConnectionPoolValidator(dataSource, environment).check())
+                .hasValueSatisfying(warning -> assertThat(warning).contains("(50)", "(52)"));
+    }
+}
@@ -62,6 +62,22 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getError()).contains("Movimiento inválido");
     }
 
+    @Test
+    void shouldHandleReportJobNotFoundExceptionAndReturnNotFound() {
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleReportJobNotFoundException(new ReportJobNotFoundException("job"));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).contains("Trabajo de reporte no encontrado");
+    }
+
+    @Test
+    void shouldHandleReportJobRejectedExceptionAndReturnServiceUnavailable() {
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleReportJobRejectedException(new ReportJobRejectedException("llena"));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("llena");
+    }
+
     @Test
     void shouldHandleValidationExceptionsAndReturnBadRequestWithFieldErrors() {
         BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "target");
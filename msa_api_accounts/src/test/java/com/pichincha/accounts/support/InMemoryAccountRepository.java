@@ -0,0 +1,140 @@
+package com.pichincha.accounts.support;
+
+import com.pichincha.accounts.application.port.output.AccountRepository;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Repositorio de cuentas en memoria que imita la semántica de la base de datos: cada lectura
+ * devuelve una copia y {@link #applyBalanceDelta} es atómico como el UPDATE condicional.
+ */
+public class InMemoryAccountRepository implements AccountRepository {
+
+    private final Map<UUID, Account> accounts = new ConcurrentHashMap<>();
+    private final AtomicLong accountNumberBlocks = new AtomicLong();
+
+    @Override
+    public Account save(Account account) {
+        if (account.getId() == null) {
+            account.setId(UUID.randomUUID());
+        }
+        // Como las columnas en la base, ni el saldo ni la versión de movimientos se sobrescriben al guardar
+        Account stored = copy(account);
+        Account existing = accounts.get(account.getId());
+        stored.setLedgerVersion(existing == null ? Long.valueOf(0) : existing.getLedgerVersion());
+        if (existing != null) {
+            stored.setCurrentBalance(existing.getCurrentBalance());
+        }
+        accounts.put(account.getId(), stored);
+        return copy(stored);
+    }
+
+    @Override
+    public Optional<Account> findById(UUID id) {
+        return Optional.ofNullable(accounts.get(id)).map(InMemoryAccountRepository::copy);
+    }
+
+    @Override
+    public Optional<Account> findByIdForUpdate(UUID id) {
+        return findById(id);
+    }
+
+    @Override
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return accounts.values().stream()
+                .filter(a -> accountNumber.equals(a.getAccountNumber()))
+                .findFirst()
+                .map(InMemoryAccountRepository::copy);
+    }
+
+    @Override
+    public List<Account> findAll() {
+        return accounts.values().stream().map(InMemoryAccountRepository::copy).toList();
+    }
+
+    @Override
+    public Page<Account> findAll(AccountFilter filter, Pageable pageable) {
+        return InMemoryPages.page(matching(filter), pageable);
+    }
+
+    @Override
+    public Slice<Account> findSlice(AccountFilter filter, Pageable pageable) {
+        return InMemoryPages.slice(matching(filter), pageable);
+    }
+
+    @Override
+    public List<Account> findByClientId(UUID clientId) {
+        return accounts.values().stream()
+                .filter(a -> clientId.equals(a.getClientId()))
+                .map(InMemoryAccountRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        accounts.remove(id);
+    }
+
+    @Override
+    public boolean existsByAccountNumber(String accountNumber) {
+        return accounts.values().stream().anyMatch(a -> accountNumber.equals(a.getAccountNumber()));
+    }
+
+    @Override
+    public Optional<BigDecimal> applyBalanceDelta(UUID id, BigDecimal delta) {
+        AtomicBoolean applied = new AtomicBoolean(false);
+        Account updated = accounts.computeIfPresent(id, (key, account) -> {
+            BigDecimal newBalance = account.getCurrentBalance().add(delta);
+            if (!Boolean.TRUE.equals(account.getState()) || newBalance.signum() < 0) {
+                return account;
+            }
+            Account copy = copy(account);
+            copy.setCurrentBalance(newBalance);
+            copy.setLedgerVersion(copy.getLedgerVersion() + 1);
+            applied.set(true);
+            return copy;
+        });
+        return applied.get() ? Optional.of(updated.getCurrentBalance()) : Optional.empty();
+    }
+
+    private List<Account> matching(AccountFilter filter) {
+        return accounts.values().stream()
+                .filter(a -> filter.getState() == null || filter.getState().equals(a.getState()))
+                .filter(a -> filter.getType() == null || filter.getType() == a.getType())
+                .filter(a -> filter.getClientId() == null || filter.getClientId().equals(a.getClientId()))
+                .sorted(Comparator.comparing(Account::getAccountNumber))
+                .map(InMemoryAccountRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public long reserveAccountNumberBlock() {
+        return accountNumberBlocks.incrementAndGet();
+    }
+
+    private static Account copy(Account account) {
+        return Account.builder()
+                .id(account.getId())
+                .clientId(account.getClientId())
+                .accountNumber(account.getAccountNumber())
+                .type(account.getType())
+                .initialBalance(account.getInitialBalance())
+                .currentBalance(account.getCurrentBalance())
+                .state(account.getState())
+                .ledgerVersion(account.getLedgerVersion())
+                .build();
+    }
+}
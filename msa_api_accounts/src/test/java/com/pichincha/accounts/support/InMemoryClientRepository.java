@@ -0,0 +1,83 @@
+package com.pichincha.accounts.support;
+
+import com.pichincha.accounts.application.port.output.ClientRepository;
+import com.pichincha.accounts.domain.Client;
+import com.pichincha.accounts.domain.ClientFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InMemoryClientRepository implements ClientRepository {
+
+    private final Map<UUID, Client> clients = new ConcurrentHashMap<>();
+    private final AtomicLong clientIdBlocks = new AtomicLong();
+
+    @Override
+    public Client save(Client client) {
+        if (client.getId() == null) {
+            client.setId(UUID.randomUUID());
+        }
+        clients.put(client.getId(), client);
+        return client;
+    }
+
+    @Override
+    public Optional<Client> findById(UUID id) {
+        return Optional.ofNullable(clients.get(id));
+    }
+
+    @Override
+    public Optional<Client> findByClientId(String clientId) {
+        return clients.values().stream().filter(c -> clientId.equals(c.getClientId())).findFirst();
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return List.copyOf(clients.values());
+    }
+
+    @Override
+    public Page<Client> findAll(ClientFilter filter, Pageable pageable) {
+        return InMemoryPages.page(matching(filter), pageable);
+    }
+
+    @Override
+    public Slice<Client> findSlice(ClientFilter filter, Pageable pageable) {
+        return InMemoryPages.slice(matching(filter), pageable);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        clients.remove(id);
+    }
+
+    @Override
+    public boolean existsByClientId(String clientId) {
+        return findByClientId(clientId).isPresent();
+    }
+
+    @Override
+    public boolean existsByIdentification(String identification) {
+        return clients.values().stream().anyMatch(c -> identification.equals(c.getIdentification()));
+    }
+
+    @Override
+    public long reserveClientIdBlock() {
+        return clientIdBlocks.incrementAndGet();
+    }
+
+    private List<Client> matching(ClientFilter filter) {
+        return clients.values().stream()
+                .filter(c -> filter.getState() == null || filter.getState().equals(c.getState()))
+                .sorted(Comparator.comparing(Client::getName).thenComparing(Client::getId))
+                .toList();
+    }
+}
@@ -0,0 +1,108 @@
+package com.pichincha.accounts.support;
+
+import com.pichincha.accounts.application.port.output.DailyBalanceRepository;
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.domain.Account;
+import com.pichincha.accounts.domain.AccountTotals;
+import com.pichincha.accounts.domain.DailyBalance;
+import com.pichincha.accounts.domain.Movement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryDailyBalanceRepository implements DailyBalanceRepository {
+
+    private final MovementRepository movementRepository;
+    private final Map<UUID, NavigableMap<LocalDate, DailyBalance>> balances = new ConcurrentHashMap<>();
+
+    public InMemoryDailyBalanceRepository(MovementRepository movementRepository) {
+        this.movementRepository = movementRepository;
+    }
+
+    @Override
+    public void addMovements(UUID accountId, BigDecimal initialBalance, LocalDate date, AccountTotals totals, long movementCount) {
+        NavigableMap<LocalDate, DailyBalance> days = balances.computeIfAbsent(accountId, id -> new TreeMap<>());
+        synchronized (days) {
+            BigDecimal net = totals.getCredits().subtract(totals.getDebits());
+            DailyBalance day = days.get(date);
+            if (day == null) {
+                Map.Entry<LocalDate, DailyBalance> previous = days.lowerEntry(date);
+                BigDecimal opening = previous != null ? previous.getValue().getClosingBalance() : initialBalance;
+                day = new DailyBalance(accountId, date, BigDecimal.ZERO, BigDecimal.ZERO, 0, opening);
+                days.put(date, day);
+            }
+            day.setCredits(day.getCredits().add(totals.getCredits()));
+            day.setDebits(day.getDebits().add(totals.getDebits()));
+            day.setMovementCount(day.getMovementCount() + movementCount);
+            day.setClosingBalance(day.getClosingBalance().add(net));
+            for (DailyBalance later : days.tailMap(date, false).values()) {
+                later.setClosingBalance(later.getClosingBalance().add(net));
+            }
+        }
+    }
+
+    @Override
+    public List<DailyBalance> findLatestOnOrBefore(Collection<UUID> accountIds, LocalDate date) {
+        List<DailyBalance> latest = new ArrayList<>();
+        for (UUID accountId : accountIds) {
+            NavigableMap<LocalDate, DailyBalance> days = balances.get(accountId);
+            if (days == null) {
+                continue;
+            }
+            synchronized (days) {
+                Map.Entry<LocalDate, DailyBalance> entry = days.floorEntry(date);
+                if (entry != null) {
+                    latest.add(entry.getValue().toBuilder().build());
+                }
+            }
+        }
+        return latest;
+    }
+
+    @Override
+    public List<AccountTotals> sumByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate) {
+        List<AccountTotals> totals = new ArrayList<>();
+        for (UUID accountId : accountIds) {
+            NavigableMap<LocalDate, DailyBalance> days = balances.get(accountId);
+            if (days == null) {
+                continue;
+            }
+            synchronized (days) {
+                Collection<DailyBalance> range = days.subMap(startDate, true, endDate, true).values();
+                if (!range.isEmpty()) {
+                    totals.add(new AccountTotals(accountId,
+                            range.stream().map(DailyBalance::getCredits).reduce(BigDecimal.ZERO, BigDecimal::add),
+                            range.stream().map(DailyBalance::getDebits).reduce(BigDecimal.ZERO, BigDecimal::add)));
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Calcula los saldos diarios de cuentas cuyos movimientos se cargaron directamente en el repositorio.
+     */
+    public InMemoryDailyBalanceRepository rebuildAll(Collection<Account> accounts) {
+        for (Account account : accounts) {
+            rebuild(account.getId(), account.getInitialBalance() != null ? account.getInitialBalance() : BigDecimal.ZERO);
+        }
+        return this;
+    }
+
+    @Override
+    public void rebuild(UUID accountId, BigDecimal initialBalance) {
+        balances.remove(accountId);
+        for (Movement movement : movementRepository.findByAccountId(accountId)) {
+            addMovements(accountId, initialBalance, movement.getDate().toLocalDate(),
+                    AccountTotals.of(accountId, List.of(movement)), 1);
+        }
+    }
+}
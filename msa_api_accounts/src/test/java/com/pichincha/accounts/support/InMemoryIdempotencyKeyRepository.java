@@ -0,0 +1,42 @@
+package com.pichincha.accounts.support;
+
+import com.pichincha.accounts.application.port.output.IdempotencyKeyRepository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryIdempotencyKeyRepository implements IdempotencyKeyRepository {
+
+    private final Map<String, LocalDateTime> claimedAt = new ConcurrentHashMap<>();
+    private final Map<String, UUID> movementIds = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<UUID> findMovementId(String key) {
+        return Optional.ofNullable(movementIds.get(key));
+    }
+
+    @Override
+    public boolean claim(String key) {
+        return claimedAt.putIfAbsent(key, LocalDateTime.now()) == null;
+    }
+
+    @Override
+    public void complete(String key, UUID movementId) {
+        movementIds.put(key, movementId);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        int deleted = 0;
+        for (Map.Entry<String, LocalDateTime> entry : claimedAt.entrySet()) {
+            if (entry.getValue().isBefore(cutoff) && claimedAt.remove(entry.getKey(), entry.getValue())) {
+                movementIds.remove(entry.getKey());
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,141 @@
+package com.pichincha.accounts.support;
+
+import com.pichincha.accounts.application.port.output.MovementRepository;
+import com.pichincha.accounts.domain.AccountTotals;
+import com.pichincha.accounts.domain.Movement;
+import com.pichincha.accounts.domain.MovementCursor;
+import com.pichincha.accounts.domain.MovementFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class InMemoryMovementRepository implements MovementRepository {
+
+    private final Map<UUID, Movement> movements = new ConcurrentHashMap<>();
+
+    @Override
+    public Movement save(Movement movement) {
+        if (movement.getId() == null) {
+            movement.setId(UUID.randomUUID());
+        }
+        movements.put(movement.getId(), movement);
+        return movement;
+    }
+
+    @Override
+    public List<Movement> saveAll(List<Movement> movements) {
+        return movements.stream().map(this::save).toList();
+    }
+
+    @Override
+    public Optional<Movement> findById(UUID id) {
+        return Optional.ofNullable(movements.get(id));
+    }
+
+    @Override
+    public List<Movement> findAll() {
+        return List.copyOf(movements.values());
+    }
+
+    @Override
+    public Page<Movement> findAll(MovementFilter filter, Pageable pageable) {
+        return InMemoryPages.page(matching(filter), pageable);
+    }
+
+    @Override
+    public Slice<Movement> findSlice(MovementFilter filter, Pageable pageable) {
+        return InMemoryPages.slice(matching(filter), pageable);
+    }
+
+    @Override
+    public List<Movement> findByAccountId(UUID accountId) {
+        return movements.values().stream()
+                .filter(m -> accountId.equals(m.getAccountId()))
+                .sorted(Comparator.comparing(Movement::getDate).reversed())
+                .toList();
+    }
+
+    @Override
+    public List<Movement> findPageByAccountId(UUID accountId, MovementCursor after, int limit) {
+        Comparator<Movement> newestFirst = Comparator.comparing(Movement::getDate)
+                .thenComparing(Movement::getId)
+                .reversed();
+        return movements.values().stream()
+                .filter(m -> accountId.equals(m.getAccountId()))
+                .filter(m -> after == null || newestFirst.compare(m, Movement.builder()
+                        .date(after.getDate()).id(after.getId()).build()) > 0)
+                .sorted(newestFirst)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Movement> findByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate) {
+        return findByAccountId(accountId).stream()
+                .filter(m -> !m.getDate().isBefore(startDate.atStartOfDay())
+                        && !m.getDate().isAfter(endDate.atTime(LocalTime.MAX)))
+                .toList();
+    }
+
+    @Override
+    public Stream<Movement> streamAll(MovementFilter filter) {
+        return matching(filter).stream()
+                .sorted(Comparator.comparing(Movement::getDate).thenComparing(Movement::getId));
+    }
+
+    @Override
+    public List<Movement> findPageByAccountIdAndDateRange(UUID accountId, LocalDate startDate, LocalDate endDate,
+                                                          MovementCursor after, int limit) {
+        return findPageByAccountId(accountId, after, Integer.MAX_VALUE).stream()
+                .filter(m -> !m.getDate().isBefore(startDate.atStartOfDay())
+                        && !m.getDate().isAfter(endDate.atTime(LocalTime.MAX)))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Movement> findByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate) {
+        return movements.values().stream()
+                .filter(m -> accountIds.contains(m.getAccountId()))
+                .filter(m -> !m.getDate().isBefore(startDate.atStartOfDay())
+                        && !m.getDate().isAfter(endDate.atTime(LocalTime.MAX)))
+                .sorted(Comparator.comparing(Movement::getDate).reversed())
+                .toList();
+    }
+
+    @Override
+    public List<AccountTotals> sumByAccountIdsAndDateRange(Collection<UUID> accountIds, LocalDate startDate, LocalDate endDate) {
+        return findByAccountIdsAndDateRange(accountIds, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(Movement::getAccountId))
+                .entrySet().stream()
+                .map(entry -> AccountTotals.of(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private List<Movement> matching(MovementFilter filter) {
+        return movements.values().stream()
+                .filter(m -> filter.getAccountId() == null || filter.getAccountId().equals(m.getAccountId()))
+                .filter(m -> filter.getTypes() == null || filter.getTypes().isEmpty() || filter.getTypes().contains(m.getMovementType()))
+                .filter(m -> filter.getStartDate() == null || !m.getDate().isBefore(filter.getStartDate().atStartOfDay()))
+                .filter(m -> filter.getEndDate() == null || m.getDate().isBefore(filter.getEndDate().plusDays(1).atStartOfDay()))
+                .sorted(Comparator.comparing(Movement::getDate).thenComparing(Movement::getId).reversed())
+                .toList();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        movements.remove(id);
+    }
+}
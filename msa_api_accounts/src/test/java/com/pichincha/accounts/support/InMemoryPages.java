@@ -0,0 +1,33 @@
+package com.pichincha.accounts.support;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * Recorta en memoria una lista ya filtrada y ordenada como lo harían page/slice en la base de datos.
+ */
+public final class InMemoryPages {
+
+    private InMemoryPages() {
+    }
+
+    public static <T> Page<T> page(List<T> rows, Pageable pageable) {
+        return new PageImpl<>(window(rows, pageable), pageable, rows.size());
+    }
+
+    public static <T> Slice<T> slice(List<T> rows, Pageable pageable) {
+        boolean hasNext = pageable.getOffset() + pageable.getPageSize() < rows.size();
+        return new SliceImpl<>(window(rows, pageable), pageable, hasNext);
+    }
+
+    private static <T> List<T> window(List<T> rows, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rows.size());
+        int to = Math.min(from + pageable.getPageSize(), rows.size());
+        return rows.subList(from, to);
+    }
+}
@@ -0,0 +1,57 @@
+package com.pichincha.accounts.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeistelPermutationTest {
+
+    @Test
+    void shouldMapDomainOntoItselfWithoutCollisions() {
+        for (long size : new long[]{2, 90, 1000, 65_537}) {
+            FeistelPermutation permutation = new FeistelPermutation(size, 42L);
+            BitSet seen = new BitSet((int) size);
+            for (long value = 0; value < size; value++) {
+                long permuted = permutation.permute(value);
+                assertThat(permuted).isBetween(0L, size - 1);
+                assertThat(seen.get((int) permuted)).isFalse();
+                seen.set((int) permuted);
+            }
+            assertThat(seen.cardinality()).isEqualTo((int) size);
+        }
+    }
+
+    @Test
+    void shouldNotKeepConsecutiveValuesTogether() {
+        FeistelPermutation permutation = new FeistelPermutation(900_000_000L, 42L);
+
+        long adjacent = 0;
+        for (long value = 0; value < 1000; value++) {
+            if (Math.abs(permutation.permute(value + 1) - permutation.permute(value)) < 1000) {
+                adjacent++;
+            }
+        }
+        assertThat(adjacent).isLessThan(5);
+    }
+
+    @Test
+    void shouldDependOnKey() {
+        FeistelPermutation first = new FeistelPermutation(1_000_000L, 1L);
+        FeistelPermutation second = new FeistelPermutation(1_000_000L, 2L);
+
+        assertThat(first.permute(12345)).isEqualTo(new FeistelPermutation(1_000_000L, 1L).permute(12345));
+        assertThat(first.permute(12345)).isNotEqualTo(second.permute(12345));
+    }
+
+    @Test
+    void shouldRejectValuesOutsideDomain() {
+        FeistelPermutation permutation = new FeistelPermutation(10, 1L);
+
+        assertThatThrownBy(() -> permutation.permute(10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> permutation.permute(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FeistelPermutation(1, 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.pichincha.accounts.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LuhnCheckDigitTest {
+
+    @Test
+    void shouldComputeKnownCheckDigits() {
+        assertThat(LuhnCheckDigit.compute(7992739871L)).isEqualTo(3);
+        assertThat(LuhnCheckDigit.compute(453201511283036L)).isEqualTo(6);
+    }
+
+    @Test
+    void shouldValidateNumbersWithTheirCheckDigit() {
+        assertThat(LuhnCheckDigit.isValid("79927398713")).isTrue();
+        assertThat(LuhnCheckDigit.isValid("79927398710")).isFalse();
+        // Transposición de dos dígitos adyacentes
+        assertThat(LuhnCheckDigit.isValid("79927398173")).isFalse();
+    }
+
+    @Test
+    void shouldRejectMalformedNumbers() {
+        assertThat(LuhnCheckDigit.isValid(null)).isFalse();
+        assertThat(LuhnCheckDigit.isValid("7")).isFalse();
+        assertThat(LuhnCheckDigit.isValid("12a4")).isFalse();
+        assertThat(LuhnCheckDigit.isValid("1234567890123456789")).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+package com.pichincha.accounts.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUuidTest {
+
+    private static final long NOW = 1_704_067_200_000L;
+
+    @Test
+    void shouldEncodeVersionVariantAndTimestamp() {
+        UUID uuid = new TimeOrderedUuid(() -> NOW).next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    }
+
+    @Test
+    void shouldIncreaseStrictlyWithinSameMillisecondAndAfterCounterOverflow() {
+        TimeOrderedUuid generator = new TimeOrderedUuid(() -> NOW);
+        List<String> generated = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            generated.add(generator.next().toString());
+        }
+
+        // PostgreSQL ordena el tipo uuid byte a byte, igual que su texto hexadecimal
+        assertThat(generated).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldStayIncreasingWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedUuid generator = new TimeOrderedUuid(clock::get);
+
+        String before = generator.next().toString();
+        clock.set(NOW - 5_000);
+        String after = generator.next().toString();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void shouldFollowWallClock() {
+        long start = System.currentTimeMillis();
+        long millis = TimeOrderedUuid.generate().getMostSignificantBits() >>> 16;
+
+        assertThat(millis).isBetween(start, System.currentTimeMillis() + 1);
+    }
+}
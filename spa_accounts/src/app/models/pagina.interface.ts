@@ -0,0 +1,11 @@
+/** Página de un listado del backend ({ content, pagina, tamanio, haySiguiente, totalElementos }) */
+export interface Pagina<T> {
+  items: T[];
+  pagina: number;
+  tamanio: number;
+  haySiguiente: boolean;
+  totalElementos?: number;
+}
+
+/** Filas por página en las tablas */
+export const TAMANIO_PAGINA = 20;
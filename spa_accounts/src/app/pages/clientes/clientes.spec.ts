@@ -8,7 +8,7 @@ describe('Clientes', () => {
 
   beforeEach(async () => {
     const mockClientService = {
-      getClients: jest.fn(),
+      getClientsPage: jest.fn(),
       createClient: jest.fn(),
       updateClient: jest.fn(),
       deleteClient: jest.fn()
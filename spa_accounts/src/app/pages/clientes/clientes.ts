@@ -3,6 +3,7 @@ import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { Client, ClientRequest } from '../../models/client.interface';
 import { ClientService } from '../../services/client.service';
+import { Pagina } from '../../models/pagina.interface';
 import { Modal } from '../../components/modal/modal';
 import { ClientForm } from '../../components/client-form/client-form';
 interface ModalConfig {
@@ -27,6 +28,9 @@ export class Clientes implements OnInit {
   clients = signal<Client[]>([]);
   filteredClients = signal<Client[]>([]);
   searchTerm = signal<string>('');
+  pagina = signal<number>(0);
+  haySiguiente = signal<boolean>(false);
+  totalElementos = signal<number | undefined>(undefined);
   isLoading = signal<boolean>(false);
   error = signal<string>('');
   successMessage = signal<string>('');
@@ -55,9 +59,11 @@ export class Clientes implements OnInit {
     this.loadClients();
   }
   protected loadClients(): void {
-    this.clientService.getClients().subscribe({
-      next: (clients: Client[]) => {
-        this.clients.set(clients);
+    this.clientService.getClientsPage(this.pagina()).subscribe({
+      next: (page: Pagina<Client>) => {
+        this.clients.set(page.items);
+        this.haySiguiente.set(page.haySiguiente);
+        this.totalElementos.set(page.totalElementos);
         this.filterClients();
       },
       error: (error: any) => {
@@ -65,6 +71,18 @@ export class Clientes implements OnInit {
       }
     });
   }
+  paginaAnterior(): void {
+    if (this.pagina() > 0) {
+      this.pagina.update(p => p - 1);
+      this.loadClients();
+    }
+  }
+  paginaSiguiente(): void {
+    if (this.haySiguiente()) {
+      this.pagina.update(p => p + 1);
+      this.loadClients();
+    }
+  }
   onSearchChange(term: string): void {
     this.searchTerm.set(term);
     this.filterClients();
@@ -8,7 +8,7 @@ describe('Cuentas', () => {
 
   beforeEach(async () => {
     const mockCuentaService = {
-      getCuentas: jest.fn(),
+      getCuentasPage: jest.fn(),
       createCuenta: jest.fn(),
       updateCuenta: jest.fn(),
       deleteCuenta: jest.fn()
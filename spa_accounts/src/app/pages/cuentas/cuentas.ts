@@ -7,6 +7,7 @@ import { Modal } from '../../components/modal/modal';
 import { CuentaForm } from '../../components/cuenta-form/cuenta-form';
 import { ClientService } from '../../services/client.service';
 import { forkJoin, of } from 'rxjs';
+import { Pagina } from '../../models/pagina.interface';
 
 interface ModalConfig {
   title: string;
@@ -32,6 +33,9 @@ export class Cuentas implements OnInit {
   cuentas = signal<Cuenta[]>([]);
   filteredCuentas = signal<Cuenta[]>([]);
   searchTerm = signal<string>('');
+  pagina = signal<number>(0);
+  haySiguiente = signal<boolean>(false);
+  totalElementos = signal<number | undefined>(undefined);
   isLoading = signal<boolean>(false);
   error = signal<string>('');
   successMessage = signal<string>('');
@@ -66,8 +70,11 @@ export class Cuentas implements OnInit {
   }
 
   protected loadCuentas(): void {
-    this.cuentaService.getCuentas().subscribe({
-      next: (cuentas: Cuenta[]) => {
+    this.cuentaService.getCuentasPage(this.pagina()).subscribe({
+      next: (page: Pagina<Cuenta>) => {
+        const cuentas = page.items;
+        this.haySiguiente.set(page.haySiguiente);
+        this.totalElementos.set(page.totalElementos);
         // Si falta info del cliente pero tenemos clienteId, intentamos hidratar nombre/identificación
         const cuentasConClienteId = cuentas.filter(c => c.clienteId && (!c.clienteIdentificacion || !c.clienteNombre));
         if (cuentasConClienteId.length > 0) {
@@ -108,6 +115,20 @@ export class Cuentas implements OnInit {
     });
   }
 
+  paginaAnterior(): void {
+    if (this.pagina() > 0) {
+      this.pagina.update(p => p - 1);
+      this.loadCuentas();
+    }
+  }
+
+  paginaSiguiente(): void {
+    if (this.haySiguiente()) {
+      this.pagina.update(p => p + 1);
+      this.loadCuentas();
+    }
+  }
+
   onSearchChange(term: string): void {
     this.searchTerm.set(term);
     this.filterCuentas();
@@ -8,7 +8,7 @@ describe('Movimientos', () => {
 
   beforeEach(async () => {
     const mockMovimientoService = {
-      getMovimientos: jest.fn(),
+      getMovimientosPage: jest.fn(),
       createMovimiento: jest.fn(),
       updateMovimiento: jest.fn(),
       deleteMovimiento: jest.fn()
@@ -6,6 +6,7 @@ import { MovimientoService } from '../../services/movimiento.service';
 import { CuentaService } from '../../services/cuenta.service';
 import { ClientService } from '../../services/client.service';
 import { forkJoin } from 'rxjs';
+import { Pagina } from '../../models/pagina.interface';
 import { Modal } from '../../components/modal/modal';
 import { MovimientoForm } from '../../components/movimiento-form/movimiento-form';
 
@@ -32,6 +33,9 @@ export class Movimientos implements OnInit {
   movimientos = signal<MovimientoDTO[]>([]);
   filteredMovimientos = signal<MovimientoDTO[]>([]);
   searchTerm = signal<string>('');
+  pagina = signal<number>(0);
+  haySiguiente = signal<boolean>(false);
+  totalElementos = signal<number | undefined>(undefined);
   isLoading = signal<boolean>(false);
   error = signal<string>('');
   successMessage = signal<string>('');
@@ -64,8 +68,11 @@ export class Movimientos implements OnInit {
 
   protected loadMovimientos(): void {
     this.isLoading.set(true);
-    this.movimientoService.getMovimientos().subscribe({
-      next: (movimientos: MovimientoDTO[]) => {
+    this.movimientoService.getMovimientosPage(this.pagina()).subscribe({
+      next: (page: Pagina<MovimientoDTO>) => {
+        const movimientos = page.items;
+        this.haySiguiente.set(page.haySiguiente);
+        this.totalElementos.set(page.totalElementos);
         // Si vienen sin datos de cuenta/cliente pero hay cuentaId, intentamos hidratar
         const conCuentaId = movimientos.filter(m => m.cuentaId && (!m.cuenta?.numeroCuenta || !m.cuenta?.clienteIdentificacion));
         if (conCuentaId.length > 0) {
@@ -114,6 +121,20 @@ export class Movimientos implements OnInit {
     });
   }
 
+  paginaAnterior(): void {
+    if (this.pagina() > 0) {
+      this.pagina.update(p => p - 1);
+      this.loadMovimientos();
+    }
+  }
+
+  paginaSiguiente(): void {
+    if (this.haySiguiente()) {
+      this.pagina.update(p => p + 1);
+      this.loadMovimientos();
+    }
+  }
+
   onSearchChange(term: string): void {
     this.searchTerm.set(term);
     this.filterMovimientos();
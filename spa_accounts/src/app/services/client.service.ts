@@ -3,6 +3,8 @@ import { HttpClient, HttpErrorResponse, HttpParams } from '@angular/common/http'
 import { Observable, throwError, BehaviorSubject } from 'rxjs';
 import { map, catchError, finalize } from 'rxjs/operators';
 import { Client, ClientRequest, ClientResponse, ApiResponse } from '../models/client.interface';
+import { Pagina, TAMANIO_PAGINA } from '../models/pagina.interface';
+import { toPagina, todasLasPaginas } from './paginacion';
 @Injectable({
   providedIn: 'root'
 })
@@ -35,19 +37,24 @@ export class ClientService {
     };
   }
 
-  getClients(): Observable<Client[]> {
+  /** Una página del listado de clientes */
+  getClientsPage(pagina = 0, tamanio = TAMANIO_PAGINA): Observable<Pagina<Client>> {
     this.setLoading(true);
-    return this.http.get<any>(this.baseUrl).pipe(
-      // Unwrap common envelopes: raw array | { data: [] } | { items: [] } | { content: [] }
-      map((res: any) => Array.isArray(res) ? res : (res?.data ?? res?.items ?? res?.content ?? [])),
-      map((items: any[]) => (Array.isArray(items) ? items : []) as any[]),
-      map((items: any[]) => items.map((dto: any) => this.adaptClient(dto))),
+    const params = new HttpParams().set('page', pagina).set('size', tamanio);
+    return this.http.get<any>(this.baseUrl, { params }).pipe(
+      map((res: any) => toPagina(res, (dto: any) => this.adaptClient(dto), pagina, tamanio)),
+      catchError(this.handleError),
+      finalize(() => this.setLoading(false))
+    );
+  }
+
+  /** Todos los clientes, página por página */
+  getClients(): Observable<Client[]> {
+    return todasLasPaginas((pagina, tamanio) => this.getClientsPage(pagina, tamanio)).pipe(
       map((clients: Client[]) => {
         this.clientsSubject.next(clients);
         return clients;
-      }),
-      catchError(this.handleError),
-      finalize(() => this.setLoading(false))
+      })
     );
   }
 
@@ -4,6 +4,8 @@ import { Observable, throwError, BehaviorSubject, of } from 'rxjs';
 import { map, catchError, finalize, switchMap } from 'rxjs/operators';
 import { Cuenta, CuentaRequest, CuentaResponse, ApiResponse } from '../models/cuenta.interface';
 import { ClientService } from './client.service';
+import { Pagina, TAMANIO_PAGINA } from '../models/pagina.interface';
+import { toPagina, todasLasPaginas } from './paginacion';
 
 @Injectable({
   providedIn: 'root'
@@ -32,16 +34,34 @@ export class CuentaService {
     };
   }
 
-  getCuentas(): Observable<Cuenta[]> {
+  /** Una página del listado de cuentas */
+  getCuentasPage(pagina = 0, tamanio = TAMANIO_PAGINA): Observable<Pagina<Cuenta>> {
     this.setLoading(true);
-    return this.http.get<any>(this.baseUrl).pipe(
-      map((res: any) => Array.isArray(res) ? res : (res?.data ?? res?.items ?? res?.content ?? [])),
-      map((items: any[]) => (Array.isArray(items) ? items : []) as any[]),
-      map((items: any[]) => items.map((dto: any) => this.adaptCuenta(dto))),
+    const params = new HttpParams().set('page', pagina).set('size', tamanio);
+    return this.http.get<any>(this.baseUrl, { params }).pipe(
+      map((res: any) => toPagina(res, (dto: any) => this.adaptCuenta(dto), pagina, tamanio)),
+      catchError(this.handleError),
+      finalize(() => this.setLoading(false))
+    );
+  }
+
+  /** Todas las cuentas, página por página */
+  getCuentas(): Observable<Cuenta[]> {
+    return todasLasPaginas((pagina, tamanio) => this.getCuentasPage(pagina, tamanio)).pipe(
       map((cuentas: Cuenta[]) => {
         this.cuentasSubject.next(cuentas);
         return cuentas;
-      }),
+      })
+    );
+  }
+
+  getCuentaByNumero(numeroCuenta: string): Observable<Cuenta | null> {
+    if (!numeroCuenta?.trim()) {
+      return throwError(() => new Error('El número de cuenta es requerido'));
+    }
+    this.setLoading(true);
+    return this.http.get<any>(`${this.baseUrl}/number/${numeroCuenta.trim()}`).pipe(
+      map((dto: any) => dto ? this.adaptCuenta(dto) : null),
       catchError(this.handleError),
       finalize(() => this.setLoading(false))
     );
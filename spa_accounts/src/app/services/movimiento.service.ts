@@ -11,6 +11,8 @@ import {
   ApiResponse 
 } from '../models/movimiento.interface';
 import { CuentaService } from './cuenta.service';
+import { Pagina, TAMANIO_PAGINA } from '../models/pagina.interface';
+import { toPagina } from './paginacion';
 
 @Injectable({
   providedIn: 'root'
@@ -20,12 +22,11 @@ export class MovimientoService {
 
   constructor(private http: HttpClient, private cuentaService: CuentaService) {}
 
-  // Obtener todos los movimientos
-  getMovimientos(): Observable<MovimientoDTO[]> {
-    return this.http.get<any>(this.apiUrl).pipe(
-      map((res: any) => Array.isArray(res) ? res : (res?.data ?? res?.items ?? res?.content ?? [])),
-      map((items: any[]) => (Array.isArray(items) ? items : []) as any[]),
-      map((items: any[]) => items.map((dto: any) => this.adaptMovimiento(dto))),
+  // Obtener una página de movimientos
+  getMovimientosPage(pagina = 0, tamanio = TAMANIO_PAGINA): Observable<Pagina<MovimientoDTO>> {
+    const params = new HttpParams().set('page', pagina).set('size', tamanio);
+    return this.http.get<any>(this.apiUrl, { params }).pipe(
+      map((res: any) => toPagina(res, (dto: any) => this.adaptMovimiento(dto), pagina, tamanio)),
       catchError(this.handleError)
     );
   }
@@ -74,8 +75,7 @@ export class MovimientoService {
   // Realizar una operación (depósito o retiro)
   realizarMovimiento(numeroCuenta: string, tipo: 'DEBITO' | 'CREDITO', valor: number): Observable<MovimientoOperacionResponse> {
     // Resolver cuentaId por numeroCuenta
-    return this.cuentaService.getCuentas().pipe(
-      map((cuentas) => cuentas.find(c => c.numeroCuenta === String(numeroCuenta))),
+    return this.cuentaService.getCuentaByNumero(String(numeroCuenta)).pipe(
       switchMap((cuenta) => {
         if (!cuenta?.id && !cuenta?.clienteId) {
           return throwError(() => new Error('Cuenta no encontrada'));
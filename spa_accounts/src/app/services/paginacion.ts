@@ -0,0 +1,26 @@
+import { EMPTY, Observable } from 'rxjs';
+import { expand, reduce } from 'rxjs/operators';
+import { Pagina } from '../models/pagina.interface';
+
+/** Tamaño máximo de página que acepta el backend */
+export const TAMANIO_MAXIMO_PAGINA = 500;
+
+/** Convierte la respuesta de un listado paginado; acepta también un arreglo plano */
+export function toPagina<T>(res: any, adapt: (dto: any) => T, pagina: number, tamanio: number): Pagina<T> {
+  const items = Array.isArray(res) ? res : (res?.content ?? res?.data ?? res?.items ?? []);
+  return {
+    items: (Array.isArray(items) ? items : []).map(adapt),
+    pagina: res?.pagina ?? pagina,
+    tamanio: res?.tamanio ?? tamanio,
+    haySiguiente: Boolean(res?.haySiguiente),
+    totalElementos: res?.totalElementos ?? undefined
+  };
+}
+
+/** Recorre todas las páginas de un listado; para selectores y búsquedas que necesitan la lista completa */
+export function todasLasPaginas<T>(fetch: (pagina: number, tamanio: number) => Observable<Pagina<T>>): Observable<T[]> {
+  return fetch(0, TAMANIO_MAXIMO_PAGINA).pipe(
+    expand(p => p.haySiguiente ? fetch(p.pagina + 1, TAMANIO_MAXIMO_PAGINA) : EMPTY),
+    reduce((all: T[], p: Pagina<T>) => all.concat(p.items), [] as T[])
+  );
+}